@@ -0,0 +1,40 @@
+package com.ecommerce.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Ponto de entrada do {@code benchmarks.jar}: aceita as mesmas opções do JMH e sempre liga o
+ * profiler de GC, para que cada resultado venha acompanhado da taxa de alocação por operação.
+ */
+public final class BenchmarkRunner {
+
+    private BenchmarkRunner() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp()) {
+            commandLine.showHelp();
+            return;
+        }
+
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(commandLine);
+        boolean gcProfilerRequested = commandLine.getProfilers().stream()
+                .anyMatch(profiler -> profiler.getKlass().equals("gc")
+                        || profiler.getKlass().equals(GCProfiler.class.getName()));
+        if (!gcProfilerRequested) {
+            options.addProfiler(GCProfiler.class);
+        }
+
+        Runner runner = new Runner(options.build());
+        if (commandLine.shouldList()) {
+            runner.list();
+            return;
+        }
+        runner.run();
+    }
+}
@@ -0,0 +1,82 @@
+package com.ecommerce.benchmarks;
+
+import com.ecommerce.productapi.domain.dto.response.ProductResponse;
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serialização das listas devolvidas pelas consultas de compras e de produtos, com o ObjectMapper
+ * configurado como o do Spring Boot (módulos de data, datas como texto).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonSerializationBenchmark {
+
+    @Param({"10", "1000"})
+    private int size;
+
+    private ObjectWriter shopsWriter;
+    private ObjectWriter productsWriter;
+    private List<ShopResponseDto> shops;
+    private List<ProductResponse> products;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        shopsWriter = objectMapper.writerFor(new TypeReference<List<ShopResponseDto>>() {});
+        productsWriter = objectMapper.writerFor(new TypeReference<List<ProductResponse>>() {});
+
+        LocalDateTime date = LocalDateTime.of(2024, 1, 15, 10, 30);
+        shops = new ArrayList<>(size);
+        products = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            shops.add(ShopResponseDto.builder()
+                    .id((long) i)
+                    .userIdentifier("12345678909")
+                    .total(new BigDecimal("150.30"))
+                    .date(date.plusMinutes(i))
+                    .items(List.of(
+                            new ItemDto("product-" + i, new BigDecimal("100.20")),
+                            new ItemDto("product-" + (i + 1), new BigDecimal("50.10"))))
+                    .build());
+            products.add(ProductResponse.builder()
+                    .id((long) i)
+                    .name("Produto " + i)
+                    .description("Descrição do produto " + i)
+                    .price(BigDecimal.valueOf(1999 + i, 2))
+                    .quantity(10)
+                    .productIdentifier("product-" + i)
+                    .categoryId(1L)
+                    .categoryName("Eletrônicos")
+                    .createdAt(date)
+                    .updatedAt(date)
+                    .build());
+        }
+    }
+
+    @Benchmark
+    public byte[] shops() throws JsonProcessingException {
+        return shopsWriter.writeValueAsBytes(shops);
+    }
+
+    @Benchmark
+    public byte[] products() throws JsonProcessingException {
+        return productsWriter.writeValueAsBytes(products);
+    }
+}
@@ -0,0 +1,75 @@
+package com.ecommerce.productapi.mappers.impl;
+
+import com.ecommerce.productapi.config.MapperConfig;
+import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.ProductResponse;
+import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.Product;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compara o mapeamento via ModelMapper com o mapeamento explícito pelo builder usado na criação de produtos.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ProductMapperBenchmark {
+
+    private ProductMapper productMapper;
+    private Product product;
+    private ProductRequest request;
+
+    @Setup
+    public void setUp() {
+        productMapper = new ProductMapper(new MapperConfig().modelMapper());
+
+        LocalDateTime now = LocalDateTime.of(2024, 1, 15, 10, 30);
+        Category category = Category.builder()
+                .id(1L)
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos")
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        product = Product.builder()
+                .id(1L)
+                .name("Notebook")
+                .description("Notebook 16GB RAM")
+                .price(new BigDecimal("4599.90"))
+                .quantity(10)
+                .productIdentifier("notebook-16gb")
+                .category(category)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+        request = ProductRequest.builder()
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .quantity(product.getQuantity())
+                .categoryId(category.getId())
+                .build();
+    }
+
+    @Benchmark
+    public ProductResponse toResponseModelMapper() {
+        return productMapper.toResponse(product);
+    }
+
+    @Benchmark
+    public ProductResponse toResponseBuilder() {
+        return productMapper.toResponse(product, product.getCategory().getName());
+    }
+
+    @Benchmark
+    public Product toEntity() {
+        return productMapper.toEntity(request);
+    }
+}
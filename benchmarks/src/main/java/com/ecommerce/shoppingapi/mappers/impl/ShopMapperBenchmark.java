@@ -0,0 +1,67 @@
+package com.ecommerce.shoppingapi.mappers.impl;
+
+import com.ecommerce.shoppingapi.config.MapperConfig;
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.ecommerce.shoppingapi.domain.entities.Item;
+import com.ecommerce.shoppingapi.domain.entities.Shop;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões do ShopMapper feitas em toda compra e em toda resposta de consulta de compras.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShopMapperBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private ShopMapper shopMapper;
+    private Shop shop;
+    private ShopRequestDto request;
+
+    @Setup
+    public void setUp() {
+        shopMapper = new ShopMapper(new MapperConfig().modelMapper());
+
+        List<Item> shopItems = new ArrayList<>(items);
+        List<ItemDto> requestItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            BigDecimal price = BigDecimal.valueOf(1000 + i, 2);
+            shopItems.add(new Item("product-" + i, price));
+            requestItems.add(new ItemDto("product-" + i, price));
+        }
+
+        shop = Shop.builder()
+                .id(1L)
+                .userIdentifier("12345678909")
+                .total(BigDecimal.valueOf(items * 1000L, 2))
+                .date(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .reservationIdentifier("reservation-1")
+                .items(shopItems)
+                .build();
+        request = new ShopRequestDto("12345678909", requestItems);
+    }
+
+    @Benchmark
+    public ShopResponseDto toResponse() {
+        return shopMapper.toResponse(shop);
+    }
+
+    @Benchmark
+    public Shop fromRequest() {
+        return shopMapper.fromRequest(request);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ecommerce.shoppingapi.repositories.impl;
+
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Montagem dos DTOs de relatório a partir das linhas devolvidas pelas consultas nativas do
+ * ReportRepositoryImpl, sem o custo da consulta em si.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ReportAssemblyBenchmark {
+
+    /**
+     * Quantidade de linhas devolvidas pelo banco: dias do histograma e produtos do ranking.
+     */
+    @Param({"30", "365"})
+    private int rows;
+
+    private Object[] reportRow;
+    private List<Object[]> dailyRows;
+    private List<Object[]> productRows;
+
+    @Setup
+    public void setUp() {
+        reportRow = new Object[]{150L, new BigDecimal("45210.75"), new BigDecimal("301.405")};
+
+        LocalDateTime start = LocalDateTime.of(2024, 1, 1, 0, 0);
+        dailyRows = new ArrayList<>(rows);
+        productRows = new ArrayList<>(rows);
+        for (int i = 0; i < rows; i++) {
+            dailyRows.add(new Object[]{Timestamp.valueOf(start.plusDays(i)), 10L + i % 7, BigDecimal.valueOf(150000 + i, 2)});
+            productRows.add(new Object[]{"product-" + i, 100L - i % 100, BigDecimal.valueOf(990000 - i, 2)});
+        }
+    }
+
+    @Benchmark
+    public ShopReportResponseDto report() {
+        return ReportRepositoryImpl.toReport(reportRow);
+    }
+
+    @Benchmark
+    public List<ShopHistogramBucketDto> dailyHistogram() {
+        return ReportRepositoryImpl.toHistogramBuckets(dailyRows, ReportInterval.DAY);
+    }
+
+    @Benchmark
+    public List<ShopHistogramBucketDto> weeklyHistogram() {
+        return ReportRepositoryImpl.toHistogramBuckets(dailyRows, ReportInterval.WEEK);
+    }
+
+    @Benchmark
+    public List<ProductSalesDto> topProducts() {
+        return productRows.stream()
+                .map(ReportRepositoryImpl::toProductSales)
+                .toList();
+    }
+}
@@ -0,0 +1,39 @@
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cálculo do total da compra em {@link ShopService#save}, isolado das chamadas remotas e do banco.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ShopServiceBenchmark {
+
+    @Param({"1", "10", "100"})
+    private int items;
+
+    private List<ItemDto> shopItems;
+
+    @Setup
+    public void setUp() {
+        shopItems = new ArrayList<>(items);
+        for (int i = 0; i < items; i++) {
+            shopItems.add(new ItemDto("product-" + i, BigDecimal.valueOf(1999 + i, 2)));
+        }
+    }
+
+    @Benchmark
+    public BigDecimal calculateTotal() {
+        return ShopService.calculateTotal(shopItems);
+    }
+}
@@ -0,0 +1,60 @@
+package com.ecommerce.userapi.mapper.impl;
+
+import com.ecommerce.userapi.config.MapperConfig;
+import com.ecommerce.userapi.domain.dto.UserRequestDto;
+import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversões entre User e seus DTOs, incluindo os conversores de CPF registrados no MapperConfig.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MapperImplBenchmark {
+
+    private MapperImpl mapper;
+    private User user;
+    private UserRequestDto request;
+
+    @Setup
+    public void setUp() {
+        mapper = new MapperImpl(new MapperConfig().modelMapper());
+
+        user = User.builder()
+                .id(1L)
+                .name("joão silva")
+                .cpf(Cpf.of("12345678909"))
+                .address("Rua Teste, 123")
+                .email("joao@email.com")
+                .phone("11999999999")
+                .dataRegister(LocalDateTime.of(2024, 1, 15, 10, 30))
+                .version(0L)
+                .build();
+        request = UserRequestDto.builder()
+                .name("João Silva")
+                .cpf("12345678909")
+                .address("Rua Teste, 123")
+                .email("joao@email.com")
+                .phone("11999999999")
+                .build();
+    }
+
+    @Benchmark
+    public UserResponseDto mapTo() {
+        return mapper.mapTo(user);
+    }
+
+    @Benchmark
+    public User mapFrom() {
+        return mapper.mapFrom(request);
+    }
+}
@@ -0,0 +1,52 @@
+import os
+import sys
+
+# Infrastructure classes copied into every service. Each service is built and deployed on its own,
+# with its own directory as the Docker build context, so there is no shared module to put them in.
+# The copies must stay identical apart from their package. Each service runs this check in the validate phase
+# of its Maven build (profile shared-sources-check).
+
+script_dir = os.path.dirname(os.path.abspath(__file__))
+
+services = {
+    "user-api": "userapi",
+    "product-api": "productapi",
+    "shopping-api": "shoppingapi",
+}
+
+shared_sources = [
+    "metrics/ServiceMetricsAspect.java",
+    "tracing/FileSpanExporter.java",
+    "config/TracingConfig.java",
+    "metrics/SqlStatistics.java",
+    "metrics/SqlStatisticsFilter.java",
+    "metrics/SqlStatisticsListener.java",
+    "metrics/SqlStatisticsResponseAdvice.java",
+    "config/SqlStatisticsConfig.java",
+    "datasource/ConnectionPoolSizer.java",
+    "datasource/ReplicaAwareDataSource.java",
+    "datasource/ReplicaLagMonitor.java",
+]
+
+
+def normalized(service, package, source):
+    path = os.path.join(script_dir, service, "src/main/java/com/ecommerce", package, source)
+    with open(path, encoding="utf-8", newline="") as file:
+        content = file.read().replace("\r\n", "\n")
+    return content.replace(f"com.ecommerce.{package}", "com.ecommerce.<service>")
+
+
+drifted = []
+for source in shared_sources:
+    copies = {service: normalized(service, package, source) for service, package in services.items()}
+    for service, content in copies.items():
+        if content != copies["user-api"]:
+            drifted.append(f"{service}: {source}")
+
+if drifted:
+    print("Shared sources that differ from the user-api copy:")
+    for copy in drifted:
+        print(f"  {copy}")
+    sys.exit(1)
+
+print(f"{len(shared_sources)} shared sources are identical in {len(services)} services")
@@ -0,0 +1,3 @@
+#!/bin/bash
+# Libera conexões de replicação para a réplica de leitura (docker compose --profile replica up)
+echo "host replication all all scram-sha-256" >> "$PGDATA/pg_hba.conf"
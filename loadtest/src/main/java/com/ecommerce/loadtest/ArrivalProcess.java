@@ -0,0 +1,43 @@
+package com.ecommerce.loadtest;
+
+import java.util.Random;
+
+/**
+ * Intervalo entre chegadas de um modelo aberto: as requisições são disparadas no ritmo pedido,
+ * independentemente de quantas ainda aguardam resposta.
+ */
+public enum ArrivalProcess {
+
+    /**
+     * Chegadas de Poisson: intervalos exponenciais com média 1/taxa, como tráfego de usuários independentes.
+     */
+    POISSON {
+        @Override
+        long nextIntervalNanos(double ratePerSecond, Random random) {
+            return (long) (-Math.log(1.0 - random.nextDouble()) * NANOS_PER_SECOND / ratePerSecond);
+        }
+    },
+
+    /**
+     * Intervalos fixos de 1/taxa.
+     */
+    CONSTANT {
+        @Override
+        long nextIntervalNanos(double ratePerSecond, Random random) {
+            return (long) (NANOS_PER_SECOND / ratePerSecond);
+        }
+    };
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    abstract long nextIntervalNanos(double ratePerSecond, Random random);
+
+    public static ArrivalProcess from(String value) {
+        for (ArrivalProcess arrival : values()) {
+            if (arrival.name().equalsIgnoreCase(value)) {
+                return arrival;
+            }
+        }
+        throw new IllegalArgumentException("Processo de chegada inválido: " + value + " (use poisson ou constant)");
+    }
+}
@@ -0,0 +1,208 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Cadastra o volume inicial de usuários, categorias, produtos e compras.
+ * Usuários e produtos usam as importações em lote; as compras passam pelo {@code POST /shoppings}
+ * para exercitar o mesmo caminho da carga. Os identificadores são determinísticos, então repetir a
+ * semeadura contra serviços externos atualiza os mesmos registros em vez de duplicá-los.
+ */
+public class DataSeeder {
+
+    private static final String APPLICATION_JSON = "application/json";
+    private static final String APPLICATION_NDJSON = "application/x-ndjson";
+    private static final int IMPORT_CHUNK = 5000;
+    private static final long FIRST_CPF_BASE = 100_000_001L;
+
+    /**
+     * Estoque suficiente para a carga nunca esgotar um produto.
+     */
+    private static final int PRODUCT_QUANTITY = 100_000_000;
+
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final RequestFactory requests;
+
+    public DataSeeder(LoadTestConfig config, HttpClient httpClient, ObjectMapper objectMapper,
+                      RequestFactory requests) {
+        this.config = config;
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.requests = requests;
+    }
+
+    public SeedData seed() throws InterruptedException {
+        List<String> cpfs = seedUsers();
+        List<Long> categoryIds = seedCategories();
+        List<SeedData.Product> products = seedProducts(categoryIds);
+        SeedData data = new SeedData(cpfs, products);
+        seedOrders(data);
+        return data;
+    }
+
+    private List<String> seedUsers() throws InterruptedException {
+        List<String> cpfs = new ArrayList<>(config.users());
+        StringBuilder ndjson = new StringBuilder();
+        int inserted = 0;
+        long base = FIRST_CPF_BASE;
+        for (int i = 0; i < config.users(); i++) {
+            String cpf = cpf(base++);
+            cpfs.add(cpf);
+            ndjson.append(json(Map.of(
+                    "name", "Usuário Carga " + i,
+                    "cpf", cpf,
+                    "email", "carga" + i + "@loadtest.com",
+                    "phone", "119" + String.format("%08d", i % 100_000_000),
+                    "address", "Rua da Carga, " + i))).append('\n');
+
+            if ((i + 1) % IMPORT_CHUNK == 0 || i + 1 == config.users()) {
+                inserted += importNdjson(config.baseUrl(Service.USER_API) + "/users/import", ndjson)
+                        .path("inserted").asInt();
+                ndjson.setLength(0);
+            }
+        }
+        System.out.printf("Usuários: %d (%d novos)%n", cpfs.size(), inserted);
+        return cpfs;
+    }
+
+    private List<Long> seedCategories() throws InterruptedException {
+        URI categoriesUri = URI.create(config.baseUrl(Service.PRODUCT_API) + "/categories");
+        Map<String, Long> existing = new HashMap<>();
+        for (JsonNode category : send(HttpRequest.newBuilder(categoriesUri).GET().build(), 200)) {
+            existing.put(category.path("name").asText(), category.path("id").asLong());
+        }
+
+        List<Long> ids = new ArrayList<>(config.categories());
+        for (int i = 0; i < config.categories(); i++) {
+            String name = "Carga " + i;
+            Long id = existing.get(name);
+            if (id == null) {
+                HttpRequest request = HttpRequest.newBuilder(categoriesUri)
+                        .header("Content-Type", APPLICATION_JSON)
+                        .POST(HttpRequest.BodyPublishers.ofString(json(Map.of(
+                                "name", name,
+                                "description", "Categoria gerada pelo teste de carga"))))
+                        .build();
+                id = send(request, 201).path("id").asLong();
+            }
+            ids.add(id);
+        }
+        System.out.printf("Categorias: %d%n", ids.size());
+        return ids;
+    }
+
+    private List<SeedData.Product> seedProducts(List<Long> categoryIds) throws InterruptedException {
+        List<SeedData.Product> products = new ArrayList<>(config.products());
+        StringBuilder ndjson = new StringBuilder();
+        for (int i = 0; i < config.products(); i++) {
+            SeedData.Product product = new SeedData.Product("carga-" + i, BigDecimal.valueOf(990 + (i % 500) * 100L, 2));
+            products.add(product);
+            ndjson.append(json(Map.of(
+                    "productIdentifier", product.productIdentifier(),
+                    "name", "Produto Carga " + i,
+                    "description", "Produto gerado pelo teste de carga",
+                    "price", product.price(),
+                    "quantity", PRODUCT_QUANTITY,
+                    "categoryId", categoryIds.get(i % categoryIds.size())))).append('\n');
+
+            if ((i + 1) % IMPORT_CHUNK == 0 || i + 1 == config.products()) {
+                importNdjson(config.baseUrl(Service.PRODUCT_API) + "/products/import", ndjson);
+                ndjson.setLength(0);
+            }
+        }
+        System.out.printf("Produtos: %d%n", products.size());
+        return products;
+    }
+
+    private void seedOrders(SeedData data) throws InterruptedException {
+        if (config.orders() == 0) {
+            return;
+        }
+
+        Random random = new Random(config.randomSeed());
+        Semaphore permits = new Semaphore(config.seedConcurrency());
+        AtomicInteger failures = new AtomicInteger();
+        List<CompletableFuture<?>> pending = new ArrayList<>(config.orders());
+
+        for (int i = 0; i < config.orders(); i++) {
+            permits.acquire();
+            pending.add(httpClient.sendAsync(requests.checkout(data, random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        permits.release();
+                        if (error != null || response.statusCode() != 201) {
+                            failures.incrementAndGet();
+                        }
+                    }));
+        }
+        CompletableFuture.allOf(pending.toArray(CompletableFuture[]::new)).exceptionally(error -> null).join();
+
+        if (failures.get() == config.orders()) {
+            throw new IllegalStateException("Nenhuma compra foi criada; verifique os logs do shopping-api");
+        }
+        System.out.printf("Compras: %d (%d falhas)%n", config.orders() - failures.get(), failures.get());
+    }
+
+    private JsonNode importNdjson(String uri, CharSequence ndjson) throws InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+                .header("Content-Type", APPLICATION_NDJSON)
+                .POST(HttpRequest.BodyPublishers.ofString(ndjson.toString()))
+                .build();
+        return send(request, 200);
+    }
+
+    private JsonNode send(HttpRequest request, int expectedStatus) throws InterruptedException {
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (response.statusCode() != expectedStatus) {
+                throw new IllegalStateException(request.method() + " " + request.uri() + " respondeu "
+                        + response.statusCode() + ": " + response.body());
+            }
+            return objectMapper.readTree(response.body());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha em " + request.method() + " " + request.uri(), e);
+        }
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Gera um CPF válido a partir dos nove primeiros dígitos, calculando os dígitos verificadores.
+     */
+    static String cpf(long base) {
+        String digits = String.format("%09d", base);
+        int first = checkDigit(digits, 10);
+        int second = checkDigit(digits + first, 11);
+        return digits + first + second;
+    }
+
+    private static int checkDigit(String digits, int firstWeight) {
+        int sum = 0;
+        for (int i = 0; i < digits.length(); i++) {
+            sum += (digits.charAt(i) - '0') * (firstWeight - i);
+        }
+        int remainder = sum % 11;
+        return remainder < 2 ? 0 : 11 - remainder;
+    }
+}
@@ -0,0 +1,91 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Teste de carga de ponta a ponta: sobe os serviços (ou usa instâncias já em execução), semeia os dados,
+ * aplica a carga de modelo aberto e grava o resultado em {@code <output>/<data-hora>}.
+ *
+ * <pre>
+ * java -jar target/loadtest.jar --seed.users=5000 --rate.checkout=100 --duration=2m
+ * java -jar target/loadtest.jar --services=external --baseline=target/loadtest/20240115-103000/summary.json
+ * </pre>
+ */
+public class LoadTestApplication {
+
+    private static final DateTimeFormatter RUN_ID_FORMAT = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        LoadTestConfig config;
+        try {
+            config = LoadTestConfig.parse(args);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage());
+            System.exit(2);
+            return;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now();
+        Path runDir = config.outputDir().resolve(startedAt.format(RUN_ID_FORMAT));
+        Files.createDirectories(runDir);
+
+        ObjectMapper objectMapper = new ObjectMapper();
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (ServiceCluster cluster = new ServiceCluster(config, runDir, httpClient)) {
+            if (config.startServices()) {
+                cluster.start();
+            }
+
+            RequestFactory requests = new RequestFactory(config, objectMapper);
+            SeedData data = new DataSeeder(config, httpClient, objectMapper, requests).seed();
+
+            System.out.printf("Carga: aquecimento de %ds e medição de %ds (%s)%n",
+                    config.warmup().toSeconds(), config.duration().toSeconds(), config.arrival().name().toLowerCase());
+            List<ScenarioResult> results = new OpenLoadGenerator(httpClient, config).run(scenarios(config, requests, data));
+
+            LoadTestReport report = new LoadTestReport(objectMapper);
+            LoadTestReport.RunSummary summary = report.summarize(config, startedAt.toString(), results);
+            report.write(summary, results, runDir);
+            report.print(summary, System.out);
+            if (config.baseline() != null) {
+                report.compare(summary, config.baseline(), System.out);
+            }
+            System.out.printf("%nResultados em %s%n", runDir.toAbsolutePath());
+        }
+    }
+
+    private static List<Scenario> scenarios(LoadTestConfig config, RequestFactory requests, SeedData data) {
+        Map<String, Function<Random, HttpRequest>> factories = Map.of(
+                "checkout", random -> requests.checkout(data, random),
+                "report", random -> requests.report(),
+                "list-shops", requests::listShops,
+                "list-products", requests::listProducts,
+                "list-users", requests::listUsers);
+
+        List<Scenario> scenarios = new ArrayList<>();
+        config.rates().forEach((name, rate) -> {
+            if (rate > 0) {
+                scenarios.add(new Scenario(name, rate, factories.get(name)));
+            }
+        });
+        return scenarios;
+    }
+}
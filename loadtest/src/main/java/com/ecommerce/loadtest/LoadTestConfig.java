@@ -0,0 +1,189 @@
+package com.ecommerce.loadtest;
+
+import java.net.URI;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * Parâmetros de uma execução, lidos de argumentos no formato {@code --chave=valor}.
+ * Chaves desconhecidas são rejeitadas para que um erro de digitação não passe despercebido.
+ */
+public record LoadTestConfig(
+        boolean startServices,
+        Path projectDir,
+        String serviceJvmArgs,
+        boolean traces,
+        Map<Service, URI> baseUrls,
+        int users,
+        int categories,
+        int products,
+        int orders,
+        int seedConcurrency,
+        Duration warmup,
+        Duration duration,
+        Map<String, Double> rates,
+        ArrivalProcess arrival,
+        int maxInFlight,
+        Duration requestTimeout,
+        int minItems,
+        int maxItems,
+        long randomSeed,
+        Path outputDir,
+        Path baseline,
+        Map<String, String> arguments) {
+
+    public static final List<String> SCENARIOS =
+            List.of("checkout", "report", "list-shops", "list-products", "list-users");
+
+    private static final Map<String, String> DEFAULTS = defaults();
+
+    public static LoadTestConfig parse(String[] args) {
+        Map<String, String> arguments = new LinkedHashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                throw new IllegalArgumentException("Argumento inválido: " + arg + " (use --chave=valor)");
+            }
+            String key = arg.substring(2, separator);
+            if (!DEFAULTS.containsKey(key) && !isServiceKey(key)) {
+                throw new IllegalArgumentException("Parâmetro desconhecido: " + key);
+            }
+            arguments.put(key, arg.substring(separator + 1));
+        }
+
+        Map<String, String> values = new HashMap<>(DEFAULTS);
+        values.putAll(arguments);
+
+        boolean startServices = switch (values.get("services")) {
+            case "start" -> true;
+            case "external" -> false;
+            default -> throw new IllegalArgumentException("Valor inválido para services: " + values.get("services")
+                    + " (use start ou external)");
+        };
+
+        Map<Service, URI> baseUrls = new EnumMap<>(Service.class);
+        for (Service service : Service.values()) {
+            String url = values.get(service.module() + ".url");
+            if (url == null) {
+                int defaultPort = startServices ? service.localPort() : service.port();
+                int port = integer(values, service.module() + ".port", String.valueOf(defaultPort));
+                url = "http://localhost:" + port + "/api/v1";
+            }
+            baseUrls.put(service, URI.create(url.endsWith("/") ? url.substring(0, url.length() - 1) : url));
+        }
+
+        Map<String, Double> rates = new LinkedHashMap<>();
+        for (String scenario : SCENARIOS) {
+            double rate = Double.parseDouble(values.get("rate." + scenario));
+            if (rate < 0) {
+                throw new IllegalArgumentException("Taxa negativa para " + scenario);
+            }
+            rates.put(scenario, rate);
+        }
+
+        int minItems = integer(values, "items.min", null);
+        int maxItems = integer(values, "items.max", null);
+        if (minItems < 1 || maxItems < minItems) {
+            throw new IllegalArgumentException("Intervalo de itens inválido: " + minItems + ".." + maxItems);
+        }
+
+        String baseline = values.get("baseline");
+        return new LoadTestConfig(
+                startServices,
+                Path.of(values.get("project-dir")).toAbsolutePath().normalize(),
+                values.get("service-jvm-args"),
+                bool(values, "traces"),
+                baseUrls,
+                integer(values, "seed.users", null),
+                Math.max(1, integer(values, "seed.categories", null)),
+                Math.max(1, integer(values, "seed.products", null)),
+                integer(values, "seed.orders", null),
+                Math.max(1, integer(values, "seed.concurrency", null)),
+                duration(values.get("warmup")),
+                duration(values.get("duration")),
+                rates,
+                ArrivalProcess.from(values.get("arrival")),
+                Math.max(1, integer(values, "max-in-flight", null)),
+                duration(values.get("request-timeout")),
+                minItems,
+                maxItems,
+                Long.parseLong(values.get("random-seed")),
+                Path.of(values.get("output")),
+                baseline.isBlank() ? null : Path.of(baseline),
+                Collections.unmodifiableMap(arguments));
+    }
+
+    public URI baseUrl(Service service) {
+        return baseUrls.get(service);
+    }
+
+    /**
+     * Aceita durações no formato do Spring ({@code 500ms}, {@code 30s}, {@code 2m}); sem sufixo, segundos.
+     */
+    static Duration duration(String value) {
+        String trimmed = value.trim().toLowerCase(Locale.ROOT);
+        if (trimmed.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(trimmed.substring(0, trimmed.length() - 2)));
+        }
+        if (trimmed.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        if (trimmed.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)));
+        }
+        return Duration.ofSeconds(Long.parseLong(trimmed));
+    }
+
+    private static int integer(Map<String, String> values, String key, String defaultValue) {
+        String value = values.getOrDefault(key, defaultValue);
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Valor inválido para " + key + ": " + value);
+        }
+    }
+
+    private static boolean bool(Map<String, String> values, String key) {
+        return switch (values.get(key)) {
+            case "true" -> true;
+            case "false" -> false;
+            default -> throw new IllegalArgumentException("Valor inválido para " + key + ": " + values.get(key)
+                    + " (use true ou false)");
+        };
+    }
+
+    private static boolean isServiceKey(String key) {
+        return Arrays.stream(Service.values())
+                .anyMatch(service -> key.equals(service.module() + ".url") || key.equals(service.module() + ".port"));
+    }
+
+    private static Map<String, String> defaults() {
+        Map<String, String> defaults = new HashMap<>();
+        defaults.put("services", "start");
+        defaults.put("project-dir", "..");
+        defaults.put("service-jvm-args", "-Xmx512m");
+        defaults.put("traces", "false");
+        defaults.put("seed.users", "1000");
+        defaults.put("seed.categories", "10");
+        defaults.put("seed.products", "500");
+        defaults.put("seed.orders", "1000");
+        defaults.put("seed.concurrency", "16");
+        defaults.put("warmup", "10s");
+        defaults.put("duration", "60s");
+        defaults.put("rate.checkout", "20");
+        defaults.put("rate.report", "2");
+        defaults.put("rate.list-shops", "10");
+        defaults.put("rate.list-products", "10");
+        defaults.put("rate.list-users", "5");
+        defaults.put("arrival", "poisson");
+        defaults.put("max-in-flight", "1000");
+        defaults.put("request-timeout", "30s");
+        defaults.put("items.min", "1");
+        defaults.put("items.max", "5");
+        defaults.put("random-seed", "42");
+        defaults.put("output", "target/loadtest");
+        defaults.put("baseline", "");
+        return Collections.unmodifiableMap(defaults);
+    }
+}
@@ -0,0 +1,137 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resume uma execução: tabela no console, {@code summary.json} para comparação entre execuções
+ * e um {@code <cenário>.hgrm} por cenário com a distribuição completa de latências (em ms),
+ * no formato aceito pelo plotter do HdrHistogram.
+ */
+public class LoadTestReport {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final ObjectMapper objectMapper;
+
+    public LoadTestReport(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper.copy().enable(SerializationFeature.INDENT_OUTPUT);
+    }
+
+    public RunSummary summarize(LoadTestConfig config, String startedAt, List<ScenarioResult> results) {
+        double seconds = config.duration().toMillis() / 1000.0;
+        List<ScenarioSummary> scenarios = results.stream()
+                .map(result -> {
+                    Histogram latencies = result.latencies();
+                    return new ScenarioSummary(
+                            result.name(),
+                            result.targetRate(),
+                            result.sent(),
+                            result.successes(),
+                            result.errorCount(),
+                            result.dropped(),
+                            result.successes() / seconds,
+                            millis(latencies, 50.0),
+                            millis(latencies, 99.0),
+                            millis(latencies, 99.9),
+                            latencies.getTotalCount() == 0 ? 0 : latencies.getMaxValue() / MICROS_PER_MILLI,
+                            result.errors());
+                })
+                .toList();
+        return new RunSummary(startedAt, config.arguments(), config.warmup().toSeconds(),
+                config.duration().toSeconds(), scenarios);
+    }
+
+    public void write(RunSummary summary, List<ScenarioResult> results, Path runDir) {
+        try {
+            objectMapper.writeValue(runDir.resolve("summary.json").toFile(), summary);
+            for (ScenarioResult result : results) {
+                try (PrintStream out = new PrintStream(runDir.resolve(result.name() + ".hgrm").toFile())) {
+                    result.latencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao gravar o resultado em " + runDir, e);
+        }
+    }
+
+    public void print(RunSummary summary, PrintStream out) {
+        out.printf("%n%-14s %8s %8s %7s %8s %9s %9s %9s %9s %9s%n",
+                "cenário", "alvo/s", "enviadas", "erros", "descart.", "vazão/s", "p50 ms", "p99 ms", "p999 ms", "máx ms");
+        for (ScenarioSummary scenario : summary.scenarios()) {
+            out.printf(Locale.ROOT, "%-14s %8.1f %8d %7d %8d %9.1f %9.2f %9.2f %9.2f %9.2f%n",
+                    scenario.name(), scenario.targetRate(), scenario.sent(), scenario.errors(), scenario.dropped(),
+                    scenario.throughput(), scenario.p50Ms(), scenario.p99Ms(), scenario.p999Ms(), scenario.maxMs());
+            scenario.errorsByCause().forEach((cause, count) -> out.printf("    %s: %d%n", cause, count));
+        }
+    }
+
+    /**
+     * Compara vazão e p99 de cada cenário com uma execução anterior ({@code summary.json}).
+     */
+    public void compare(RunSummary summary, Path baselineFile, PrintStream out) {
+        RunSummary baseline;
+        try {
+            baseline = objectMapper.readValue(baselineFile.toFile(), RunSummary.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao ler a execução de referência " + baselineFile, e);
+        }
+        Map<String, ScenarioSummary> previous = baseline.scenarios().stream()
+                .collect(Collectors.toMap(ScenarioSummary::name, Function.identity()));
+
+        out.printf("%nComparação com %s (%s)%n", baselineFile, baseline.startedAt());
+        out.printf("%-14s %12s %12s %12s %12s%n", "cenário", "vazão/s", "Δ vazão", "p99 ms", "Δ p99");
+        for (ScenarioSummary scenario : summary.scenarios()) {
+            ScenarioSummary before = previous.get(scenario.name());
+            if (before == null) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-14s %12.1f %12s %12.2f %12s%n",
+                    scenario.name(),
+                    scenario.throughput(), change(before.throughput(), scenario.throughput()),
+                    scenario.p99Ms(), change(before.p99Ms(), scenario.p99Ms()));
+        }
+    }
+
+    private static double millis(Histogram latencies, double percentile) {
+        return latencies.getTotalCount() == 0 ? 0 : latencies.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static String change(double before, double after) {
+        if (before == 0) {
+            return "-";
+        }
+        return String.format(Locale.ROOT, "%+.1f%%", (after - before) * 100.0 / before);
+    }
+
+    public record RunSummary(String startedAt,
+                             Map<String, String> arguments,
+                             long warmupSeconds,
+                             long durationSeconds,
+                             List<ScenarioSummary> scenarios) {
+    }
+
+    public record ScenarioSummary(String name,
+                                  double targetRate,
+                                  long sent,
+                                  long successes,
+                                  long errors,
+                                  long dropped,
+                                  double throughput,
+                                  double p50Ms,
+                                  double p99Ms,
+                                  double p999Ms,
+                                  double maxMs,
+                                  Map<String, Long> errorsByCause) {
+    }
+}
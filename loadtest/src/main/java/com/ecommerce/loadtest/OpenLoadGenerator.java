@@ -0,0 +1,112 @@
+package com.ecommerce.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Gerador de carga de modelo aberto: cada cenário tem uma thread que agenda as chegadas na taxa
+ * configurada e dispara as requisições de forma assíncrona, sem esperar as anteriores terminarem.
+ * Assim a vazão oferecida não cai quando o sistema fica lento, e a latência medida inclui o tempo em fila.
+ * Requisições disparadas durante o aquecimento não entram nas métricas.
+ */
+public class OpenLoadGenerator {
+
+    private final HttpClient httpClient;
+    private final LoadTestConfig config;
+
+    public OpenLoadGenerator(HttpClient httpClient, LoadTestConfig config) {
+        this.httpClient = httpClient;
+        this.config = config;
+    }
+
+    public List<ScenarioResult> run(List<Scenario> scenarios) throws InterruptedException {
+        long start = System.nanoTime();
+        long measureFrom = start + config.warmup().toNanos();
+        long end = measureFrom + config.duration().toNanos();
+        AtomicInteger inFlight = new AtomicInteger();
+
+        List<ScenarioResult> results = new ArrayList<>();
+        List<Thread> schedulers = new ArrayList<>();
+        long seed = config.randomSeed();
+        for (Scenario scenario : scenarios) {
+            ScenarioResult result = new ScenarioResult(scenario.name(), scenario.ratePerSecond());
+            Random random = new Random(++seed);
+            Thread scheduler = new Thread(() -> schedule(scenario, result, random, start, measureFrom, end, inFlight),
+                    "loadtest-" + scenario.name());
+            results.add(result);
+            schedulers.add(scheduler);
+        }
+
+        schedulers.forEach(Thread::start);
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+        awaitCompletion(inFlight);
+        return results;
+    }
+
+    private void schedule(Scenario scenario, ScenarioResult result, Random random,
+                          long start, long measureFrom, long end, AtomicInteger inFlight) {
+        ArrivalProcess arrival = config.arrival();
+        long intended = start;
+        while (true) {
+            intended += arrival.nextIntervalNanos(scenario.ratePerSecond(), random);
+            if (intended >= end) {
+                return;
+            }
+            long wait = intended - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureFrom;
+            if (inFlight.get() >= config.maxInFlight()) {
+                // Cliente saturado: bloquear aqui transformaria o teste em modelo fechado
+                if (measured) {
+                    result.recordDropped();
+                }
+                continue;
+            }
+
+            inFlight.incrementAndGet();
+            if (measured) {
+                result.recordSent();
+            }
+            long scheduledAt = intended;
+            httpClient.sendAsync(scenario.requests().apply(random), HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        long latency = System.nanoTime() - scheduledAt;
+                        inFlight.decrementAndGet();
+                        if (!measured) {
+                            return;
+                        }
+                        if (error != null) {
+                            result.recordError(cause(error));
+                        } else if (response.statusCode() >= 400) {
+                            result.recordError("HTTP " + response.statusCode());
+                        } else {
+                            result.recordSuccess(latency);
+                        }
+                    });
+        }
+    }
+
+    private void awaitCompletion(AtomicInteger inFlight) {
+        // O timeout das requisições limita a espera; a folga cobre o tempo de entrega da resposta
+        long deadline = System.nanoTime() + config.requestTimeout().plus(Duration.ofSeconds(5)).toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(50));
+        }
+    }
+
+    private static String cause(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getClass().getSimpleName();
+    }
+}
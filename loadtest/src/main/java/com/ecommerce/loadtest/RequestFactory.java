@@ -0,0 +1,89 @@
+package com.ecommerce.loadtest;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.*;
+
+/**
+ * Monta as requisições de cada cenário sobre os dados semeados: carrinhos com produtos aleatórios,
+ * relatórios dos últimos 30 dias e páginas aleatórias das listagens.
+ */
+public class RequestFactory {
+
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd/MM/yyyy");
+    private static final int REPORT_DAYS = 30;
+    private static final int LINES_PER_PAGE = 12;
+
+    private final LoadTestConfig config;
+    private final ObjectMapper objectMapper;
+
+    public RequestFactory(LoadTestConfig config, ObjectMapper objectMapper) {
+        this.config = config;
+        this.objectMapper = objectMapper;
+    }
+
+    public HttpRequest checkout(SeedData data, Random random) {
+        int itemCount = config.minItems() + random.nextInt(config.maxItems() - config.minItems() + 1);
+        List<Map<String, Object>> items = new ArrayList<>(itemCount);
+        for (int i = 0; i < itemCount; i++) {
+            SeedData.Product product = data.products().get(random.nextInt(data.products().size()));
+            items.add(Map.of(
+                    "productIdentifier", product.productIdentifier(),
+                    "price", product.price()));
+        }
+        String body = json(Map.of(
+                "userIdentifier", data.cpfs().get(random.nextInt(data.cpfs().size())),
+                "items", items));
+
+        return request(Service.SHOPPING_API, "/shoppings")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    public HttpRequest report() {
+        LocalDate end = LocalDate.now();
+        return request(Service.SHOPPING_API, "/shoppings/report?startDate=" + end.minusDays(REPORT_DAYS).format(DATE_FORMAT)
+                + "&endDate=" + end.format(DATE_FORMAT))
+                .GET()
+                .build();
+    }
+
+    public HttpRequest listShops(Random random) {
+        return page(Service.SHOPPING_API, "/shoppings/pageable", config.orders(), random);
+    }
+
+    public HttpRequest listProducts(Random random) {
+        return page(Service.PRODUCT_API, "/products/pageable", config.products(), random);
+    }
+
+    public HttpRequest listUsers(Random random) {
+        return page(Service.USER_API, "/users/pageable", config.users(), random);
+    }
+
+    private HttpRequest page(Service service, String path, int rows, Random random) {
+        int pages = Math.max(1, (rows + LINES_PER_PAGE - 1) / LINES_PER_PAGE);
+        return request(service, path + "?page=" + random.nextInt(pages) + "&linesPerPage=" + LINES_PER_PAGE)
+                .GET()
+                .build();
+    }
+
+    private HttpRequest.Builder request(Service service, String path) {
+        return HttpRequest.newBuilder(URI.create(config.baseUrl(service) + path))
+                .header("Accept", "application/json")
+                .timeout(config.requestTimeout());
+    }
+
+    private String json(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.ecommerce.loadtest;
+
+import java.net.http.HttpRequest;
+import java.util.Random;
+import java.util.function.Function;
+
+/**
+ * Um tipo de requisição disparado com taxa de chegada própria.
+ */
+public record Scenario(String name, double ratePerSecond, Function<Random, HttpRequest> requests) {
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latências (em microssegundos) e contadores de um cenário na janela de medição.
+ * A latência é contada a partir do instante em que a requisição deveria ter sido enviada,
+ * não de quando foi de fato enviada, para não esconder filas do lado do cliente (coordinated omission).
+ */
+public class ScenarioResult {
+
+    private static final int SIGNIFICANT_DIGITS = 3;
+
+    private final String name;
+    private final double targetRate;
+    private final Histogram latencies = new ConcurrentHistogram(SIGNIFICANT_DIGITS);
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final Map<String, LongAdder> errors = new ConcurrentHashMap<>();
+
+    public ScenarioResult(String name, double targetRate) {
+        this.name = name;
+        this.targetRate = targetRate;
+    }
+
+    void recordSent() {
+        sent.increment();
+    }
+
+    void recordSuccess(long latencyNanos) {
+        latencies.recordValue(TimeUnit.NANOSECONDS.toMicros(latencyNanos));
+    }
+
+    void recordError(String cause) {
+        errors.computeIfAbsent(cause, key -> new LongAdder()).increment();
+    }
+
+    /**
+     * Chegada descartada porque o limite de requisições em andamento foi atingido.
+     */
+    void recordDropped() {
+        dropped.increment();
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public double targetRate() {
+        return targetRate;
+    }
+
+    public Histogram latencies() {
+        return latencies;
+    }
+
+    public long sent() {
+        return sent.sum();
+    }
+
+    public long successes() {
+        return latencies.getTotalCount();
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long errorCount() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+
+    public Map<String, Long> errors() {
+        Map<String, Long> snapshot = new TreeMap<>();
+        errors.forEach((cause, count) -> snapshot.put(cause, count.sum()));
+        return snapshot;
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.loadtest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Usuários e produtos cadastrados pelo {@link DataSeeder}, usados para montar as requisições da carga.
+ */
+public record SeedData(List<String> cpfs, List<Product> products) {
+
+    public record Product(String productIdentifier, BigDecimal price) {
+    }
+}
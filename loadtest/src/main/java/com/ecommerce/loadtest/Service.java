@@ -0,0 +1,35 @@
+package com.ecommerce.loadtest;
+
+/**
+ * Serviços exercitados pela carga, com o módulo Maven e a porta usada pelo docker-compose.
+ */
+public enum Service {
+    USER_API("user-api", 8080),
+    PRODUCT_API("product-api", 8081),
+    SHOPPING_API("shopping-api", 8082);
+
+    /**
+     * Serviços iniciados pelo harness usam portas deslocadas para não colidir com os do docker-compose.
+     */
+    private static final int LOCAL_PORT_OFFSET = 10000;
+
+    private final String module;
+    private final int port;
+
+    Service(String module, int port) {
+        this.module = module;
+        this.port = port;
+    }
+
+    public String module() {
+        return module;
+    }
+
+    public int port() {
+        return port;
+    }
+
+    public int localPort() {
+        return port + LOCAL_PORT_OFFSET;
+    }
+}
@@ -0,0 +1,160 @@
+package com.ecommerce.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Inicia os três serviços como processos locais a partir dos jars em {@code <módulo>/target},
+ * usando o perfil {@code test} (H2 em memória) com o log de SQL e de depuração desligado.
+ * O shopping-api é apontado para as instâncias locais do user-api e do product-api.
+ * Com {@code --traces=true}, cada serviço grava seus spans em {@code <módulo>-spans.ndjson} no diretório da execução.
+ */
+public class ServiceCluster implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(3);
+    private static final Duration SHUTDOWN_TIMEOUT = Duration.ofSeconds(15);
+
+    private static final List<String> QUIET_PROPERTIES = List.of(
+            "--spring.profiles.active=test",
+            "--spring.h2.console.enabled=false",
+            "--logging.level.root=WARN",
+            "--logging.level.org.springframework.web=WARN",
+            "--logging.level.org.springframework.boot.web.embedded=INFO",
+            "--logging.level.org.hibernate=WARN",
+            "--logging.level.com.ecommerce=INFO",
+            "--logging.level.org.springframework.web.reactive.function.client.ExchangeFunctions=WARN");
+
+    private final LoadTestConfig config;
+    private final Path logDir;
+    private final HttpClient httpClient;
+    private final Map<Service, Process> processes = new EnumMap<>(Service.class);
+    private final Thread shutdownHook = new Thread(this::stopAll, "loadtest-shutdown");
+
+    public ServiceCluster(LoadTestConfig config, Path logDir, HttpClient httpClient) {
+        this.config = config;
+        this.logDir = logDir;
+        this.httpClient = httpClient;
+    }
+
+    public void start() throws InterruptedException {
+        Runtime.getRuntime().addShutdownHook(shutdownHook);
+        // Na ordem do enum: o shopping-api sobe depois dos serviços que ele chama
+        for (Service service : Service.values()) {
+            Process process = launch(service);
+            synchronized (this) {
+                processes.put(service, process);
+            }
+            awaitReady(service, process);
+            System.out.printf("%s pronto em %s%n", service.module(), config.baseUrl(service));
+        }
+    }
+
+    @Override
+    public void close() {
+        stopAll();
+        try {
+            Runtime.getRuntime().removeShutdownHook(shutdownHook);
+        } catch (IllegalStateException e) {
+            // JVM já em desligamento: o próprio hook encerra os processos
+        }
+    }
+
+    private Process launch(Service service) {
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(config.serviceJvmArgs().trim().split("\\s+")));
+        command.removeIf(String::isEmpty);
+        command.add("-jar");
+        command.add(findJar(service).toString());
+        command.addAll(QUIET_PROPERTIES);
+        command.add("--server.port=" + config.baseUrl(service).getPort());
+        if (service == Service.SHOPPING_API) {
+            command.add("--user.api.url=" + config.baseUrl(Service.USER_API) + "/users");
+            command.add("--product.api.url=" + config.baseUrl(Service.PRODUCT_API));
+        }
+        if (config.traces()) {
+            command.add("--tracing.file-export.enabled=true");
+            command.add("--tracing.file-export.path=" + logDir.resolve(service.module() + "-spans.ndjson").toAbsolutePath());
+        }
+
+        Path log = logDir.resolve(service.module() + ".log");
+        try {
+            return new ProcessBuilder(command)
+                    .redirectErrorStream(true)
+                    .redirectOutput(log.toFile())
+                    .start();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao iniciar " + service.module(), e);
+        }
+    }
+
+    private Path findJar(Service service) {
+        Path target = config.projectDir().resolve(service.module()).resolve("target");
+        try (Stream<Path> files = Files.list(target)) {
+            return files
+                    .filter(file -> file.getFileName().toString().endsWith(".jar"))
+                    .findFirst()
+                    .orElseThrow(() -> missingJar(service, target));
+        } catch (IOException e) {
+            throw missingJar(service, target);
+        }
+    }
+
+    private void awaitReady(Service service, Process process) throws InterruptedException {
+        HttpRequest probe = HttpRequest.newBuilder(URI.create(config.baseUrl(service) + "/docs"))
+                .timeout(Duration.ofSeconds(5))
+                .GET()
+                .build();
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException(service.module() + " encerrou durante a inicialização (código "
+                        + process.exitValue() + "); veja " + logDir.resolve(service.module() + ".log"));
+            }
+            try {
+                if (httpClient.send(probe, HttpResponse.BodyHandlers.discarding()).statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException e) {
+                // Ainda não está aceitando conexões
+            }
+            Thread.sleep(500);
+        }
+        throw new IllegalStateException(service.module() + " não ficou pronto em " + STARTUP_TIMEOUT.toSeconds()
+                + "s; veja " + logDir.resolve(service.module() + ".log"));
+    }
+
+    private synchronized void stopAll() {
+        // Ordem inversa: o shopping-api para antes dos serviços dos quais depende
+        List<Service> started = new ArrayList<>(processes.keySet());
+        Collections.reverse(started);
+        for (Service service : started) {
+            Process process = processes.remove(service);
+            process.destroy();
+            try {
+                if (!process.waitFor(SHUTDOWN_TIMEOUT.toSeconds(), TimeUnit.SECONDS)) {
+                    process.destroyForcibly();
+                }
+            } catch (InterruptedException e) {
+                process.destroyForcibly();
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    private static IllegalStateException missingJar(Service service, Path target) {
+        return new IllegalStateException("Jar do " + service.module() + " não encontrado em " + target
+                + "; gere-o com 'mvn package -DskipTests' no módulo");
+    }
+}
@@ -0,0 +1,155 @@
+package com.ecommerce.productapi.cache;
+
+import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
+import com.ecommerce.productapi.mappers.impl.CategoryMapper;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import com.ecommerce.productapi.repositories.projections.CategoryProductStatistics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Snapshot imutável das categorias, já enriquecido com quantidade de produtos e faixa de preço.
+ * Escritas em categorias reconstroem o snapshot após o commit; escritas em produtos apenas o
+ * marcam como desatualizado após o commit, e a próxima leitura o reconstrói respeitando o intervalo mínimo.
+ * Os caminhos de escrita usam {@link #findCachedById}, que nunca reconstrói o snapshot dentro da
+ * transação em andamento.
+ */
+@Component
+public class CategoryCache {
+
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final CategoryMapper mapper;
+    private final TransactionTemplate transactionTemplate;
+    private final long productRefreshIntervalMillis;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private volatile boolean productsChanged;
+
+    public CategoryCache(CategoryRepository categoryRepository,
+                         ProductRepository productRepository,
+                         CategoryMapper mapper,
+                         PlatformTransactionManager transactionManager,
+                         @Value("${product.category-cache.product-refresh-interval:30s}") Duration productRefreshInterval) {
+        this.categoryRepository = categoryRepository;
+        this.productRepository = productRepository;
+        this.mapper = mapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // Não é somente leitura de propósito: a reconstrução logo após um commit precisa ler do primário,
+        // porque uma réplica atrasada devolveria um snapshot sem a alteração até a próxima escrita
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.productRefreshIntervalMillis = productRefreshInterval.toMillis();
+    }
+
+    public List<CategoryResponse> findAll() {
+        return current().categories();
+    }
+
+    public Optional<CategoryResponse> findById(Long id) {
+        return Optional.ofNullable(current().byId().get(id));
+    }
+
+    public boolean contains(Long id) {
+        return current().byId().containsKey(id);
+    }
+
+    /**
+     * Consulta apenas o snapshot já carregado, sem reconstruí-lo mesmo que esteja desatualizado.
+     */
+    public Optional<CategoryResponse> findCachedById(Long id) {
+        Snapshot current = snapshot.get();
+        return current == null ? Optional.empty() : Optional.ofNullable(current.byId().get(id));
+    }
+
+    public void refreshAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    refresh();
+                }
+            });
+        } else {
+            refresh();
+        }
+    }
+
+    /**
+     * A marca só é gravada após o commit: uma reconstrução feita antes dele não enxergaria a alteração
+     * e ainda limparia a marca.
+     */
+    public void markProductsChanged() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    productsChanged = true;
+                }
+            });
+        } else {
+            productsChanged = true;
+        }
+    }
+
+    public synchronized void refresh() {
+        // Limpa a marca antes de ler, para que alterações concorrentes voltem a marcá-la
+        productsChanged = false;
+        snapshot.set(transactionTemplate.execute(status -> build()));
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current == null || (productsChanged && current.isOlderThan(productRefreshIntervalMillis))) {
+            synchronized (this) {
+                Snapshot latest = snapshot.get();
+                if (latest == current) {
+                    refresh();
+                }
+                current = snapshot.get();
+            }
+        }
+        return current;
+    }
+
+    private Snapshot build() {
+        Map<Long, CategoryProductStatistics> statistics = productRepository.getCategoryStatistics().stream()
+                .collect(Collectors.toMap(CategoryProductStatistics::getCategoryId, Function.identity()));
+
+        List<CategoryResponse> categories = categoryRepository.findAll().stream()
+                .map(category -> {
+                    CategoryResponse response = mapper.toResponse(category);
+                    CategoryProductStatistics stats = statistics.get(category.getId());
+                    response.setProductCount(stats != null ? stats.getProductCount() : 0L);
+                    if (stats != null) {
+                        response.setMinPrice(stats.getMinPrice());
+                        response.setMaxPrice(stats.getMaxPrice());
+                    }
+                    return response;
+                })
+                .toList();
+
+        Map<Long, CategoryResponse> byId = categories.stream()
+                .collect(Collectors.toUnmodifiableMap(CategoryResponse::getId, Function.identity()));
+
+        return new Snapshot(categories, byId, System.currentTimeMillis());
+    }
+
+    private record Snapshot(List<CategoryResponse> categories, Map<Long, CategoryResponse> byId, long builtAt) {
+
+        boolean isOlderThan(long millis) {
+            return System.currentTimeMillis() - builtAt >= millis;
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.ecommerce.productapi.config;
+
+import com.ecommerce.productapi.datasource.ReplicaAwareDataSource;
+import com.ecommerce.productapi.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource writeDataSource(DataSourceProperties properties, Environment environment) {
+        return pool("write", properties, environment);
+    }
+
+    /**
+     * Sem réplica não há pool de leitura: um segundo pool no primário só somaria conexões ao mesmo banco.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public DataSource readDataSource(DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = pool("read", properties, environment);
+        dataSource.setJdbcUrl(environment.getRequiredProperty("datasource.replica.url"));
+        dataSource.setUsername(environment.getProperty("datasource.replica.username", dataSource.getUsername()));
+        dataSource.setPassword(environment.getProperty("datasource.replica.password", dataSource.getPassword()));
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${datasource.replica.lag-query}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag:5s}") Duration maxLag)
+            throws SQLException {
+        // Mede direto no pool, fora do proxy de JDBC, para não gerar spans e estatísticas a cada medição
+        return new ReplicaLagMonitor(readDataSource.unwrap(HikariDataSource.class), lagQuery, maxLag, meterRegistry);
+    }
+
+    /**
+     * Com a réplica ligada, transações somente leitura usam o pool de leitura e as demais o de escrita;
+     * sem ela, todas usam o pool de escrita. A conexão física só é obtida no primeiro comando SQL,
+     * quando a transação já foi marcada como somente leitura.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") ObjectProvider<DataSource> readDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        if (monitor != null) {
+            dataSource.setReadOnlyDataSource(new ReplicaAwareDataSource(readDataSource.getObject(), writeDataSource, monitor));
+        }
+        return dataSource;
+    }
+
+    // Configuração comum em spring.datasource.hikari, sobrescrita por pool em datasource.pool.<nome>
+    private static HikariDataSource pool(String name, DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("datasource.pool." + name, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.productapi.config;
+
+import com.ecommerce.productapi.metrics.SqlStatisticsFilter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class SqlStatisticsConfig {
+
+    @Bean
+    public SqlStatisticsFilter sqlStatisticsFilter(MeterRegistry meterRegistry,
+                                                   @Value("${sql.statistics.warn-statements:50}") int warnStatements) {
+        return new SqlStatisticsFilter(meterRegistry, warnStatements);
+    }
+}
@@ -0,0 +1,36 @@
+package com.ecommerce.productapi.controllers;
+
+import com.ecommerce.productapi.domain.dto.request.ReservationRequest;
+import com.ecommerce.productapi.domain.dto.response.ReservationResponse;
+import com.ecommerce.productapi.services.InventoryService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/inventory/reservations")
+public class InventoryController {
+
+    private final InventoryService inventoryService;
+
+    @PostMapping
+    public ResponseEntity<ReservationResponse> reserve(@Valid @RequestBody ReservationRequest request) {
+        ReservationResponse reservation = inventoryService.reserve(request);
+        return ResponseEntity.status(HttpStatus.CREATED).body(reservation);
+    }
+
+    @PostMapping("/{identifier}/confirm")
+    public ResponseEntity<Void> confirm(@PathVariable("identifier") String identifier) {
+        inventoryService.confirm(identifier);
+        return ResponseEntity.noContent().build();
+    }
+
+    @DeleteMapping("/{identifier}")
+    public ResponseEntity<Void> release(@PathVariable("identifier") String identifier) {
+        inventoryService.release(identifier);
+        return ResponseEntity.noContent().build();
+    }
+}
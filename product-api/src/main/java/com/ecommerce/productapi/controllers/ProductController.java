@@ -1,14 +1,19 @@
 package com.ecommerce.productapi.controllers;
 
+import com.ecommerce.productapi.domain.dto.request.ProductPriceRequest;
+import com.ecommerce.productapi.domain.dto.request.ProductQuantityRequest;
 import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.PriceListResponse;
 import com.ecommerce.productapi.domain.dto.response.ProductResponse;
 import com.ecommerce.productapi.services.ProductService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
+import org.springframework.hateoas.CollectionModel;
 import org.springframework.hateoas.EntityModel;
 import org.springframework.hateoas.PagedModel;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
@@ -59,6 +64,33 @@ public class ProductController {
         return ResponseEntity.ok(productModels);
     }
 
+    @GetMapping("/category/{id}/pageable")
+    public ResponseEntity<CollectionModel<EntityModel<ProductResponse>>> findProductPageByCategory(
+            @PathVariable("id") Long categoryId,
+            @RequestParam(value = "after", required = false) Long after,
+            @RequestParam(value = "linesPerPage", defaultValue = "12") Integer linesPerPage
+    ) {
+        Slice<ProductResponse> slice = productService.findProductPageByCategoryId(categoryId, after, linesPerPage);
+        List<EntityModel<ProductResponse>> productModels = slice.getContent().stream()
+                .map(this::createProductEntityModel)
+                .toList();
+
+        CollectionModel<EntityModel<ProductResponse>> collectionModel = CollectionModel.of(productModels);
+        collectionModel.add(WebMvcLinkBuilder.linkTo(methodOn(this.getClass())
+                .findProductPageByCategory(categoryId, after, linesPerPage)).withSelfRel());
+        if (slice.hasNext()) {
+            Long lastId = slice.getContent().get(slice.getNumberOfElements() - 1).getId();
+            collectionModel.add(WebMvcLinkBuilder.linkTo(methodOn(this.getClass())
+                    .findProductPageByCategory(categoryId, lastId, slice.getSize())).withRel("next"));
+        }
+        return ResponseEntity.ok(collectionModel);
+    }
+
+    @GetMapping("/prices")
+    public ResponseEntity<PriceListResponse> findPriceList() {
+        return ResponseEntity.ok(productService.getPriceList());
+    }
+
     @GetMapping("/{identifier}")
     public ResponseEntity<EntityModel<ProductResponse>> findProductByIdentifier(@PathVariable("identifier") String identifier) {
         ProductResponse product = productService.findByProductIdentifier(identifier);
@@ -80,6 +112,22 @@ public class ProductController {
         return ResponseEntity.ok(createProductEntityModel(updatedProduct));
     }
 
+    @PatchMapping("/{identifier}/price")
+    public ResponseEntity<Void> updatePrice(
+            @Valid @RequestBody ProductPriceRequest request,
+            @PathVariable("identifier") String identifier) {
+        productService.updatePrice(identifier, request.getPrice());
+        return ResponseEntity.noContent().build();
+    }
+
+    @PatchMapping("/{identifier}/quantity")
+    public ResponseEntity<Void> updateQuantity(
+            @Valid @RequestBody ProductQuantityRequest request,
+            @PathVariable("identifier") String identifier) {
+        productService.updateQuantity(identifier, request.getQuantity());
+        return ResponseEntity.noContent().build();
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable("id") Long id) {
         productService.delete(id);
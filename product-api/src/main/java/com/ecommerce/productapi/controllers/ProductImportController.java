@@ -0,0 +1,32 @@
+package com.ecommerce.productapi.controllers;
+
+import com.ecommerce.productapi.domain.dto.response.ProductImportResponse;
+import com.ecommerce.productapi.services.ProductImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/products/import")
+public class ProductImportController {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final ProductImportService productImportService;
+
+    @PostMapping(consumes = TEXT_CSV)
+    public ResponseEntity<ProductImportResponse> importCsv(InputStream body) {
+        return ResponseEntity.ok(productImportService.importProducts(body, ProductImportService.Format.CSV));
+    }
+
+    @PostMapping(consumes = APPLICATION_NDJSON)
+    public ResponseEntity<ProductImportResponse> importNdjson(InputStream body) {
+        return ResponseEntity.ok(productImportService.importProducts(body, ProductImportService.Format.NDJSON));
+    }
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.productapi.domain.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductPriceRequest {
+
+    @NotNull(message = "O preço do produto é obrigatório")
+    @Positive(message = "O preço deve ser maior que zero")
+    private BigDecimal price;
+}
@@ -0,0 +1,19 @@
+package com.ecommerce.productapi.domain.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductQuantityRequest {
+
+    @NotNull(message = "A quantidade do produto é obrigatória")
+    @PositiveOrZero(message = "A quantidade não pode ser negativa")
+    private Integer quantity;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.productapi.domain.dto.request;
+
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationItemRequest {
+
+    @NotBlank(message = "O identificador do produto é obrigatório")
+    private String productIdentifier;
+
+    @NotNull(message = "A quantidade reservada é obrigatória")
+    @Positive(message = "A quantidade deve ser maior que zero")
+    private Integer quantity;
+}
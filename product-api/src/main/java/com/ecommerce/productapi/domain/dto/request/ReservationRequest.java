@@ -0,0 +1,27 @@
+package com.ecommerce.productapi.domain.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationRequest {
+
+    // Gerado pelo cliente: repetir a requisição devolve a mesma reserva, e o cliente consegue liberá-la
+    // mesmo sem ter recebido a resposta. Sem ele, a reserva recebe um identificador novo
+    @Size(max = 36, message = "O identificador da reserva deve ter no máximo 36 caracteres")
+    private String reservationIdentifier;
+
+    @Valid
+    @NotEmpty(message = "A lista de itens da reserva não pode ser vazia")
+    private List<ReservationItemRequest> items;
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Data
@@ -17,6 +18,9 @@ public class CategoryResponse {
     private Long id;
     private String name;
     private String description;
+    private Long productCount;
+    private BigDecimal minPrice;
+    private BigDecimal maxPrice;
     
     @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime createdAt;
@@ -0,0 +1,26 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import com.ecommerce.productapi.domain.entities.ChangeEntityType;
+import com.ecommerce.productapi.domain.entities.ChangeOperation;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventResponse {
+    private long seq;
+    private ChangeEntityType entityType;
+    private Long entityId;
+    private String entityKey;
+    private ChangeOperation operation;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+}
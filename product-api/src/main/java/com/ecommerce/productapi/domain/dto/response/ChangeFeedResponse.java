@@ -0,0 +1,20 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponse {
+    private long next;
+
+    @Builder.Default
+    private List<ChangeEventResponse> changes = new ArrayList<>();
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tabela de preços completa em arrays paralelos: {@code prices[i]} é o preço de {@code identifiers[i]}.
+ * A versão é a sequência confirmada do feed de alterações: a tabela inclui todos os eventos até ela,
+ * e talvez alguns posteriores, nunca menos.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PriceListResponse {
+    private long version;
+    private String[] identifiers;
+    private double[] prices;
+}
@@ -0,0 +1,16 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportError {
+    private long line;
+    private String productIdentifier;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductImportResponse {
+    private long processed;
+    private long inserted;
+    private long updated;
+    private long failed;
+
+    @Builder.Default
+    private List<ProductImportError> errors = new ArrayList<>();
+}
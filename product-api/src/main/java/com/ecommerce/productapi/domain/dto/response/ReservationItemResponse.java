@@ -0,0 +1,15 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationItemResponse {
+    private String productIdentifier;
+    private Integer quantity;
+}
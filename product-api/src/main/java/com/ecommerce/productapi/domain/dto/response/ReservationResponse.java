@@ -0,0 +1,24 @@
+package com.ecommerce.productapi.domain.dto.response;
+
+import com.ecommerce.productapi.domain.entities.ReservationStatus;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReservationResponse {
+    private String reservationIdentifier;
+    private ReservationStatus status;
+    private List<ReservationItemResponse> items;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+}
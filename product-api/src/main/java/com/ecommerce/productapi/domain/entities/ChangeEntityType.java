@@ -0,0 +1,6 @@
+package com.ecommerce.productapi.domain.entities;
+
+public enum ChangeEntityType {
+    PRODUCT,
+    CATEGORY
+}
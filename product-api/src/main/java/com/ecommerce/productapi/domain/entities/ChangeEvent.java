@@ -0,0 +1,38 @@
+package com.ecommerce.productapi.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "change_event", schema = "products")
+public class ChangeEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long   seq;
+
+    @Enumerated(EnumType.STRING)
+    private ChangeEntityType entityType;
+
+    private Long   entityId;
+    private String entityKey;
+
+    @Enumerated(EnumType.STRING)
+    private ChangeOperation operation;
+
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    public void prePersist() {
+        createdAt = LocalDateTime.now();
+    }
+}
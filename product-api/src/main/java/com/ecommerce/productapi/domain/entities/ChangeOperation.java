@@ -0,0 +1,7 @@
+package com.ecommerce.productapi.domain.entities;
+
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
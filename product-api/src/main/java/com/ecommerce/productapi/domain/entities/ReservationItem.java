@@ -0,0 +1,18 @@
+package com.ecommerce.productapi.domain.entities;
+
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Embeddable
+public class ReservationItem {
+
+    private String  productIdentifier;
+    private Integer quantity;
+}
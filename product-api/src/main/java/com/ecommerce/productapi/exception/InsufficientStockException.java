@@ -0,0 +1,8 @@
+package com.ecommerce.productapi.exception;
+
+public class InsufficientStockException extends ResourceConflictException {
+
+    public InsufficientStockException(String productIdentifier) {
+        super(String.format("Estoque insuficiente para o produto: '%s'", productIdentifier));
+    }
+}
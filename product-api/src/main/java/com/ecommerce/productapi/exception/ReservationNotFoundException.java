@@ -0,0 +1,9 @@
+package com.ecommerce.productapi.exception;
+
+public class ReservationNotFoundException extends ResourceNotFoundException {
+    private static final String RESOURCE_NAME = "Reserva";
+
+    public ReservationNotFoundException(String fieldName, Object fieldValue) {
+        super(RESOURCE_NAME, fieldName, fieldValue);
+    }
+}
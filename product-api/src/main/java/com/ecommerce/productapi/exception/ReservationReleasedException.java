@@ -0,0 +1,8 @@
+package com.ecommerce.productapi.exception;
+
+public class ReservationReleasedException extends ResourceConflictException {
+
+    public ReservationReleasedException(String reservationIdentifier) {
+        super(String.format("Reserva já liberada: '%s'", reservationIdentifier));
+    }
+}
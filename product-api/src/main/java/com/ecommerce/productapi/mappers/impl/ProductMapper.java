@@ -19,6 +19,25 @@ public class ProductMapper implements Mapper<Product, ProductRequest, ProductRes
         return modelMapper.map(product, ProductResponse.class);
     }
 
+    /**
+     * Mapeia o produto sem acessar os campos da categoria além do id, para não inicializar
+     * a referência lazy obtida com {@code getReferenceById}.
+     */
+    public ProductResponse toResponse(Product product, String categoryName) {
+        return ProductResponse.builder()
+                .id(product.getId())
+                .name(product.getName())
+                .description(product.getDescription())
+                .price(product.getPrice())
+                .quantity(product.getQuantity())
+                .productIdentifier(product.getProductIdentifier())
+                .categoryId(product.getCategory() != null ? product.getCategory().getId() : null)
+                .categoryName(categoryName)
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
     @Override
     public Product toEntity(ProductRequest request) {
         return modelMapper.map(request, Product.class);
@@ -0,0 +1,26 @@
+package com.ecommerce.productapi.mappers.impl;
+
+import com.ecommerce.productapi.domain.dto.request.ReservationRequest;
+import com.ecommerce.productapi.domain.dto.response.ReservationResponse;
+import com.ecommerce.productapi.domain.entities.Reservation;
+import com.ecommerce.productapi.mappers.Mapper;
+import lombok.RequiredArgsConstructor;
+import org.modelmapper.ModelMapper;
+import org.springframework.stereotype.Component;
+
+@RequiredArgsConstructor
+@Component
+public class ReservationMapper implements Mapper<Reservation, ReservationRequest, ReservationResponse> {
+
+    private final ModelMapper modelMapper;
+
+    @Override
+    public ReservationResponse toResponse(Reservation reservation) {
+        return modelMapper.map(reservation, ReservationResponse.class);
+    }
+
+    @Override
+    public Reservation toEntity(ReservationRequest request) {
+        return modelMapper.map(request, Reservation.class);
+    }
+}
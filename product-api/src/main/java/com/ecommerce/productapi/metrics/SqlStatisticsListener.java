@@ -0,0 +1,95 @@
+package com.ecommerce.productapi.metrics;
+
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.MethodExecutionContext;
+import net.ttddyy.dsproxy.listener.MethodExecutionListener;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.listener.logging.DefaultQueryLogEntryCreator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Ouve o proxy do datasource (o mesmo que gera os spans de JDBC) para alimentar o {@link SqlStatistics}
+ * da requisição e registrar as consultas acima de {@code sql.slow-query.threshold}, com os parâmetros.
+ * As linhas lidas são contadas em cada {@code ResultSet.next()}; as alteradas vêm do retorno do comando.
+ */
+@Component
+public class SqlStatisticsListener implements QueryExecutionListener, MethodExecutionListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatisticsListener.class);
+
+    private static final String START_NANOS = SqlStatisticsListener.class.getName() + ".start";
+
+    private final long slowQueryThresholdNanos;
+    private final DefaultQueryLogEntryCreator logEntryCreator = new DefaultQueryLogEntryCreator();
+
+    public SqlStatisticsListener(@Value("${sql.slow-query.threshold:500ms}") Duration slowQueryThreshold) {
+        this.slowQueryThresholdNanos = slowQueryThreshold.toNanos();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        execInfo.addCustomValue(START_NANOS, System.nanoTime());
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        Long start = execInfo.getCustomValue(START_NANOS, Long.class);
+        long elapsed = start != null
+                ? System.nanoTime() - start
+                : TimeUnit.MILLISECONDS.toNanos(execInfo.getElapsedTime());
+
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            statistics.addStatement(elapsed);
+            statistics.addRows(affectedRows(execInfo.getResult()));
+        }
+
+        if (elapsed >= slowQueryThresholdNanos) {
+            logger.warn("Consulta lenta ({} ms): {}", TimeUnit.NANOSECONDS.toMillis(elapsed),
+                    logEntryCreator.getLogEntry(execInfo, queryInfoList, false, false, false));
+        }
+    }
+
+    @Override
+    public void beforeMethod(MethodExecutionContext executionContext) {
+    }
+
+    @Override
+    public void afterMethod(MethodExecutionContext executionContext) {
+        if ("next".equals(executionContext.getMethod().getName())
+                && executionContext.getTarget() instanceof ResultSet
+                && Boolean.TRUE.equals(executionContext.getResult())) {
+            SqlStatistics statistics = SqlStatistics.current();
+            if (statistics != null) {
+                statistics.addRows(1);
+            }
+        }
+    }
+
+    private static long affectedRows(Object result) {
+        if (result instanceof Number count) {
+            return Math.max(0, count.longValue());
+        }
+        long total = 0;
+        if (result instanceof int[] counts) {
+            for (int count : counts) {
+                // Statement.SUCCESS_NO_INFO (-2) não informa quantas linhas foram alteradas
+                total += Math.max(0, count);
+            }
+        } else if (result instanceof long[] counts) {
+            for (long count : counts) {
+                total += Math.max(0, count);
+            }
+        }
+        return total;
+    }
+}
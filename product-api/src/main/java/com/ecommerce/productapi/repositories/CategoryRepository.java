@@ -2,8 +2,14 @@ package com.ecommerce.productapi.repositories;
 
 import com.ecommerce.productapi.domain.entities.Category;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Set;
+
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    @Query("SELECT c.id FROM Category c")
+    Set<Long> findAllIds();
 }
@@ -1,18 +1,51 @@
 package com.ecommerce.productapi.repositories;
 
 import com.ecommerce.productapi.domain.entities.Product;
+import com.ecommerce.productapi.repositories.projections.CategoryProductStatistics;
+import com.ecommerce.productapi.repositories.projections.ProductPrice;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product, Long> {
+public interface ProductRepository extends JpaRepository<Product, Long>, ProductWriteRepository {
 
     @Query(value = "SELECT p FROM Product p JOIN p.category c WHERE c.id = :categoryId")
     List<Product> getProductByCategory(@Param("categoryId") Long categoryId);
 
+    @Query(value = "SELECT p FROM Product p JOIN FETCH p.category c " +
+                   "WHERE c.id = :categoryId AND p.id > :afterId ORDER BY p.id")
+    List<Product> getProductByCategoryAfter(@Param("categoryId") Long categoryId,
+                                            @Param("afterId") Long afterId,
+                                            Pageable pageable);
+
     Product findByProductIdentifier(String productIdentifier);
+
+    @Query("SELECT p.productIdentifier FROM Product p WHERE p.id = :id")
+    Optional<String> findProductIdentifierById(@Param("id") Long id);
+
+    @Query("SELECT p.productIdentifier AS productIdentifier, p.price AS price FROM Product p ORDER BY p.id")
+    List<ProductPrice> findAllPrices();
+
+    @Query("SELECT p.category.id AS categoryId, COUNT(p) AS productCount, " +
+           "MIN(p.price) AS minPrice, MAX(p.price) AS maxPrice " +
+           "FROM Product p WHERE p.category IS NOT NULL GROUP BY p.category.id")
+    List<CategoryProductStatistics> getCategoryStatistics();
+
+    boolean existsByProductIdentifier(String productIdentifier);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity - :quantity " +
+           "WHERE p.productIdentifier = :productIdentifier AND p.quantity >= :quantity")
+    int decrementQuantity(@Param("productIdentifier") String productIdentifier, @Param("quantity") int quantity);
+
+    @Modifying
+    @Query("UPDATE Product p SET p.quantity = p.quantity + :quantity WHERE p.productIdentifier = :productIdentifier")
+    int incrementQuantity(@Param("productIdentifier") String productIdentifier, @Param("quantity") int quantity);
 }
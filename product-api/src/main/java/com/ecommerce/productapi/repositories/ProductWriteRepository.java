@@ -0,0 +1,23 @@
+package com.ecommerce.productapi.repositories;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+
+public interface ProductWriteRepository {
+
+    /**
+     * Atualiza só o preço com um único UPDATE pelo identificador, sem carregar o produto
+     * @param productIdentifier Identificador do produto
+     * @param price Novo preço
+     * @return ID do produto alterado, vazio se nenhuma linha foi alterada
+     */
+    Optional<Long> updatePrice(String productIdentifier, BigDecimal price);
+
+    /**
+     * Define o estoque com um único UPDATE pelo identificador, sem carregar o produto
+     * @param productIdentifier Identificador do produto
+     * @param quantity Novo estoque
+     * @return ID do produto alterado, vazio se nenhuma linha foi alterada
+     */
+    Optional<Long> updateQuantity(String productIdentifier, int quantity);
+}
@@ -0,0 +1,31 @@
+package com.ecommerce.productapi.repositories;
+
+import com.ecommerce.productapi.domain.entities.Reservation;
+import com.ecommerce.productapi.domain.entities.ReservationStatus;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface ReservationRepository extends JpaRepository<Reservation, Long> {
+
+    Optional<Reservation> findByReservationIdentifier(String reservationIdentifier);
+
+    List<Reservation> findByStatusAndCreatedAtBeforeOrderByCreatedAt(ReservationStatus status,
+                                                                     LocalDateTime createdAt,
+                                                                     Limit limit);
+
+    @Modifying
+    @Query("UPDATE Reservation r SET r.status = :newStatus WHERE r.id = :id AND r.status IN :currentStatuses")
+    int updateStatus(@Param("id") Long id,
+                     @Param("currentStatuses") Collection<ReservationStatus> currentStatuses,
+                     @Param("newStatus") ReservationStatus newStatus);
+}
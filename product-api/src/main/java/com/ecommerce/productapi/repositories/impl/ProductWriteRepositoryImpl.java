@@ -0,0 +1,60 @@
+package com.ecommerce.productapi.repositories.impl;
+
+import com.ecommerce.productapi.repositories.ProductWriteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * O UPDATE devolve o ID do produto alterado na mesma ida ao banco, para o evento do feed de alterações:
+ * com {@code RETURNING} no PostgreSQL e com {@code FINAL TABLE} nos demais bancos (H2 nos testes).
+ */
+public class ProductWriteRepositoryImpl implements ProductWriteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    public Optional<Long> updatePrice(String productIdentifier, BigDecimal price) {
+        return updateColumn("price", price, productIdentifier);
+    }
+
+    @Override
+    public Optional<Long> updateQuantity(String productIdentifier, int quantity) {
+        return updateColumn("quantity", quantity, productIdentifier);
+    }
+
+    private Optional<Long> updateColumn(String column, Object value, String productIdentifier) {
+        String update = "UPDATE products.product SET " + column + " = :value, updated_at = LOCALTIMESTAMP " +
+                "WHERE product_identifier = :identifier";
+
+        String sql = isPostgres()
+                ? update + " RETURNING id"
+                : "SELECT id FROM FINAL TABLE (" + update + ")";
+
+        List<?> updated = entityManager.createNativeQuery(sql)
+                .setParameter("value", value)
+                .setParameter("identifier", productIdentifier)
+                .getResultList();
+        return updated.stream()
+                .findFirst()
+                .map(id -> ((Number) id).longValue());
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
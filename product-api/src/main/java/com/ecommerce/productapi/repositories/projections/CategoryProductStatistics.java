@@ -0,0 +1,10 @@
+package com.ecommerce.productapi.repositories.projections;
+
+import java.math.BigDecimal;
+
+public interface CategoryProductStatistics {
+    Long getCategoryId();
+    Long getProductCount();
+    BigDecimal getMinPrice();
+    BigDecimal getMaxPrice();
+}
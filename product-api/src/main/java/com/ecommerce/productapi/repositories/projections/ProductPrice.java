@@ -0,0 +1,8 @@
+package com.ecommerce.productapi.repositories.projections;
+
+import java.math.BigDecimal;
+
+public interface ProductPrice {
+    String getProductIdentifier();
+    BigDecimal getPrice();
+}
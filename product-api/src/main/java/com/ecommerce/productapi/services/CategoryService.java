@@ -1,17 +1,19 @@
 package com.ecommerce.productapi.services;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.CategoryRequest;
 import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
 import com.ecommerce.productapi.exception.CategoryNotFoundException;
 import com.ecommerce.productapi.mappers.impl.CategoryMapper;
 import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.ChangeEntityType;
+import com.ecommerce.productapi.domain.entities.ChangeOperation;
 import com.ecommerce.productapi.repositories.CategoryRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
-import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
@@ -19,26 +21,24 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
     private final CategoryMapper mapper;
+    private final CategoryCache categoryCache;
+    private final ChangeFeedService changeFeedService;
 
-    @Transactional(readOnly = true)
     public List<CategoryResponse> findAllCategories() {
-        List<Category> categories = categoryRepository.findAll();
-        return categories.stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
+        return categoryCache.findAll();
     }
 
-    @Transactional(readOnly = true)
     public CategoryResponse findCategoryById(Long id) {
-        Category category = categoryRepository.findById(id)
+        return categoryCache.findById(id)
                 .orElseThrow(() -> new CategoryNotFoundException("id", id));
-        return mapper.toResponse(category);
     }
 
     @Transactional
     public CategoryResponse save(CategoryRequest request) {
         Category category = mapper.toEntity(request);
         Category savedCategory = categoryRepository.save(category);
+        categoryCache.refreshAfterCommit();
+        recordChange(savedCategory.getId(), ChangeOperation.CREATED);
         return mapper.toResponse(savedCategory);
     }
 
@@ -50,6 +50,8 @@ public class CategoryService {
         updateCategoryFields(existingCategory, request);
         
         Category updatedCategory = categoryRepository.save(existingCategory);
+        categoryCache.refreshAfterCommit();
+        recordChange(updatedCategory.getId(), ChangeOperation.UPDATED);
         return mapper.toResponse(updatedCategory);
     }
 
@@ -64,5 +66,11 @@ public class CategoryService {
             throw new CategoryNotFoundException("id", id);
         }
         categoryRepository.deleteById(id);
+        categoryCache.refreshAfterCommit();
+        recordChange(id, ChangeOperation.DELETED);
+    }
+
+    private void recordChange(Long id, ChangeOperation operation) {
+        changeFeedService.record(ChangeEntityType.CATEGORY, id, String.valueOf(id), operation);
     }
 }
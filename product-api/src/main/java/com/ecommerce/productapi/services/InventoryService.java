@@ -0,0 +1,170 @@
+package com.ecommerce.productapi.services;
+
+import com.ecommerce.productapi.domain.dto.request.ReservationItemRequest;
+import com.ecommerce.productapi.domain.dto.request.ReservationRequest;
+import com.ecommerce.productapi.domain.dto.response.ReservationResponse;
+import com.ecommerce.productapi.domain.entities.Reservation;
+import com.ecommerce.productapi.domain.entities.ReservationItem;
+import com.ecommerce.productapi.domain.entities.ReservationStatus;
+import com.ecommerce.productapi.exception.InsufficientStockException;
+import com.ecommerce.productapi.exception.ProductNotFoundException;
+import com.ecommerce.productapi.exception.ReservationNotFoundException;
+import com.ecommerce.productapi.exception.ReservationReleasedException;
+import com.ecommerce.productapi.mappers.impl.ReservationMapper;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import com.ecommerce.productapi.repositories.ReservationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+
+/**
+ * Reservas de estoque do checkout. Uma reserva começa RESERVED e passa a CONFIRMED quando a compra é gravada;
+ * reservas que não são confirmadas dentro do TTL (ex.: o cliente caiu entre a reserva e a compra) são
+ * liberadas pela varredura periódica, devolvendo o estoque.
+ */
+@Service
+public class InventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryService.class);
+
+    private static final int EXPIRY_BATCH_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ReservationRepository reservationRepository;
+    private final ReservationMapper mapper;
+    private final Duration reservationTtl;
+
+    public InventoryService(ProductRepository productRepository,
+                            ReservationRepository reservationRepository,
+                            ReservationMapper mapper,
+                            @Value("${inventory.reservation.ttl:PT15M}") Duration reservationTtl) {
+        this.productRepository = productRepository;
+        this.reservationRepository = reservationRepository;
+        this.mapper = mapper;
+        this.reservationTtl = reservationTtl;
+    }
+
+    /**
+     * Idempotente pelo identificador enviado pelo cliente: uma reserva já gravada com ele é devolvida como está,
+     * sem decrementar o estoque de novo. Duas requisições simultâneas com o mesmo identificador não reservam
+     * duas vezes: a segunda esbarra em uk_reservation_identifier e é desfeita.
+     */
+    @Transactional
+    public ReservationResponse reserve(ReservationRequest request) {
+        String reservationIdentifier = Optional.ofNullable(request.getReservationIdentifier())
+                .orElseGet(() -> UUID.randomUUID().toString());
+        Optional<Reservation> existing = reservationRepository.findByReservationIdentifier(reservationIdentifier);
+        if (existing.isPresent()) {
+            return mapper.toResponse(existing.get());
+        }
+
+        // Agrupa por produto e ordena pelo identificador para que carrinhos concorrentes
+        // bloqueiem as linhas sempre na mesma ordem
+        Map<String, Integer> quantities = new TreeMap<>();
+        for (ReservationItemRequest item : request.getItems()) {
+            quantities.merge(item.getProductIdentifier(), item.getQuantity(), Integer::sum);
+        }
+
+        // Decremento condicional: a linha só é alterada se houver estoque, sem leitura prévia
+        quantities.forEach((productIdentifier, quantity) -> {
+            if (productRepository.decrementQuantity(productIdentifier, quantity) == 0) {
+                if (!productRepository.existsByProductIdentifier(productIdentifier)) {
+                    throw new ProductNotFoundException("identifier", productIdentifier);
+                }
+                throw new InsufficientStockException(productIdentifier);
+            }
+        });
+
+        List<ReservationItem> items = quantities.entrySet().stream()
+                .map(entry -> ReservationItem.builder()
+                        .productIdentifier(entry.getKey())
+                        .quantity(entry.getValue())
+                        .build())
+                .toList();
+
+        Reservation reservation = Reservation.builder()
+                .reservationIdentifier(reservationIdentifier)
+                .status(ReservationStatus.RESERVED)
+                .items(items)
+                .build();
+
+        Reservation savedReservation = reservationRepository.save(reservation);
+        return mapper.toResponse(savedReservation);
+    }
+
+    /**
+     * Marca a reserva como usada por uma compra, tirando-a da varredura de expiração. Confirmar de novo
+     * não altera nada; uma reserva já liberada (ex.: expirada) não pode mais ser confirmada.
+     */
+    @Transactional
+    public void confirm(String reservationIdentifier) {
+        Reservation reservation = reservationRepository.findByReservationIdentifier(reservationIdentifier)
+                .orElseThrow(() -> new ReservationNotFoundException("identifier", reservationIdentifier));
+        if (reservation.getStatus() == ReservationStatus.CONFIRMED) {
+            return;
+        }
+
+        int updated = reservationRepository.updateStatus(
+                reservation.getId(), List.of(ReservationStatus.RESERVED), ReservationStatus.CONFIRMED);
+        if (updated == 0) {
+            throw new ReservationReleasedException(reservationIdentifier);
+        }
+    }
+
+    /**
+     * Devolve o estoque de uma reserva, confirmada ou não (ex.: compra cancelada).
+     */
+    @Transactional
+    public void release(String reservationIdentifier) {
+        Reservation reservation = reservationRepository.findByReservationIdentifier(reservationIdentifier)
+                .orElseThrow(() -> new ReservationNotFoundException("identifier", reservationIdentifier));
+        restock(reservation, List.of(ReservationStatus.RESERVED, ReservationStatus.CONFIRMED));
+    }
+
+    /**
+     * Libera as reservas não confirmadas dentro do TTL. Um lote por execução; o que sobrar fica para a próxima.
+     */
+    @Scheduled(initialDelayString = "${inventory.reservation.sweep-interval:PT1M}",
+               fixedDelayString = "${inventory.reservation.sweep-interval:PT1M}")
+    @Transactional
+    public void releaseExpired() {
+        List<Reservation> expired = reservationRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                ReservationStatus.RESERVED, LocalDateTime.now().minus(reservationTtl), Limit.of(EXPIRY_BATCH_SIZE));
+
+        int released = 0;
+        for (Reservation reservation : expired) {
+            // Condicional: uma confirmação concorrente vence e a reserva fica
+            if (restock(reservation, List.of(ReservationStatus.RESERVED))) {
+                released++;
+            }
+        }
+        if (released > 0) {
+            logger.info("{} reservas não confirmadas em {} liberadas", released, reservationTtl);
+        }
+    }
+
+    private boolean restock(Reservation reservation, List<ReservationStatus> releasableStatuses) {
+        // A troca de status é condicional, então liberações concorrentes devolvem o estoque uma única vez
+        int updated = reservationRepository.updateStatus(
+                reservation.getId(), releasableStatuses, ReservationStatus.RELEASED);
+        if (updated == 0) {
+            return false;
+        }
+
+        reservation.getItems().forEach(item ->
+                productRepository.incrementQuantity(item.getProductIdentifier(), item.getQuantity()));
+        return true;
+    }
+}
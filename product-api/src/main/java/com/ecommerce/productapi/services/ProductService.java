@@ -1,17 +1,27 @@
 package com.ecommerce.productapi.services;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
+import com.ecommerce.productapi.domain.dto.response.PriceListResponse;
 import com.ecommerce.productapi.domain.dto.response.ProductResponse;
 import com.ecommerce.productapi.domain.entities.*;
 import com.ecommerce.productapi.exception.*;
 import com.ecommerce.productapi.mappers.impl.*;
 import com.ecommerce.productapi.repositories.*;
+import com.ecommerce.productapi.repositories.projections.ProductPrice;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
 import java.util.List;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -20,9 +30,14 @@ import java.util.stream.Collectors;
 @Service
 public class ProductService {
 
+    public static final int MAX_LINES_PER_PAGE = 100;
+    static final String CATEGORY_FOREIGN_KEY = "fk_product_category";
+
     private final ProductRepository productRepository;
     private final ProductMapper mapper;
     private final CategoryRepository categoryRepository;
+    private final CategoryCache categoryCache;
+    private final ChangeFeedService changeFeedService;
 
     @Transactional(readOnly = true)
     public List<ProductResponse> findAllProducts() {
@@ -40,8 +55,7 @@ public class ProductService {
 
     @Transactional(readOnly = true)
     public List<ProductResponse> findProductByCategoryId(Long categoryId) {
-        categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new CategoryNotFoundException("id", categoryId));
+        validateCategoryExists(categoryId);
 
         List<Product> products = productRepository.getProductByCategory(categoryId);
         
@@ -50,6 +64,26 @@ public class ProductService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Paginação por cursor (keyset): retorna os produtos da categoria com id maior que {@code afterId},
+     * em ordem de id. Busca uma linha a mais para saber se existe próxima página sem executar COUNT.
+     */
+    @Transactional(readOnly = true)
+    public Slice<ProductResponse> findProductPageByCategoryId(Long categoryId, Long afterId, int linesPerPage) {
+        validateCategoryExists(categoryId);
+
+        int size = Math.max(1, Math.min(linesPerPage, MAX_LINES_PER_PAGE));
+        List<Product> products = productRepository.getProductByCategoryAfter(
+                categoryId, afterId != null ? afterId : 0L, PageRequest.of(0, size + 1));
+
+        boolean hasNext = products.size() > size;
+        List<ProductResponse> content = products.stream()
+                .limit(size)
+                .map(mapper::toResponse)
+                .toList();
+        return new SliceImpl<>(content, PageRequest.of(0, size), hasNext);
+    }
+
     @Transactional(readOnly = true)
     public ProductResponse findByProductIdentifier(String identifier) {
         Product product = productRepository.findByProductIdentifier(identifier);
@@ -61,8 +95,7 @@ public class ProductService {
 
     @Transactional
     public ProductResponse save(ProductRequest request) {
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("id", request.getCategoryId()));
+        Category category = resolveCategory(request.getCategoryId());
 
         Product product = Product.builder()
                 .name(request.getName())
@@ -73,8 +106,15 @@ public class ProductService {
                 .productIdentifier(UUID.randomUUID().toString())
                 .build();
         
-        Product savedProduct = productRepository.save(product);
-        return mapper.toResponse(savedProduct);
+        Product savedProduct;
+        try {
+            savedProduct = productRepository.save(product);
+        } catch (DataIntegrityViolationException e) {
+            throw translateCategoryViolation(e, request.getCategoryId());
+        }
+        categoryCache.markProductsChanged();
+        recordChange(savedProduct.getId(), savedProduct.getProductIdentifier(), ChangeOperation.CREATED);
+        return toResponse(savedProduct);
     }
 
     @Transactional
@@ -84,13 +124,107 @@ public class ProductService {
             throw new ProductNotFoundException("identifier", identifier);
         }
 
-        Category category = categoryRepository.findById(request.getCategoryId())
-                .orElseThrow(() -> new CategoryNotFoundException("id", request.getCategoryId()));
+        Category category = resolveCategory(request.getCategoryId());
 
         updateProductFields(existingProduct, request, category);
         
-        Product updatedProduct = productRepository.save(existingProduct);
-        return mapper.toResponse(updatedProduct);
+        Product updatedProduct;
+        try {
+            // O flush antecipa a validação da FK, que de outra forma só falharia no commit
+            updatedProduct = productRepository.saveAndFlush(existingProduct);
+        } catch (DataIntegrityViolationException e) {
+            throw translateCategoryViolation(e, request.getCategoryId());
+        }
+        categoryCache.markProductsChanged();
+        recordChange(updatedProduct.getId(), updatedProduct.getProductIdentifier(), ChangeOperation.UPDATED);
+        return toResponse(updatedProduct);
+    }
+
+    /**
+     * Tabela de preços de todos os produtos para precificação em memória. A versão é a sequência confirmada
+     * do feed, lida no mesmo snapshot dos preços: a tabela contém todas as alterações até a versão e pode
+     * conter também alterações posteriores, então reaplicar o feed a partir da versão é seguro.
+     * Não é somente leitura para ser lida no primário: a sequência confirmada parte do último valor visto
+     * no primário, que a réplica atrasada pode ainda não ter.
+     */
+    @Transactional(isolation = Isolation.REPEATABLE_READ)
+    public PriceListResponse getPriceList() {
+        long version = changeFeedService.committedSeq();
+        List<ProductPrice> prices = productRepository.findAllPrices();
+
+        String[] identifiers = new String[prices.size()];
+        double[] values = new double[prices.size()];
+        for (int i = 0; i < prices.size(); i++) {
+            identifiers[i] = prices.get(i).getProductIdentifier();
+            values[i] = prices.get(i).getPrice().doubleValue();
+        }
+
+        return PriceListResponse.builder()
+                .version(version)
+                .identifiers(identifiers)
+                .prices(values)
+                .build();
+    }
+
+    /**
+     * Atualiza só o preço com um único UPDATE, sem carregar o produto nem comparar os demais campos.
+     */
+    @Transactional
+    public void updatePrice(String identifier, BigDecimal price) {
+        Long productId = productRepository.updatePrice(identifier, price)
+                .orElseThrow(() -> new ProductNotFoundException("identifier", identifier));
+        categoryCache.markProductsChanged();
+        recordChange(productId, identifier, ChangeOperation.UPDATED);
+    }
+
+    /**
+     * Define o estoque com um único UPDATE, sem carregar o produto nem comparar os demais campos.
+     * Não marca o cache de categorias: as estatísticas dele são só quantidade de produtos e faixa de preço.
+     */
+    @Transactional
+    public void updateQuantity(String identifier, int quantity) {
+        Long productId = productRepository.updateQuantity(identifier, quantity)
+                .orElseThrow(() -> new ProductNotFoundException("identifier", identifier));
+        recordChange(productId, identifier, ChangeOperation.UPDATED);
+    }
+
+    /**
+     * Usa o snapshot de categorias já carregado para validar a existência e devolve apenas uma
+     * referência lazy, deixando a FK garantir a consistência. Se a categoria ainda não estiver no
+     * snapshot (ex.: criada por outra instância), consulta o banco.
+     */
+    private Category resolveCategory(Long categoryId) {
+        if (categoryCache.findCachedById(categoryId).isPresent()) {
+            return categoryRepository.getReferenceById(categoryId);
+        }
+        return categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new CategoryNotFoundException("id", categoryId));
+    }
+
+    /**
+     * Só a violação da FK da categoria vira CategoryNotFoundException; as demais (identificador
+     * duplicado, tamanho de coluna etc.) seguem como estão.
+     */
+    private static RuntimeException translateCategoryViolation(DataIntegrityViolationException e, Long categoryId) {
+        if (e.getCause() instanceof ConstraintViolationException violation
+                && CATEGORY_FOREIGN_KEY.equalsIgnoreCase(violation.getConstraintName())) {
+            return new CategoryNotFoundException("id", categoryId);
+        }
+        return e;
+    }
+
+    private void validateCategoryExists(Long categoryId) {
+        if (!categoryCache.contains(categoryId) && !categoryRepository.existsById(categoryId)) {
+            throw new CategoryNotFoundException("id", categoryId);
+        }
+    }
+
+    private ProductResponse toResponse(Product product) {
+        Category category = product.getCategory();
+        String categoryName = categoryCache.findCachedById(category.getId())
+                .map(CategoryResponse::getName)
+                .orElseGet(category::getName);
+        return mapper.toResponse(product, categoryName);
     }
 
     private void updateProductFields(Product product, ProductRequest request, Category category) {
@@ -103,9 +237,14 @@ public class ProductService {
 
     @Transactional
     public void delete(Long productId) {
-        if (!productRepository.existsById(productId)) {
-            throw new ProductNotFoundException("id", productId);
-        }
+        String identifier = productRepository.findProductIdentifierById(productId)
+                .orElseThrow(() -> new ProductNotFoundException("id", productId));
         productRepository.deleteById(productId);
+        categoryCache.markProductsChanged();
+        recordChange(productId, identifier, ChangeOperation.DELETED);
+    }
+
+    private void recordChange(Long productId, String identifier, ChangeOperation operation) {
+        changeFeedService.record(ChangeEntityType.PRODUCT, productId, identifier, operation);
     }
 }
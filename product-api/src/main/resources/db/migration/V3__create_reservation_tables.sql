@@ -0,0 +1,15 @@
+CREATE TABLE products.reservation (
+    id BIGSERIAL PRIMARY KEY,
+    reservation_identifier VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_reservation_identifier UNIQUE (reservation_identifier)
+);
+
+CREATE TABLE products.reservation_item (
+    reservation_id BIGINT NOT NULL REFERENCES products.reservation(id) ON DELETE CASCADE,
+    product_identifier VARCHAR NOT NULL,
+    quantity INTEGER NOT NULL
+);
+
+CREATE INDEX idx_reservation_item_reservation_id ON products.reservation_item (reservation_id);
@@ -0,0 +1 @@
+CREATE INDEX idx_product_category_id ON products.product (category_id, id);
@@ -0,0 +1,2 @@
+-- Varredura de reservas não confirmadas: status = 'RESERVED' AND created_at < :limite
+CREATE INDEX idx_reservation_status_created_at ON products.reservation (status, created_at);
@@ -1,5 +1,7 @@
 package com.ecommerce.productapi.controllers;
 
+import com.ecommerce.productapi.domain.dto.request.ProductPriceRequest;
+import com.ecommerce.productapi.domain.dto.request.ProductQuantityRequest;
 import com.ecommerce.productapi.domain.dto.request.ProductRequest;
 import com.ecommerce.productapi.domain.dto.response.ProductResponse;
 import com.ecommerce.productapi.exception.ProductNotFoundException;
@@ -16,6 +18,8 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PagedResourcesAssembler;
 import org.springframework.hateoas.EntityModel;
@@ -214,6 +218,23 @@ class ProductControllerTest {
                                         .andExpect(jsonPath("$", hasSize(0)));
                 }
 
+                @Test
+                @DisplayName("findProductPageByCategory - Deve retornar página por cursor com link para a próxima")
+                void whenFindProductPageByCategory_thenReturnSliceWithNextLink() throws Exception {
+                        Slice<ProductResponse> slice = new SliceImpl<>(
+                                        List.of(createMockProductResponse()), PageRequest.of(0, 1), true);
+                        when(productService.findProductPageByCategoryId(CATEGORY_ID, null, 1)).thenReturn(slice);
+
+                        mockMvc.perform(get("/products/category/" + CATEGORY_ID.intValue() + "/pageable")
+                                        .param("linesPerPage", "1")
+                                        .accept(MediaType.APPLICATION_JSON))
+                                        .andExpect(status().isOk())
+                                        .andExpect(jsonPath("$._embedded.productResponseList", hasSize(1)))
+                                        .andExpect(jsonPath("$._embedded.productResponseList[0].id", is(PRODUCT_ID.intValue())))
+                                        .andExpect(jsonPath("$._links.self.href").exists())
+                                        .andExpect(jsonPath("$._links.next.href", containsString("after=" + PRODUCT_ID)));
+                }
+
                 @Test
                 @DisplayName("findProductByIdentifier - Deve retornar produto por identifier")
                 void whenFindProductByIdentifier_thenReturnProduct() throws Exception {
@@ -326,6 +347,58 @@ class ProductControllerTest {
                                         .andExpect(status().isNotFound());
                 }
 
+                @Test
+                @DisplayName("updatePrice - Deve atualizar só o preço do produto")
+                void whenUpdatePrice_thenReturnNoContent() throws Exception {
+                        ProductPriceRequest request = ProductPriceRequest.builder().price(PRODUCT_PRICE).build();
+
+                        mockMvc.perform(patch("/products/" + PRODUCT_IDENTIFIER + "/price")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isNoContent());
+
+                        verify(productService).updatePrice(PRODUCT_IDENTIFIER, PRODUCT_PRICE);
+                }
+
+                @Test
+                @DisplayName("updatePrice - Deve retornar 400 quando o preço não for positivo")
+                void whenUpdatePrice_withInvalidPrice_thenReturn400() throws Exception {
+                        ProductPriceRequest request = ProductPriceRequest.builder().price(BigDecimal.ZERO).build();
+
+                        mockMvc.perform(patch("/products/" + PRODUCT_IDENTIFIER + "/price")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isBadRequest());
+
+                        verifyNoInteractions(productService);
+                }
+
+                @Test
+                @DisplayName("updateQuantity - Deve atualizar só o estoque do produto")
+                void whenUpdateQuantity_thenReturnNoContent() throws Exception {
+                        ProductQuantityRequest request = ProductQuantityRequest.builder().quantity(0).build();
+
+                        mockMvc.perform(patch("/products/" + PRODUCT_IDENTIFIER + "/quantity")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isNoContent());
+
+                        verify(productService).updateQuantity(PRODUCT_IDENTIFIER, 0);
+                }
+
+                @Test
+                @DisplayName("updateQuantity - Deve retornar 404 quando produto não encontrado")
+                void whenUpdateQuantity_andProductNotFound_thenReturn404() throws Exception {
+                        ProductQuantityRequest request = ProductQuantityRequest.builder().quantity(PRODUCT_QUANTITY).build();
+                        doThrow(new ProductNotFoundException("identifier", PRODUCT_IDENTIFIER))
+                                        .when(productService).updateQuantity(PRODUCT_IDENTIFIER, PRODUCT_QUANTITY);
+
+                        mockMvc.perform(patch("/products/" + PRODUCT_IDENTIFIER + "/quantity")
+                                        .contentType(MediaType.APPLICATION_JSON)
+                                        .content(objectMapper.writeValueAsString(request)))
+                                        .andExpect(status().isNotFound());
+                }
+
                 @Test
                 @DisplayName("delete - Deve deletar produto")
                 void whenDeleteProduct_thenReturnNoContent() throws Exception {
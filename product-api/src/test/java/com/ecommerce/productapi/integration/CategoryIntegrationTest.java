@@ -1,9 +1,12 @@
 package com.ecommerce.productapi.integration;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.CategoryRequest;
 import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
 import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.Product;
 import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -15,6 +18,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -31,6 +35,12 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
     private Category category;
     private CategoryRequest categoryRequest;
     
@@ -57,7 +67,9 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
 
     @AfterEach
     void tearDown() {
+        productRepository.deleteAll();
         categoryRepository.deleteAll();
+        categoryCache.refresh();
     }
 
     @Nested
@@ -112,6 +124,7 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
         void findAllCategories_ReturnsAllCategories() {
             // Arrange
             category = categoryRepository.save(category);
+            categoryCache.refresh();
 
             // Act
             ResponseEntity<CategoryResponse[]> response = restTemplate.getForEntity(
@@ -133,6 +146,7 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
         void findCategoryById_WithValidId_ReturnsCategory() {
             // Arrange
             category = categoryRepository.save(category);
+            categoryCache.refresh();
 
             // Act
             ResponseEntity<CategoryResponse> response = restTemplate.getForEntity(
@@ -150,6 +164,31 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("Deve retornar a quantidade de produtos e a faixa de preço da categoria")
+        void findCategoryById_WithProducts_ReturnsProductStatistics() {
+            // Arrange
+            category = categoryRepository.save(category);
+            productRepository.save(createProduct("PROD-1", new BigDecimal("10.00")));
+            productRepository.save(createProduct("PROD-2", new BigDecimal("25.50")));
+            categoryCache.refresh();
+
+            // Act
+            ResponseEntity<CategoryResponse> response = restTemplate.getForEntity(
+                    BASE_URI + "/{id}",
+                    CategoryResponse.class,
+                    category.getId()
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(found -> {
+                assertThat(found.getProductCount()).isEqualTo(2L);
+                assertThat(found.getMinPrice()).isEqualByComparingTo("10.00");
+                assertThat(found.getMaxPrice()).isEqualByComparingTo("25.50");
+            });
+        }
+
         @Test
         @DisplayName("Deve retornar erro ao buscar categoria inexistente")
         void findCategoryById_WithInvalidId_ReturnsNotFound() {
@@ -238,4 +277,15 @@ class CategoryIntegrationTest extends BaseIntegrationTest {
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         }
     }
+
+    private Product createProduct(String identifier, BigDecimal price) {
+        return Product.builder()
+                .name("Produto " + identifier)
+                .description("Descrição " + identifier)
+                .price(price)
+                .quantity(1)
+                .productIdentifier(identifier)
+                .category(category)
+                .build();
+    }
 }
\ No newline at end of file
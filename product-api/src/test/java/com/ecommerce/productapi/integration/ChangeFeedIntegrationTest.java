@@ -0,0 +1,189 @@
+package com.ecommerce.productapi.integration;
+
+import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.ChangeFeedResponse;
+import com.ecommerce.productapi.domain.dto.response.PriceListResponse;
+import com.ecommerce.productapi.domain.dto.response.ProductResponse;
+import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.ChangeEvent;
+import com.ecommerce.productapi.domain.entities.ChangeOperation;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ChangeEventRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes de Integração - Change Feed")
+class ChangeFeedIntegrationTest extends BaseIntegrationTest {
+
+    private static final String BASE_URI = "/changes";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder()
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos em geral")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve registrar criação, atualização e exclusão de produto em ordem")
+    void changes_ShouldListProductMutationsInOrder() {
+        // Arrange
+        long cursor = currentCursor();
+        ProductResponse created = restTemplate.postForEntity("/products", productRequest("Smartphone"),
+                ProductResponse.class).getBody();
+        restTemplate.put("/products/{identifier}", productRequest("Smartphone Atualizado"),
+                created.getProductIdentifier());
+        Long productId = productRepository.findByProductIdentifier(created.getProductIdentifier()).getId();
+        restTemplate.exchange("/products/{id}", HttpMethod.DELETE, null, Void.class, productId);
+
+        // Act
+        ResponseEntity<ChangeFeedResponse> response = restTemplate.getForEntity(
+                BASE_URI + "?after={after}", ChangeFeedResponse.class, cursor);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getChanges())
+                .extracting(change -> change.getOperation() + ":" + change.getEntityKey())
+                .containsExactly(
+                        ChangeOperation.CREATED + ":" + created.getProductIdentifier(),
+                        ChangeOperation.UPDATED + ":" + created.getProductIdentifier(),
+                        ChangeOperation.DELETED + ":" + created.getProductIdentifier());
+        assertThat(response.getBody().getChanges())
+                .allSatisfy(change -> assertThat(change.getEntityId()).isEqualTo(productId));
+    }
+
+    @Test
+    @DisplayName("Importação em lote deve registrar um evento por produto")
+    void changes_ShouldListImportedProducts() {
+        // Arrange
+        long cursor = currentCursor();
+        String ndjson = """
+                {"productIdentifier":"IMP-1","name":"Notebook","description":"Notebook 16GB","price":3500.00,"quantity":5,"categoryId":%d}
+                {"productIdentifier":"IMP-2","name":"Tablet","description":"Tablet 10 polegadas","price":1500.00,"quantity":8,"categoryId":%d}
+                """.formatted(category.getId(), category.getId());
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+
+        // Act
+        restTemplate.postForEntity("/products/import", new HttpEntity<>(ndjson, headers), String.class);
+        ResponseEntity<ChangeFeedResponse> response = restTemplate.getForEntity(
+                BASE_URI + "?after={after}", ChangeFeedResponse.class, cursor);
+
+        // Assert
+        assertThat(response.getBody().getChanges())
+                .extracting(change -> change.getOperation() + ":" + change.getEntityKey())
+                .containsExactlyInAnyOrder(
+                        ChangeOperation.CREATED + ":IMP-1",
+                        ChangeOperation.CREATED + ":IMP-2");
+    }
+
+    @Test
+    @DisplayName("Salto recém-observado deve segurar a página mesmo quando o evento seguinte foi criado antes da carência")
+    void changes_ShouldHoldNewlyObservedGap_RegardlessOfCreatedAt() {
+        // Arrange: evento de uma transação longa, com created_at anterior à carência, além de uma sequência ausente
+        long cursor = currentCursor();
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+        insertEvent(cursor + 2, createdAt);
+
+        try {
+            // Act
+            ChangeFeedResponse held = restTemplate.getForEntity(
+                    BASE_URI + "?after={after}", ChangeFeedResponse.class, cursor).getBody();
+            insertEvent(cursor + 1, createdAt);
+            ChangeFeedResponse released = restTemplate.getForEntity(
+                    BASE_URI + "?after={after}", ChangeFeedResponse.class, cursor).getBody();
+
+            // Assert
+            assertThat(held.getChanges()).isEmpty();
+            assertThat(held.getNext()).isEqualTo(cursor);
+            assertThat(released.getChanges())
+                    .extracting(change -> change.getSeq())
+                    .containsExactly(cursor + 1, cursor + 2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM products.change_event WHERE seq IN (?, ?)", cursor + 1, cursor + 2);
+        }
+    }
+
+    @Test
+    @DisplayName("Versão da tabela de preços deve parar antes de um salto em aberto, e não no MAX(seq)")
+    void priceList_VersionShouldStopBeforeOpenGap() {
+        // Arrange: sequência reservada por uma transação ainda não confirmada, com uma posterior já gravada
+        long cursor = currentCursor();
+        insertEvent(cursor + 2, LocalDateTime.now());
+
+        try {
+            // Act
+            PriceListResponse held = restTemplate.getForEntity("/products/prices", PriceListResponse.class).getBody();
+            insertEvent(cursor + 1, LocalDateTime.now());
+            PriceListResponse released = restTemplate.getForEntity("/products/prices", PriceListResponse.class).getBody();
+
+            // Assert
+            assertThat(held.getVersion()).isEqualTo(cursor);
+            assertThat(released.getVersion()).isEqualTo(cursor + 2);
+        } finally {
+            // Os eventos ficam, porque a versão confirmada nunca recua; a sequência só precisa pular os dois
+            jdbcTemplate.execute("ALTER TABLE products.change_event ALTER COLUMN seq RESTART WITH " + (cursor + 3));
+        }
+    }
+
+    private void insertEvent(long seq, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO products.change_event (seq, entity_type, entity_id, entity_key, operation, created_at) "
+                + "VALUES (?, 'PRODUCT', 0, 'GAP', 'UPDATED', ?)", seq, createdAt);
+    }
+
+    private long currentCursor() {
+        return changeEventRepository.findAll().stream()
+                .mapToLong(ChangeEvent::getSeq)
+                .max()
+                .orElse(0);
+    }
+
+    private ProductRequest productRequest(String name) {
+        return ProductRequest.builder()
+                .name(name)
+                .description("Smartphone último modelo")
+                .price(new BigDecimal("1999.99"))
+                .quantity(10)
+                .categoryId(category.getId())
+                .build();
+    }
+}
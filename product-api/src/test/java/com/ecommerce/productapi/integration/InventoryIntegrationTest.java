@@ -0,0 +1,287 @@
+package com.ecommerce.productapi.integration;
+
+import com.ecommerce.productapi.domain.dto.request.ReservationItemRequest;
+import com.ecommerce.productapi.domain.dto.request.ReservationRequest;
+import com.ecommerce.productapi.domain.dto.response.ReservationResponse;
+import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.Product;
+import com.ecommerce.productapi.domain.entities.ReservationStatus;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import com.ecommerce.productapi.repositories.ReservationRepository;
+import com.ecommerce.productapi.services.InventoryService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes de Integração - Inventory API")
+class InventoryIntegrationTest extends BaseIntegrationTest {
+
+    private static final String BASE_URI = "/inventory/reservations";
+    private static final String PRODUCT_A = "PROD-A";
+    private static final String PRODUCT_B = "PROD-B";
+    private static final int INITIAL_STOCK = 5;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ReservationRepository reservationRepository;
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        Category category = categoryRepository.save(Category.builder()
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos em geral")
+                .build());
+
+        productRepository.save(createProduct(PRODUCT_A, category));
+        productRepository.save(createProduct(PRODUCT_B, category));
+    }
+
+    @AfterEach
+    void tearDown() {
+        reservationRepository.deleteAll();
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("Testes de reserva")
+    class ReserveTests {
+
+        @Test
+        @DisplayName("Deve reservar o carrinho inteiro e decrementar o estoque")
+        void reserve_WithAvailableStock_DecrementsQuantities() {
+            // Act
+            ResponseEntity<ReservationResponse> response = restTemplate.postForEntity(
+                    BASE_URI,
+                    createRequest(item(PRODUCT_A, 2), item(PRODUCT_B, 1)),
+                    ReservationResponse.class
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+            assertThat(response.getBody()).satisfies(reservation -> {
+                assertThat(reservation.getReservationIdentifier()).isNotBlank();
+                assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.RESERVED);
+                assertThat(reservation.getItems()).hasSize(2);
+            });
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK - 2);
+            assertThat(stockOf(PRODUCT_B)).isEqualTo(INITIAL_STOCK - 1);
+        }
+
+        @Test
+        @DisplayName("Deve devolver a mesma reserva ao repetir o identificador do cliente, sem decrementar de novo")
+        void reserve_WithRepeatedClientIdentifier_ReservesOnce() {
+            // Arrange
+            ReservationRequest request = createRequest(item(PRODUCT_A, 2));
+            request.setReservationIdentifier("client-reservation-1");
+
+            // Act
+            ResponseEntity<ReservationResponse> first = restTemplate.postForEntity(BASE_URI, request, ReservationResponse.class);
+            ResponseEntity<ReservationResponse> second = restTemplate.postForEntity(BASE_URI, request, ReservationResponse.class);
+
+            // Assert
+            assertThat(first.getBody().getReservationIdentifier()).isEqualTo("client-reservation-1");
+            assertThat(second.getBody().getReservationIdentifier()).isEqualTo("client-reservation-1");
+            assertThat(reservationRepository.count()).isEqualTo(1);
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK - 2);
+        }
+
+        @Test
+        @DisplayName("Não deve reservar nada quando um item do carrinho não tiver estoque")
+        void reserve_WithInsufficientStock_RollsBackWholeCart() {
+            // Act
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    BASE_URI,
+                    createRequest(item(PRODUCT_A, 1), item(PRODUCT_B, INITIAL_STOCK + 1)),
+                    String.class
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK);
+            assertThat(stockOf(PRODUCT_B)).isEqualTo(INITIAL_STOCK);
+            assertThat(reservationRepository.count()).isZero();
+        }
+
+        @Test
+        @DisplayName("Não deve vender além do estoque sob concorrência")
+        void reserve_Concurrently_NeverOversells() throws Exception {
+            // Arrange
+            int attempts = INITIAL_STOCK * 3;
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            List<Callable<HttpStatus>> tasks = new ArrayList<>();
+            for (int i = 0; i < attempts; i++) {
+                tasks.add(() -> HttpStatus.valueOf(restTemplate.postForEntity(
+                        BASE_URI, createRequest(item(PRODUCT_A, 1)), String.class).getStatusCode().value()));
+            }
+
+            // Act
+            List<HttpStatus> statuses = new ArrayList<>();
+            for (Future<HttpStatus> future : executor.invokeAll(tasks)) {
+                statuses.add(future.get());
+            }
+            executor.shutdown();
+
+            // Assert
+            assertThat(statuses).filteredOn(HttpStatus.CREATED::equals).hasSize(INITIAL_STOCK);
+            assertThat(statuses).filteredOn(HttpStatus.CONFLICT::equals).hasSize(attempts - INITIAL_STOCK);
+            assertThat(stockOf(PRODUCT_A)).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de liberação")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Deve devolver o estoque uma única vez ao liberar a reserva")
+        void release_ReturnsStockOnlyOnce() {
+            // Arrange
+            ReservationResponse reservation = restTemplate.postForEntity(
+                    BASE_URI, createRequest(item(PRODUCT_A, 3)), ReservationResponse.class).getBody();
+
+            // Act
+            ResponseEntity<Void> first = restTemplate.exchange(
+                    BASE_URI + "/{identifier}", HttpMethod.DELETE, null, Void.class,
+                    reservation.getReservationIdentifier());
+            ResponseEntity<Void> second = restTemplate.exchange(
+                    BASE_URI + "/{identifier}", HttpMethod.DELETE, null, Void.class,
+                    reservation.getReservationIdentifier());
+
+            // Assert
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK);
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro ao liberar reserva inexistente")
+        void release_WithUnknownIdentifier_ReturnsNotFound() {
+            // Act
+            ResponseEntity<String> response = restTemplate.exchange(
+                    BASE_URI + "/{identifier}", HttpMethod.DELETE, null, String.class, "unknown");
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de confirmação e expiração")
+    class ConfirmationTests {
+
+        @Test
+        @DisplayName("Deve liberar só as reservas não confirmadas dentro do TTL")
+        void releaseExpired_ReleasesOnlyUnconfirmedReservations() {
+            // Arrange
+            ReservationResponse confirmed = restTemplate.postForEntity(
+                    BASE_URI, createRequest(item(PRODUCT_A, 1)), ReservationResponse.class).getBody();
+            ReservationResponse abandoned = restTemplate.postForEntity(
+                    BASE_URI, createRequest(item(PRODUCT_A, 2)), ReservationResponse.class).getBody();
+            ResponseEntity<Void> confirmation = restTemplate.postForEntity(
+                    BASE_URI + "/{identifier}/confirm", null, Void.class, confirmed.getReservationIdentifier());
+            jdbcTemplate.update("UPDATE products.reservation SET created_at = created_at - INTERVAL '1' DAY");
+
+            // Act
+            inventoryService.releaseExpired();
+
+            // Assert
+            assertThat(confirmation.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK - 1);
+            assertThat(reservationRepository.findByReservationIdentifier(abandoned.getReservationIdentifier()))
+                    .get()
+                    .extracting(reservation -> reservation.getStatus())
+                    .isEqualTo(ReservationStatus.RELEASED);
+        }
+
+        @Test
+        @DisplayName("Deve recusar a confirmação de reserva já liberada")
+        void confirm_WhenReleased_ReturnsConflict() {
+            // Arrange
+            ReservationResponse reservation = restTemplate.postForEntity(
+                    BASE_URI, createRequest(item(PRODUCT_A, 1)), ReservationResponse.class).getBody();
+            restTemplate.delete(BASE_URI + "/{identifier}", reservation.getReservationIdentifier());
+
+            // Act
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    BASE_URI + "/{identifier}/confirm", null, String.class, reservation.getReservationIdentifier());
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK);
+        }
+
+        @Test
+        @DisplayName("Deve devolver o estoque ao liberar reserva confirmada")
+        void release_WhenConfirmed_ReturnsStock() {
+            // Arrange
+            ReservationResponse reservation = restTemplate.postForEntity(
+                    BASE_URI, createRequest(item(PRODUCT_A, 3)), ReservationResponse.class).getBody();
+            restTemplate.postForEntity(BASE_URI + "/{identifier}/confirm", null, Void.class,
+                    reservation.getReservationIdentifier());
+
+            // Act
+            restTemplate.delete(BASE_URI + "/{identifier}", reservation.getReservationIdentifier());
+
+            // Assert
+            assertThat(stockOf(PRODUCT_A)).isEqualTo(INITIAL_STOCK);
+        }
+    }
+
+    private int stockOf(String productIdentifier) {
+        return productRepository.findByProductIdentifier(productIdentifier).getQuantity();
+    }
+
+    private static Product createProduct(String identifier, Category category) {
+        return Product.builder()
+                .name("Produto " + identifier)
+                .description("Descrição " + identifier)
+                .price(new BigDecimal("10.00"))
+                .quantity(INITIAL_STOCK)
+                .productIdentifier(identifier)
+                .category(category)
+                .build();
+    }
+
+    private static ReservationItemRequest item(String productIdentifier, int quantity) {
+        return ReservationItemRequest.builder()
+                .productIdentifier(productIdentifier)
+                .quantity(quantity)
+                .build();
+    }
+
+    private static ReservationRequest createRequest(ReservationItemRequest... items) {
+        return ReservationRequest.builder()
+                .items(List.of(items))
+                .build();
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.productapi.integration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class MetricsIntegrationTest {
+
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    public MetricsIntegrationTest(TestRestTemplate restTemplate) {
+        this.restTemplate = restTemplate;
+    }
+
+    @Test
+    @DisplayName("Deve expor em formato Prometheus os histogramas de HTTP, serviço e repositório, o pool e a JVM")
+    void prometheus_ShouldExposeLatencyHistogramsPoolAndJvmMetrics() {
+        // Arrange
+        restTemplate.getForEntity("/products", String.class);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines)
+                .anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket{")
+                        && line.contains("application=\"product-api\"")
+                        && line.contains("uri=\"/products\""))
+                .anyMatch(line -> line.startsWith("service_invocations_seconds_bucket{")
+                        && line.contains("service=\"ProductService\"")
+                        && line.contains("method=\"findAllProducts\""))
+                .anyMatch(line -> line.startsWith("spring_data_repository_invocations_seconds_bucket{")
+                        && line.contains("repository=\"ProductRepository\"")
+                        && line.contains("method=\"findAll\""))
+                .anyMatch(line -> line.startsWith("hikaricp_connections_active{"))
+                .anyMatch(line -> line.startsWith("hikaricp_connections_acquire_seconds_bucket{"))
+                .anyMatch(line -> line.startsWith("hikaricp_connections_budget{"))
+                .anyMatch(line -> line.startsWith("jvm_gc_memory_allocated_bytes_total{"));
+    }
+}
@@ -0,0 +1,209 @@
+package com.ecommerce.productapi.integration;
+
+import com.ecommerce.productapi.domain.dto.response.ProductImportResponse;
+import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.Product;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes de Integração - Importação de Produtos")
+class ProductImportIntegrationTest extends BaseIntegrationTest {
+
+    private static final String BASE_URI = "/products/import";
+    private static final String EXISTING_IDENTIFIER = "SMART123";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder()
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos em geral")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+
+        productRepository.save(Product.builder()
+                .name("Smartphone")
+                .description("Smartphone último modelo")
+                .price(new BigDecimal("1999.99"))
+                .quantity(10)
+                .productIdentifier(EXISTING_IDENTIFIER)
+                .category(category)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Nested
+    @DisplayName("Testes de importação CSV")
+    class CsvImportTests {
+
+        @Test
+        @DisplayName("Deve inserir novos produtos e atualizar existentes pelo identificador")
+        void importCsv_WithNewAndExistingProducts_UpsertsByIdentifier() {
+            // Arrange
+            String csv = """
+                    productIdentifier,name,description,price,quantity,categoryId
+                    %s,Smartphone Pro,"Tela 6,7 polegadas",2499.99,5,%d
+                    TABLET1,Tablet,Tablet 10 polegadas,999.90,3,%d
+                    ,Notebook,Notebook leve,4999.00,2,%d
+                    """.formatted(EXISTING_IDENTIFIER, category.getId(), category.getId(), category.getId());
+
+            // Act
+            ResponseEntity<ProductImportResponse> response = post(csv, "text/csv");
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(result -> {
+                assertThat(result.getProcessed()).isEqualTo(3);
+                assertThat(result.getInserted()).isEqualTo(2);
+                assertThat(result.getUpdated()).isEqualTo(1);
+                assertThat(result.getFailed()).isZero();
+                assertThat(result.getErrors()).isEmpty();
+            });
+
+            assertThat(productRepository.count()).isEqualTo(3);
+            Product updated = productRepository.findByProductIdentifier(EXISTING_IDENTIFIER);
+            assertThat(updated.getName()).isEqualTo("Smartphone Pro");
+            assertThat(updated.getDescription()).isEqualTo("Tela 6,7 polegadas");
+            assertThat(updated.getQuantity()).isEqualTo(5);
+            assertThat(productRepository.findByProductIdentifier("TABLET1")).isNotNull();
+        }
+
+        @Test
+        @DisplayName("Deve reportar erros por linha sem interromper a importação")
+        void importCsv_WithInvalidRows_ReportsPerRowErrors() {
+            // Arrange
+            String csv = """
+                    name,description,price,quantity,categoryId
+                    Tablet,Tablet 10 polegadas,999.90,3,%d
+                    Monitor,Monitor 27 polegadas,abc,1,%d
+                    Teclado,Teclado mecânico,199.90,4,999
+                    ,Sem nome,10.00,1,%d
+                    """.formatted(category.getId(), category.getId(), category.getId());
+
+            // Act
+            ResponseEntity<ProductImportResponse> response = post(csv, "text/csv");
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(result -> {
+                assertThat(result.getProcessed()).isEqualTo(4);
+                assertThat(result.getInserted()).isEqualTo(1);
+                assertThat(result.getFailed()).isEqualTo(3);
+                assertThat(result.getErrors())
+                        .extracting("line")
+                        .containsExactly(3L, 4L, 5L);
+                assertThat(result.getErrors().get(1).getMessage()).contains("999");
+                assertThat(result.getErrors().get(2).getMessage()).contains("name");
+            });
+            assertThat(productRepository.count()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Deve reportar apenas a linha com texto acima do tamanho da coluna")
+        void importCsv_WithOversizedName_ReportsOnlyThatRow() {
+            // Arrange
+            String csv = """
+                    name,description,price,quantity,categoryId
+                    Tablet,Tablet 10 polegadas,999.90,3,%d
+                    %s,Nome longo demais,10.00,1,%d
+                    Monitor,Monitor 27 polegadas,1299.90,2,%d
+                    """.formatted(category.getId(), "N".repeat(51), category.getId(), category.getId());
+
+            // Act
+            ResponseEntity<ProductImportResponse> response = post(csv, "text/csv");
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(result -> {
+                assertThat(result.getInserted()).isEqualTo(2);
+                assertThat(result.getFailed()).isEqualTo(1);
+                assertThat(result.getErrors()).extracting("line").containsExactly(3L);
+                assertThat(result.getErrors().get(0).getMessage()).contains("name");
+            });
+            assertThat(productRepository.count()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("Deve retornar erro quando faltar coluna obrigatória no cabeçalho")
+        void importCsv_WithMissingColumn_ReturnsBadRequest() {
+            // Act
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    BASE_URI,
+                    entity("name,description,price\nTablet,Tablet,10.00\n", "text/csv"),
+                    String.class
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+            assertThat(response.getBody()).contains("quantity");
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de importação NDJSON")
+    class NdjsonImportTests {
+
+        @Test
+        @DisplayName("Deve importar produtos em NDJSON")
+        void importNdjson_WithValidLines_ImportsProducts() {
+            // Arrange
+            String ndjson = """
+                    {"productIdentifier":"%s","name":"Smartphone","description":"Atualizado","price":1899.99,"quantity":7,"categoryId":%d}
+                    {"productIdentifier":"FONE1","name":"Fone","description":"Fone sem fio","price":299.90,"quantity":20,"categoryId":%d}
+                    {"name":
+                    """.formatted(EXISTING_IDENTIFIER, category.getId(), category.getId());
+
+            // Act
+            ResponseEntity<ProductImportResponse> response = post(ndjson, "application/x-ndjson");
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(result -> {
+                assertThat(result.getInserted()).isEqualTo(1);
+                assertThat(result.getUpdated()).isEqualTo(1);
+                assertThat(result.getFailed()).isEqualTo(1);
+                assertThat(result.getErrors().get(0).getLine()).isEqualTo(3L);
+            });
+            assertThat(productRepository.findByProductIdentifier(EXISTING_IDENTIFIER).getQuantity()).isEqualTo(7);
+        }
+    }
+
+    private ResponseEntity<ProductImportResponse> post(String body, String contentType) {
+        return restTemplate.postForEntity(BASE_URI, entity(body, contentType), ProductImportResponse.class);
+    }
+
+    private HttpEntity<String> entity(String body, String contentType) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType(contentType));
+        return new HttpEntity<>(body, headers);
+    }
+}
@@ -1,16 +1,20 @@
 package com.ecommerce.productapi.integration;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.PriceListResponse;
 import com.ecommerce.productapi.domain.dto.response.ProductResponse;
 import com.ecommerce.productapi.domain.entities.Category;
 import com.ecommerce.productapi.domain.entities.Product;
 import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ChangeEventRepository;
 import com.ecommerce.productapi.repositories.ProductRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
@@ -42,6 +46,12 @@ class ProductIntegrationTest extends BaseIntegrationTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
     private Category category;
     private Product product;
     private ProductRequest productRequest;
@@ -136,6 +146,25 @@ class ProductIntegrationTest extends BaseIntegrationTest {
             // Assert
             assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
         }
+
+        @Test
+        @DisplayName("Deve retornar erro quando a categoria em cache já foi removida do banco")
+        void createProduct_WithCachedButRemovedCategory_ReturnsNotFound() {
+            // Arrange
+            categoryCache.refresh();
+            categoryRepository.deleteById(category.getId());
+
+            // Act
+            ResponseEntity<String> response = restTemplate.postForEntity(
+                    BASE_URI,
+                    productRequest,
+                    String.class
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+            assertThat(response.getBody()).contains(String.valueOf(category.getId()));
+        }
     }
 
     @Nested
@@ -189,6 +218,69 @@ class ProductIntegrationTest extends BaseIntegrationTest {
             });
         }
 
+        @Test
+        @DisplayName("Deve retornar a tabela de preços com a versão do feed de alterações")
+        void findPriceList_ReturnsPricesWithChangeFeedVersion() {
+            // Arrange
+            ProductResponse created = restTemplate.postForEntity(BASE_URI, productRequest, ProductResponse.class).getBody();
+
+            // Act
+            ResponseEntity<PriceListResponse> response = restTemplate.getForEntity(
+                    BASE_URI + "/prices",
+                    PriceListResponse.class
+            );
+
+            // Assert
+            assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(response.getBody()).satisfies(priceList -> {
+                assertThat(priceList.getVersion()).isEqualTo(changeEventRepository.findLastSeq()).isPositive();
+                assertThat(priceList.getIdentifiers()).containsExactly(created.getProductIdentifier());
+                assertThat(priceList.getPrices()).containsExactly(PRODUCT_PRICE.doubleValue());
+            });
+        }
+
+        @Test
+        @DisplayName("Deve paginar os produtos da categoria por cursor")
+        void findProductPageByCategory_WalksPagesByCursor() {
+            // Arrange
+            for (int i = 1; i <= 3; i++) {
+                productRepository.save(Product.builder()
+                        .name(PRODUCT_NAME + " " + i)
+                        .description(PRODUCT_DESCRIPTION)
+                        .price(PRODUCT_PRICE)
+                        .quantity(PRODUCT_QUANTITY)
+                        .productIdentifier(PRODUCT_IDENTIFIER + i)
+                        .category(category)
+                        .build());
+            }
+
+            // Act
+            ResponseEntity<JsonNode> first = restTemplate.getForEntity(
+                    BASE_URI + "/category/{id}/pageable?linesPerPage=2",
+                    JsonNode.class,
+                    category.getId()
+            );
+            JsonNode firstItems = first.getBody().path("_embedded").path("productResponseList");
+            long lastId = firstItems.get(1).path("id").asLong();
+
+            ResponseEntity<JsonNode> second = restTemplate.getForEntity(
+                    BASE_URI + "/category/{id}/pageable?linesPerPage=2&after={after}",
+                    JsonNode.class,
+                    category.getId(),
+                    lastId
+            );
+
+            // Assert
+            assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(firstItems).hasSize(2);
+            assertThat(first.getBody().path("_links").path("next").path("href").asText())
+                    .contains("after=" + lastId);
+
+            assertThat(second.getStatusCode()).isEqualTo(HttpStatus.OK);
+            assertThat(second.getBody().path("_embedded").path("productResponseList")).hasSize(1);
+            assertThat(second.getBody().path("_links").has("next")).isFalse();
+        }
+
         @Test
         @DisplayName("Deve retornar erro ao buscar produto com identificador inexistente")
         void findProductByIdentifier_WithInvalidIdentifier_ReturnsNotFound() {
@@ -0,0 +1,129 @@
+package com.ecommerce.productapi.integration;
+
+import com.ecommerce.productapi.cache.CategoryCache;
+import com.ecommerce.productapi.datasource.ReplicaLagMonitor;
+import com.ecommerce.productapi.domain.dto.request.CategoryRequest;
+import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
+import com.ecommerce.productapi.domain.dto.response.PriceListResponse;
+import com.ecommerce.productapi.domain.dto.response.ProductResponse;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ChangeEventRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe o serviço com dois bancos H2: o primário do perfil de teste e uma "réplica" com o mesmo schema,
+ * que não recebe as escritas. Assim dá para saber de qual banco cada leitura veio.
+ */
+@DisplayName("Testes de Integração - Réplica de Leitura")
+class ReadReplicaIntegrationTest extends BaseIntegrationTest {
+
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .schemas("products")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", () -> REPLICA_URL);
+        registry.add("datasource.replica.lag-query", () -> "SELECT lag_seconds FROM public.replica_status");
+        registry.add("datasource.replica.max-lag", () -> "5s");
+    }
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ChangeEventRepository changeEventRepository;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+        categoryCache.refresh();
+    }
+
+    @Test
+    @DisplayName("Cache de categorias reconstruído após o commit deve ler do primário mesmo com a réplica disponível")
+    void categoryCache_AfterCategoryCommit_ShouldRebuildFromPrimary() {
+        // Arrange
+        replicaLagMonitor.check();
+        CategoryRequest request = CategoryRequest.builder()
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos em geral")
+                .build();
+
+        // Act
+        ResponseEntity<CategoryResponse> created = restTemplate.postForEntity("/categories", request, CategoryResponse.class);
+        ResponseEntity<CategoryResponse[]> categories = restTemplate.getForEntity("/categories", CategoryResponse[].class);
+
+        // Assert
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        // A réplica de teste não recebe as escritas do primário
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM products.category", Long.class)).isZero();
+        assertThat(categories.getBody()).extracting(CategoryResponse::getName).containsExactly("Eletrônicos");
+    }
+
+    @Test
+    @DisplayName("Tabela de preços deve ser lida do primário, com a versão e os preços no mesmo banco")
+    void priceList_ShouldBeReadFromPrimary_WhenReplicaIsAvailable() {
+        // Arrange
+        replicaLagMonitor.check();
+        CategoryResponse category = restTemplate.postForEntity("/categories", CategoryRequest.builder()
+                .name("Eletrônicos")
+                .description("Produtos eletrônicos em geral")
+                .build(), CategoryResponse.class).getBody();
+        ProductResponse product = restTemplate.postForEntity("/products", ProductRequest.builder()
+                .name("Smartphone")
+                .description("Smartphone último modelo")
+                .price(new BigDecimal("1999.99"))
+                .quantity(10)
+                .categoryId(category.getId())
+                .build(), ProductResponse.class).getBody();
+
+        // Act
+        PriceListResponse priceList = restTemplate.getForEntity("/products/prices", PriceListResponse.class).getBody();
+
+        // Assert
+        assertThat(replicaLagMonitor.isAvailable()).isTrue();
+        assertThat(replica.queryForObject("SELECT COUNT(*) FROM products.product", Long.class)).isZero();
+        assertThat(priceList.getIdentifiers()).containsExactly(product.getProductIdentifier());
+        assertThat(priceList.getVersion()).isEqualTo(changeEventRepository.findLastSeq());
+    }
+}
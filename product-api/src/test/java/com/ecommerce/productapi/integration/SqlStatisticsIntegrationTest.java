@@ -0,0 +1,157 @@
+package com.ecommerce.productapi.integration;
+
+import com.ecommerce.productapi.cache.CategoryCache;
+import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.Product;
+import com.ecommerce.productapi.metrics.SqlStatisticsFilter;
+import com.ecommerce.productapi.metrics.SqlStatisticsResponseAdvice;
+import com.ecommerce.productapi.repositories.CategoryRepository;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.client.RestTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes de Integração - Estatísticas de SQL")
+@TestPropertySource(properties = "sql.slow-query.threshold=0ms")
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatisticsIntegrationTest extends BaseIntegrationTest {
+
+    private static final String PRODUCT_IDENTIFIER = "SQL-STATS-1";
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private CategoryCache categoryCache;
+
+    private Category category;
+
+    @BeforeEach
+    void setUp() {
+        category = categoryRepository.save(Category.builder()
+                .name("Estatísticas")
+                .description("Categoria do teste de estatísticas de SQL")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+        productRepository.save(Product.builder()
+                .name("Produto")
+                .description("Produto do teste de estatísticas de SQL")
+                .price(new BigDecimal("10.00"))
+                .quantity(5)
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .category(category)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteAll();
+        categoryRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar os comandos SQL por endpoint e registrar as consultas lentas com os parâmetros")
+    void findByIdentifier_ShouldRecordStatementsAndLogSlowQueryParameters(CapturedOutput output) {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/products/{identifier}", String.class,
+                PRODUCT_IDENTIFIER);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // O produto e a categoria dele
+        assertThat(response.getHeaders().getFirst(SqlStatisticsResponseAdvice.STATEMENTS_HEADER)).isEqualTo("2");
+        assertThat(meterRegistry.get(SqlStatisticsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/products/{identifier}")
+                .summary()
+                .totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(SqlStatisticsFilter.ROWS_METRIC)
+                .tag("uri", "/products/{identifier}")
+                .summary()
+                .totalAmount()).isEqualTo(2);
+        assertThat(output).containsPattern("Consulta lenta \\(\\d+ ms\\): .*Query:\\[\"select .*product_identifier=\\?.*\"\\], Params:\\[\\(" + PRODUCT_IDENTIFIER + "[,)]");
+    }
+
+    @Test
+    @DisplayName("Deve atualizar o preço com um único UPDATE, sem carregar o produto")
+    void updatePrice_ShouldIssueSingleUpdateWithoutLoadingProduct(CapturedOutput output) {
+        // Arrange
+        // O cliente padrão do TestRestTemplate não suporta PATCH
+        RestTemplate client = new RestTemplateBuilder()
+                .requestFactory(JdkClientHttpRequestFactory.class)
+                .rootUri(restTemplate.getRootUri())
+                .build();
+
+        // Act
+        ResponseEntity<Void> response = client.exchange("/products/{identifier}/price", HttpMethod.PATCH,
+                new HttpEntity<>(Map.of("price", new BigDecimal("12.50"))), Void.class, PRODUCT_IDENTIFIER);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NO_CONTENT);
+        // UPDATE do preço, que já devolve o ID, e o evento do feed de alterações
+        assertThat(meterRegistry.get(SqlStatisticsFilter.STATEMENTS_METRIC)
+                .tag("method", "PATCH")
+                .tag("uri", "/products/{identifier}/price")
+                .summary()
+                .totalAmount()).isEqualTo(2);
+        assertThat(output).containsPattern("Query:\\[\"SELECT id FROM FINAL TABLE \\(UPDATE products\\.product SET price = \\?, updated_at = LOCALTIMESTAMP WHERE product_identifier = \\?\\)\"\\]");
+        assertThat(productRepository.findByProductIdentifier(PRODUCT_IDENTIFIER)).satisfies(product -> {
+            assertThat(product.getPrice()).isEqualByComparingTo("12.50");
+            assertThat(product.getQuantity()).isEqualTo(5);
+        });
+    }
+
+    @Test
+    @DisplayName("Deve criar produto sem consultar a categoria quando ela estiver no cache")
+    void createProduct_WithCachedCategory_ShouldNotSelectCategory(CapturedOutput output) {
+        // Arrange
+        categoryCache.refresh();
+        int logStart = output.getOut().length();
+        ProductRequest request = ProductRequest.builder()
+                .name("Produto novo")
+                .description("Produto criado no teste de estatísticas")
+                .price(new BigDecimal("20.00"))
+                .quantity(3)
+                .categoryId(category.getId())
+                .build();
+
+        // Act
+        ResponseEntity<String> response = restTemplate.postForEntity("/products", request, String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        String requestLog = output.getOut().substring(logStart);
+        assertThat(requestLog).containsPattern("Query:\\[\"insert into products\\.product ");
+        assertThat(requestLog).doesNotContainPattern("Query:\\[\"select [^\"]* from products\\.category ");
+    }
+}
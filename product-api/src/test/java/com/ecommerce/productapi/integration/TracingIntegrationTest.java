@@ -0,0 +1,126 @@
+package com.ecommerce.productapi.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+class TracingIntegrationTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+    private static final String SPANS_FILE = "spans.ndjson";
+
+    @TempDir
+    static Path traceDir;
+
+    @DynamicPropertySource
+    static void tracingProperties(DynamicPropertyRegistry registry) {
+        registry.add("tracing.file-export.enabled", () -> "true");
+        registry.add("tracing.file-export.path", () -> traceDir.resolve(SPANS_FILE).toString());
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    private final TestRestTemplate restTemplate;
+    private final InMemorySpanExporter spanExporter;
+    private final SdkTracerProvider tracerProvider;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public TracingIntegrationTest(TestRestTemplate restTemplate, InMemorySpanExporter spanExporter,
+                                  SdkTracerProvider tracerProvider, ObjectMapper objectMapper) {
+        this.restTemplate = restTemplate;
+        this.spanExporter = spanExporter;
+        this.tracerProvider = tracerProvider;
+        this.objectMapper = objectMapper;
+    }
+
+    @Test
+    @DisplayName("Deve continuar o trace recebido no traceparent e registrar os spans do servidor e do JDBC")
+    void request_WithTraceparent_ShouldContinueTraceWithServerAndJdbcSpans() throws IOException {
+        // Arrange
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01");
+
+        // Act
+        ResponseEntity<String> response = restTemplate.exchange("/products", HttpMethod.GET,
+                new HttpEntity<>(headers), String.class);
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+                .filter(span -> span.getTraceId().equals(TRACE_ID))
+                .toList();
+        assertThat(spans)
+                .anySatisfy(span -> {
+                    assertThat(span.getKind()).isEqualTo(SpanKind.SERVER);
+                    assertThat(span.getName()).isEqualTo("http get /products");
+                    assertThat(span.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+                })
+                .anySatisfy(span -> {
+                    assertThat(span.getName()).isEqualTo("query");
+                    assertThat(span.getAttributes().asMap().toString()).contains("from products.product");
+                });
+
+        List<JsonNode> records = Files.readAllLines(traceDir.resolve(SPANS_FILE)).stream()
+                .map(this::readTree)
+                .filter(record -> record.path("traceId").asText().equals(TRACE_ID))
+                .toList();
+        assertThat(records)
+                .hasSameSizeAs(spans)
+                .anySatisfy(record -> {
+                    assertThat(record.path("service").asText()).isEqualTo("product-api");
+                    assertThat(record.path("kind").asText()).isEqualTo("SERVER");
+                    assertThat(record.path("parentSpanId").asText()).isEqualTo(PARENT_SPAN_ID);
+                    assertThat(record.path("durationMicros").asLong()).isPositive();
+                });
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
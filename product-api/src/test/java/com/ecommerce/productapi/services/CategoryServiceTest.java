@@ -1,8 +1,11 @@
 package com.ecommerce.productapi.services;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.CategoryRequest;
 import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
 import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.ChangeEntityType;
+import com.ecommerce.productapi.domain.entities.ChangeOperation;
 import com.ecommerce.productapi.exception.CategoryNotFoundException;
 import com.ecommerce.productapi.mappers.impl.CategoryMapper;
 import com.ecommerce.productapi.repositories.CategoryRepository;
@@ -42,6 +45,12 @@ class CategoryServiceTest {
     @Mock
     private CategoryMapper mapper;
 
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
     @InjectMocks
     private CategoryService categoryService;
 
@@ -64,9 +73,7 @@ class CategoryServiceTest {
         @DisplayName("Deve retornar lista de categorias quando existirem registros")
         void shouldReturnCategoryList_WhenCategoriesExist() {
             // Arrange
-            List<Category> categories = List.of(category);
-            when(categoryRepository.findAll()).thenReturn(categories);
-            when(mapper.toResponse(any(Category.class))).thenReturn(categoryResponse);
+            when(categoryCache.findAll()).thenReturn(List.of(categoryResponse));
 
             // Act
             List<CategoryResponse> result = categoryService.findAllCategories();
@@ -82,31 +89,29 @@ class CategoryServiceTest {
                         assertThat(response.getDescription()).isEqualTo(CATEGORY_DESCRIPTION);
                     });
 
-            verify(categoryRepository).findAll();
-            verify(mapper, times(1)).toResponse(any(Category.class));
+            verify(categoryCache).findAll();
+            verifyNoInteractions(categoryRepository);
         }
 
         @Test
         @DisplayName("Deve retornar lista vazia quando não existirem categorias")
         void shouldReturnEmptyList_WhenNoCategoriesExist() {
             // Arrange
-            when(categoryRepository.findAll()).thenReturn(Collections.emptyList());
+            when(categoryCache.findAll()).thenReturn(Collections.emptyList());
 
             // Act
             List<CategoryResponse> result = categoryService.findAllCategories();
 
             // Assert
             assertThat(result).isEmpty();
-            verify(categoryRepository).findAll();
-            verify(mapper, never()).toResponse(any(Category.class));
+            verify(categoryCache).findAll();
         }
 
         @Test
         @DisplayName("Deve retornar categoria por ID quando existir")
         void shouldReturnCategory_WhenIdExists() {
             // Arrange
-            when(categoryRepository.findById(VALID_ID)).thenReturn(Optional.of(category));
-            when(mapper.toResponse(category)).thenReturn(categoryResponse);
+            when(categoryCache.findById(VALID_ID)).thenReturn(Optional.of(categoryResponse));
 
             // Act
             CategoryResponse result = categoryService.findCategoryById(VALID_ID);
@@ -120,23 +125,22 @@ class CategoryServiceTest {
                         assertThat(response.getDescription()).isEqualTo(CATEGORY_DESCRIPTION);
                     });
 
-            verify(categoryRepository).findById(VALID_ID);
-            verify(mapper).toResponse(category);
+            verify(categoryCache).findById(VALID_ID);
+            verifyNoInteractions(categoryRepository);
         }
 
         @Test
         @DisplayName("Deve lançar exceção quando buscar por ID inexistente")
         void shouldThrowException_WhenIdDoesNotExist() {
             // Arrange
-            when(categoryRepository.findById(INVALID_ID)).thenReturn(Optional.empty());
+            when(categoryCache.findById(INVALID_ID)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> categoryService.findCategoryById(INVALID_ID))
                     .isInstanceOf(CategoryNotFoundException.class)
                     .hasMessage(String.format(ERROR_MESSAGE_TEMPLATE, INVALID_ID));
 
-            verify(categoryRepository).findById(INVALID_ID);
-            verify(mapper, never()).toResponse(any());
+            verify(categoryCache).findById(INVALID_ID);
         }
     }
 
@@ -167,6 +171,9 @@ class CategoryServiceTest {
             verify(mapper).toEntity(categoryRequest);
             verify(categoryRepository).save(category);
             verify(mapper).toResponse(category);
+            verify(categoryCache).refreshAfterCommit();
+            verify(changeFeedService).record(ChangeEntityType.CATEGORY, VALID_ID, String.valueOf(VALID_ID),
+                    ChangeOperation.CREATED);
         }
 
         @Test
@@ -192,6 +199,7 @@ class CategoryServiceTest {
             verify(categoryRepository).findById(VALID_ID);
             verify(categoryRepository).save(category);
             verify(mapper).toResponse(category);
+            verify(categoryCache).refreshAfterCommit();
         }
 
         @Test
@@ -222,6 +230,9 @@ class CategoryServiceTest {
             // Assert
             verify(categoryRepository).existsById(VALID_ID);
             verify(categoryRepository).deleteById(VALID_ID);
+            verify(changeFeedService).record(ChangeEntityType.CATEGORY, VALID_ID, String.valueOf(VALID_ID),
+                    ChangeOperation.DELETED);
+            verify(categoryCache).refreshAfterCommit();
         }
 
         @Test
@@ -237,6 +248,7 @@ class CategoryServiceTest {
 
             verify(categoryRepository).existsById(INVALID_ID);
             verify(categoryRepository, never()).deleteById(any());
+            verify(categoryCache, never()).refreshAfterCommit();
         }
     }
 
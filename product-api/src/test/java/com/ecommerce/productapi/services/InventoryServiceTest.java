@@ -0,0 +1,340 @@
+package com.ecommerce.productapi.services;
+
+import com.ecommerce.productapi.domain.dto.request.ReservationItemRequest;
+import com.ecommerce.productapi.domain.dto.request.ReservationRequest;
+import com.ecommerce.productapi.domain.dto.response.ReservationResponse;
+import com.ecommerce.productapi.domain.entities.Reservation;
+import com.ecommerce.productapi.domain.entities.ReservationItem;
+import com.ecommerce.productapi.domain.entities.ReservationStatus;
+import com.ecommerce.productapi.exception.InsufficientStockException;
+import com.ecommerce.productapi.exception.ProductNotFoundException;
+import com.ecommerce.productapi.exception.ReservationNotFoundException;
+import com.ecommerce.productapi.exception.ReservationReleasedException;
+import com.ecommerce.productapi.mappers.impl.ReservationMapper;
+import com.ecommerce.productapi.repositories.ProductRepository;
+import com.ecommerce.productapi.repositories.ReservationRepository;
+import org.assertj.core.groups.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do InventoryService")
+class InventoryServiceTest {
+
+    private static final String PRODUCT_A = "PROD-A";
+    private static final String PRODUCT_B = "PROD-B";
+    private static final String RESERVATION_IDENTIFIER = "123e4567-e89b-12d3-a456-426614174000";
+    private static final Duration RESERVATION_TTL = Duration.ofMinutes(15);
+    private static final List<ReservationStatus> ACTIVE = List.of(ReservationStatus.RESERVED, ReservationStatus.CONFIRMED);
+
+    @Mock
+    private ProductRepository productRepository;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private ReservationMapper mapper;
+
+    private InventoryService inventoryService;
+
+    @BeforeEach
+    void setUp() {
+        inventoryService = new InventoryService(productRepository, reservationRepository, mapper, RESERVATION_TTL);
+    }
+
+    @Nested
+    @DisplayName("Testes de reserva de estoque")
+    class ReserveTests {
+
+        @Test
+        @DisplayName("Deve agrupar itens e decrementar o estoque em ordem de identificador")
+        void shouldAggregateItemsAndDecrementInOrder() {
+            // Arrange
+            ReservationRequest request = createRequest(
+                    item(PRODUCT_B, 1), item(PRODUCT_A, 2), item(PRODUCT_B, 3));
+            when(productRepository.decrementQuantity(anyString(), anyInt())).thenReturn(1);
+            when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+            when(mapper.toResponse(any(Reservation.class))).thenReturn(new ReservationResponse());
+
+            // Act
+            inventoryService.reserve(request);
+
+            // Assert
+            InOrder inOrder = inOrder(productRepository);
+            inOrder.verify(productRepository).decrementQuantity(PRODUCT_A, 2);
+            inOrder.verify(productRepository).decrementQuantity(PRODUCT_B, 4);
+
+            ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+            verify(reservationRepository).save(captor.capture());
+            assertThat(captor.getValue().getStatus()).isEqualTo(ReservationStatus.RESERVED);
+            assertThat(captor.getValue().getReservationIdentifier()).isNotBlank();
+            assertThat(captor.getValue().getItems())
+                    .extracting(ReservationItem::getProductIdentifier, ReservationItem::getQuantity)
+                    .containsExactly(
+                            Tuple.tuple(PRODUCT_A, 2),
+                            Tuple.tuple(PRODUCT_B, 4));
+        }
+
+        @Test
+        @DisplayName("Deve gravar a reserva com o identificador enviado pelo cliente")
+        void shouldUseClientReservationIdentifier() {
+            // Arrange
+            ReservationRequest request = createRequest(item(PRODUCT_A, 1));
+            request.setReservationIdentifier(RESERVATION_IDENTIFIER);
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER)).thenReturn(Optional.empty());
+            when(productRepository.decrementQuantity(PRODUCT_A, 1)).thenReturn(1);
+            when(reservationRepository.save(any(Reservation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+            // Act
+            inventoryService.reserve(request);
+
+            // Assert
+            ArgumentCaptor<Reservation> captor = ArgumentCaptor.forClass(Reservation.class);
+            verify(reservationRepository).save(captor.capture());
+            assertThat(captor.getValue().getReservationIdentifier()).isEqualTo(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Deve devolver a reserva existente sem decrementar o estoque de novo")
+        void shouldReturnExistingReservation_WhenIdentifierAlreadyReserved() {
+            // Arrange
+            ReservationRequest request = createRequest(item(PRODUCT_A, 2));
+            request.setReservationIdentifier(RESERVATION_IDENTIFIER);
+            Reservation reservation = createReservation();
+            ReservationResponse response = ReservationResponse.builder()
+                    .reservationIdentifier(RESERVATION_IDENTIFIER)
+                    .build();
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(reservation));
+            when(mapper.toResponse(reservation)).thenReturn(response);
+
+            // Act
+            ReservationResponse result = inventoryService.reserve(request);
+
+            // Assert
+            assertThat(result).isSameAs(response);
+            verify(productRepository, never()).decrementQuantity(anyString(), anyInt());
+            verify(reservationRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando não houver estoque suficiente")
+        void shouldThrowException_WhenStockIsInsufficient() {
+            // Arrange
+            when(productRepository.decrementQuantity(PRODUCT_A, 5)).thenReturn(0);
+            when(productRepository.existsByProductIdentifier(PRODUCT_A)).thenReturn(true);
+
+            // Act & Assert
+            assertThatThrownBy(() -> inventoryService.reserve(createRequest(item(PRODUCT_A, 5))))
+                    .isInstanceOf(InsufficientStockException.class)
+                    .hasMessageContaining(PRODUCT_A);
+
+            verify(reservationRepository, never()).save(any());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando o produto não existir")
+        void shouldThrowException_WhenProductDoesNotExist() {
+            // Arrange
+            when(productRepository.decrementQuantity(PRODUCT_A, 1)).thenReturn(0);
+            when(productRepository.existsByProductIdentifier(PRODUCT_A)).thenReturn(false);
+
+            // Act & Assert
+            assertThatThrownBy(() -> inventoryService.reserve(createRequest(item(PRODUCT_A, 1))))
+                    .isInstanceOf(ProductNotFoundException.class)
+                    .hasMessageContaining(PRODUCT_A);
+
+            verify(reservationRepository, never()).save(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de liberação de reserva")
+    class ReleaseTests {
+
+        @Test
+        @DisplayName("Deve devolver o estoque ao liberar reserva ativa")
+        void shouldRestoreStock_WhenReservationIsActive() {
+            // Arrange
+            Reservation reservation = createReservation();
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(reservation));
+            when(reservationRepository.updateStatus(1L, ACTIVE, ReservationStatus.RELEASED))
+                    .thenReturn(1);
+
+            // Act
+            inventoryService.release(RESERVATION_IDENTIFIER);
+
+            // Assert
+            verify(productRepository).incrementQuantity(PRODUCT_A, 2);
+        }
+
+        @Test
+        @DisplayName("Não deve devolver o estoque de reserva já liberada")
+        void shouldNotRestoreStock_WhenReservationAlreadyReleased() {
+            // Arrange
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(createReservation()));
+            when(reservationRepository.updateStatus(1L, ACTIVE, ReservationStatus.RELEASED))
+                    .thenReturn(0);
+
+            // Act
+            inventoryService.release(RESERVATION_IDENTIFIER);
+
+            // Assert
+            verify(productRepository, never()).incrementQuantity(anyString(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao liberar reserva inexistente")
+        void shouldThrowException_WhenReservationDoesNotExist() {
+            // Arrange
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> inventoryService.release(RESERVATION_IDENTIFIER))
+                    .isInstanceOf(ReservationNotFoundException.class)
+                    .hasMessageContaining(RESERVATION_IDENTIFIER);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de confirmação de reserva")
+    class ConfirmTests {
+
+        @Test
+        @DisplayName("Deve confirmar reserva ativa")
+        void shouldConfirm_WhenReservationIsActive() {
+            // Arrange
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(createReservation()));
+            when(reservationRepository.updateStatus(1L, List.of(ReservationStatus.RESERVED), ReservationStatus.CONFIRMED))
+                    .thenReturn(1);
+
+            // Act
+            inventoryService.confirm(RESERVATION_IDENTIFIER);
+
+            // Assert
+            verify(reservationRepository)
+                    .updateStatus(1L, List.of(ReservationStatus.RESERVED), ReservationStatus.CONFIRMED);
+        }
+
+        @Test
+        @DisplayName("Não deve alterar reserva já confirmada")
+        void shouldDoNothing_WhenReservationAlreadyConfirmed() {
+            // Arrange
+            Reservation reservation = createReservation();
+            reservation.setStatus(ReservationStatus.CONFIRMED);
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(reservation));
+
+            // Act
+            inventoryService.confirm(RESERVATION_IDENTIFIER);
+
+            // Assert
+            verify(reservationRepository, never()).updateStatus(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao confirmar reserva já liberada")
+        void shouldThrowException_WhenReservationAlreadyReleased() {
+            // Arrange
+            when(reservationRepository.findByReservationIdentifier(RESERVATION_IDENTIFIER))
+                    .thenReturn(Optional.of(createReservation()));
+            when(reservationRepository.updateStatus(1L, List.of(ReservationStatus.RESERVED), ReservationStatus.CONFIRMED))
+                    .thenReturn(0);
+
+            // Act & Assert
+            assertThatThrownBy(() -> inventoryService.confirm(RESERVATION_IDENTIFIER))
+                    .isInstanceOf(ReservationReleasedException.class)
+                    .hasMessageContaining(RESERVATION_IDENTIFIER);
+        }
+    }
+
+    @Nested
+    @DisplayName("Testes de expiração de reservas")
+    class ReleaseExpiredTests {
+
+        @Test
+        @DisplayName("Deve liberar só as reservas não confirmadas mais antigas que o TTL")
+        void shouldReleaseUnconfirmedReservationsOlderThanTtl() {
+            // Arrange
+            when(reservationRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                    eq(ReservationStatus.RESERVED), any(LocalDateTime.class), any()))
+                    .thenReturn(List.of(createReservation()));
+            when(reservationRepository.updateStatus(1L, List.of(ReservationStatus.RESERVED), ReservationStatus.RELEASED))
+                    .thenReturn(1);
+
+            // Act
+            inventoryService.releaseExpired();
+
+            // Assert
+            ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+            verify(reservationRepository).findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                    eq(ReservationStatus.RESERVED), cutoff.capture(), any());
+            assertThat(cutoff.getValue()).isBefore(LocalDateTime.now().minus(RESERVATION_TTL).plusSeconds(1));
+            verify(productRepository).incrementQuantity(PRODUCT_A, 2);
+        }
+
+        @Test
+        @DisplayName("Não deve devolver o estoque de reserva confirmada durante a varredura")
+        void shouldNotRestoreStock_WhenConfirmedConcurrently() {
+            // Arrange
+            when(reservationRepository.findByStatusAndCreatedAtBeforeOrderByCreatedAt(
+                    eq(ReservationStatus.RESERVED), any(LocalDateTime.class), any()))
+                    .thenReturn(List.of(createReservation()));
+            when(reservationRepository.updateStatus(1L, List.of(ReservationStatus.RESERVED), ReservationStatus.RELEASED))
+                    .thenReturn(0);
+
+            // Act
+            inventoryService.releaseExpired();
+
+            // Assert
+            verify(productRepository, never()).incrementQuantity(anyString(), anyInt());
+        }
+    }
+
+    private static ReservationItemRequest item(String productIdentifier, int quantity) {
+        return ReservationItemRequest.builder()
+                .productIdentifier(productIdentifier)
+                .quantity(quantity)
+                .build();
+    }
+
+    private static ReservationRequest createRequest(ReservationItemRequest... items) {
+        return ReservationRequest.builder()
+                .items(List.of(items))
+                .build();
+    }
+
+    private static Reservation createReservation() {
+        return Reservation.builder()
+                .id(1L)
+                .reservationIdentifier(RESERVATION_IDENTIFIER)
+                .status(ReservationStatus.RESERVED)
+                .items(List.of(ReservationItem.builder().productIdentifier(PRODUCT_A).quantity(2).build()))
+                .build();
+    }
+}
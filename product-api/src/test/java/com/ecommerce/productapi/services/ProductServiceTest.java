@@ -1,8 +1,12 @@
 package com.ecommerce.productapi.services;
 
+import com.ecommerce.productapi.cache.CategoryCache;
 import com.ecommerce.productapi.domain.dto.request.ProductRequest;
+import com.ecommerce.productapi.domain.dto.response.CategoryResponse;
 import com.ecommerce.productapi.domain.dto.response.ProductResponse;
 import com.ecommerce.productapi.domain.entities.Category;
+import com.ecommerce.productapi.domain.entities.ChangeEntityType;
+import com.ecommerce.productapi.domain.entities.ChangeOperation;
 import com.ecommerce.productapi.domain.entities.Product;
 import com.ecommerce.productapi.exception.CategoryNotFoundException;
 import com.ecommerce.productapi.exception.ProductNotFoundException;
@@ -14,12 +18,16 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.hibernate.exception.ConstraintViolationException;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.math.BigDecimal;
@@ -31,6 +39,7 @@ import java.util.Optional;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -57,6 +66,12 @@ class ProductServiceTest {
     @Mock
     private ProductMapper mapper;
 
+    @Mock
+    private CategoryCache categoryCache;
+
+    @Mock
+    private ChangeFeedService changeFeedService;
+
     @InjectMocks
     private ProductService productService;
 
@@ -152,7 +167,7 @@ class ProductServiceTest {
         @DisplayName("Deve retornar produtos por categoria quando existirem")
         void shouldReturnProducts_WhenCategoryExists() {
             // Arrange
-            when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+            when(categoryCache.contains(category.getId())).thenReturn(true);
             when(productRepository.getProductByCategory(category.getId())).thenReturn(List.of(product));
             when(mapper.toResponse(any(Product.class))).thenReturn(productResponse);
 
@@ -177,7 +192,7 @@ class ProductServiceTest {
         @DisplayName("Deve retornar lista vazia quando não existirem produtos por categoria")
         void shouldReturnEmptyList_WhenNoProductsByCategoryExist() {
             // Arrange
-            when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+            when(categoryCache.contains(category.getId())).thenReturn(true);
             when(productRepository.getProductByCategory(category.getId())).thenReturn(Collections.emptyList());
 
             // Act
@@ -193,17 +208,55 @@ class ProductServiceTest {
         @DisplayName("Deve lançar exceção ao buscar produtos por categoria inexistente")
         void shouldThrowException_WhenCategoryDoesNotExist() {
             // Arrange
-            when(categoryRepository.findById(INVALID_ID)).thenReturn(Optional.empty());
+            when(categoryRepository.existsById(INVALID_ID)).thenReturn(false);
 
             // Act & Assert
             assertThatThrownBy(() -> productService.findProductByCategoryId(INVALID_ID))
                     .isInstanceOf(CategoryNotFoundException.class)
                     .hasMessageContaining(String.valueOf(INVALID_ID));
 
-            verify(categoryRepository).findById(INVALID_ID);
+            verify(categoryCache).contains(INVALID_ID);
+            verify(categoryRepository).existsById(INVALID_ID);
             verify(productRepository, never()).getProductByCategory(any());
         }
 
+        @Test
+        @DisplayName("Deve retornar página por cursor indicando que existe próxima página")
+        void shouldReturnSliceWithNext_WhenMoreProductsThanPageSize() {
+            // Arrange
+            Product other = Product.builder().id(2L).category(category).build();
+            when(categoryCache.contains(category.getId())).thenReturn(true);
+            when(productRepository.getProductByCategoryAfter(category.getId(), 0L, PageRequest.of(0, 2)))
+                    .thenReturn(List.of(product, other));
+            when(mapper.toResponse(product)).thenReturn(productResponse);
+
+            // Act
+            Slice<ProductResponse> result = productService.findProductPageByCategoryId(category.getId(), null, 1);
+
+            // Assert
+            assertThat(result.getContent()).containsExactly(productResponse);
+            assertThat(result.hasNext()).isTrue();
+            verify(mapper, never()).toResponse(other);
+        }
+
+        @Test
+        @DisplayName("Deve limitar o tamanho da página por cursor")
+        void shouldCapPageSize_WhenLinesPerPageExceedsMaximum() {
+            // Arrange
+            when(categoryCache.contains(category.getId())).thenReturn(true);
+            when(productRepository.getProductByCategoryAfter(eq(category.getId()), eq(VALID_ID), any(Pageable.class)))
+                    .thenReturn(Collections.emptyList());
+
+            // Act
+            Slice<ProductResponse> result = productService.findProductPageByCategoryId(category.getId(), VALID_ID, 10_000);
+
+            // Assert
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.hasNext()).isFalse();
+            verify(productRepository).getProductByCategoryAfter(category.getId(), VALID_ID,
+                    PageRequest.of(0, ProductService.MAX_LINES_PER_PAGE + 1));
+        }
+
         @Test
         @DisplayName("Deve retornar produto por identifier quando existir")
         void shouldReturnProduct_WhenIdentifierExists() {
@@ -250,9 +303,9 @@ class ProductServiceTest {
         @DisplayName("Deve salvar produto com sucesso")
         void shouldSaveProduct_Successfully() {
             // Arrange
-            when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
+            stubCachedCategory();
             when(productRepository.save(any(Product.class))).thenReturn(product);
-            when(mapper.toResponse(product)).thenReturn(productResponse);
+            when(mapper.toResponse(product, CATEGORY_NAME)).thenReturn(productResponse);
 
             // Act
             ProductResponse result = productService.save(productRequest);
@@ -266,9 +319,47 @@ class ProductServiceTest {
                         assertThat(response.getCategoryId()).isEqualTo(category.getId());
                     });
 
-            verify(categoryRepository).findById(category.getId());
+            verify(categoryRepository).getReferenceById(category.getId());
+            verify(categoryRepository, never()).findById(any());
+            // O caminho de escrita não pode reconstruir o snapshot dentro da transação
+            verify(categoryCache, never()).findById(any());
+            verify(categoryCache, never()).contains(any());
             verify(productRepository).save(any(Product.class));
-            verify(mapper).toResponse(product);
+            verify(mapper).toResponse(product, CATEGORY_NAME);
+            verify(changeFeedService).record(ChangeEntityType.PRODUCT, product.getId(),
+                    product.getProductIdentifier(), ChangeOperation.CREATED);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção quando a FK da categoria for violada ao salvar")
+        void shouldThrowException_WhenCategoryRemovedBeforeSave() {
+            // Arrange
+            when(categoryCache.findCachedById(category.getId()))
+                    .thenReturn(Optional.of(CategoryResponse.builder().id(category.getId()).build()));
+            when(categoryRepository.getReferenceById(category.getId())).thenReturn(category);
+            when(productRepository.save(any(Product.class)))
+                    .thenThrow(constraintViolation(ProductService.CATEGORY_FOREIGN_KEY));
+
+            // Act & Assert
+            assertThatThrownBy(() -> productService.save(productRequest))
+                    .isInstanceOf(CategoryNotFoundException.class)
+                    .hasMessageContaining(String.valueOf(category.getId()));
+
+            verify(categoryCache, never()).markProductsChanged();
+        }
+
+        @Test
+        @DisplayName("Deve propagar violações de integridade que não sejam da FK da categoria")
+        void shouldRethrowOtherIntegrityViolations_WhenSaving() {
+            // Arrange
+            stubCachedCategory();
+            DataIntegrityViolationException duplicate = constraintViolation("uk_product_identifier");
+            when(productRepository.save(any(Product.class))).thenThrow(duplicate);
+
+            // Act & Assert
+            assertThatThrownBy(() -> productService.save(productRequest)).isSameAs(duplicate);
+
+            verify(categoryCache, never()).markProductsChanged();
         }
 
         @Test
@@ -293,9 +384,9 @@ class ProductServiceTest {
         void shouldUpdateProduct_Successfully() {
             // Arrange
             when(productRepository.findByProductIdentifier(VALID_IDENTIFIER)).thenReturn(product);
-            when(categoryRepository.findById(category.getId())).thenReturn(Optional.of(category));
-            when(productRepository.save(any(Product.class))).thenReturn(product);
-            when(mapper.toResponse(product)).thenReturn(productResponse);
+            stubCachedCategory();
+            when(productRepository.saveAndFlush(any(Product.class))).thenReturn(product);
+            when(mapper.toResponse(product, CATEGORY_NAME)).thenReturn(productResponse);
 
             // Act
             ProductResponse result = productService.update(VALID_IDENTIFIER, productRequest);
@@ -310,8 +401,8 @@ class ProductServiceTest {
                     });
 
             verify(productRepository).findByProductIdentifier(VALID_IDENTIFIER);
-            verify(categoryRepository).findById(category.getId());
-            verify(productRepository).save(any(Product.class));
+            verify(categoryRepository).getReferenceById(category.getId());
+            verify(productRepository).saveAndFlush(any(Product.class));
         }
 
         @Test
@@ -329,36 +420,113 @@ class ProductServiceTest {
             verify(productRepository, never()).save(any());
         }
 
+        @Test
+        @DisplayName("Deve atualizar o preço sem carregar o produto")
+        void shouldUpdatePrice_WithoutLoadingProduct() {
+            // Arrange
+            BigDecimal newPrice = new BigDecimal("149.90");
+            when(productRepository.updatePrice(VALID_IDENTIFIER, newPrice)).thenReturn(Optional.of(VALID_ID));
+
+            // Act
+            productService.updatePrice(VALID_IDENTIFIER, newPrice);
+
+            // Assert
+            verify(productRepository).updatePrice(VALID_IDENTIFIER, newPrice);
+            verify(productRepository, never()).findByProductIdentifier(any());
+            verify(categoryCache).markProductsChanged();
+            verify(changeFeedService).record(ChangeEntityType.PRODUCT, VALID_ID, VALID_IDENTIFIER, ChangeOperation.UPDATED);
+        }
+
+        @Test
+        @DisplayName("Deve atualizar o estoque sem carregar o produto")
+        void shouldUpdateQuantity_WithoutLoadingProduct() {
+            // Arrange
+            when(productRepository.updateQuantity(VALID_IDENTIFIER, 25)).thenReturn(Optional.of(VALID_ID));
+
+            // Act
+            productService.updateQuantity(VALID_IDENTIFIER, 25);
+
+            // Assert
+            verify(productRepository).updateQuantity(VALID_IDENTIFIER, 25);
+            verify(productRepository, never()).findByProductIdentifier(any());
+            verifyNoInteractions(categoryCache);
+            verify(changeFeedService).record(ChangeEntityType.PRODUCT, VALID_ID, VALID_IDENTIFIER, ChangeOperation.UPDATED);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao atualizar o preço de produto inexistente")
+        void shouldThrowException_WhenUpdatingPriceOfNonExistentProduct() {
+            // Arrange
+            when(productRepository.updatePrice(INVALID_IDENTIFIER, BigDecimal.TEN)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> productService.updatePrice(INVALID_IDENTIFIER, BigDecimal.TEN))
+                    .isInstanceOf(ProductNotFoundException.class)
+                    .hasMessageContaining(INVALID_IDENTIFIER);
+
+            verifyNoInteractions(categoryCache, changeFeedService);
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção ao atualizar o estoque de produto inexistente")
+        void shouldThrowException_WhenUpdatingQuantityOfNonExistentProduct() {
+            // Arrange
+            when(productRepository.updateQuantity(INVALID_IDENTIFIER, 25)).thenReturn(Optional.empty());
+
+            // Act & Assert
+            assertThatThrownBy(() -> productService.updateQuantity(INVALID_IDENTIFIER, 25))
+                    .isInstanceOf(ProductNotFoundException.class)
+                    .hasMessageContaining(INVALID_IDENTIFIER);
+
+            verifyNoInteractions(changeFeedService);
+        }
+
         @Test
         @DisplayName("Deve deletar produto com sucesso")
         void shouldDeleteProduct_Successfully() {
             // Arrange
-            when(productRepository.existsById(VALID_ID)).thenReturn(true);
+            when(productRepository.findProductIdentifierById(VALID_ID)).thenReturn(Optional.of(VALID_IDENTIFIER));
 
             // Act
             productService.delete(VALID_ID);
 
             // Assert
-            verify(productRepository).existsById(VALID_ID);
+            verify(productRepository).findProductIdentifierById(VALID_ID);
             verify(productRepository).deleteById(VALID_ID);
+            verify(categoryCache).markProductsChanged();
+            verify(changeFeedService).record(ChangeEntityType.PRODUCT, VALID_ID, VALID_IDENTIFIER, ChangeOperation.DELETED);
         }
 
         @Test
         @DisplayName("Deve lançar exceção ao deletar produto inexistente")
         void shouldThrowException_WhenDeletingNonExistentProduct() {
             // Arrange
-            when(productRepository.existsById(INVALID_ID)).thenReturn(false);
+            when(productRepository.findProductIdentifierById(INVALID_ID)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> productService.delete(INVALID_ID))
                     .isInstanceOf(ProductNotFoundException.class)
                     .hasMessageContaining(String.valueOf(INVALID_ID));
 
-            verify(productRepository).existsById(INVALID_ID);
+            verify(productRepository).findProductIdentifierById(INVALID_ID);
             verify(productRepository, never()).deleteById(any());
+            verifyNoInteractions(changeFeedService);
         }
     }
 
+    private void stubCachedCategory() {
+        when(categoryRepository.getReferenceById(category.getId())).thenReturn(category);
+        when(categoryCache.findCachedById(category.getId())).thenReturn(Optional.of(CategoryResponse.builder()
+                .id(category.getId())
+                .name(CATEGORY_NAME)
+                .build()));
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("violação de integridade",
+                new ConstraintViolationException("violação de integridade", null, constraintName));
+    }
+
     private Category createCategory() {
         return Category.builder()
                 .id(VALID_ID)
@@ -0,0 +1,83 @@
+package com.ecommerce.shoppingapi.config;
+
+import com.ecommerce.shoppingapi.datasource.ReplicaAwareDataSource;
+import com.ecommerce.shoppingapi.datasource.ReplicaLagMonitor;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+@Configuration
+public class DataSourceConfig {
+
+    @Bean
+    public DataSource writeDataSource(DataSourceProperties properties, Environment environment) {
+        return pool("write", properties, environment);
+    }
+
+    @Bean
+    public DataSource readDataSource(DataSourceProperties properties, Environment environment,
+                                     @Value("${datasource.replica.enabled:false}") boolean replicaEnabled) {
+        HikariDataSource dataSource = pool("read", properties, environment);
+        if (replicaEnabled) {
+            dataSource.setJdbcUrl(environment.getRequiredProperty("datasource.replica.url"));
+            dataSource.setUsername(environment.getProperty("datasource.replica.username", dataSource.getUsername()));
+            dataSource.setPassword(environment.getProperty("datasource.replica.password", dataSource.getPassword()));
+        }
+        return dataSource;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    public ReplicaLagMonitor replicaLagMonitor(@Qualifier("readDataSource") DataSource readDataSource,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${datasource.replica.lag-query}") String lagQuery,
+                                               @Value("${datasource.replica.max-lag:5s}") Duration maxLag)
+            throws SQLException {
+        // Mede direto no pool, fora do proxy de JDBC, para não gerar spans e estatísticas a cada medição
+        return new ReplicaLagMonitor(readDataSource.unwrap(HikariDataSource.class), lagQuery, maxLag, meterRegistry);
+    }
+
+    /**
+     * Transações somente leitura (listagens e relatórios) usam o pool de leitura, que aponta para a réplica
+     * quando datasource.replica.enabled está ligado, e as demais o de escrita, para que relatórios pesados
+     * não esgotem as conexões do checkout. A conexão física só é obtida no primeiro comando SQL, então as
+     * chamadas aos outros serviços no início do checkout não seguram conexão.
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("writeDataSource") DataSource writeDataSource,
+                                 @Qualifier("readDataSource") DataSource readDataSource,
+                                 ObjectProvider<ReplicaLagMonitor> replicaLagMonitor) {
+        ReplicaLagMonitor monitor = replicaLagMonitor.getIfAvailable();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(writeDataSource);
+        dataSource.setReadOnlyDataSource(monitor == null
+                ? readDataSource
+                : new ReplicaAwareDataSource(readDataSource, writeDataSource, monitor));
+        return dataSource;
+    }
+
+    // Configuração comum em spring.datasource.hikari, sobrescrita por pool em datasource.pool.<nome>
+    private static HikariDataSource pool(String name, DataSourceProperties properties, Environment environment) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName(name);
+        Binder binder = Binder.get(environment);
+        binder.bind("spring.datasource.hikari", Bindable.ofInstance(dataSource));
+        binder.bind("datasource.pool." + name, Bindable.ofInstance(dataSource));
+        return dataSource;
+    }
+}
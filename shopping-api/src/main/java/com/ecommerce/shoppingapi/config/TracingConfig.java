@@ -0,0 +1,23 @@
+package com.ecommerce.shoppingapi.config;
+
+import com.ecommerce.shoppingapi.tracing.FileSpanExporter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+@Configuration
+public class TracingConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing.file-export.enabled", havingValue = "true")
+    public SpanExporter fileSpanExporter(@Value("${tracing.file-export.path}") Path path,
+                                         ObjectMapper objectMapper) throws IOException {
+        return new FileSpanExporter(path, objectMapper);
+    }
+}
@@ -1,8 +1,12 @@
 package com.ecommerce.shoppingapi.controllers;
 
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.UserShopStatisticsResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.ecommerce.shoppingapi.services.IdempotencyService;
 import com.ecommerce.shoppingapi.services.ShopService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -23,7 +27,10 @@ import java.util.List;
 @RequestMapping("/shoppings")
 public class ShopController {
 
+    public static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final ShopService shopService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public List<ShopResponseDto> getAllShops() {
@@ -47,6 +54,12 @@ public class ShopController {
         return shopService.getByUser(userIdentifier);
     }
 
+    @GetMapping("/shopByUser/{userIdentifier}/statistics")
+    public UserShopStatisticsResponseDto getStatisticsByUserIdentifier(
+            @PathVariable("userIdentifier") String userIdentifier) {
+        return shopService.getStatisticsByUser(userIdentifier);
+    }
+
     @GetMapping("/{id}")
     public ShopResponseDto findById(@PathVariable("id") Long id) {
         return shopService.findById(id);
@@ -84,10 +97,25 @@ public class ShopController {
         return report;
     }
 
+    @GetMapping("/report/histogram")
+    public ShopHistogramResponseDto getHistogramByDate(
+            @RequestParam(name = "startDate", required = true)
+            @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate startDate,
+            @RequestParam(name = "endDate", required = true)
+            @DateTimeFormat(pattern = "dd/MM/yyyy") LocalDate endDate,
+            @RequestParam(name = "interval", defaultValue = "day") String interval,
+            @RequestParam(name = "top", defaultValue = "10") Integer top,
+            @RequestParam(name = "percentiles", defaultValue = "false") Boolean percentiles
+            ) {
+        return shopService.getHistogramByDate(startDate, endDate, ReportInterval.from(interval), top, percentiles);
+    }
+
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
-    public ShopResponseDto newShop(@Valid @RequestBody ShopRequestDto dto) {
-        return shopService.save(dto);
+    public ShopResponseDto newShop(
+            @RequestHeader(value = IDEMPOTENCY_KEY_HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody ShopRequestDto dto) {
+        return idempotencyKey == null ? shopService.save(dto) : idempotencyService.save(idempotencyKey, dto);
     }
 
     @DeleteMapping("/{id}")
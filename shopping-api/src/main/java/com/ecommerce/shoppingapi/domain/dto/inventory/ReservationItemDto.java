@@ -0,0 +1,16 @@
+package com.ecommerce.shoppingapi.domain.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationItemDto {
+
+    private String productIdentifier;
+    private Integer quantity;
+}
@@ -0,0 +1,18 @@
+package com.ecommerce.shoppingapi.domain.dto.inventory;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationRequestDto {
+
+    private String reservationIdentifier;
+    private List<ReservationItemDto> items;
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.shoppingapi.domain.dto.inventory;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ReservationResponseDto {
+
+    private String reservationIdentifier;
+    private String status;
+    private List<ReservationItemDto> items;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+}
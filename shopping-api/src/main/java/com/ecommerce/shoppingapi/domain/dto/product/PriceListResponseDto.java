@@ -0,0 +1,16 @@
+package com.ecommerce.shoppingapi.domain.dto.product;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class PriceListResponseDto {
+    private long version;
+    private String[] identifiers;
+    private double[] prices;
+}
@@ -0,0 +1,21 @@
+package com.ecommerce.shoppingapi.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class BasketPercentilesDto {
+
+    private Long count;
+    private BigDecimal itemsP50;
+    private BigDecimal itemsP95;
+    private BigDecimal totalP50;
+    private BigDecimal totalP95;
+}
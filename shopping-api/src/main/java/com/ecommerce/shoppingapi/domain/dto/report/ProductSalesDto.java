@@ -0,0 +1,19 @@
+package com.ecommerce.shoppingapi.domain.dto.report;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ProductSalesDto {
+
+    private String productIdentifier;
+    private Long units;
+    private BigDecimal revenue;
+}
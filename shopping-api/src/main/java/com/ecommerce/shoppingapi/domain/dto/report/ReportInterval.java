@@ -0,0 +1,61 @@
+package com.ecommerce.shoppingapi.domain.dto.report;
+
+import com.ecommerce.shoppingapi.exception.InvalidRequestException;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Collectors;
+
+/**
+ * Granularidade dos intervalos do histograma. As semanas começam na segunda-feira (ISO).
+ */
+public enum ReportInterval {
+    HOUR(ChronoUnit.HOURS),
+    DAY(ChronoUnit.DAYS),
+    WEEK(ChronoUnit.WEEKS);
+
+    private final ChronoUnit unit;
+
+    ReportInterval(ChronoUnit unit) {
+        this.unit = unit;
+    }
+
+    public ChronoUnit unit() {
+        return unit;
+    }
+
+    public String field() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Campo do {@code DATE_TRUNC} no banco. O início da semana do {@code DATE_TRUNC('week')} varia
+     * entre bancos (no H2 depende da localidade), então semanas são agregadas por dia e somadas depois.
+     */
+    public String databaseField() {
+        return this == WEEK ? DAY.field() : field();
+    }
+
+    public LocalDateTime truncate(LocalDateTime dateTime) {
+        if (this == WEEK) {
+            return dateTime.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+        }
+        return dateTime.truncatedTo(unit);
+    }
+
+    public LocalDateTime next(LocalDateTime bucketStart) {
+        return bucketStart.plus(1, unit);
+    }
+
+    public static ReportInterval from(String value) {
+        return Arrays.stream(values())
+                .filter(interval -> interval.name().equalsIgnoreCase(value))
+                .findFirst()
+                .orElseThrow(() -> new InvalidRequestException("Intervalo inválido: '" + value + "'. Use " +
+                        Arrays.stream(values()).map(ReportInterval::field).collect(Collectors.joining(", "))));
+    }
+}
@@ -0,0 +1,24 @@
+package com.ecommerce.shoppingapi.domain.dto.report;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class ShopHistogramResponseDto {
+
+    private ReportInterval interval;
+    private List<ShopHistogramBucketDto> buckets;
+    private List<ProductSalesDto> topByRevenue;
+    private List<ProductSalesDto> topByUnits;
+
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private BasketPercentilesDto basketPercentiles;
+}
@@ -0,0 +1,28 @@
+package com.ecommerce.shoppingapi.domain.dto.report;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+public class UserShopStatisticsResponseDto {
+
+    private String userIdentifier;
+    private Long count;
+    private BigDecimal total;
+    private BigDecimal mean;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime firstOrderDate;
+
+    @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
+    private LocalDateTime lastOrderDate;
+}
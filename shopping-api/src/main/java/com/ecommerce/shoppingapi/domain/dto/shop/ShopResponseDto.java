@@ -22,6 +22,8 @@ public class ShopResponseDto {
 
     @JsonFormat(pattern = "dd/MM/yyyy HH:mm:ss")
     private LocalDateTime date;
+
+    private Long priceVersion;
     
     private List<ItemDto> items;
 }
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.ecommerce.shoppingapi.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Chave de idempotência de uma compra, gravada na mesma transação que a compra
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "idempotency_key")
+public class IdempotencyKey {
+
+    @Id
+    @Column(length = 100)
+    private String idempotencyKey;
+
+    @Column(length = 64, nullable = false)
+    private String requestHash;
+
+    @Column(nullable = false)
+    private Long shopId;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+}
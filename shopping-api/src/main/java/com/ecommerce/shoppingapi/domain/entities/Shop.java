@@ -5,6 +5,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -25,8 +26,15 @@ public class Shop {
     private String userIdentifier;
     private BigDecimal total;
     private LocalDateTime date;
+    private String reservationIdentifier;
 
+    // Versão da tabela de preços da product-api usada no checkout (sequência confirmada do feed: a tabela
+    // inclui todas as alterações até ela); nula quando os preços foram consultados um a um
+    private Long priceVersion;
+
+    // Sem o lote, cada compra de uma listagem carregava os itens em uma consulta própria (N+1)
     @ElementCollection(fetch = FetchType.EAGER)
     @CollectionTable(name = "item", joinColumns = @JoinColumn(name = "shop_id"))
+    @BatchSize(size = 100)
     private List<Item> items;
 }
@@ -0,0 +1,34 @@
+package com.ecommerce.shoppingapi.domain.entities;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Totais de compras por usuário, mantidos a cada compra criada ou removida
+ * para que as estatísticas não precisem percorrer as compras do usuário.
+ */
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+@Builder
+@Entity
+@Table(name = "user_shop_summary")
+public class UserShopSummary {
+
+    @Id
+    private String userIdentifier;
+
+    private Long orderCount;
+
+    @Column(precision = 19, scale = 2)
+    private BigDecimal total;
+
+    private LocalDateTime firstOrderDate;
+    private LocalDateTime lastOrderDate;
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.shoppingapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidRequestException extends BaseException {
+  private static final String DEFAULT_MESSAGE = "Requisição inválida";
+  private static final HttpStatus DEFAULT_STATUS = HttpStatus.BAD_REQUEST;
+  private static final String ERROR_CODE = "INVALID_REQUEST";
+
+  public InvalidRequestException() {
+    super(DEFAULT_MESSAGE, DEFAULT_STATUS, ERROR_CODE);
+  }
+
+  public InvalidRequestException(String message) {
+    super(message, DEFAULT_STATUS, ERROR_CODE);
+  }
+}
@@ -0,0 +1,17 @@
+package com.ecommerce.shoppingapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UpstreamUnavailableException extends BaseException {
+  private static final String DEFAULT_MESSAGE = "Serviço dependente indisponível";
+  private static final HttpStatus DEFAULT_STATUS = HttpStatus.SERVICE_UNAVAILABLE;
+  private static final String ERROR_CODE = "UPSTREAM_UNAVAILABLE";
+
+  public UpstreamUnavailableException() {
+    super(DEFAULT_MESSAGE, DEFAULT_STATUS, ERROR_CODE);
+  }
+
+  public UpstreamUnavailableException(String message) {
+    super(message, DEFAULT_STATUS, ERROR_CODE);
+  }
+}
@@ -0,0 +1,114 @@
+package com.ecommerce.shoppingapi.idempotency;
+
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Resultados recentes por chave de idempotência, em memória e com tamanho limitado. A primeira requisição
+ * com uma chave executa a operação; as repetidas recebem o mesmo resultado, e as que chegam enquanto a
+ * primeira ainda executa aguardam por ela em vez de executar em paralelo. Falhas não são guardadas:
+ * quem aguardava recebe a mesma exceção, e uma nova tentativa executa de novo.
+ */
+public class IdempotencyStore<T> {
+
+    private final int maxEntries;
+    private final long ttlNanos;
+    private final ConcurrentHashMap<String, Entry<T>> entries = new ConcurrentHashMap<>();
+    // Só chaves concluídas, na ordem de conclusão; execuções em andamento nunca são descartadas
+    private final Queue<String> completed = new ConcurrentLinkedQueue<>();
+
+    public IdempotencyStore(int maxEntries, Duration ttl) {
+        this.maxEntries = maxEntries;
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    public T execute(String key, String requestHash, Duration waitTimeout, Supplier<T> operation) {
+        Entry<T> entry = new Entry<>(requestHash);
+        Entry<T> existing;
+        while ((existing = entries.putIfAbsent(key, entry)) != null) {
+            if (!existing.isExpired(ttlNanos)) {
+                return await(existing, requestHash, waitTimeout);
+            }
+            entries.remove(key, existing);
+        }
+
+        T result;
+        try {
+            result = operation.get();
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+
+        entry.completedAt = System.nanoTime();
+        entry.result.complete(result);
+        completed.add(key);
+        evict();
+        return result;
+    }
+
+    /**
+     * Descarta o resultado guardado para a chave (ex.: a compra foi excluída); uma execução em andamento
+     * é mantida.
+     */
+    public void remove(String key) {
+        entries.computeIfPresent(key, (k, entry) -> entry.result.isDone() ? null : entry);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private T await(Entry<T> entry, String requestHash, Duration waitTimeout) {
+        if (!entry.requestHash.equals(requestHash)) {
+            throw new ResourceConflictException("Idempotency-Key já usada em uma requisição diferente");
+        }
+        try {
+            return entry.result.get(waitTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            throw new ResourceConflictException("Requisição com a mesma Idempotency-Key ainda em processamento");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando a requisição com a mesma Idempotency-Key", e);
+        }
+    }
+
+    private void evict() {
+        while (entries.size() > maxEntries) {
+            String oldest = completed.poll();
+            if (oldest == null) {
+                return;
+            }
+            remove(oldest);
+        }
+    }
+
+    private static final class Entry<T> {
+        private final String requestHash;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        private volatile long completedAt;
+
+        private Entry(String requestHash) {
+            this.requestHash = requestHash;
+        }
+
+        private boolean isExpired(long ttlNanos) {
+            return result.isDone() && System.nanoTime() - completedAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.ecommerce.shoppingapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Abre o {@link SqlStatistics} de cada requisição e, ao final, publica por endpoint ({@code method} e
+ * {@code uri}) quantos comandos SQL foram executados, quantas linhas trafegaram e o tempo no banco.
+ * Requisições acima de {@code sql.statistics.warn-statements} comandos são registradas no log,
+ * que é onde um N+1 costuma aparecer primeiro.
+ */
+public class SqlStatisticsFilter extends OncePerRequestFilter {
+
+    public static final String STATEMENTS_METRIC = "http.server.sql.statements";
+    public static final String ROWS_METRIC = "http.server.sql.rows";
+    public static final String TIME_METRIC = "http.server.sql.time";
+
+    private static final Logger logger = LoggerFactory.getLogger(SqlStatisticsFilter.class);
+
+    private static final String UNKNOWN_URI = "UNKNOWN";
+
+    private final MeterRegistry meterRegistry;
+    private final int warnStatements;
+
+    public SqlStatisticsFilter(MeterRegistry meterRegistry, int warnStatements) {
+        this.meterRegistry = meterRegistry;
+        this.warnStatements = warnStatements;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatistics statistics = SqlStatistics.begin();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            SqlStatistics.end();
+            record(request, statistics);
+        }
+    }
+
+    private void record(HttpServletRequest request, SqlStatistics statistics) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        String uri = pattern != null ? pattern.toString() : UNKNOWN_URI;
+        String method = request.getMethod();
+
+        DistributionSummary.builder(STATEMENTS_METRIC)
+                .description("Comandos SQL executados por requisição")
+                .baseUnit("statements")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 2, 3, 5, 10, 20, 50, 100, 200, 500)
+                .register(meterRegistry)
+                .record(statistics.getStatements());
+        DistributionSummary.builder(ROWS_METRIC)
+                .description("Linhas lidas ou alteradas por requisição")
+                .baseUnit("rows")
+                .tag("method", method)
+                .tag("uri", uri)
+                .serviceLevelObjectives(1, 10, 100, 1_000, 10_000, 100_000)
+                .register(meterRegistry)
+                .record(statistics.getRows());
+        Timer.builder(TIME_METRIC)
+                .description("Tempo gasto no banco por requisição")
+                .tag("method", method)
+                .tag("uri", uri)
+                .publishPercentileHistogram()
+                .register(meterRegistry)
+                .record(statistics.getElapsedNanos(), TimeUnit.NANOSECONDS);
+
+        if (statistics.getStatements() > warnStatements) {
+            logger.warn("{} {} executou {} comandos SQL ({} ms no banco)", method, uri, statistics.getStatements(),
+                    TimeUnit.NANOSECONDS.toMillis(statistics.getElapsedNanos()));
+        }
+    }
+}
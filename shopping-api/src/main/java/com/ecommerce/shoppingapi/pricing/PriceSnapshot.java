@@ -0,0 +1,67 @@
+package com.ecommerce.shoppingapi.pricing;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Comparator;
+
+/**
+ * Tabela de preços imutável de uma versão da product-api. Os identificadores ficam ordenados num array
+ * e os preços num array de primitivos paralelo, então a busca é binária e sem objetos por produto.
+ * Os preços são guardados como double porque é assim que a product-api os armazena.
+ */
+public final class PriceSnapshot {
+
+    private final long version;
+    private final Instant loadedAt;
+    private final String[] identifiers;
+    private final double[] prices;
+
+    private PriceSnapshot(long version, Instant loadedAt, String[] identifiers, double[] prices) {
+        this.version = version;
+        this.loadedAt = loadedAt;
+        this.identifiers = identifiers;
+        this.prices = prices;
+    }
+
+    /**
+     * Monta a tabela a partir dos arrays paralelos recebidos, em qualquer ordem
+     */
+    public static PriceSnapshot of(long version, String[] identifiers, double[] prices, Instant loadedAt) {
+        if (identifiers.length != prices.length) {
+            throw new IllegalArgumentException("Identificadores e preços com tamanhos diferentes");
+        }
+
+        Integer[] order = new Integer[identifiers.length];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparing(i -> identifiers[i]));
+
+        String[] sortedIdentifiers = new String[identifiers.length];
+        double[] sortedPrices = new double[prices.length];
+        for (int i = 0; i < order.length; i++) {
+            sortedIdentifiers[i] = identifiers[order[i]];
+            sortedPrices[i] = prices[order[i]];
+        }
+        return new PriceSnapshot(version, loadedAt, sortedIdentifiers, sortedPrices);
+    }
+
+    /**
+     * Preço do produto nesta versão, ou null se o produto não constar da tabela
+     */
+    public BigDecimal priceOf(String productIdentifier) {
+        int index = Arrays.binarySearch(identifiers, productIdentifier);
+        return index < 0 ? null : BigDecimal.valueOf(prices[index]);
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public Instant getLoadedAt() {
+        return loadedAt;
+    }
+
+    public int size() {
+        return identifiers.length;
+    }
+}
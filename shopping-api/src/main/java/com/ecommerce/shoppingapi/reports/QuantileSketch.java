@@ -0,0 +1,82 @@
+package com.ecommerce.shoppingapi.reports;
+
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+/**
+ * Sketch de quantis com erro relativo garantido (no estilo DDSketch): cada valor cai num
+ * intervalo logarítmico de razão {@code gamma} e só a contagem por intervalo é guardada.
+ * A memória cresce com o logaritmo da amplitude dos valores, não com a quantidade, e dois
+ * sketches com a mesma precisão podem ser somados (ex.: por período ou por instância).
+ */
+public class QuantileSketch {
+
+    private final double relativeAccuracy;
+    private final double gamma;
+    private final double logGamma;
+    private final NavigableMap<Integer, Long> bins = new TreeMap<>();
+    private long zeroCount;
+    private long count;
+
+    public QuantileSketch(double relativeAccuracy) {
+        if (relativeAccuracy <= 0 || relativeAccuracy >= 1) {
+            throw new IllegalArgumentException("A precisão relativa deve estar entre 0 e 1");
+        }
+        this.relativeAccuracy = relativeAccuracy;
+        this.gamma = (1 + relativeAccuracy) / (1 - relativeAccuracy);
+        this.logGamma = Math.log(gamma);
+    }
+
+    /**
+     * Valores menores ou iguais a zero são contados juntos e estimados como zero
+     */
+    public void add(double value) {
+        if (value <= 0) {
+            zeroCount++;
+        } else {
+            bins.merge((int) Math.ceil(Math.log(value) / logGamma), 1L, Long::sum);
+        }
+        count++;
+    }
+
+    public void merge(QuantileSketch other) {
+        if (other.relativeAccuracy != relativeAccuracy) {
+            throw new IllegalArgumentException("Só é possível combinar sketches com a mesma precisão");
+        }
+        other.bins.forEach((index, binCount) -> bins.merge(index, binCount, Long::sum));
+        zeroCount += other.zeroCount;
+        count += other.count;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Usa o posto inferior, {@code quantile * (count - 1)}, sem interpolar entre valores.
+     * @param quantile Quantil entre 0 e 1 (ex.: 0.95)
+     * @return Estimativa com erro relativo de no máximo {@code relativeAccuracy}, ou NaN sem valores
+     */
+    public double quantile(double quantile) {
+        if (quantile < 0 || quantile > 1) {
+            throw new IllegalArgumentException("O quantil deve estar entre 0 e 1");
+        }
+        if (count == 0) {
+            return Double.NaN;
+        }
+
+        double rank = quantile * (count - 1);
+        long seen = zeroCount;
+        if (rank < seen) {
+            return 0;
+        }
+        for (Map.Entry<Integer, Long> bin : bins.entrySet()) {
+            seen += bin.getValue();
+            if (rank < seen) {
+                return 2 * Math.pow(gamma, bin.getKey()) / (gamma + 1);
+            }
+        }
+        return 2 * Math.pow(gamma, bins.lastKey()) / (gamma + 1);
+    }
+}
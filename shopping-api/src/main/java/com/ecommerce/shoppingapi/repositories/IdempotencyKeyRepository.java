@@ -0,0 +1,36 @@
+package com.ecommerce.shoppingapi.repositories;
+
+import com.ecommerce.shoppingapi.domain.entities.IdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, String> {
+
+    /**
+     * INSERT imediato, sem o SELECT do merge: se outra transação já gravou a chave, a violação da
+     * chave primária acontece aqui, ainda dentro do tratamento de falha da compra
+     */
+    @Modifying
+    @Query(value = "INSERT INTO shopping.idempotency_key (idempotency_key, request_hash, shop_id, created_at) " +
+                   "VALUES (:idempotencyKey, :requestHash, :shopId, :createdAt)", nativeQuery = true)
+    void insert(@Param("idempotencyKey") String idempotencyKey,
+                @Param("requestHash") String requestHash,
+                @Param("shopId") Long shopId,
+                @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.shopId = :shopId")
+    int deleteByShopId(@Param("shopId") Long shopId);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM IdempotencyKey k WHERE k.createdAt < :before")
+    int deleteCreatedBefore(@Param("before") LocalDateTime before);
+}
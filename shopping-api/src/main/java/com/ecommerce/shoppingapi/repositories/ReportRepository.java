@@ -1,11 +1,16 @@
 package com.ecommerce.shoppingapi.repositories;
 
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
 import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.repositories.projections.BasketSize;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ReportRepository {
 
@@ -19,4 +24,31 @@ public interface ReportRepository {
             LocalDate startDate,
             LocalDate endDate
     );
+
+     /**
+      * Contagem e total por intervalo, agrupados pelo banco; intervalos sem compras não são retornados
+      */
+     List<ShopHistogramBucketDto> getHistogramByDate(
+            LocalDate startDate,
+            LocalDate endDate,
+            ReportInterval interval
+    );
+
+     /**
+      * Produtos entre os {@code limit} primeiros por receita ou por unidades vendidas, numa única agregação
+      */
+     List<ProductSalesDto> getTopProductsByDate(
+            LocalDate startDate,
+            LocalDate endDate,
+            int limit
+    );
+
+     /**
+      * Quantidade de itens e total de cada compra do período, lidos em streaming.
+      * Deve ser consumido dentro de uma transação.
+      */
+     Stream<BasketSize> streamBasketSizesByDate(
+            LocalDate startDate,
+            LocalDate endDate
+    );
 }
@@ -0,0 +1,43 @@
+package com.ecommerce.shoppingapi.repositories;
+
+import com.ecommerce.shoppingapi.domain.entities.UserShopSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+@Repository
+public interface UserShopSummaryRepository extends JpaRepository<UserShopSummary, String> {
+
+    /**
+     * Garante a linha do usuário sem falhar quando outra transação a cria ao mesmo tempo
+     */
+    @Modifying
+    @Query(value = "INSERT INTO shopping.user_shop_summary (user_identifier, order_count, total) " +
+                   "VALUES (:userIdentifier, 0, 0) ON CONFLICT DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(@Param("userIdentifier") String userIdentifier);
+
+    @Modifying
+    @Query("UPDATE UserShopSummary s SET s.orderCount = s.orderCount + 1, s.total = s.total + :total, " +
+           "s.firstOrderDate = COALESCE(LEAST(s.firstOrderDate, :date), :date), " +
+           "s.lastOrderDate = COALESCE(GREATEST(s.lastOrderDate, :date), :date) " +
+           "WHERE s.userIdentifier = :userIdentifier")
+    int addShop(@Param("userIdentifier") String userIdentifier,
+                @Param("total") BigDecimal total,
+                @Param("date") LocalDateTime date);
+
+    /**
+     * Contagem e total são decrementados; as datas extremas não têm inverso e são
+     * recalculadas sobre as compras restantes do usuário (consulta coberta pelo índice).
+     */
+    @Modifying
+    @Query("UPDATE UserShopSummary s SET s.orderCount = s.orderCount - 1, s.total = s.total - :total, " +
+           "s.firstOrderDate = (SELECT MIN(sp.date) FROM Shop sp WHERE sp.userIdentifier = :userIdentifier), " +
+           "s.lastOrderDate = (SELECT MAX(sp.date) FROM Shop sp WHERE sp.userIdentifier = :userIdentifier) " +
+           "WHERE s.userIdentifier = :userIdentifier")
+    int removeShop(@Param("userIdentifier") String userIdentifier, @Param("total") BigDecimal total);
+}
@@ -1,19 +1,31 @@
 package com.ecommerce.shoppingapi.repositories.impl;
 
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
 import com.ecommerce.shoppingapi.domain.entities.Shop;
 import com.ecommerce.shoppingapi.repositories.ReportRepository;
+import com.ecommerce.shoppingapi.repositories.projections.BasketSize;
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.PersistenceContext;
 import jakarta.persistence.Query;
 import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
 
 import java.math.BigDecimal;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 public class ReportRepositoryImpl implements ReportRepository {
 
+    private static final int BASKET_FETCH_SIZE = 1000;
+
     @PersistenceContext
     private EntityManager entityManager;
 
@@ -58,11 +70,131 @@ public class ReportRepositoryImpl implements ReportRepository {
         query.setParameter("startDate", startDate.atTime(0, 0));
         query.setParameter("endDate", endDate.atTime(23, 59));
 
-        Object[] result = (Object[]) query.getSingleResult();
+        return toReport((Object[]) query.getSingleResult());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ShopHistogramBucketDto> getHistogramByDate(LocalDate startDate, LocalDate endDate, ReportInterval interval) {
+        // O campo vem do enum, nunca da requisição; literal para que SELECT e GROUP BY usem a mesma expressão
+        String bucket = "DATE_TRUNC('" + interval.databaseField() + "', sp.date)";
+
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT ").append(bucket).append(", count(sp.id), sum(sp.total) ");
+        sb.append("FROM shopping.shop sp ");
+        sb.append("WHERE sp.date >= :startDate ");
+        sb.append("AND sp.date < :endDate ");
+        sb.append("GROUP BY ").append(bucket).append(" ");
+        sb.append("ORDER BY ").append(bucket);
+
+        Query query = entityManager.createNativeQuery(sb.toString());
+        setPeriod(query, startDate, endDate);
+
+        return toHistogramBuckets(query.getResultList(), interval);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ProductSalesDto> getTopProductsByDate(LocalDate startDate, LocalDate endDate, int limit) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT product_identifier, units, revenue FROM ( ");
+        sb.append("SELECT it.product_identifier, count(*) AS units, sum(it.price) AS revenue, ");
+        sb.append("ROW_NUMBER() OVER (ORDER BY sum(it.price) DESC, it.product_identifier) AS revenue_rank, ");
+        sb.append("ROW_NUMBER() OVER (ORDER BY count(*) DESC, it.product_identifier) AS units_rank ");
+        sb.append("FROM shopping.item it ");
+        sb.append("JOIN shopping.shop sp ON sp.id = it.shop_id ");
+        sb.append("WHERE sp.date >= :startDate ");
+        sb.append("AND sp.date < :endDate ");
+        sb.append("GROUP BY it.product_identifier ");
+        sb.append(") ranked ");
+        sb.append("WHERE revenue_rank <= :limit OR units_rank <= :limit");
+
+        Query query = entityManager.createNativeQuery(sb.toString());
+        setPeriod(query, startDate, endDate);
+        query.setParameter("limit", limit);
+
+        List<Object[]> rows = query.getResultList();
+        return rows.stream()
+            .map(ReportRepositoryImpl::toProductSales)
+            .toList();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Stream<BasketSize> streamBasketSizesByDate(LocalDate startDate, LocalDate endDate) {
+        StringBuilder sb = new StringBuilder();
+        sb.append("SELECT count(it.shop_id), sp.total ");
+        sb.append("FROM shopping.shop sp ");
+        sb.append("LEFT JOIN shopping.item it ON it.shop_id = sp.id ");
+        sb.append("WHERE sp.date >= :startDate ");
+        sb.append("AND sp.date < :endDate ");
+        sb.append("GROUP BY sp.id, sp.total");
+
+        Query query = entityManager.createNativeQuery(sb.toString());
+        query.setHint(HibernateHints.HINT_FETCH_SIZE, BASKET_FETCH_SIZE);
+        query.setHint(HibernateHints.HINT_READ_ONLY, true);
+        setPeriod(query, startDate, endDate);
+
+        Stream<Object[]> rows = query.getResultStream();
+        return rows.map(row -> new BasketSize(((Number) row[0]).longValue(), new BigDecimal(row[1].toString())));
+    }
+
+    static ShopReportResponseDto toReport(Object[] result) {
         return ShopReportResponseDto.builder()
             .count(((Long) result[0]).intValue())
             .total(result[1] != null ? new BigDecimal(result[1].toString()) : BigDecimal.ZERO)
             .mean(result[2] != null ? new BigDecimal(result[2].toString()) : BigDecimal.ZERO)
             .build();
     }
+
+    /**
+     * Linhas já ordenadas: intervalos do banco que caem no mesmo intervalo pedido são consecutivos
+     */
+    static List<ShopHistogramBucketDto> toHistogramBuckets(List<Object[]> rows, ReportInterval interval) {
+        List<ShopHistogramBucketDto> buckets = new ArrayList<>();
+        for (Object[] row : rows) {
+            LocalDateTime start = interval.truncate(toLocalDateTime(row[0]));
+            int count = ((Number) row[1]).intValue();
+            BigDecimal total = new BigDecimal(row[2].toString());
+
+            ShopHistogramBucketDto last = buckets.isEmpty() ? null : buckets.get(buckets.size() - 1);
+            if (last != null && last.getStart().equals(start)) {
+                last.setCount(last.getCount() + count);
+                last.setTotal(last.getTotal().add(total));
+            } else {
+                buckets.add(ShopHistogramBucketDto.builder()
+                    .start(start)
+                    .count(count)
+                    .total(total)
+                    .build());
+            }
+        }
+        return buckets;
+    }
+
+    static ProductSalesDto toProductSales(Object[] row) {
+        return ProductSalesDto.builder()
+            .productIdentifier((String) row[0])
+            .units(((Number) row[1]).longValue())
+            .revenue(new BigDecimal(row[2].toString()))
+            .build();
+    }
+
+    /**
+     * Período com fim exclusivo: inclui o dia final inteiro
+     */
+    private static void setPeriod(Query query, LocalDate startDate, LocalDate endDate) {
+        query.setParameter("startDate", startDate.atStartOfDay());
+        query.setParameter("endDate", endDate.plusDays(1).atStartOfDay());
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        if (value instanceof Timestamp timestamp) {
+            return timestamp.toLocalDateTime();
+        }
+        if (value instanceof OffsetDateTime offsetDateTime) {
+            return offsetDateTime.toLocalDateTime();
+        }
+        return (LocalDateTime) value;
+    }
 }
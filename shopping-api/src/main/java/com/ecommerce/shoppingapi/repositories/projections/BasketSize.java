@@ -0,0 +1,6 @@
+package com.ecommerce.shoppingapi.repositories.projections;
+
+import java.math.BigDecimal;
+
+public record BasketSize(long items, BigDecimal total) {
+}
@@ -0,0 +1,113 @@
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.ecommerce.shoppingapi.exception.InvalidRequestException;
+import com.ecommerce.shoppingapi.idempotency.IdempotencyStore;
+import com.ecommerce.shoppingapi.repositories.IdempotencyKeyRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Criação de compras com {@code Idempotency-Key}: a repetição de uma requisição (ex.: nova tentativa do
+ * cliente após timeout) devolve a compra criada pela primeira, sem validar, precificar ou gravar de novo.
+ * As chaves recentes ficam em memória; as demais, e as de outras instâncias, são buscadas no banco.
+ * Excluir a compra remove a chave: a repetição passa a ser tratada como uma nova requisição.
+ */
+@Service
+public class IdempotencyService {
+
+    public static final int MAX_KEY_LENGTH = 100;
+
+    private static final Logger logger = LoggerFactory.getLogger(IdempotencyService.class);
+
+    private final ShopService shopService;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final IdempotencyStore<ShopResponseDto> store;
+    private final Duration ttl;
+    private final Duration waitTimeout;
+
+    public IdempotencyService(ShopService shopService,
+                              IdempotencyKeyRepository idempotencyKeyRepository,
+                              @Value("${idempotency.max-entries:10000}") int maxEntries,
+                              @Value("${idempotency.ttl:PT24H}") Duration ttl,
+                              @Value("${idempotency.wait-timeout:PT30S}") Duration waitTimeout) {
+        this.shopService = shopService;
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.store = new IdempotencyStore<>(maxEntries, ttl);
+        this.ttl = ttl;
+        this.waitTimeout = waitTimeout;
+    }
+
+    public ShopResponseDto save(String idempotencyKey, ShopRequestDto shopDto) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new InvalidRequestException("A Idempotency-Key deve ter entre 1 e " + MAX_KEY_LENGTH + " caracteres");
+        }
+
+        // Calculado antes da execução, que altera os preços dos itens
+        String requestHash = requestHash(shopDto);
+        AtomicBoolean executed = new AtomicBoolean();
+        ShopResponseDto shop = execute(idempotencyKey, requestHash, shopDto, executed);
+        if (!executed.get() && !shopService.exists(shop.getId())) {
+            // Compra guardada em memória e excluída depois, nesta ou em outra instância: sem a chave no
+            // banco, a requisição é tratada como nova, como nas demais instâncias
+            store.remove(idempotencyKey);
+            shop = execute(idempotencyKey, requestHash, shopDto, executed);
+        }
+        return shop;
+    }
+
+    @Scheduled(initialDelayString = "${idempotency.purge-interval:PT1H}", fixedDelayString = "${idempotency.purge-interval:PT1H}")
+    public void purgeExpired() {
+        int removed = idempotencyKeyRepository.deleteCreatedBefore(LocalDateTime.now().minus(ttl));
+        if (removed > 0) {
+            logger.info("{} chaves de idempotência expiradas removidas", removed);
+        }
+    }
+
+    private ShopResponseDto execute(String idempotencyKey, String requestHash, ShopRequestDto shopDto, AtomicBoolean executed) {
+        return store.execute(idempotencyKey, requestHash, waitTimeout, () -> {
+            executed.set(true);
+            return shopService.findByIdempotencyKey(idempotencyKey, requestHash)
+                    .orElseGet(() -> saveOrReplay(idempotencyKey, requestHash, shopDto));
+        });
+    }
+
+    private ShopResponseDto saveOrReplay(String idempotencyKey, String requestHash, ShopRequestDto shopDto) {
+        try {
+            return shopService.save(shopDto, idempotencyKey, requestHash);
+        } catch (DataIntegrityViolationException e) {
+            // Outra instância gravou a mesma chave primeiro; a compra desta foi desfeita
+            return shopService.findByIdempotencyKey(idempotencyKey, requestHash).orElseThrow(() -> e);
+        }
+    }
+
+    /**
+     * Os preços dos itens não entram: são definidos pelo serviço, não pelo cliente
+     */
+    static String requestHash(ShopRequestDto shopDto) {
+        StringBuilder content = new StringBuilder(shopDto.getUserIdentifier());
+        for (ItemDto item : shopDto.getItems()) {
+            content.append('\n').append(item.getProductIdentifier());
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationItemDto;
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationRequestDto;
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
+import com.ecommerce.shoppingapi.exception.UpstreamUnavailableException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Reservas de estoque na product-api. O identificador da reserva é gerado aqui e a criação é idempotente
+ * nele, então uma falha sem resposta (timeout, conexão perdida, 5xx) ainda pode ser desfeita liberando
+ * a reserva pelo identificador. O que escapar disso (ex.: a reserva confirmada depois da liberação) expira
+ * na product-api por não ter sido confirmada.
+ */
+@Service
+public class InventoryService {
+
+    private static final Logger logger = LoggerFactory.getLogger(InventoryService.class);
+
+    private final WebClient webClient;
+    private final Duration timeout;
+
+    public InventoryService(WebClient.Builder webClientBuilder,
+                            @Value("${product.api.url:http://product-api:8081/api/v1}") String productApiUrl,
+                            @Value("${product.api.timeout:PT5S}") Duration timeout) {
+        this.webClient = webClientBuilder
+            .baseUrl(productApiUrl)
+            .build();
+        this.timeout = timeout;
+    }
+
+    public ReservationResponseDto reserve(List<ItemDto> items) {
+        // Cada item da compra corresponde a uma unidade do produto
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        items.forEach(item -> quantities.merge(item.getProductIdentifier(), 1, Integer::sum));
+
+        String reservationIdentifier = UUID.randomUUID().toString();
+        ReservationRequestDto request = ReservationRequestDto.builder()
+                .reservationIdentifier(reservationIdentifier)
+                .items(quantities.entrySet().stream()
+                        .map(entry -> new ReservationItemDto(entry.getKey(), entry.getValue()))
+                        .toList())
+                .build();
+
+        ReservationResponseDto reservation;
+        try {
+            reservation = webClient.post()
+                    .uri("/inventory/reservations")
+                    .bodyValue(request)
+                    .retrieve()
+                    .bodyToMono(ReservationResponseDto.class)
+                    .timeout(timeout)
+                    .block();
+        } catch (WebClientResponseException.Conflict e) {
+            throw new ResourceConflictException("Estoque insuficiente para os itens da compra");
+        } catch (WebClientResponseException.NotFound e) {
+            throw new ResourceNotFoundException("Produto não encontrado");
+        } catch (RuntimeException e) {
+            // A reserva pode ter sido gravada sem que a resposta chegasse
+            releaseQuietly(reservationIdentifier);
+            throw new UpstreamUnavailableException("Falha ao reservar o estoque na product-api");
+        }
+
+        if (reservation == null) {
+            releaseQuietly(reservationIdentifier);
+            throw new UpstreamUnavailableException("Falha ao reservar o estoque na product-api");
+        }
+        return reservation;
+    }
+
+    /**
+     * Confirma que a reserva foi usada por uma compra, para que a product-api não a libere por expiração.
+     */
+    public void confirm(String reservationIdentifier) {
+        try {
+            webClient.post()
+                    .uri("/inventory/reservations/{identifier}/confirm", reservationIdentifier)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .block();
+        } catch (WebClientResponseException.Conflict e) {
+            throw new ResourceConflictException("Reserva de estoque expirada antes da confirmação da compra");
+        } catch (WebClientResponseException.NotFound e) {
+            throw new ResourceNotFoundException("Reserva de estoque não encontrada");
+        } catch (RuntimeException e) {
+            throw new UpstreamUnavailableException("Falha ao confirmar a reserva de estoque na product-api");
+        }
+    }
+
+    public void release(String reservationIdentifier) {
+        try {
+            webClient.delete()
+                    .uri("/inventory/reservations/{identifier}", reservationIdentifier)
+                    .retrieve()
+                    .toBodilessEntity()
+                    .timeout(timeout)
+                    .block();
+        } catch (WebClientResponseException.NotFound e) {
+            // Reserva inexistente não tem estoque a devolver
+        }
+    }
+
+    private void releaseQuietly(String reservationIdentifier) {
+        try {
+            release(reservationIdentifier);
+        } catch (RuntimeException e) {
+            // A reserva não confirmada expira na product-api
+            logger.warn("Falha ao liberar a reserva {} após erro na criação", reservationIdentifier, e);
+        }
+    }
+}
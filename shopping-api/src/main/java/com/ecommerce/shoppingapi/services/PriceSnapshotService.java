@@ -0,0 +1,85 @@
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.product.PriceListResponseDto;
+import com.ecommerce.shoppingapi.pricing.PriceSnapshot;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Mantém em memória a tabela de preços da product-api para que o checkout precifique os itens sem uma
+ * chamada por produto (ex.: durante promoções). A tabela inteira é trocada de uma vez a cada atualização;
+ * se a atualização falhar, a anterior continua valendo até completar {@code price-snapshot.max-age}.
+ */
+@Service
+public class PriceSnapshotService {
+
+    public static final String VERSION_METRIC = "price.snapshot.version";
+    public static final String SIZE_METRIC = "price.snapshot.products";
+
+    private static final Logger logger = LoggerFactory.getLogger(PriceSnapshotService.class);
+
+    private final ProductService productService;
+    private final boolean enabled;
+    private final Duration maxAge;
+
+    private volatile PriceSnapshot snapshot;
+
+    public PriceSnapshotService(ProductService productService,
+                                MeterRegistry meterRegistry,
+                                @Value("${price-snapshot.enabled:false}") boolean enabled,
+                                @Value("${price-snapshot.max-age:PT5M}") Duration maxAge) {
+        this.productService = productService;
+        this.enabled = enabled;
+        this.maxAge = maxAge;
+        Gauge.builder(VERSION_METRIC, this, service -> service.snapshot == null ? Double.NaN : service.snapshot.getVersion())
+                .description("Versão da tabela de preços em memória")
+                .register(meterRegistry);
+        Gauge.builder(SIZE_METRIC, this, service -> service.snapshot == null ? 0 : service.snapshot.size())
+                .description("Produtos na tabela de preços em memória")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${price-snapshot.refresh-interval:PT30S}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+
+        PriceListResponseDto priceList;
+        try {
+            priceList = productService.getPriceList();
+        } catch (RuntimeException e) {
+            logger.warn("Falha ao atualizar a tabela de preços; mantendo a versão {}: {}",
+                    snapshot == null ? "nenhuma" : snapshot.getVersion(), e.getMessage());
+            return;
+        }
+
+        PriceSnapshot previous = snapshot;
+        snapshot = PriceSnapshot.of(priceList.getVersion(), priceList.getIdentifiers(), priceList.getPrices(),
+                Instant.now());
+        if (previous == null || previous.getVersion() != priceList.getVersion()) {
+            logger.info("Tabela de preços atualizada para a versão {} ({} produtos)",
+                    priceList.getVersion(), snapshot.size());
+        }
+    }
+
+    /**
+     * Tabela atual, ou null se o recurso estiver desligado, a tabela ainda não tiver sido carregada
+     * ou a última atualização bem-sucedida for mais antiga que o limite
+     */
+    public PriceSnapshot getSnapshot() {
+        PriceSnapshot current = snapshot;
+        if (current == null || current.getLoadedAt().plus(maxAge).isBefore(Instant.now())) {
+            return null;
+        }
+        return current;
+    }
+}
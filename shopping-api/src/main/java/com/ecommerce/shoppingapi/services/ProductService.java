@@ -1,5 +1,6 @@
 package com.ecommerce.shoppingapi.services;
 
+import com.ecommerce.shoppingapi.domain.dto.product.PriceListResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.product.ProductResponseDto;
 import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
 
@@ -23,7 +24,7 @@ public class ProductService {
     public ProductResponseDto getProductByIdentifier(String productIdentifier) {
         try {
             Mono<ProductResponseDto> productMono = webClient.get()
-                    .uri("/products/" + productIdentifier)
+                    .uri("/products/{identifier}", productIdentifier)
                     .retrieve()
                     .bodyToMono(ProductResponseDto.class);
 
@@ -37,4 +38,17 @@ public class ProductService {
             throw new ResourceNotFoundException("Produto não encontrado");
         }
     }
+
+    public PriceListResponseDto getPriceList() {
+        PriceListResponseDto priceList = webClient.get()
+                .uri("/products/prices")
+                .retrieve()
+                .bodyToMono(PriceListResponseDto.class)
+                .block();
+
+        if (priceList == null) {
+            throw new ResourceNotFoundException("Tabela de preços não encontrada");
+        }
+        return priceList;
+    }
 }
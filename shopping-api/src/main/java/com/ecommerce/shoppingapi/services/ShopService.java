@@ -1,116 +1,378 @@
-package com.ecommerce.shoppingapi.services;
-
-import com.ecommerce.shoppingapi.domain.dto.product.ProductResponseDto;
-import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
-import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
-import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
-import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
-import com.ecommerce.shoppingapi.domain.entities.Shop;
-import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
-import com.ecommerce.shoppingapi.exception.ShoppingNotFoundException;
-import com.ecommerce.shoppingapi.mappers.impl.ShopMapper;
-import com.ecommerce.shoppingapi.repositories.ShopRepository;
-import com.ecommerce.shoppingapi.repositories.impl.ReportRepositoryImpl;
-import lombok.RequiredArgsConstructor;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.math.BigDecimal;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
-import java.util.stream.Collectors;
-
-@Service
-@RequiredArgsConstructor
-public class ShopService {
-
-    private final ShopRepository shopRepository;
-    private final ReportRepositoryImpl reportRepository;
-    private final ShopMapper mapper;
-    private final ProductService productService;
-    private final UserService userService;
-
-    @Transactional(readOnly = true)
-    public List<ShopResponseDto> getAll() {
-        List<Shop> shops = shopRepository.findAll();
-        return shops
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public Page<ShopResponseDto> getAllPage(PageRequest page) {
-        Page<Shop> shops = shopRepository.findAll(page);
-        return shops.map(mapper::toResponse);
-    }
-
-    @Transactional(readOnly = true)
-    public List<ShopResponseDto> getByUser(String userIdentifier) throws ResourceNotFoundException {
-        userService.getUserByCpf(userIdentifier);
-        List<Shop> shops = shopRepository.findAllByUserIdentifier(userIdentifier);
-        return shops
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public ShopResponseDto findById(Long id) {
-        Shop shop = shopRepository.findById(id).orElseThrow(() -> new ShoppingNotFoundException("id", id));
-        return mapper.toResponse(shop);
-    }
-
-    @Transactional(readOnly = true)
-    public List<ShopResponseDto> getShopsByFilter(LocalDate startDate, LocalDate endDate, BigDecimal maxValue) {
-        List<Shop> shops = reportRepository.getShopByFilters(startDate, endDate, maxValue);
-        return shops
-                .stream()
-                .map(mapper::toResponse)
-                .collect(Collectors.toList());
-    }
-
-    @Transactional(readOnly = true)
-    public ShopReportResponseDto getReportByDate(LocalDate startDate, LocalDate endDate) {
-        return reportRepository.getReportByDate(startDate, endDate);
-    }
-
-    @Transactional
-    public ShopResponseDto save(ShopRequestDto shopDto) throws ResourceNotFoundException {
-        // Valida se o usuário existe
-        userService.getUserByCpf(shopDto.getUserIdentifier());
-
-        // Valida e atualiza os preços dos produtos
-        validateAndUpdateProducts(shopDto.getItems());
-
-        Shop shop = mapper.fromRequest(shopDto);
-        shop.setDate(LocalDateTime.now());
-        shop.setTotal(shopDto.getItems()
-                        .stream()
-                        .map(ItemDto::getPrice)
-                        .reduce(BigDecimal.ZERO, BigDecimal::add));
-
-        shopRepository.save(shop);
-        return mapper.toResponse(shop);
-    }
-
-    private void validateAndUpdateProducts(List<ItemDto> items) {
-        for (ItemDto item : items) {
-            // Se o produto não for encontrado, o ProductService lança ResourceNotFoundException
-            ProductResponseDto productDto = productService.getProductByIdentifier(item.getProductIdentifier());
-            item.setPrice(productDto.getPrice());
-        }
-    }
-
-    @Transactional
-    public void delete(Long id) throws ShoppingNotFoundException {
-        boolean exist = shopRepository.existsById(id);
-        if (!exist) {
-            throw new ShoppingNotFoundException("id", id);
-        }
-        shopRepository.deleteById(id);
-    }
-}
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.product.ProductResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.BasketPercentilesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.UserShopStatisticsResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.ecommerce.shoppingapi.domain.entities.IdempotencyKey;
+import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.domain.entities.UserShopSummary;
+import com.ecommerce.shoppingapi.exception.InvalidRequestException;
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
+import com.ecommerce.shoppingapi.exception.ShoppingNotFoundException;
+import com.ecommerce.shoppingapi.mappers.impl.ShopMapper;
+import com.ecommerce.shoppingapi.pricing.PriceSnapshot;
+import com.ecommerce.shoppingapi.repositories.IdempotencyKeyRepository;
+import com.ecommerce.shoppingapi.repositories.ShopRepository;
+import com.ecommerce.shoppingapi.repositories.UserShopSummaryRepository;
+import com.ecommerce.shoppingapi.repositories.impl.ReportRepositoryImpl;
+import com.ecommerce.shoppingapi.repositories.projections.BasketSize;
+import com.ecommerce.shoppingapi.reports.QuantileSketch;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Service
+@RequiredArgsConstructor
+public class ShopService {
+
+    private static final Logger logger = LoggerFactory.getLogger(ShopService.class);
+
+    public static final int MAX_TOP_PRODUCTS = 100;
+    public static final int MAX_HISTOGRAM_BUCKETS = 10_000;
+    private static final double SKETCH_RELATIVE_ACCURACY = 0.01;
+
+    private final ShopRepository shopRepository;
+    private final ReportRepositoryImpl reportRepository;
+    private final ShopMapper mapper;
+    private final ProductService productService;
+    private final UserService userService;
+    private final InventoryService inventoryService;
+    private final PriceSnapshotService priceSnapshotService;
+    private final UserShopSummaryRepository userShopSummaryRepository;
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Transactional(readOnly = true)
+    public List<ShopResponseDto> getAll() {
+        List<Shop> shops = shopRepository.findAll();
+        return shops
+                .stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<ShopResponseDto> getAllPage(PageRequest page) {
+        Page<Shop> shops = shopRepository.findAll(page);
+        return shops.map(mapper::toResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ShopResponseDto> getByUser(String userIdentifier) throws ResourceNotFoundException {
+        userService.getUserByCpf(userIdentifier);
+        List<Shop> shops = shopRepository.findAllByUserIdentifier(userIdentifier);
+        return shops
+                .stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ShopResponseDto findById(Long id) {
+        Shop shop = shopRepository.findById(id).orElseThrow(() -> new ShoppingNotFoundException("id", id));
+        return mapper.toResponse(shop);
+    }
+
+    @Transactional(readOnly = true)
+    public List<ShopResponseDto> getShopsByFilter(LocalDate startDate, LocalDate endDate, BigDecimal maxValue) {
+        List<Shop> shops = reportRepository.getShopByFilters(startDate, endDate, maxValue);
+        return shops
+                .stream()
+                .map(mapper::toResponse)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public ShopReportResponseDto getReportByDate(LocalDate startDate, LocalDate endDate) {
+        return reportRepository.getReportByDate(startDate, endDate);
+    }
+
+    /**
+     * Histograma por intervalo, produtos mais vendidos e, opcionalmente, percentis do tamanho das cestas.
+     * Cada parte é uma única agregação no banco; os percentis são estimados com um sketch sobre um cursor,
+     * sem carregar as compras em memória.
+     */
+    @Transactional(readOnly = true)
+    public ShopHistogramResponseDto getHistogramByDate(LocalDate startDate, LocalDate endDate, ReportInterval interval,
+                                                       int top, boolean percentiles) {
+        if (endDate.isBefore(startDate)) {
+            throw new InvalidRequestException("A data final deve ser igual ou posterior à data inicial");
+        }
+
+        LocalDateTime first = interval.truncate(startDate.atStartOfDay());
+        LocalDateTime end = endDate.plusDays(1).atStartOfDay();
+        if (interval.unit().between(first, end) >= MAX_HISTOGRAM_BUCKETS) {
+            throw new InvalidRequestException("Período longo demais para o intervalo '" + interval.field() + "'");
+        }
+
+        Map<LocalDateTime, ShopHistogramBucketDto> found = reportRepository.getHistogramByDate(startDate, endDate, interval)
+                .stream()
+                .collect(Collectors.toMap(ShopHistogramBucketDto::getStart, Function.identity()));
+
+        // Intervalos sem compras entram zerados para que o gráfico tenha o eixo contínuo
+        List<ShopHistogramBucketDto> buckets = new ArrayList<>();
+        for (LocalDateTime start = first; start.isBefore(end); start = interval.next(start)) {
+            ShopHistogramBucketDto bucket = found.get(start);
+            buckets.add(bucket != null ? bucket : ShopHistogramBucketDto.builder()
+                    .start(start)
+                    .count(0)
+                    .total(BigDecimal.ZERO)
+                    .build());
+        }
+
+        int limit = Math.max(1, Math.min(top, MAX_TOP_PRODUCTS));
+        List<ProductSalesDto> topProducts = reportRepository.getTopProductsByDate(startDate, endDate, limit);
+
+        return ShopHistogramResponseDto.builder()
+                .interval(interval)
+                .buckets(buckets)
+                .topByRevenue(topProducts.stream()
+                        .sorted(Comparator.comparing(ProductSalesDto::getRevenue).reversed()
+                                .thenComparing(ProductSalesDto::getProductIdentifier))
+                        .limit(limit)
+                        .toList())
+                .topByUnits(topProducts.stream()
+                        .sorted(Comparator.comparing(ProductSalesDto::getUnits).reversed()
+                                .thenComparing(ProductSalesDto::getProductIdentifier))
+                        .limit(limit)
+                        .toList())
+                .basketPercentiles(percentiles ? getBasketPercentiles(startDate, endDate) : null)
+                .build();
+    }
+
+    private BasketPercentilesDto getBasketPercentiles(LocalDate startDate, LocalDate endDate) {
+        QuantileSketch items = new QuantileSketch(SKETCH_RELATIVE_ACCURACY);
+        QuantileSketch totals = new QuantileSketch(SKETCH_RELATIVE_ACCURACY);
+
+        try (Stream<BasketSize> baskets = reportRepository.streamBasketSizesByDate(startDate, endDate)) {
+            baskets.forEach(basket -> {
+                items.add(basket.items());
+                totals.add(basket.total().doubleValue());
+            });
+        }
+
+        return BasketPercentilesDto.builder()
+                .count(items.getCount())
+                .itemsP50(toBigDecimal(items.quantile(0.5)))
+                .itemsP95(toBigDecimal(items.quantile(0.95)))
+                .totalP50(toBigDecimal(totals.quantile(0.5)))
+                .totalP95(toBigDecimal(totals.quantile(0.95)))
+                .build();
+    }
+
+    private static BigDecimal toBigDecimal(double value) {
+        return Double.isNaN(value) ? null : BigDecimal.valueOf(value).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Estatísticas lidas do resumo mantido por {@link #save} e {@link #delete}.
+     * Só consulta a user-api quando o usuário ainda não tem compras.
+     */
+    @Transactional(readOnly = true)
+    public UserShopStatisticsResponseDto getStatisticsByUser(String userIdentifier) throws ResourceNotFoundException {
+        UserShopSummary summary = userShopSummaryRepository.findById(userIdentifier)
+                .filter(found -> found.getOrderCount() > 0)
+                .orElse(null);
+
+        if (summary == null) {
+            userService.getUserByCpf(userIdentifier);
+            return UserShopStatisticsResponseDto.builder()
+                    .userIdentifier(userIdentifier)
+                    .count(0L)
+                    .total(BigDecimal.ZERO)
+                    .mean(BigDecimal.ZERO)
+                    .build();
+        }
+
+        return UserShopStatisticsResponseDto.builder()
+                .userIdentifier(userIdentifier)
+                .count(summary.getOrderCount())
+                .total(summary.getTotal())
+                .mean(summary.getTotal().divide(BigDecimal.valueOf(summary.getOrderCount()), 2, RoundingMode.HALF_UP))
+                .firstOrderDate(summary.getFirstOrderDate())
+                .lastOrderDate(summary.getLastOrderDate())
+                .build();
+    }
+
+    @Transactional
+    public ShopResponseDto save(ShopRequestDto shopDto) throws ResourceNotFoundException {
+        return save(shopDto, null, null);
+    }
+
+    /**
+     * Com {@code idempotencyKey}, a chave é gravada na mesma transação da compra: ou as duas ficam
+     * gravadas, ou nenhuma. Se outra requisição já gravou a mesma chave, lança DataIntegrityViolationException
+     * e a reserva é liberada quando a transação é desfeita.
+     */
+    @Transactional
+    public ShopResponseDto save(ShopRequestDto shopDto, String idempotencyKey, String requestHash)
+            throws ResourceNotFoundException {
+        // Valida se o usuário existe
+        userService.getUserByCpf(shopDto.getUserIdentifier());
+
+        // Valida e atualiza os preços dos produtos
+        Long priceVersion = priceItems(shopDto.getItems());
+
+        // Reserva o estoque de todo o carrinho em uma única chamada
+        ReservationResponseDto reservation = inventoryService.reserve(shopDto.getItems());
+        releaseOnRollback(reservation.getReservationIdentifier());
+
+        Shop shop = mapper.fromRequest(shopDto);
+        shop.setDate(LocalDateTime.now());
+        shop.setReservationIdentifier(reservation.getReservationIdentifier());
+        shop.setTotal(calculateTotal(shopDto.getItems()));
+        shop.setPriceVersion(priceVersion);
+
+        shopRepository.save(shop);
+        userShopSummaryRepository.insertIfAbsent(shop.getUserIdentifier());
+        userShopSummaryRepository.addShop(shop.getUserIdentifier(), shop.getTotal(), shop.getDate());
+        if (idempotencyKey != null) {
+            idempotencyKeyRepository.insert(idempotencyKey, requestHash, shop.getId(), shop.getDate());
+        }
+
+        // Última etapa antes do commit: sem a confirmação, a product-api libera a reserva ao fim do TTL.
+        // Se a confirmação falhar, a compra é desfeita e a reserva liberada
+        inventoryService.confirm(reservation.getReservationIdentifier());
+        return mapper.toResponse(shop);
+    }
+
+    /**
+     * Compra gravada com a chave de idempotência. Não é somente leitura para ser lida no primário:
+     * a réplica pode ainda não ter a chave gravada por outra instância.
+     */
+    @Transactional
+    public Optional<ShopResponseDto> findByIdempotencyKey(String idempotencyKey, String requestHash) {
+        Optional<IdempotencyKey> saved = idempotencyKeyRepository.findById(idempotencyKey);
+        if (saved.isEmpty()) {
+            return Optional.empty();
+        }
+        if (!saved.get().getRequestHash().equals(requestHash)) {
+            throw new ResourceConflictException("Idempotency-Key já usada em uma requisição diferente");
+        }
+        Optional<Shop> shop = shopRepository.findById(saved.get().getShopId());
+        if (shop.isEmpty()) {
+            // Chave de uma compra excluída antes de a exclusão passar a removê-la: a requisição é tratada como nova
+            idempotencyKeyRepository.delete(saved.get());
+        }
+        return shop.map(mapper::toResponse);
+    }
+
+    /**
+     * Não é somente leitura para ser lida no primário: a réplica pode ainda ter uma compra já excluída.
+     */
+    @Transactional
+    public boolean exists(Long id) {
+        return shopRepository.existsById(id);
+    }
+
+    static BigDecimal calculateTotal(List<ItemDto> items) {
+        return items.stream()
+                .map(ItemDto::getPrice)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+    }
+
+    /**
+     * Precifica os itens pela tabela de preços em memória quando houver uma válida; produtos fora dela
+     * (ex.: criados depois da versão carregada) são consultados na product-api.
+     * @return Versão da tabela quando todos os itens foram precificados por ela, ou null
+     */
+    private Long priceItems(List<ItemDto> items) {
+        PriceSnapshot snapshot = priceSnapshotService.getSnapshot();
+        boolean fromSnapshot = snapshot != null;
+
+        for (ItemDto item : items) {
+            BigDecimal price = snapshot == null ? null : snapshot.priceOf(item.getProductIdentifier());
+            if (price == null) {
+                // Se o produto não for encontrado, o ProductService lança ResourceNotFoundException
+                ProductResponseDto productDto = productService.getProductByIdentifier(item.getProductIdentifier());
+                price = productDto.getPrice();
+                fromSnapshot = false;
+            }
+            item.setPrice(price);
+        }
+        return fromSnapshot ? snapshot.getVersion() : null;
+    }
+
+    @Transactional
+    public void delete(Long id) throws ShoppingNotFoundException {
+        Shop shop = shopRepository.findById(id).orElseThrow(() -> new ShoppingNotFoundException("id", id));
+        shopRepository.deleteById(id);
+        // Sem a chave, a repetição da requisição que criou a compra é tratada como nova, em vez de devolver 404
+        idempotencyKeyRepository.deleteByShopId(id);
+        userShopSummaryRepository.removeShop(shop.getUserIdentifier(), shop.getTotal());
+
+        // Cancelar a compra devolve o estoque reservado
+        if (shop.getReservationIdentifier() != null) {
+            releaseAfterCommit(shop.getReservationIdentifier());
+        }
+    }
+
+    /**
+     * Libera a reserva se a transação da compra for desfeita, inclusive quando a falha acontece
+     * no próprio commit, depois que as gravações já foram aceitas.
+     */
+    private void releaseOnRollback(String reservationIdentifier) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    release(reservationIdentifier);
+                }
+            }
+        });
+    }
+
+    /**
+     * Libera a reserva só depois que a exclusão da compra for confirmada, para que o estoque
+     * não volte enquanto a compra ainda existe.
+     */
+    private void releaseAfterCommit(String reservationIdentifier) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    release(reservationIdentifier);
+                }
+            });
+        } else {
+            release(reservationIdentifier);
+        }
+    }
+
+    private void release(String reservationIdentifier) {
+        try {
+            inventoryService.release(reservationIdentifier);
+        } catch (RuntimeException e) {
+            // A transação já terminou; a falha não pode mais desfazê-la, então fica registrada para reconciliação
+            logger.warn("Falha ao liberar a reserva {}", reservationIdentifier, e);
+        }
+    }
+}
@@ -8,8 +8,18 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
 @Service
 public class UserService {
+
+    // Mesmo limite aceito por requisição em POST /users/cpf/batch
+    public static final int MAX_BATCH_SIZE = 500;
     
     private final WebClient webClient;
     
@@ -23,7 +33,7 @@ public class UserService {
     public UserResponseDto getUserByCpf(String cpf) {
         try {
             Mono<UserResponseDto> userMono = webClient.get()
-                    .uri("/cpf/" + cpf)
+                    .uri("/cpf/{cpf}", cpf)
                     .retrieve()
                     .bodyToMono(UserResponseDto.class);
 
@@ -38,4 +48,34 @@ public class UserService {
             throw new ResourceNotFoundException("Usuário não encontrado");
         }
     }
+
+    /**
+     * Busca vários usuários com uma requisição a cada {@value #MAX_BATCH_SIZE} CPFs distintos
+     * @param cpfs CPFs dos usuários
+     * @return Usuários encontrados indexados pelo CPF; CPFs inexistentes ficam de fora
+     */
+    public Map<String, UserResponseDto> getUsersByCpf(Collection<String> cpfs) {
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(cpfs));
+        Map<String, UserResponseDto> users = new LinkedHashMap<>();
+
+        for (int from = 0; from < distinct.size(); from += MAX_BATCH_SIZE) {
+            List<String> chunk = distinct.subList(from, Math.min(from + MAX_BATCH_SIZE, distinct.size()));
+            try {
+                List<UserResponseDto> found = webClient.post()
+                        .uri("/cpf/batch")
+                        .bodyValue(chunk)
+                        .retrieve()
+                        .bodyToFlux(UserResponseDto.class)
+                        .collectList()
+                        .block();
+
+                if (found != null) {
+                    found.forEach(user -> users.put(user.getCpf(), user));
+                }
+            } catch (Exception e) {
+                throw new ResourceNotFoundException("Usuário não encontrado");
+            }
+        }
+        return users;
+    }
 }
@@ -0,0 +1 @@
+ALTER TABLE shopping.shop ADD reservation_identifier VARCHAR(36);
@@ -0,0 +1,14 @@
+CREATE INDEX idx_shop_user_identifier ON shopping.shop (user_identifier);
+
+CREATE TABLE shopping.user_shop_summary (
+    user_identifier VARCHAR(50) PRIMARY KEY,
+    order_count BIGINT NOT NULL DEFAULT 0,
+    total NUMERIC(19, 2) NOT NULL DEFAULT 0,
+    first_order_date TIMESTAMP,
+    last_order_date TIMESTAMP
+);
+
+INSERT INTO shopping.user_shop_summary (user_identifier, order_count, total, first_order_date, last_order_date)
+SELECT user_identifier, COUNT(*), SUM(total), MIN(date), MAX(date)
+FROM shopping.shop
+GROUP BY user_identifier;
@@ -0,0 +1 @@
+ALTER TABLE shopping.shop ADD price_version BIGINT;
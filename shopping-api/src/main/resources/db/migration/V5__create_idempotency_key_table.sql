@@ -0,0 +1,8 @@
+CREATE TABLE shopping.idempotency_key (
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    shop_id BIGINT NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX idx_idempotency_key_created_at ON shopping.idempotency_key (created_at);
@@ -0,0 +1 @@
+CREATE INDEX idx_idempotency_key_shop_id ON shopping.idempotency_key (shop_id);
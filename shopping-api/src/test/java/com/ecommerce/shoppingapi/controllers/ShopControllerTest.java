@@ -1,10 +1,15 @@
 package com.ecommerce.shoppingapi.controllers;
 
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.UserShopStatisticsResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
 import com.ecommerce.shoppingapi.exception.ShoppingNotFoundException;
+import com.ecommerce.shoppingapi.services.IdempotencyService;
 import com.ecommerce.shoppingapi.services.ShopService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -70,6 +75,9 @@ class ShopControllerTest {
     @MockBean
     private ShopService shopService;
 
+    @MockBean
+    private IdempotencyService idempotencyService;
+
     // Helper methods to create test data
     private ShopResponseDto createMockShopResponse() {
         return ShopResponseDto.builder()
@@ -207,6 +215,34 @@ class ShopControllerTest {
             verify(shopService, times(1)).getByUser(USER_IDENTIFIER);
         }
 
+        @Test
+        @DisplayName("getStatisticsByUserIdentifier - Deve retornar estatísticas do usuário")
+        void whenGetStatisticsByUserIdentifier_thenReturnStatistics() throws Exception {
+            // Arrange
+            UserShopStatisticsResponseDto statistics = UserShopStatisticsResponseDto.builder()
+                    .userIdentifier(USER_IDENTIFIER)
+                    .count(2L)
+                    .total(SHOP_TOTAL)
+                    .mean(new BigDecimal("100.00"))
+                    .firstOrderDate(LocalDateTime.of(2024, 1, 10, 9, 30))
+                    .lastOrderDate(LocalDateTime.of(2024, 3, 1, 18, 0))
+                    .build();
+            when(shopService.getStatisticsByUser(USER_IDENTIFIER)).thenReturn(statistics);
+
+            // Act & Assert
+            mockMvc.perform(get("/shoppings/shopByUser/" + USER_IDENTIFIER + "/statistics")
+                    .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.userIdentifier", is(USER_IDENTIFIER)))
+                    .andExpect(jsonPath("$.count", is(2)))
+                    .andExpect(jsonPath("$.total", is(SHOP_TOTAL.doubleValue())))
+                    .andExpect(jsonPath("$.firstOrderDate", is("10/01/2024 09:30:00")))
+                    .andExpect(jsonPath("$.lastOrderDate", is("01/03/2024 18:00:00")));
+
+            // Verify
+            verify(shopService, times(1)).getStatisticsByUser(USER_IDENTIFIER);
+        }
+
         @Test
         @DisplayName("findById - Deve retornar compra por ID")
         void whenFindById_thenReturnShop() throws Exception {
@@ -341,6 +377,57 @@ class ShopControllerTest {
             // Verify
             verify(shopService, times(1)).getReportByDate(START_DATE, END_DATE);
         }
+
+        @Test
+        @DisplayName("getHistogramByDate - Deve retornar histograma por semana")
+        void whenGetHistogramByDate_thenReturnHistogram() throws Exception {
+            // Arrange
+            ShopHistogramResponseDto histogram = ShopHistogramResponseDto.builder()
+                    .interval(ReportInterval.WEEK)
+                    .buckets(List.of(ShopHistogramBucketDto.builder()
+                            .start(LocalDateTime.of(2022, 12, 26, 0, 0))
+                            .count(2)
+                            .total(SHOP_TOTAL)
+                            .build()))
+                    .topByRevenue(List.of())
+                    .topByUnits(List.of())
+                    .build();
+
+            when(shopService.getHistogramByDate(START_DATE, END_DATE, ReportInterval.WEEK, 5, false))
+                    .thenReturn(histogram);
+
+            // Act & Assert
+            mockMvc.perform(get("/shoppings/report/histogram")
+                    .param("startDate", "01/01/2023")
+                    .param("endDate", "31/12/2023")
+                    .param("interval", "week")
+                    .param("top", "5")
+                    .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.interval", is("WEEK")))
+                    .andExpect(jsonPath("$.buckets[0].start", is("26/12/2022 00:00:00")))
+                    .andExpect(jsonPath("$.buckets[0].count", is(2)))
+                    .andExpect(jsonPath("$.basketPercentiles").doesNotExist());
+
+            // Verify
+            verify(shopService, times(1)).getHistogramByDate(START_DATE, END_DATE, ReportInterval.WEEK, 5, false);
+        }
+
+        @Test
+        @DisplayName("getHistogramByDate - Deve retornar 400 para intervalo inválido")
+        void whenGetHistogramByDate_withInvalidInterval_thenReturnBadRequest() throws Exception {
+            // Act & Assert
+            mockMvc.perform(get("/shoppings/report/histogram")
+                    .param("startDate", "01/01/2023")
+                    .param("endDate", "31/12/2023")
+                    .param("interval", "month")
+                    .accept(MediaType.APPLICATION_JSON))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(jsonPath("$.errorCode", is("INVALID_REQUEST")));
+
+            // Verify
+            verifyNoInteractions(shopService);
+        }
     }
 
     @Nested
@@ -372,6 +459,27 @@ class ShopControllerTest {
             verify(shopService, times(1)).save(any(ShopRequestDto.class));
         }
 
+        @Test
+        @DisplayName("newShop - Deve criar a compra pelo serviço de idempotência quando houver Idempotency-Key")
+        void whenNewShop_withIdempotencyKey_thenUseIdempotencyService() throws Exception {
+            // Arrange
+            ShopRequestDto request = createValidShopRequest();
+            ShopResponseDto response = createMockShopResponse();
+            when(idempotencyService.save(eq("checkout-1"), any(ShopRequestDto.class))).thenReturn(response);
+
+            // Act & Assert
+            mockMvc.perform(post("/shoppings")
+                    .header(ShopController.IDEMPOTENCY_KEY_HEADER, "checkout-1")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .accept(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(request)))
+                    .andExpect(status().isCreated())
+                    .andExpect(jsonPath("$.id", is(SHOP_ID.intValue())));
+
+            // Verify
+            verify(shopService, never()).save(any(ShopRequestDto.class));
+        }
+
         @Test
         @DisplayName("newShop - Deve retornar 400 quando request inválido")
         void whenNewShop_withInvalidRequest_thenReturn400() throws Exception {
@@ -0,0 +1,97 @@
+package com.ecommerce.shoppingapi.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("Testes do ConnectionPoolSizer")
+class ConnectionPoolSizerTest {
+
+    private MeterRegistry meterRegistry;
+    private HikariDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl("jdbc:h2:mem:sizer");
+        dataSource.setPoolName("sizer");
+        dataSource.setMaximumPoolSize(6);
+        dataSource.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(meterRegistry));
+        try (Connection ignored = dataSource.getConnection()) {
+            // Inicia o pool para que as métricas de uso existam
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Deve recomendar a média de conexões ocupadas com folga mais as threads aguardando")
+    void recommendedSize_ShouldApplyHeadroomAndAddWaitingThreads() {
+        assertThat(ConnectionPoolSizer.recommendedSize(2.2, 0, 2.0, 2, 20)).isEqualTo(5);
+        assertThat(ConnectionPoolSizer.recommendedSize(2.2, 3, 2.0, 2, 20)).isEqualTo(8);
+    }
+
+    @Test
+    @DisplayName("Deve limitar a recomendação entre o mínimo e o orçamento do pool")
+    void recommendedSize_ShouldStayWithinMinimumAndBudget() {
+        assertThat(ConnectionPoolSizer.recommendedSize(0, 0, 2.0, 2, 20)).isEqualTo(2);
+        assertThat(ConnectionPoolSizer.recommendedSize(30, 5, 2.0, 2, 20)).isEqualTo(20);
+        assertThat(ConnectionPoolSizer.recommendedSize(0, 0, 2.0, 4, 3)).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve crescer de uma vez e encolher uma conexão por vez")
+    void nextSize_ShouldGrowAtOnceAndShrinkOneAtATime() {
+        assertThat(ConnectionPoolSizer.nextSize(4, 9)).isEqualTo(9);
+        assertThat(ConnectionPoolSizer.nextSize(9, 2)).isEqualTo(8);
+        assertThat(ConnectionPoolSizer.nextSize(5, 5)).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Deve reduzir o pool ocioso no modo adaptativo sem ultrapassar o orçamento")
+    void resize_WhenAdaptiveAndIdle_ShouldShrinkPool() {
+        // Arrange
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(List.of(dataSource), meterRegistry, true, 2, 2.0);
+
+        // Act
+        sizer.resize();
+
+        // Assert
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(5);
+        assertThat(dataSource.getMinimumIdle()).isEqualTo(5);
+        assertThat(meterRegistry.get(ConnectionPoolSizer.RECOMMENDED_METRIC).tag("pool", "sizer").gauge().value())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get(ConnectionPoolSizer.BUDGET_METRIC).tag("pool", "sizer").gauge().value())
+                .isEqualTo(6);
+    }
+
+    @Test
+    @DisplayName("Deve apenas publicar a recomendação quando o modo adaptativo estiver desligado")
+    void resize_WhenNotAdaptive_ShouldKeepPoolSize() {
+        // Arrange
+        ConnectionPoolSizer sizer = new ConnectionPoolSizer(List.of(dataSource), meterRegistry, false, 2, 2.0);
+
+        // Act
+        sizer.resize();
+
+        // Assert
+        assertThat(dataSource.getMaximumPoolSize()).isEqualTo(6);
+        assertThat(meterRegistry.get(ConnectionPoolSizer.RECOMMENDED_METRIC).tag("pool", "sizer").gauge().value())
+                .isEqualTo(2);
+    }
+}
@@ -0,0 +1,147 @@
+package com.ecommerce.shoppingapi.idempotency;
+
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do IdempotencyStore")
+class IdempotencyStoreTest {
+
+    private static final Duration TTL = Duration.ofHours(1);
+    private static final Duration WAIT = Duration.ofSeconds(5);
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve executar uma vez e devolver o mesmo resultado nas repetições")
+    void execute_ShouldRunOnceAndReplayResult() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, TTL);
+
+        // Act
+        String first = store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+        String replay = store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Assert
+        assertThat(first).isEqualTo("compra-1");
+        assertThat(replay).isEqualTo("compra-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Repetição simultânea deve aguardar a execução em andamento")
+    void execute_WhenDuplicateArrivesDuringExecution_ShouldWaitForFirst() throws Exception {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, TTL);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> store.execute("key", "hash", WAIT, () -> {
+            started.countDown();
+            await(release);
+            return "compra-" + executions.incrementAndGet();
+        }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // Act
+        CompletableFuture<String> duplicate = CompletableFuture.supplyAsync(() ->
+                store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet()));
+        release.countDown();
+
+        // Assert
+        assertThat(duplicate.get(5, TimeUnit.SECONDS)).isEqualTo("compra-1");
+        assertThat(first.get(5, TimeUnit.SECONDS)).isEqualTo("compra-1");
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar falhas: a próxima tentativa executa de novo")
+    void execute_WhenOperationFails_ShouldNotCacheFailure() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, TTL);
+
+        // Act
+        assertThatThrownBy(() -> store.execute("key", "hash", WAIT, () -> {
+            throw new IllegalStateException("falha");
+        })).isInstanceOf(IllegalStateException.class);
+        String retry = store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Assert
+        assertThat(retry).isEqualTo("compra-1");
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a mesma chave com outra requisição")
+    void execute_WhenHashDiffers_ShouldThrowConflict() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, TTL);
+        store.execute("key", "hash", WAIT, () -> "compra-1");
+
+        // Act & Assert
+        assertThatThrownBy(() -> store.execute("key", "outro-hash", WAIT, () -> "compra-2"))
+                .isInstanceOf(ResourceConflictException.class);
+    }
+
+    @Test
+    @DisplayName("Deve descartar as chaves concluídas mais antigas ao passar do limite")
+    void execute_ShouldEvictOldestCompletedEntries() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(2, TTL);
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            String key = "key-" + i;
+            store.execute(key, "hash", WAIT, () -> key);
+        }
+        String replayOfOldest = store.execute("key-0", "hash", WAIT, () -> "executada de novo");
+
+        // Assert
+        assertThat(store.size()).isLessThanOrEqualTo(2);
+        assertThat(replayOfOldest).isEqualTo("executada de novo");
+    }
+
+    @Test
+    @DisplayName("Deve executar de novo quando o resultado guardado expirar")
+    void execute_WhenEntryExpired_ShouldRunAgain() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, Duration.ZERO);
+        store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Act
+        String result = store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Assert
+        assertThat(result).isEqualTo("compra-2");
+    }
+
+    @Test
+    @DisplayName("Deve executar de novo depois que o resultado for removido")
+    void remove_ShouldDiscardCompletedResult() {
+        // Arrange
+        IdempotencyStore<String> store = new IdempotencyStore<>(10, TTL);
+        store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Act
+        store.remove("key");
+        String result = store.execute("key", "hash", WAIT, () -> "compra-" + executions.incrementAndGet());
+
+        // Assert
+        assertThat(result).isEqualTo("compra-2");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
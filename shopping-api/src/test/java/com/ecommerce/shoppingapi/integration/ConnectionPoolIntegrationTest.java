@@ -0,0 +1,96 @@
+package com.ecommerce.shoppingapi.integration;
+
+import com.ecommerce.shoppingapi.datasource.ConnectionPoolSizer;
+import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.repositories.ShopRepository;
+import com.ecommerce.shoppingapi.services.ShopService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Pools de Conexão")
+class ConnectionPoolIntegrationTest {
+
+    private static final String USAGE_METRIC = "hikaricp.connections.usage";
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private ConnectionPoolSizer connectionPoolSizer;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve usar o pool de leitura nas transações somente leitura e o de escrita nas demais")
+    void transactions_ShouldUseReadPoolForReadOnlyAndWritePoolOtherwise() {
+        // Arrange
+        long reads = usages("read");
+        long writes = usages("write");
+
+        // Act
+        List<?> shops = shopService.getAll();
+
+        // Assert
+        assertThat(shops).isEmpty();
+        assertThat(usages("read")).isEqualTo(reads + 1);
+        assertThat(usages("write")).isEqualTo(writes);
+
+        // Act
+        shopRepository.save(Shop.builder()
+            .userIdentifier("12345678900")
+            .total(new BigDecimal("10.00"))
+            .date(LocalDateTime.now())
+            .build());
+
+        // Assert
+        assertThat(usages("read")).isEqualTo(reads + 1);
+        assertThat(usages("write")).isEqualTo(writes + 1);
+    }
+
+    @Test
+    @DisplayName("Deve publicar o orçamento e o tamanho recomendado de cada pool")
+    void resize_ShouldPublishBudgetAndRecommendedSizePerPool() {
+        // Act
+        connectionPoolSizer.resize();
+        connectionPoolSizer.resize();
+
+        // Assert
+        assertThat(gauge(ConnectionPoolSizer.BUDGET_METRIC, "write")).isEqualTo(8);
+        assertThat(gauge(ConnectionPoolSizer.BUDGET_METRIC, "read")).isEqualTo(4);
+        assertThat(gauge(ConnectionPoolSizer.RECOMMENDED_METRIC, "write")).isBetween(2.0, 8.0);
+        assertThat(gauge(ConnectionPoolSizer.RECOMMENDED_METRIC, "read")).isBetween(2.0, 4.0);
+    }
+
+    private long usages(String pool) {
+        // O pool só é iniciado (e passa a ter métricas) na primeira conexão
+        Timer usage = meterRegistry.find(USAGE_METRIC).tag("pool", pool).timer();
+        return usage == null ? 0 : usage.count();
+    }
+
+    private double gauge(String name, String pool) {
+        return meterRegistry.get(name).tag("pool", pool).gauge().value();
+    }
+}
@@ -0,0 +1,174 @@
+package com.ecommerce.shoppingapi.integration;
+
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import com.ecommerce.shoppingapi.repositories.IdempotencyKeyRepository;
+import com.ecommerce.shoppingapi.repositories.ShopRepository;
+import com.ecommerce.shoppingapi.services.IdempotencyService;
+import com.ecommerce.shoppingapi.services.ShopService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes de Integração - Idempotency-Key")
+class IdempotencyIntegrationTest extends BaseIntegrationTest {
+
+    private static final String USER_CPF = "52998224725";
+    private static final String PRODUCT_IDENTIFIER = "prod-idem";
+    private static final String RESERVATION_IDENTIFIER = "5f0c7b1e-2d4a-4c59-9a43-0c1f2e3d4b5a";
+
+    @Autowired
+    private IdempotencyService idempotencyService;
+
+    @Autowired
+    private ShopService shopService;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    // As chaves concluídas ficam na memória do serviço entre os testes
+    private String idempotencyKey;
+
+    @BeforeEach
+    void stubServices() {
+        idempotencyKey = "checkout-" + UUID.randomUUID();
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/users/cpf/" + USER_CPF))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"name\": \"Maria\", \"cpf\": \"" + USER_CPF + "\"}")));
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/products/" + PRODUCT_IDENTIFIER))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"productIdentifier\": \"" + PRODUCT_IDENTIFIER + "\", \"price\": 25.0}")));
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/inventory/reservations"))
+            .willReturn(aResponse()
+                .withStatus(201)
+                .withFixedDelay(300)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"reservationIdentifier\": \"" + RESERVATION_IDENTIFIER + "\", \"status\": \"RESERVED\"}")));
+
+        wireMockServer.stubFor(post(urlPathMatching("/api/v1/inventory/reservations/.+/confirm"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+    }
+
+    @AfterEach
+    void cleanUp() {
+        idempotencyKeyRepository.deleteAll();
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve devolver a compra original na repetição, inclusive por outra instância, sem refazer as chamadas")
+    void save_WhenKeyIsRepeated_ShouldReturnOriginalShop() {
+        // Arrange
+        ShopResponseDto first = idempotencyService.save(idempotencyKey, request());
+        // Outra instância (ou esta após reiniciar) não tem a chave em memória e a encontra no banco
+        IdempotencyService otherInstance = new IdempotencyService(shopService, idempotencyKeyRepository, 10,
+                Duration.ofHours(24), Duration.ofSeconds(30));
+
+        // Act
+        ShopResponseDto replay = idempotencyService.save(idempotencyKey, request());
+        ShopResponseDto replayElsewhere = otherInstance.save(idempotencyKey, request());
+
+        // Assert
+        assertThat(replay).isEqualTo(first);
+        assertThat(replayElsewhere.getId()).isEqualTo(first.getId());
+        assertThat(replayElsewhere.getTotal()).isEqualByComparingTo(first.getTotal());
+        assertThat(shopRepository.findAllByUserIdentifier(USER_CPF)).hasSize(1);
+        wireMockServer.verify(1, getRequestedFor(urlEqualTo("/api/v1/products/" + PRODUCT_IDENTIFIER)));
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/inventory/reservations")));
+    }
+
+    @Test
+    @DisplayName("Requisições simultâneas com a mesma chave devem aguardar a primeira em vez de criar outra compra")
+    void save_WhenDuplicatesAreConcurrent_ShouldCreateSingleShop() {
+        // Arrange
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        // Act
+        List<ShopResponseDto> responses;
+        try {
+            List<CompletableFuture<ShopResponseDto>> futures = IntStream.range(0, 4)
+                .mapToObj(i -> CompletableFuture.supplyAsync(() -> idempotencyService.save(idempotencyKey, request()), executor))
+                .toList();
+            responses = futures.stream().map(CompletableFuture::join).toList();
+        } finally {
+            executor.shutdown();
+        }
+
+        // Assert
+        assertThat(responses).extracting(ShopResponseDto::getId).containsOnly(responses.get(0).getId());
+        assertThat(shopRepository.findAllByUserIdentifier(USER_CPF)).hasSize(1);
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/inventory/reservations")));
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar a mesma chave com outra compra")
+    void save_WhenKeyIsReusedWithDifferentRequest_ShouldThrowConflict() {
+        // Arrange
+        idempotencyService.save(idempotencyKey, request());
+        ShopRequestDto different = ShopRequestDto.builder()
+            .userIdentifier(USER_CPF)
+            .items(List.of(ItemDto.builder().productIdentifier(PRODUCT_IDENTIFIER).build(),
+                ItemDto.builder().productIdentifier(PRODUCT_IDENTIFIER).build()))
+            .build();
+
+        // Act & Assert
+        assertThatThrownBy(() -> idempotencyService.save(idempotencyKey, different))
+            .isInstanceOf(ResourceConflictException.class);
+        assertThat(shopRepository.findAllByUserIdentifier(USER_CPF)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("Excluir a compra deve remover a chave: a repetição, em qualquer instância, cria uma nova compra")
+    void save_WhenShopWasDeleted_ShouldTreatReplayAsNewRequest() {
+        // Arrange
+        wireMockServer.stubFor(delete(urlPathMatching("/api/v1/inventory/reservations/.+"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+        IdempotencyService otherInstance = new IdempotencyService(shopService, idempotencyKeyRepository, 10,
+                Duration.ofHours(24), Duration.ofSeconds(30));
+        ShopResponseDto first = idempotencyService.save(idempotencyKey, request());
+        // A outra instância também guarda a compra em memória antes da exclusão
+        otherInstance.save(idempotencyKey, request());
+        shopService.delete(first.getId());
+
+        // Act
+        ShopResponseDto replay = idempotencyService.save(idempotencyKey, request());
+        ShopResponseDto replayElsewhere = otherInstance.save(idempotencyKey, request());
+
+        // Assert
+        assertThat(idempotencyKeyRepository.findById(idempotencyKey))
+            .hasValueSatisfying(saved -> assertThat(saved.getShopId()).isEqualTo(replay.getId()));
+        assertThat(replay.getId()).isNotEqualTo(first.getId());
+        assertThat(replayElsewhere.getId()).isEqualTo(replay.getId());
+        assertThat(shopRepository.findAllByUserIdentifier(USER_CPF)).hasSize(1);
+    }
+
+    private static ShopRequestDto request() {
+        return ShopRequestDto.builder()
+            .userIdentifier(USER_CPF)
+            .items(List.of(ItemDto.builder().productIdentifier(PRODUCT_IDENTIFIER).build()))
+            .build();
+    }
+}
@@ -0,0 +1,142 @@
+package com.ecommerce.shoppingapi.integration;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
+import com.ecommerce.shoppingapi.exception.UpstreamUnavailableException;
+import com.ecommerce.shoppingapi.services.InventoryService;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+@DisplayName("Testes de Integração - Inventory Service")
+class InventoryServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final String RESERVATIONS_URL = "/api/v1/inventory/reservations";
+    private static final String RESERVATION_IDENTIFIER = "123e4567-e89b-12d3-a456-426614174000";
+    private static final String PRODUCT_A = "prod-1";
+    private static final String PRODUCT_B = "prod-2";
+
+    @Autowired
+    private InventoryService inventoryService;
+
+    @Test
+    @DisplayName("Deve reservar o carrinho agrupando itens repetidos")
+    void reserve_WhenStockAvailable_ShouldReturnReservation() {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo(RESERVATIONS_URL))
+            .willReturn(aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"reservationIdentifier": "%s", "status": "RESERVED"}
+                    """.formatted(RESERVATION_IDENTIFIER))));
+
+        // Act
+        ReservationResponseDto reservation = inventoryService.reserve(List.of(
+            ItemDto.builder().productIdentifier(PRODUCT_A).build(),
+            ItemDto.builder().productIdentifier(PRODUCT_B).build(),
+            ItemDto.builder().productIdentifier(PRODUCT_A).build()
+        ));
+
+        // Assert
+        assertEquals(RESERVATION_IDENTIFIER, reservation.getReservationIdentifier());
+        wireMockServer.verify(postRequestedFor(urlEqualTo(RESERVATIONS_URL))
+            .withRequestBody(equalToJson("""
+                {"items": [
+                    {"productIdentifier": "%s", "quantity": 2},
+                    {"productIdentifier": "%s", "quantity": 1}
+                ]}
+                """.formatted(PRODUCT_A, PRODUCT_B), false, true))
+            .withRequestBody(matchingJsonPath("$.reservationIdentifier")));
+    }
+
+    @Test
+    @DisplayName("Deve lançar exceção quando não houver estoque")
+    void reserve_WhenStockInsufficient_ShouldThrowConflict() {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo(RESERVATIONS_URL))
+            .willReturn(aResponse()
+                .withStatus(409)));
+
+        // Act & Assert
+        assertThrows(ResourceConflictException.class, () ->
+            inventoryService.reserve(List.of(ItemDto.builder().productIdentifier(PRODUCT_A).build()))
+        );
+    }
+
+    @Test
+    @DisplayName("Deve lançar não encontrado só quando a product-api responder 404")
+    void reserve_WhenProductNotFound_ShouldThrowNotFound() {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo(RESERVATIONS_URL))
+            .willReturn(aResponse()
+                .withStatus(404)));
+
+        // Act & Assert
+        assertThrows(ResourceNotFoundException.class, () ->
+            inventoryService.reserve(List.of(ItemDto.builder().productIdentifier(PRODUCT_A).build()))
+        );
+        wireMockServer.verify(0, deleteRequestedFor(urlPathMatching(RESERVATIONS_URL + "/.+")));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a reserva pelo identificador gerado e reportar indisponibilidade quando a product-api falhar")
+    void reserve_WhenProductApiFails_ShouldReleaseByClientIdentifier() {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo(RESERVATIONS_URL))
+            .willReturn(aResponse()
+                .withStatus(503)));
+        wireMockServer.stubFor(delete(urlPathMatching(RESERVATIONS_URL + "/.+"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+
+        // Act & Assert
+        assertThrows(UpstreamUnavailableException.class, () ->
+            inventoryService.reserve(List.of(ItemDto.builder().productIdentifier(PRODUCT_A).build()))
+        );
+        String reservationIdentifier = wireMockServer.getAllServeEvents().stream()
+            .filter(event -> event.getRequest().getMethod().getName().equals("POST"))
+            .map(event -> event.getRequest().getBodyAsString())
+            .findFirst()
+            .map(body -> body.replaceAll(".*\"reservationIdentifier\":\"([^\"]+)\".*", "$1"))
+            .orElseThrow();
+        wireMockServer.verify(deleteRequestedFor(urlEqualTo(RESERVATIONS_URL + "/" + reservationIdentifier)));
+    }
+
+    @Test
+    @DisplayName("Deve lançar conflito ao confirmar reserva já expirada")
+    void confirm_WhenReservationReleased_ShouldThrowConflict() {
+        // Arrange
+        wireMockServer.stubFor(post(urlEqualTo(RESERVATIONS_URL + "/" + RESERVATION_IDENTIFIER + "/confirm"))
+            .willReturn(aResponse()
+                .withStatus(409)));
+
+        // Act & Assert
+        assertThrows(ResourceConflictException.class, () -> inventoryService.confirm(RESERVATION_IDENTIFIER));
+    }
+
+    @Test
+    @DisplayName("Deve liberar a reserva e ignorar reservas inexistentes")
+    void release_ShouldCallProductApi() {
+        // Arrange
+        wireMockServer.stubFor(delete(urlEqualTo(RESERVATIONS_URL + "/" + RESERVATION_IDENTIFIER))
+            .willReturn(aResponse()
+                .withStatus(204)));
+        wireMockServer.stubFor(delete(urlEqualTo(RESERVATIONS_URL + "/unknown"))
+            .willReturn(aResponse()
+                .withStatus(404)));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> inventoryService.release(RESERVATION_IDENTIFIER));
+        assertDoesNotThrow(() -> inventoryService.release("unknown"));
+        wireMockServer.verify(deleteRequestedFor(urlEqualTo(RESERVATIONS_URL + "/" + RESERVATION_IDENTIFIER)));
+    }
+}
@@ -0,0 +1,92 @@
+package com.ecommerce.shoppingapi.integration;
+
+import com.ecommerce.shoppingapi.services.UserService;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Usa o WebClient.Builder do Spring Boot (sem o TestConfig) para que as chamadas de saída sejam instrumentadas.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@DisplayName("Testes de Integração - Métricas")
+class MetricsIntegrationTest {
+
+    private static final int WIREMOCK_PORT = 8081;
+    private static final String CPF = "12345678900";
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserService userService;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("Deve expor em formato Prometheus os histogramas de HTTP, WebClient, serviço e repositório, o pool e a JVM")
+    void prometheus_ShouldExposeLatencyHistogramsPoolAndJvmMetrics() {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/users/cpf/" + CPF))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"id": 1, "name": "João da Silva", "cpf": "%s"}
+                    """.formatted(CPF))));
+        restTemplate.getForEntity("/shoppings", String.class);
+        userService.getUserByCpf(CPF);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/actuator/prometheus", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        List<String> lines = response.getBody().lines().toList();
+        assertThat(lines)
+            .anyMatch(line -> line.startsWith("http_server_requests_seconds_bucket{")
+                && line.contains("application=\"shopping-api\"")
+                && line.contains("uri=\"/shoppings\""))
+            .anyMatch(line -> line.startsWith("http_client_requests_seconds_bucket{")
+                && line.contains("uri=\"/api/v1/users/cpf/{cpf}\""))
+            .anyMatch(line -> line.startsWith("service_invocations_seconds_bucket{")
+                && line.contains("service=\"ShopService\"")
+                && line.contains("method=\"getAll\""))
+            .anyMatch(line -> line.startsWith("service_invocations_seconds_bucket{")
+                && line.contains("service=\"UserService\"")
+                && line.contains("method=\"getUserByCpf\""))
+            .anyMatch(line -> line.startsWith("spring_data_repository_invocations_seconds_bucket{")
+                && line.contains("repository=\"ShopRepository\""))
+            .anyMatch(line -> line.startsWith("hikaricp_connections_active{"))
+            .anyMatch(line -> line.startsWith("hikaricp_connections_acquire_seconds_bucket{"))
+            .anyMatch(line -> line.startsWith("hikaricp_connections_budget{"))
+            .anyMatch(line -> line.startsWith("jvm_gc_memory_allocated_bytes_total{"));
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.shoppingapi.integration;
 import static com.github.tomakehurst.wiremock.client.WireMock.*;
 import static org.junit.jupiter.api.Assertions.*;
 
+import com.ecommerce.shoppingapi.domain.dto.product.PriceListResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.product.ProductResponseDto;
 import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
 import com.ecommerce.shoppingapi.services.ProductService;
@@ -98,4 +99,26 @@ class ProductServiceIntegrationTest extends BaseIntegrationTest {
         assertEquals(PRODUCT_NOT_FOUND_MESSAGE, exception.getMessage());
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/v1/products/" + ERROR_IDENTIFIER)));
     }
+
+    @Test
+    @DisplayName("Deve retornar a tabela de preços versionada")
+    void getPriceList_ShouldReturnVersionedPrices() {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/products/prices"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"version": 42, "identifiers": ["%s", "prod-2"], "prices": [%s, 15.5]}
+                    """.formatted(PRODUCT_IDENTIFIER, PRODUCT_PRICE))));
+
+        // Act
+        PriceListResponseDto priceList = productService.getPriceList();
+
+        // Assert
+        assertAll(
+            () -> assertEquals(42, priceList.getVersion()),
+            () -> assertArrayEquals(new String[]{PRODUCT_IDENTIFIER, "prod-2"}, priceList.getIdentifiers()),
+            () -> assertArrayEquals(new double[]{100.0, 15.5}, priceList.getPrices())
+        );
+    }
 }
\ No newline at end of file
@@ -13,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import com.ecommerce.shoppingapi.domain.dto.report.UserShopStatisticsResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
@@ -29,6 +30,7 @@ class ShopServiceIntegrationTest extends BaseIntegrationTest {
     private static final String VALID_PRODUCT_IDENTIFIER = "prod-1";
     private static final String INVALID_PRODUCT_IDENTIFIER = "prod-not-found";
     private static final BigDecimal PRODUCT_PRICE = new BigDecimal("100.00");
+    private static final String RESERVATION_IDENTIFIER = "123e4567-e89b-12d3-a456-426614174000";
     private static final String USER_NAME = "João da Silva";
     private static final String USER_EMAIL = "joao@email.com";
 
@@ -75,6 +77,16 @@ class ShopServiceIntegrationTest extends BaseIntegrationTest {
                 .withHeader("Content-Type", "application/json")
                 .withBody(productResponseBody)));
 
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/inventory/reservations"))
+            .willReturn(aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"reservationIdentifier\": \"" + RESERVATION_IDENTIFIER + "\", \"status\": \"RESERVED\"}")));
+
+        wireMockServer.stubFor(post(urlPathMatching("/api/v1/inventory/reservations/.+/confirm"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+
         ShopRequestDto request = ShopRequestDto.builder()
             .userIdentifier(VALID_USER_CPF)
             .items(Arrays.asList(
@@ -101,6 +113,7 @@ class ShopServiceIntegrationTest extends BaseIntegrationTest {
 
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/v1/users/cpf/" + VALID_USER_CPF)));
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/v1/products/" + VALID_PRODUCT_IDENTIFIER)));
+        wireMockServer.verify(postRequestedFor(urlEqualTo("/api/v1/inventory/reservations")));
     }
 
     @Test
@@ -214,6 +227,89 @@ class ShopServiceIntegrationTest extends BaseIntegrationTest {
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/v1/users/cpf/" + INVALID_USER_CPF)));
     }
 
+    @Test
+    @DisplayName("Estatísticas do usuário devem acompanhar compras criadas e removidas")
+    void getStatisticsByUser_ShouldTrackSavedAndDeletedShops() {
+        // Arrange
+        String userCpf = "11122233344";
+        String userResponseBody = """
+            {
+                "name": "%s",
+                "cpf": "%s",
+                "email": "%s",
+                "phone": "11999999999",
+                "address": "Rua Teste, 123",
+                "dataRegister": "01-03-2024 10:00:00"
+            }
+            """.formatted(USER_NAME, userCpf, USER_EMAIL);
+
+        String productResponseBody = """
+            {
+                "price": %s,
+                "quantity": 10,
+                "productIdentifier": "%s"
+            }
+            """.formatted(PRODUCT_PRICE, VALID_PRODUCT_IDENTIFIER);
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/users/cpf/" + userCpf))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(userResponseBody)));
+
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/products/" + VALID_PRODUCT_IDENTIFIER))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(productResponseBody)));
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/inventory/reservations"))
+            .willReturn(aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"reservationIdentifier\": \"" + RESERVATION_IDENTIFIER + "\", \"status\": \"RESERVED\"}")));
+
+        wireMockServer.stubFor(post(urlPathMatching("/api/v1/inventory/reservations/.+/confirm"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+
+        wireMockServer.stubFor(delete(urlEqualTo("/api/v1/inventory/reservations/" + RESERVATION_IDENTIFIER))
+            .willReturn(aResponse()
+                .withStatus(204)));
+
+        ShopRequestDto request = ShopRequestDto.builder()
+            .userIdentifier(userCpf)
+            .items(Arrays.asList(
+                ItemDto.builder()
+                    .productIdentifier(VALID_PRODUCT_IDENTIFIER)
+                    .build(),
+                ItemDto.builder()
+                    .productIdentifier(VALID_PRODUCT_IDENTIFIER)
+                    .build()
+            ))
+            .build();
+
+        UserShopStatisticsResponseDto empty = shopService.getStatisticsByUser(userCpf);
+        ShopResponseDto first = shopService.save(request);
+        ShopResponseDto second = shopService.save(request);
+        ShopResponseDto third = shopService.save(request);
+
+        // Act
+        UserShopStatisticsResponseDto afterSaves = shopService.getStatisticsByUser(userCpf);
+        shopService.delete(first.getId());
+        UserShopStatisticsResponseDto afterDelete = shopService.getStatisticsByUser(userCpf);
+
+        // Assert
+        assertAll(
+            () -> assertEquals(0L, empty.getCount()),
+            () -> assertEquals(3L, afterSaves.getCount()),
+            () -> assertEquals(0, new BigDecimal("600.00").compareTo(afterSaves.getTotal())),
+            () -> assertEquals(0, new BigDecimal("200.00").compareTo(afterSaves.getMean())),
+            () -> assertEquals(2L, afterDelete.getCount()),
+            () -> assertEquals(0, new BigDecimal("400.00").compareTo(afterDelete.getTotal())),
+            () -> assertEquals(second.getDate().withNano(0), afterDelete.getFirstOrderDate().withNano(0)),
+            () -> assertEquals(third.getDate().withNano(0), afterDelete.getLastOrderDate().withNano(0))
+        );
+    }
+
     @Test
     @DisplayName("Deve lançar exceção ao deletar compra inexistente")
     void delete_WhenShopNotFound_ShouldThrowException() {
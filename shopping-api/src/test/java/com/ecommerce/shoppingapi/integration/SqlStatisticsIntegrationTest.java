@@ -0,0 +1,77 @@
+package com.ecommerce.shoppingapi.integration;
+
+import com.ecommerce.shoppingapi.domain.entities.Item;
+import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.metrics.SqlStatisticsFilter;
+import com.ecommerce.shoppingapi.metrics.SqlStatisticsResponseAdvice;
+import com.ecommerce.shoppingapi.repositories.ShopRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Estatísticas de SQL")
+class SqlStatisticsIntegrationTest {
+
+    private static final int SHOPS = 5;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private ShopRepository shopRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @AfterEach
+    void tearDown() {
+        shopRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve contar os comandos SQL da listagem de compras sem uma consulta de itens por compra")
+    void getAll_ShouldNotIssueOneItemQueryPerShop() {
+        // Arrange
+        IntStream.range(0, SHOPS).forEach(i -> shopRepository.save(Shop.builder()
+            .userIdentifier("1234567890" + i)
+            .total(new BigDecimal("10.00"))
+            .date(LocalDateTime.now())
+            .items(List.of(
+                Item.builder().productIdentifier("prod-1").price(new BigDecimal("5.00")).build(),
+                Item.builder().productIdentifier("prod-2").price(new BigDecimal("5.00")).build()))
+            .build()));
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/shoppings", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        // Uma consulta para as compras e uma, em lote, para os itens de todas elas
+        assertThat(response.getHeaders().getFirst(SqlStatisticsResponseAdvice.STATEMENTS_HEADER)).isEqualTo("2");
+        assertThat(meterRegistry.get(SqlStatisticsFilter.STATEMENTS_METRIC)
+            .tag("method", "GET")
+            .tag("uri", "/shoppings")
+            .summary()
+            .totalAmount()).isEqualTo(2);
+        assertThat(meterRegistry.get(SqlStatisticsFilter.ROWS_METRIC)
+            .tag("uri", "/shoppings")
+            .summary()
+            .totalAmount()).isEqualTo(SHOPS + SHOPS * 2);
+    }
+}
@@ -0,0 +1,189 @@
+package com.ecommerce.shoppingapi.integration;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.sdk.testing.exporter.InMemorySpanExporter;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Bean;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Usa o WebClient.Builder do Spring Boot (sem o TestConfig) para que as chamadas de saída propaguem o trace.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@AutoConfigureObservability
+@DisplayName("Testes de Integração - Tracing")
+class TracingIntegrationTest {
+
+    private static final int WIREMOCK_PORT = 8081;
+    private static final String CPF = "12345678900";
+    private static final String PRODUCT_IDENTIFIER = "prod-1";
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String PARENT_SPAN_ID = "00f067aa0ba902b7";
+    private static final String SPANS_FILE = "spans.ndjson";
+
+    @TempDir
+    static Path traceDir;
+
+    @DynamicPropertySource
+    static void tracingProperties(DynamicPropertyRegistry registry) {
+        registry.add("tracing.file-export.enabled", () -> "true");
+        registry.add("tracing.file-export.path", () -> traceDir.resolve(SPANS_FILE).toString());
+    }
+
+    @TestConfiguration
+    static class InMemoryExporterConfig {
+
+        @Bean
+        InMemorySpanExporter inMemorySpanExporter() {
+            return InMemorySpanExporter.create();
+        }
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private InMemorySpanExporter spanExporter;
+
+    @Autowired
+    private SdkTracerProvider tracerProvider;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private WireMockServer wireMockServer;
+
+    @BeforeEach
+    void setUp() {
+        wireMockServer = new WireMockServer(wireMockConfig().port(WIREMOCK_PORT));
+        wireMockServer.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMockServer.stop();
+    }
+
+    @Test
+    @DisplayName("Deve propagar o trace da compra para user-api e product-api e registrar os spans de cada etapa")
+    void save_WithTraceparent_ShouldPropagateTraceToDownstreamCalls() throws IOException {
+        // Arrange
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/users/cpf/" + CPF))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"id": 1, "name": "João da Silva", "cpf": "%s"}
+                    """.formatted(CPF))));
+        wireMockServer.stubFor(get(urlEqualTo("/api/v1/products/" + PRODUCT_IDENTIFIER))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("""
+                    {"id": 1, "productIdentifier": "%s", "price": 100.00}
+                    """.formatted(PRODUCT_IDENTIFIER))));
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/inventory/reservations"))
+            .willReturn(aResponse()
+                .withStatus(201)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"reservationIdentifier\": \"123e4567-e89b-12d3-a456-426614174000\", \"status\": \"RESERVED\"}")));
+
+        wireMockServer.stubFor(post(urlPathMatching("/api/v1/inventory/reservations/.+/confirm"))
+            .willReturn(aResponse()
+                .withStatus(204)));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.set("traceparent", "00-" + TRACE_ID + "-" + PARENT_SPAN_ID + "-01");
+        String body = """
+            {"userIdentifier": "%s", "items": [{"productIdentifier": "%s"}]}
+            """.formatted(CPF, PRODUCT_IDENTIFIER);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.exchange("/shoppings", HttpMethod.POST,
+            new HttpEntity<>(body, headers), String.class);
+        tracerProvider.forceFlush().join(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        List<SpanData> spans = spanExporter.getFinishedSpanItems().stream()
+            .filter(span -> span.getTraceId().equals(TRACE_ID))
+            .toList();
+        assertThat(spans)
+            .anySatisfy(span -> {
+                assertThat(span.getKind()).isEqualTo(SpanKind.SERVER);
+                assertThat(span.getName()).isEqualTo("http post /shoppings");
+                assertThat(span.getParentSpanId()).isEqualTo(PARENT_SPAN_ID);
+            })
+            .anySatisfy(span -> {
+                assertThat(span.getName()).isEqualTo("query");
+                assertThat(span.getAttributes().asMap().toString()).contains("insert into shopping.shop ");
+            });
+
+        // Cada chamada de saída leva um traceparent do mesmo trace, apontando para o span do cliente
+        List<String> clientSpanIds = spans.stream()
+            .filter(span -> span.getKind() == SpanKind.CLIENT && span.getName().startsWith("http "))
+            .map(SpanData::getSpanId)
+            .toList();
+        assertThat(wireMockServer.getAllServeEvents())
+            .hasSize(4)
+            .allSatisfy(event -> {
+                String[] traceparent = event.getRequest().getHeader("traceparent").split("-");
+                assertThat(traceparent[1]).isEqualTo(TRACE_ID);
+                assertThat(clientSpanIds).contains(traceparent[2]);
+            });
+
+        List<JsonNode> records = Files.readAllLines(traceDir.resolve(SPANS_FILE)).stream()
+            .map(this::readTree)
+            .filter(record -> record.path("traceId").asText().equals(TRACE_ID))
+            .toList();
+        assertThat(records)
+            .hasSameSizeAs(spans)
+            .anySatisfy(record -> {
+                assertThat(record.path("service").asText()).isEqualTo("shopping-api");
+                assertThat(record.path("kind").asText()).isEqualTo("CLIENT");
+                assertThat(record.path("attributes").path("uri").asText()).isEqualTo("/api/v1/products/{identifier}");
+                assertThat(record.path("durationMicros").asLong()).isPositive();
+            });
+    }
+
+    private JsonNode readTree(String line) {
+        try {
+            return objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
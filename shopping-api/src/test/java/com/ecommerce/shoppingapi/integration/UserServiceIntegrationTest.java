@@ -7,6 +7,10 @@ import com.ecommerce.shoppingapi.domain.dto.user.UserResponseDto;
 import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
 import com.ecommerce.shoppingapi.services.UserService;
 
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -98,4 +102,72 @@ class UserServiceIntegrationTest extends BaseIntegrationTest {
         assertEquals(USER_NOT_FOUND_MESSAGE, exception.getMessage());
         wireMockServer.verify(getRequestedFor(urlEqualTo("/api/v1/users/cpf/" + ERROR_CPF)));
     }
+
+    @Test
+    @DisplayName("Deve buscar vários usuários em uma única requisição")
+    void getUsersByCpf_ShouldReturnFoundUsersIndexedByCpf() {
+        // Arrange
+        String responseBody = """
+            [
+                {
+                    "id": 1,
+                    "name": "%s",
+                    "cpf": "%s",
+                    "email": "%s",
+                    "phone": "%s",
+                    "address": "%s",
+                    "dataRegister": "01-03-2024 10:00:00"
+                }
+            ]
+            """.formatted(USER_NAME, VALID_CPF, USER_EMAIL, USER_PHONE, USER_ADDRESS);
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/users/cpf/batch"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody(responseBody)));
+
+        // Act
+        Map<String, UserResponseDto> usuarios = userService.getUsersByCpf(List.of(VALID_CPF, INVALID_CPF, VALID_CPF));
+
+        // Assert
+        assertAll(
+            () -> assertEquals(1, usuarios.size()),
+            () -> assertEquals(USER_NAME, usuarios.get(VALID_CPF).getName())
+        );
+
+        wireMockServer.verify(1, postRequestedFor(urlEqualTo("/api/v1/users/cpf/batch"))
+            .withRequestBody(equalToJson("[\"" + VALID_CPF + "\", \"" + INVALID_CPF + "\"]")));
+    }
+
+    @Test
+    @DisplayName("Deve dividir a busca em lotes respeitando o limite por requisição")
+    void getUsersByCpf_ShouldSplitRequestsByBatchSize() {
+        // Arrange
+        List<String> cpfs = IntStream.range(0, UserService.MAX_BATCH_SIZE + 1)
+            .mapToObj(i -> "%011d".formatted(i))
+            .toList();
+
+        wireMockServer.stubFor(post(urlEqualTo("/api/v1/users/cpf/batch"))
+            .willReturn(aResponse()
+                .withHeader("Content-Type", "application/json")
+                .withBody("[]")));
+
+        // Act
+        Map<String, UserResponseDto> usuarios = userService.getUsersByCpf(cpfs);
+
+        // Assert
+        assertTrue(usuarios.isEmpty());
+        wireMockServer.verify(2, postRequestedFor(urlEqualTo("/api/v1/users/cpf/batch")));
+    }
+
+    @Test
+    @DisplayName("Não deve chamar a API quando a lista de CPFs estiver vazia")
+    void getUsersByCpf_WithEmptyList_ShouldNotCallApi() {
+        // Act
+        Map<String, UserResponseDto> usuarios = userService.getUsersByCpf(List.of());
+
+        // Assert
+        assertTrue(usuarios.isEmpty());
+        wireMockServer.verify(0, postRequestedFor(urlEqualTo("/api/v1/users/cpf/batch")));
+    }
 }
\ No newline at end of file
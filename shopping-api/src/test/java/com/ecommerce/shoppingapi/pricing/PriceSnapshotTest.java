@@ -0,0 +1,48 @@
+package com.ecommerce.shoppingapi.pricing;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("Testes do PriceSnapshot")
+class PriceSnapshotTest {
+
+    @Test
+    @DisplayName("Deve encontrar o preço de cada produto independentemente da ordem recebida")
+    void priceOf_ShouldFindPricesRegardlessOfInputOrder() {
+        // Arrange
+        PriceSnapshot snapshot = PriceSnapshot.of(7,
+                new String[]{"prod-c", "prod-a", "prod-b"},
+                new double[]{30.5, 10.0, 19.99},
+                Instant.now());
+
+        // Act & Assert
+        assertThat(snapshot.priceOf("prod-a")).isEqualByComparingTo("10.00");
+        assertThat(snapshot.priceOf("prod-b")).isEqualByComparingTo("19.99");
+        assertThat(snapshot.priceOf("prod-c")).isEqualByComparingTo("30.50");
+        assertThat(snapshot.getVersion()).isEqualTo(7);
+        assertThat(snapshot.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Deve retornar null para produto fora da tabela")
+    void priceOf_ShouldReturnNull_WhenProductIsMissing() {
+        // Arrange
+        PriceSnapshot snapshot = PriceSnapshot.of(1, new String[]{"prod-a"}, new double[]{10.0}, Instant.now());
+
+        // Act & Assert
+        assertThat(snapshot.priceOf("prod-z")).isNull();
+        assertThat(PriceSnapshot.of(0, new String[0], new double[0], Instant.now()).priceOf("prod-a")).isNull();
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar arrays de tamanhos diferentes")
+    void of_ShouldRejectMismatchedArrays() {
+        assertThatThrownBy(() -> PriceSnapshot.of(1, new String[]{"prod-a", "prod-b"}, new double[]{10.0}, Instant.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
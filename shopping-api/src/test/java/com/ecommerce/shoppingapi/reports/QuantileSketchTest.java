@@ -0,0 +1,86 @@
+package com.ecommerce.shoppingapi.reports;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.within;
+
+@DisplayName("Testes do QuantileSketch")
+class QuantileSketchTest {
+
+    private static final double ACCURACY = 0.01;
+
+    @Test
+    @DisplayName("Deve estimar quantis dentro do erro relativo")
+    void quantile_ShouldStayWithinRelativeAccuracy() {
+        // Arrange
+        Random random = new Random(42);
+        double[] values = new double[100_000];
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+        for (int i = 0; i < values.length; i++) {
+            values[i] = Math.exp(random.nextGaussian() * 2 + 4);
+            sketch.add(values[i]);
+        }
+        Arrays.sort(values);
+
+        // Act & Assert
+        for (double quantile : new double[]{0.0, 0.5, 0.95, 0.99, 1.0}) {
+            double exact = values[(int) Math.floor(quantile * (values.length - 1))];
+            assertThat(sketch.quantile(quantile)).isCloseTo(exact, within(exact * ACCURACY));
+        }
+        assertThat(sketch.getCount()).isEqualTo(values.length);
+    }
+
+    @Test
+    @DisplayName("Combinar sketches deve equivaler a um sketch com todos os valores")
+    void merge_ShouldMatchSingleSketch() {
+        // Arrange
+        QuantileSketch first = new QuantileSketch(ACCURACY);
+        QuantileSketch second = new QuantileSketch(ACCURACY);
+        QuantileSketch all = new QuantileSketch(ACCURACY);
+        for (int i = 1; i <= 1000; i++) {
+            (i % 2 == 0 ? first : second).add(i);
+            all.add(i);
+        }
+
+        // Act
+        first.merge(second);
+
+        // Assert
+        assertThat(first.getCount()).isEqualTo(all.getCount());
+        assertThat(first.quantile(0.5)).isEqualTo(all.quantile(0.5));
+        assertThat(first.quantile(0.95)).isEqualTo(all.quantile(0.95));
+    }
+
+    @Test
+    @DisplayName("Deve tratar zeros e sketch vazio")
+    void quantile_ShouldHandleZerosAndEmptySketch() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+
+        // Act & Assert
+        assertThat(sketch.quantile(0.5)).isNaN();
+
+        sketch.add(0);
+        sketch.add(0);
+        sketch.add(10);
+        assertThat(sketch.quantile(0.5)).isZero();
+        assertThat(sketch.quantile(1.0)).isCloseTo(10, within(10 * ACCURACY));
+    }
+
+    @Test
+    @DisplayName("Não deve combinar sketches com precisões diferentes")
+    void merge_ShouldRejectDifferentAccuracy() {
+        // Arrange
+        QuantileSketch sketch = new QuantileSketch(ACCURACY);
+
+        // Act & Assert
+        assertThatThrownBy(() -> sketch.merge(new QuantileSketch(0.05)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -1,8 +1,12 @@
 package com.ecommerce.shoppingapi.repositories;
 
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
 import com.ecommerce.shoppingapi.domain.entities.Item;
 import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.repositories.projections.BasketSize;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +21,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -143,6 +148,101 @@ class ReportRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("Testes de histograma e produtos mais vendidos")
+    class ShopHistogramTests {
+
+        private final LocalDate monday = LocalDate.of(2024, 3, 4);
+
+        @BeforeEach
+        void setUp() {
+            persistShop(monday.atTime(9, 15), item("PROD-A", "10.00"), item("PROD-B", "50.00"));
+            persistShop(monday.atTime(9, 45), item("PROD-A", "10.00"));
+            persistShop(monday.plusDays(1).atTime(14, 0), item("PROD-A", "10.00"), item("PROD-C", "80.00"));
+            persistShop(monday.plusDays(7).atTime(8, 0), item("PROD-B", "50.00"));
+        }
+
+        @Test
+        @DisplayName("Deve agrupar compras por hora")
+        void shouldGroupShopsByHour() {
+            // Act
+            List<ShopHistogramBucketDto> result = shopRepository.getHistogramByDate(monday, monday, ReportInterval.HOUR);
+
+            // Assert
+            assertThat(result)
+                    .hasSize(1)
+                    .element(0)
+                    .satisfies(bucket -> {
+                        assertThat(bucket.getStart()).isEqualTo(monday.atTime(9, 0));
+                        assertThat(bucket.getCount()).isEqualTo(2);
+                        assertThat(bucket.getTotal()).isEqualByComparingTo("70.00");
+                    });
+        }
+
+        @Test
+        @DisplayName("Deve agrupar compras por semana a partir da segunda-feira")
+        void shouldGroupShopsByWeek() {
+            // Act
+            List<ShopHistogramBucketDto> result = shopRepository.getHistogramByDate(
+                    monday, monday.plusDays(13), ReportInterval.WEEK);
+
+            // Assert
+            assertThat(result)
+                    .extracting(bucket -> bucket.getStart() + "=" + bucket.getCount())
+                    .containsExactly(
+                            monday.atStartOfDay() + "=3",
+                            monday.plusDays(7).atStartOfDay() + "=1");
+        }
+
+        @Test
+        @DisplayName("Deve retornar os produtos entre os primeiros por receita ou por unidades")
+        void shouldReturnTopProductsByRevenueOrUnits() {
+            // Act
+            List<ProductSalesDto> result = shopRepository.getTopProductsByDate(monday, monday.plusDays(13), 1);
+
+            // Assert
+            assertThat(result)
+                    .extracting(product -> product.getProductIdentifier() + ":" + product.getUnits())
+                    .containsExactlyInAnyOrder("PROD-A:3", "PROD-B:2");
+            assertThat(result)
+                    .filteredOn(product -> product.getProductIdentifier().equals("PROD-B"))
+                    .first()
+                    .satisfies(product -> assertThat(product.getRevenue()).isEqualByComparingTo("100.00"));
+        }
+
+        @Test
+        @DisplayName("Deve ler a quantidade de itens e o total de cada compra")
+        void shouldStreamBasketSizes() {
+            // Act
+            List<BasketSize> result;
+            try (Stream<BasketSize> baskets = shopRepository.streamBasketSizesByDate(monday, monday.plusDays(1))) {
+                result = baskets.toList();
+            }
+
+            // Assert
+            assertThat(result)
+                    .extracting(basket -> basket.items() + ":" + basket.total().stripTrailingZeros().toPlainString())
+                    .containsExactlyInAnyOrder("2:60", "1:10", "2:90");
+        }
+
+        private void persistShop(LocalDateTime date, Item... items) {
+            entityManager.persist(Shop.builder()
+                    .userIdentifier("12345678901")
+                    .total(Arrays.stream(items).map(Item::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add))
+                    .date(date)
+                    .items(Arrays.asList(items))
+                    .build());
+            entityManager.flush();
+        }
+
+        private Item item(String productIdentifier, String price) {
+            return Item.builder()
+                    .productIdentifier(productIdentifier)
+                    .price(new BigDecimal(price))
+                    .build();
+        }
+    }
+
     private Shop createAndPersistShop(String userIdentifier, LocalDateTime date, BigDecimal total) {
         Item item = Item.builder()
                 .productIdentifier("PROD-" + System.currentTimeMillis())
@@ -0,0 +1,99 @@
+package com.ecommerce.shoppingapi.services;
+
+import com.ecommerce.shoppingapi.domain.dto.product.PriceListResponseDto;
+import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
+import com.ecommerce.shoppingapi.pricing.PriceSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Testes do PriceSnapshotService")
+class PriceSnapshotServiceTest {
+
+    private static final Duration MAX_AGE = Duration.ofMinutes(5);
+
+    @Mock
+    private ProductService productService;
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("Deve carregar a tabela de preços e publicar a versão")
+    void refresh_ShouldLoadSnapshot() {
+        // Arrange
+        PriceSnapshotService service = new PriceSnapshotService(productService, meterRegistry, true, MAX_AGE);
+        when(productService.getPriceList()).thenReturn(priceList(3, 10.0));
+
+        // Act
+        service.refresh();
+
+        // Assert
+        PriceSnapshot snapshot = service.getSnapshot();
+        assertThat(snapshot.getVersion()).isEqualTo(3);
+        assertThat(snapshot.priceOf("prod-1")).isEqualByComparingTo("10.00");
+        assertThat(meterRegistry.get(PriceSnapshotService.VERSION_METRIC).gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get(PriceSnapshotService.SIZE_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve manter a tabela anterior quando a atualização falhar")
+    void refresh_ShouldKeepPreviousSnapshot_WhenProductApiFails() {
+        // Arrange
+        PriceSnapshotService service = new PriceSnapshotService(productService, meterRegistry, true, MAX_AGE);
+        when(productService.getPriceList())
+                .thenReturn(priceList(3, 10.0))
+                .thenThrow(new ResourceNotFoundException("Tabela de preços não encontrada"));
+        service.refresh();
+
+        // Act
+        service.refresh();
+
+        // Assert
+        assertThat(service.getSnapshot().getVersion()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Não deve consultar a product-api quando o recurso estiver desligado")
+    void refresh_ShouldDoNothing_WhenDisabled() {
+        // Arrange
+        PriceSnapshotService service = new PriceSnapshotService(productService, meterRegistry, false, MAX_AGE);
+
+        // Act
+        service.refresh();
+
+        // Assert
+        assertThat(service.getSnapshot()).isNull();
+        verifyNoInteractions(productService);
+    }
+
+    @Test
+    @DisplayName("Não deve usar tabela mais antiga que o limite")
+    void getSnapshot_ShouldReturnNull_WhenSnapshotIsStale() throws InterruptedException {
+        // Arrange
+        PriceSnapshotService service = new PriceSnapshotService(productService, meterRegistry, true, Duration.ZERO);
+        when(productService.getPriceList()).thenReturn(priceList(3, 10.0));
+        service.refresh();
+        Thread.sleep(5);
+
+        // Act & Assert
+        assertThat(service.getSnapshot()).isNull();
+    }
+
+    private static PriceListResponseDto priceList(long version, double price) {
+        return PriceListResponseDto.builder()
+                .version(version)
+                .identifiers(new String[]{"prod-1"})
+                .prices(new double[]{price})
+                .build();
+    }
+}
@@ -34,7 +34,7 @@ class ProductServiceTest {
     private static final String CATEGORY_NAME = "Test Category";
     private static final String PRODUCT_NOT_FOUND_MESSAGE = "Produto não encontrado";
     private static final String API_ERROR_MESSAGE = "API Error";
-    private static final String URI_PATH_PRODUCTS = "/products/";
+    private static final String URI_TEMPLATE_PRODUCTS = "/products/{identifier}";
     private static final String PRODUCT_API_URL = "http://product-api:8081/api/v1";
     
     private ProductService productService;
@@ -63,7 +63,7 @@ class ProductServiceTest {
         
         // Configurar o mock do WebClient
         when(webClientMock.get()).thenReturn(requestHeadersUriSpecMock);
-        when(requestHeadersUriSpecMock.uri(anyString())).thenReturn(requestHeadersSpecMock);
+        when(requestHeadersUriSpecMock.uri(anyString(), any(Object[].class))).thenReturn(requestHeadersSpecMock);
         when(requestHeadersSpecMock.retrieve()).thenReturn(responseSpecMock);
         
         // Criar uma instância real do ProductService com o WebClient.Builder mockado
@@ -108,7 +108,7 @@ class ProductServiceTest {
             assertThat(actualProduct.getCategoryName()).isEqualTo(CATEGORY_NAME);
             
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_PRODUCTS + PRODUCT_IDENTIFIER);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_PRODUCTS, PRODUCT_IDENTIFIER);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(ProductResponseDto.class);
         }
@@ -127,7 +127,7 @@ class ProductServiceTest {
                     .hasMessage(PRODUCT_NOT_FOUND_MESSAGE);
 
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_PRODUCTS + PRODUCT_IDENTIFIER);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_PRODUCTS, PRODUCT_IDENTIFIER);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(ProductResponseDto.class);
         }
@@ -144,7 +144,7 @@ class ProductServiceTest {
                     .hasMessage(PRODUCT_NOT_FOUND_MESSAGE);
                     
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_PRODUCTS + PRODUCT_IDENTIFIER);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_PRODUCTS, PRODUCT_IDENTIFIER);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(ProductResponseDto.class);
         }
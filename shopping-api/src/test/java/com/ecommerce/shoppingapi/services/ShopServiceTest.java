@@ -1,17 +1,32 @@
 package com.ecommerce.shoppingapi.services;
 
+import com.ecommerce.shoppingapi.domain.dto.inventory.ReservationResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.product.ProductResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ProductSalesDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ReportInterval;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramBucketDto;
+import com.ecommerce.shoppingapi.domain.dto.report.ShopHistogramResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.report.ShopReportResponseDto;
+import com.ecommerce.shoppingapi.domain.dto.report.UserShopStatisticsResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ItemDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopRequestDto;
 import com.ecommerce.shoppingapi.domain.dto.shop.ShopResponseDto;
 import com.ecommerce.shoppingapi.domain.dto.user.UserResponseDto;
 import com.ecommerce.shoppingapi.domain.entities.Shop;
+import com.ecommerce.shoppingapi.domain.entities.UserShopSummary;
+import com.ecommerce.shoppingapi.exception.InvalidRequestException;
+import com.ecommerce.shoppingapi.exception.ResourceConflictException;
+import com.ecommerce.shoppingapi.exception.UpstreamUnavailableException;
 import com.ecommerce.shoppingapi.exception.ResourceNotFoundException;
 import com.ecommerce.shoppingapi.exception.ShoppingNotFoundException;
 import com.ecommerce.shoppingapi.mappers.impl.ShopMapper;
+import com.ecommerce.shoppingapi.pricing.PriceSnapshot;
+import com.ecommerce.shoppingapi.repositories.IdempotencyKeyRepository;
 import com.ecommerce.shoppingapi.repositories.ShopRepository;
+import com.ecommerce.shoppingapi.repositories.UserShopSummaryRepository;
 import com.ecommerce.shoppingapi.repositories.impl.ReportRepositoryImpl;
+import com.ecommerce.shoppingapi.repositories.projections.BasketSize;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -20,20 +35,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.math.BigDecimal;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.time.LocalDate;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +64,7 @@ class ShopServiceTest {
     private static final Long SHOP_ID = 1L;
     private static final String USER_IDENTIFIER = "123.456.789-00";
     private static final String PRODUCT_IDENTIFIER = "PROD-1";
+    private static final String RESERVATION_IDENTIFIER = "123e4567-e89b-12d3-a456-426614174000";
     
     // Constantes para valores
     private static final BigDecimal SHOP_TOTAL = BigDecimal.valueOf(100.0);
@@ -71,6 +93,18 @@ class ShopServiceTest {
     @Mock
     private UserService userService;
 
+    @Mock
+    private InventoryService inventoryService;
+
+    @Mock
+    private UserShopSummaryRepository userShopSummaryRepository;
+
+    @Mock
+    private PriceSnapshotService priceSnapshotService;
+
+    @Mock
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
     @InjectMocks
     private ShopService shopService;
 
@@ -102,6 +136,14 @@ class ShopServiceTest {
             .userIdentifier(USER_IDENTIFIER)
             .items(Arrays.asList(itemDto))
             .build();
+
+        // Simula a transação aberta pelo @Transactional para registrar as liberações de reserva
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
     }
 
     @Nested
@@ -237,6 +279,7 @@ class ShopServiceTest {
 
             when(userService.getUserByCpf(USER_IDENTIFIER)).thenReturn(userResponseDto);
             when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
             when(mapper.toResponse(any(Shop.class))).thenReturn(shopResponseDto);
             when(shopRepository.save(any(Shop.class))).thenReturn(shop);
 
@@ -252,9 +295,169 @@ class ShopServiceTest {
             
             verify(userService).getUserByCpf(USER_IDENTIFIER);
             verify(productService).getProductByIdentifier(PRODUCT_IDENTIFIER);
+            verify(inventoryService).reserve(shopRequestDto.getItems());
             verify(mapper).fromRequest(shopRequestDto);
             verify(shopRepository).save(any(Shop.class));
             verify(mapper).toResponse(shop);
+            verify(userShopSummaryRepository).insertIfAbsent(USER_IDENTIFIER);
+            verify(userShopSummaryRepository).addShop(eq(USER_IDENTIFIER), eq(SHOP_TOTAL), any(LocalDateTime.class));
+            assertThat(shop.getReservationIdentifier()).isEqualTo(RESERVATION_IDENTIFIER);
+            verify(inventoryService).confirm(RESERVATION_IDENTIFIER);
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            verify(inventoryService, never()).release(anyString());
+        }
+
+        @Test
+        @DisplayName("Deve precificar pela tabela em memória e gravar a versão dela")
+        void save_ShouldPriceFromSnapshot_AndRecordVersion() {
+            // Arrange
+            shopRequestDto.getItems().get(0).setPrice(null);
+            when(priceSnapshotService.getSnapshot()).thenReturn(PriceSnapshot.of(9,
+                new String[]{PRODUCT_IDENTIFIER}, new double[]{PRODUCT_PRICE.doubleValue()}, Instant.now()));
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+
+            // Act
+            shopService.save(shopRequestDto);
+
+            // Assert
+            assertThat(shopRequestDto.getItems().get(0).getPrice()).isEqualByComparingTo(PRODUCT_PRICE);
+            assertThat(shop.getTotal()).isEqualByComparingTo(PRODUCT_PRICE);
+            assertThat(shop.getPriceVersion()).isEqualTo(9);
+            verifyNoInteractions(productService);
+        }
+
+        @Test
+        @DisplayName("Deve consultar a product-api para produto fora da tabela e não gravar a versão")
+        void save_ShouldFallBackToProductApi_WhenProductIsMissingFromSnapshot() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+            when(priceSnapshotService.getSnapshot()).thenReturn(PriceSnapshot.of(9,
+                new String[]{"OUTRO-PROD"}, new double[]{1.0}, Instant.now()));
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+
+            // Act
+            shopService.save(shopRequestDto);
+
+            // Assert
+            verify(productService).getProductByIdentifier(PRODUCT_IDENTIFIER);
+            assertThat(shop.getPriceVersion()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve gravar a chave de idempotência e liberar a reserva quando outra requisição já a gravou")
+        void save_WithIdempotencyKey_ShouldReleaseReservation_WhenKeyAlreadyExists() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+            doThrow(new DataIntegrityViolationException("chave duplicada"))
+                .when(idempotencyKeyRepository).insert(eq("checkout-1"), eq("hash"), eq(SHOP_ID), any(LocalDateTime.class));
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.save(shopRequestDto, "checkout-1", "hash"))
+                .isInstanceOf(DataIntegrityViolationException.class);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            verify(shopRepository).save(shop);
+            verify(inventoryService).release(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Deve liberar a reserva quando a gravação da compra falhar")
+        void save_ShouldReleaseReservation_WhenPersistenceFails() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+            when(shopRepository.save(any(Shop.class))).thenThrow(new IllegalStateException("falha"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.save(shopRequestDto))
+                .isInstanceOf(IllegalStateException.class);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            verify(inventoryService).release(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Deve liberar a reserva quando a confirmação dela falhar")
+        void save_ShouldReleaseReservation_WhenConfirmationFails() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+            doThrow(new UpstreamUnavailableException("indisponível"))
+                .when(inventoryService).confirm(RESERVATION_IDENTIFIER);
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.save(shopRequestDto))
+                .isInstanceOf(UpstreamUnavailableException.class);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            verify(inventoryService).release(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Deve liberar a reserva quando o commit da compra falhar")
+        void save_ShouldReleaseReservation_WhenCommitFails() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems())).thenReturn(createReservation());
+            when(mapper.fromRequest(any(ShopRequestDto.class))).thenReturn(shop);
+
+            // Act
+            shopService.save(shopRequestDto);
+            verify(inventoryService, never()).release(anyString());
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Assert
+            verify(inventoryService).release(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Não deve gravar a compra quando não houver estoque")
+        void save_ShouldThrowResourceConflictException_WhenStockIsInsufficient() {
+            // Arrange
+            ProductResponseDto productResponseDto = ProductResponseDto.builder()
+                .productIdentifier(PRODUCT_IDENTIFIER)
+                .price(PRODUCT_PRICE)
+                .build();
+
+            when(productService.getProductByIdentifier(PRODUCT_IDENTIFIER)).thenReturn(productResponseDto);
+            when(inventoryService.reserve(shopRequestDto.getItems()))
+                .thenThrow(new ResourceConflictException("Estoque insuficiente para os itens da compra"));
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.save(shopRequestDto))
+                .isInstanceOf(ResourceConflictException.class);
+
+            verify(shopRepository, never()).save(any(Shop.class));
         }
 
         @Test
@@ -294,20 +497,41 @@ class ShopServiceTest {
         @DisplayName("Deve excluir compra com sucesso")
         void delete_ShouldDeleteShop() {
             // Arrange
-            when(shopRepository.existsById(SHOP_ID)).thenReturn(true);
+            shop.setReservationIdentifier(RESERVATION_IDENTIFIER);
+            when(shopRepository.findById(SHOP_ID)).thenReturn(Optional.of(shop));
 
             // Act
             shopService.delete(SHOP_ID);
 
             // Assert
             verify(shopRepository).deleteById(SHOP_ID);
+            verify(userShopSummaryRepository).removeShop(USER_IDENTIFIER, SHOP_TOTAL);
+            verify(inventoryService, never()).release(anyString());
+
+            completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+            verify(inventoryService).release(RESERVATION_IDENTIFIER);
+        }
+
+        @Test
+        @DisplayName("Não deve liberar a reserva quando a exclusão for desfeita")
+        void delete_ShouldKeepReservation_WhenRolledBack() {
+            // Arrange
+            shop.setReservationIdentifier(RESERVATION_IDENTIFIER);
+            when(shopRepository.findById(SHOP_ID)).thenReturn(Optional.of(shop));
+
+            // Act
+            shopService.delete(SHOP_ID);
+            completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+            // Assert
+            verify(inventoryService, never()).release(anyString());
         }
 
         @Test
         @DisplayName("Deve lançar exceção ao tentar excluir compra inexistente")
         void delete_ShouldThrowException_WhenShopNotFound() {
             // Arrange
-            when(shopRepository.existsById(SHOP_ID)).thenReturn(false);
+            when(shopRepository.findById(SHOP_ID)).thenReturn(Optional.empty());
 
             // Act & Assert
             assertThatThrownBy(() -> shopService.delete(SHOP_ID))
@@ -374,6 +598,64 @@ class ShopServiceTest {
                 
             verify(shopRepository, never()).findAllByUserIdentifier(anyString());
         }
+
+        @Test
+        @DisplayName("Deve retornar estatísticas do resumo sem consultar a user-api")
+        void getStatisticsByUser_ShouldReturnSummary() {
+            // Arrange
+            LocalDateTime firstOrder = LocalDateTime.now().minusDays(10);
+            LocalDateTime lastOrder = LocalDateTime.now();
+            when(userShopSummaryRepository.findById(USER_IDENTIFIER)).thenReturn(Optional.of(UserShopSummary.builder()
+                .userIdentifier(USER_IDENTIFIER)
+                .orderCount(3L)
+                .total(new BigDecimal("100.00"))
+                .firstOrderDate(firstOrder)
+                .lastOrderDate(lastOrder)
+                .build()));
+
+            // Act
+            UserShopStatisticsResponseDto result = shopService.getStatisticsByUser(USER_IDENTIFIER);
+
+            // Assert
+            assertThat(result.getCount()).isEqualTo(3L);
+            assertThat(result.getTotal()).isEqualByComparingTo("100.00");
+            assertThat(result.getMean()).isEqualByComparingTo("33.33");
+            assertThat(result.getFirstOrderDate()).isEqualTo(firstOrder);
+            assertThat(result.getLastOrderDate()).isEqualTo(lastOrder);
+
+            verifyNoInteractions(userService);
+        }
+
+        @Test
+        @DisplayName("Deve retornar estatísticas zeradas para usuário sem compras")
+        void getStatisticsByUser_ShouldReturnZeros_WhenUserHasNoShops() {
+            // Arrange
+            when(userShopSummaryRepository.findById(USER_IDENTIFIER)).thenReturn(Optional.empty());
+            when(userService.getUserByCpf(USER_IDENTIFIER)).thenReturn(UserResponseDto.builder()
+                .cpf(USER_IDENTIFIER)
+                .build());
+
+            // Act
+            UserShopStatisticsResponseDto result = shopService.getStatisticsByUser(USER_IDENTIFIER);
+
+            // Assert
+            assertThat(result.getCount()).isZero();
+            assertThat(result.getTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+            assertThat(result.getFirstOrderDate()).isNull();
+        }
+
+        @Test
+        @DisplayName("Deve lançar exceção nas estatísticas quando usuário não for encontrado")
+        void getStatisticsByUser_ShouldThrowException_WhenUserNotFound() {
+            // Arrange
+            when(userShopSummaryRepository.findById(USER_IDENTIFIER)).thenReturn(Optional.empty());
+            when(userService.getUserByCpf(USER_IDENTIFIER))
+                .thenThrow(new ResourceNotFoundException("User", "identifier", USER_IDENTIFIER));
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.getStatisticsByUser(USER_IDENTIFIER))
+                .isInstanceOf(ResourceNotFoundException.class);
+        }
     }
 
     @Nested
@@ -446,5 +728,94 @@ class ShopServiceTest {
             
             verify(reportRepository).getReportByDate(startDate, endDate);
         }
+
+        @Test
+        @DisplayName("Deve completar o histograma com intervalos zerados e separar os rankings")
+        void getHistogramByDate_ShouldFillEmptyBucketsAndSplitRankings() {
+            // Arrange
+            LocalDate startDate = LocalDate.of(2024, 3, 4);
+            LocalDate endDate = LocalDate.of(2024, 3, 6);
+
+            when(reportRepository.getHistogramByDate(startDate, endDate, ReportInterval.DAY)).thenReturn(List.of(
+                ShopHistogramBucketDto.builder().start(startDate.atStartOfDay()).count(2).total(new BigDecimal("70.00")).build(),
+                ShopHistogramBucketDto.builder().start(endDate.atStartOfDay()).count(1).total(new BigDecimal("50.00")).build()));
+            when(reportRepository.getTopProductsByDate(startDate, endDate, 1)).thenReturn(List.of(
+                ProductSalesDto.builder().productIdentifier("PROD-A").units(3L).revenue(new BigDecimal("30.00")).build(),
+                ProductSalesDto.builder().productIdentifier("PROD-B").units(1L).revenue(new BigDecimal("90.00")).build()));
+
+            // Act
+            ShopHistogramResponseDto result = shopService.getHistogramByDate(startDate, endDate, ReportInterval.DAY, 1, false);
+
+            // Assert
+            assertThat(result.getBuckets())
+                .extracting(bucket -> bucket.getStart().toLocalDate() + "=" + bucket.getCount())
+                .containsExactly("2024-03-04=2", "2024-03-05=0", "2024-03-06=1");
+            assertThat(result.getTopByRevenue())
+                .extracting(ProductSalesDto::getProductIdentifier)
+                .containsExactly("PROD-B");
+            assertThat(result.getTopByUnits())
+                .extracting(ProductSalesDto::getProductIdentifier)
+                .containsExactly("PROD-A");
+            assertThat(result.getBasketPercentiles()).isNull();
+
+            verify(reportRepository, never()).streamBasketSizesByDate(any(), any());
+        }
+
+        @Test
+        @DisplayName("Deve calcular percentis das cestas quando solicitado")
+        void getHistogramByDate_ShouldComputeBasketPercentiles() {
+            // Arrange
+            LocalDate day = LocalDate.of(2024, 3, 4);
+
+            when(reportRepository.getHistogramByDate(day, day, ReportInterval.DAY)).thenReturn(List.of());
+            when(reportRepository.getTopProductsByDate(day, day, ShopService.MAX_TOP_PRODUCTS)).thenReturn(List.of());
+            when(reportRepository.streamBasketSizesByDate(day, day)).thenReturn(Stream.of(
+                new BasketSize(1, new BigDecimal("10.00")),
+                new BasketSize(2, new BigDecimal("20.00")),
+                new BasketSize(10, new BigDecimal("500.00"))));
+
+            // Act
+            ShopHistogramResponseDto result = shopService.getHistogramByDate(day, day, ReportInterval.DAY, 1000, true);
+
+            // Assert
+            assertThat(result.getBasketPercentiles()).satisfies(percentiles -> {
+                assertThat(percentiles.getCount()).isEqualTo(3L);
+                assertThat(percentiles.getItemsP50().doubleValue()).isCloseTo(2.0, within(0.02));
+                assertThat(percentiles.getTotalP50().doubleValue()).isCloseTo(20.0, within(0.2));
+                // Posto inferior: 0.95 * (3 - 1) = 1.9 -> segundo menor valor
+                assertThat(percentiles.getTotalP95().doubleValue()).isCloseTo(20.0, within(0.2));
+            });
+        }
+
+        @Test
+        @DisplayName("Deve rejeitar período invertido ou longo demais para o intervalo")
+        void getHistogramByDate_ShouldRejectInvalidPeriods() {
+            // Arrange
+            LocalDate day = LocalDate.of(2024, 3, 4);
+
+            // Act & Assert
+            assertThatThrownBy(() -> shopService.getHistogramByDate(day, day.minusDays(1), ReportInterval.DAY, 10, false))
+                .isInstanceOf(InvalidRequestException.class);
+            assertThatThrownBy(() -> shopService.getHistogramByDate(day, day.plusYears(2), ReportInterval.HOUR, 10, false))
+                .isInstanceOf(InvalidRequestException.class);
+
+            verifyNoInteractions(reportRepository);
+        }
+    }
+
+    private static void completeTransaction(int status) {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    private static ReservationResponseDto createReservation() {
+        return ReservationResponseDto.builder()
+            .reservationIdentifier(RESERVATION_IDENTIFIER)
+            .status("RESERVED")
+            .build();
     }
 }
\ No newline at end of file
@@ -31,7 +31,7 @@ class UserServiceTest {
     private static final String ENDERECO_USUARIO = "Test Address";
     private static final String ERRO_USUARIO_NAO_ENCONTRADO = "Usuário não encontrado";
     private static final String API_ERROR_MESSAGE = "API Error";
-    private static final String URI_PATH_CPF = "/cpf/";
+    private static final String URI_TEMPLATE_CPF = "/cpf/{cpf}";
     private static final String USER_API_URL = "http://user-api:8080/api/v1/users";
 
     private UserService userService;
@@ -60,7 +60,7 @@ class UserServiceTest {
         
         // Configurar o mock do WebClient
         when(webClientMock.get()).thenReturn(requestHeadersUriSpecMock);
-        when(requestHeadersUriSpecMock.uri(anyString())).thenReturn(requestHeadersSpecMock);
+        when(requestHeadersUriSpecMock.uri(anyString(), any(Object[].class))).thenReturn(requestHeadersSpecMock);
         when(requestHeadersSpecMock.retrieve()).thenReturn(responseSpecMock);
         
         // Criar uma instância real do UserService com o WebClient.Builder mockado
@@ -100,7 +100,7 @@ class UserServiceTest {
             assertThat(actualUser.getAddress()).isEqualTo(ENDERECO_USUARIO);
 
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_CPF + CPF_VALIDO);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_CPF, CPF_VALIDO);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(UserResponseDto.class);
         }
@@ -119,7 +119,7 @@ class UserServiceTest {
                     .hasMessage(ERRO_USUARIO_NAO_ENCONTRADO);
 
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_CPF + CPF_VALIDO);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_CPF, CPF_VALIDO);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(UserResponseDto.class);
         }
@@ -136,7 +136,7 @@ class UserServiceTest {
                     .hasMessage(ERRO_USUARIO_NAO_ENCONTRADO);
                     
             verify(webClientMock).get();
-            verify(requestHeadersUriSpecMock).uri(URI_PATH_CPF + CPF_VALIDO);
+            verify(requestHeadersUriSpecMock).uri(URI_TEMPLATE_CPF, CPF_VALIDO);
             verify(requestHeadersSpecMock).retrieve();
             verify(responseSpecMock).bodyToMono(UserResponseDto.class);
         }
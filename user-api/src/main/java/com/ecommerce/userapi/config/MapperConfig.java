@@ -1,5 +1,6 @@
 package com.ecommerce.userapi.config;
 
+import com.ecommerce.userapi.domain.vo.Cpf;
 import org.modelmapper.ModelMapper;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -9,6 +10,11 @@ public class MapperConfig {
 
     @Bean
     public ModelMapper modelMapper() {
-        return new ModelMapper();
+        ModelMapper modelMapper = new ModelMapper();
+        modelMapper.addConverter(context -> context.getSource() != null ? context.getSource().toString() : null,
+                Cpf.class, String.class);
+        modelMapper.addConverter(context -> Cpf.parse(context.getSource()).orElse(null),
+                String.class, Cpf.class);
+        return modelMapper;
     }
 }
@@ -0,0 +1,26 @@
+package com.ecommerce.userapi.controller;
+
+import com.ecommerce.userapi.domain.dto.ChangeFeedResponseDto;
+import com.ecommerce.userapi.service.ChangeFeedService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/changes")
+public class ChangeFeedController {
+
+    private final ChangeFeedService changeFeedService;
+
+    @GetMapping
+    public DeferredResult<ChangeFeedResponseDto> findChanges(
+            @RequestParam(value = "after", defaultValue = "0") Long after,
+            @RequestParam(value = "limit", defaultValue = "100") Integer limit,
+            @RequestParam(value = "wait", defaultValue = "0") Long wait) {
+        return changeFeedService.findAfter(after, limit, wait);
+    }
+}
@@ -2,12 +2,14 @@ package com.ecommerce.userapi.controller;
 
 import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.exception.InvalidRequestException;
 import com.ecommerce.userapi.service.UserService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -47,11 +49,25 @@ public class UserController {
         return ResponseEntity.ok(userService.findByCpf(cpf));
     }
 
+    @RequestMapping(value = "/cpf/{cpf}", method = RequestMethod.HEAD)
+    public ResponseEntity<Void> existsByCpf(@PathVariable("cpf") String cpf) {
+        return userService.existsByCpf(cpf)
+                ? ResponseEntity.ok().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    @PostMapping("/cpf/batch")
+    public ResponseEntity<List<UserResponseDto>> findAllByCpf(@RequestBody List<String> cpfs) {
+        return ResponseEntity.ok(userService.findAllByCpf(cpfs));
+    }
+
     @GetMapping("/search")
     public ResponseEntity<List<UserResponseDto>> findByQueryName(
             @RequestParam(name = "name", required = true)
-            String name) {
-        return ResponseEntity.ok(userService.findByQueryName(name));
+            String name,
+            @RequestParam(value = "page", defaultValue = "0") Integer page,
+            @RequestParam(value = "linesPerPage", defaultValue = "12") Integer linesPerPage) {
+        return ResponseEntity.ok(userService.findByQueryName(name, page, linesPerPage));
     }
 
     @PostMapping
@@ -61,13 +77,41 @@ public class UserController {
     }
 
     @PutMapping("/{cpf}")
-    public ResponseEntity<UserResponseDto> updateUser(@RequestBody UserRequestDto userRequestDto, @PathVariable("cpf") String cpf) {
-        return ResponseEntity.ok(userService.update(userRequestDto, cpf));
+    public ResponseEntity<UserResponseDto> updateUser(
+            @RequestBody UserRequestDto userRequestDto,
+            @PathVariable("cpf") String cpf,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        UserResponseDto updatedUser = userService.update(userRequestDto, cpf, parseVersion(ifMatch));
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(updatedUser.getVersion()))
+                .body(updatedUser);
     }
 
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteUser(@PathVariable("id") Long id) {
-        userService.delete(id);
+    public ResponseEntity<Void> deleteUser(
+            @PathVariable("id") Long id,
+            @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        userService.delete(id, parseVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    /**
+     * Converte o If-Match ("3", "W/\"3\"" ou "*") na versão esperada do usuário
+     * @param ifMatch Valor do cabeçalho, opcional
+     * @return Versão esperada, ou null quando qualquer versão é aceita
+     */
+    private static Long parseVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String tag = ifMatch.trim();
+        if (tag.startsWith("W/")) {
+            tag = tag.substring(2);
+        }
+        try {
+            return Long.valueOf(tag.replace("\"", ""));
+        } catch (NumberFormatException e) {
+            throw new InvalidRequestException("Cabeçalho If-Match inválido: " + ifMatch);
+        }
+    }
 }
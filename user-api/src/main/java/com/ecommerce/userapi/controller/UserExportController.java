@@ -0,0 +1,51 @@
+package com.ecommerce.userapi.controller;
+
+import com.ecommerce.userapi.exception.InvalidRequestException;
+import com.ecommerce.userapi.service.UserExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Locale;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users/export")
+public class UserExportController {
+
+    public static final String TEXT_CSV = "text/csv";
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserExportService userExportService;
+
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format) {
+        UserExportService.Format exportFormat = parseFormat(format);
+        String extension = exportFormat.name().toLowerCase(Locale.ROOT);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(
+                        exportFormat == UserExportService.Format.CSV ? TEXT_CSV : APPLICATION_NDJSON))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("users." + extension)
+                        .build()
+                        .toString())
+                .body(output -> userExportService.export(output, exportFormat));
+    }
+
+    private static UserExportService.Format parseFormat(String format) {
+        try {
+            return UserExportService.Format.valueOf(format.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Formato de exportação inválido: " + format);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.userapi.controller;
+
+import com.ecommerce.userapi.domain.dto.UserImportResponseDto;
+import com.ecommerce.userapi.service.UserImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.InputStream;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users/import")
+public class UserImportController {
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private final UserImportService userImportService;
+
+    @PostMapping(consumes = APPLICATION_NDJSON)
+    public ResponseEntity<UserImportResponseDto> importNdjson(InputStream body) {
+        return ResponseEntity.ok(userImportService.importUsers(body));
+    }
+}
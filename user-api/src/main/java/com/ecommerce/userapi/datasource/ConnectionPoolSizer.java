@@ -0,0 +1,166 @@
+package com.ecommerce.userapi.datasource;
+
+import com.zaxxer.hikari.HikariConfigMXBean;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DataSourceUnwrapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Calcula, para cada pool do Hikari, o tamanho necessário a partir da concorrência observada:
+ * pela Lei de Little, a média de conexões ocupadas é o tempo total de uso das conexões no intervalo
+ * (vazão × latência do banco) dividido pela duração do intervalo. O tamanho recomendado aplica uma folga
+ * sobre essa média e soma as threads esperando conexão, limitado entre o mínimo e o orçamento do pool
+ * (o {@code maximum-pool-size} configurado). A recomendação é sempre publicada como métrica; com o modo
+ * adaptativo ligado, o pool é redimensionado: cresce de uma vez e encolhe uma conexão por intervalo.
+ */
+@Component
+public class ConnectionPoolSizer {
+
+    public static final String RECOMMENDED_METRIC = "hikaricp.connections.recommended";
+    public static final String BUDGET_METRIC = "hikaricp.connections.budget";
+    private static final String USAGE_METRIC = "hikaricp.connections.usage";
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolSizer.class);
+
+    private final MeterRegistry meterRegistry;
+    private final boolean adaptive;
+    private final int minSize;
+    private final double headroom;
+    private final List<Pool> pools = new ArrayList<>();
+
+    public ConnectionPoolSizer(List<DataSource> dataSources,
+                               MeterRegistry meterRegistry,
+                               @Value("${datasource.pool.adaptive.enabled:false}") boolean adaptive,
+                               @Value("${datasource.pool.adaptive.min-size:2}") int minSize,
+                               @Value("${datasource.pool.adaptive.headroom:2.0}") double headroom) {
+        this.meterRegistry = meterRegistry;
+        this.adaptive = adaptive;
+        this.minSize = minSize;
+        this.headroom = headroom;
+
+        Set<HikariDataSource> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (DataSource dataSource : dataSources) {
+            HikariDataSource hikari = DataSourceUnwrapper.unwrap(dataSource, HikariConfigMXBean.class, HikariDataSource.class);
+            if (hikari == null || !seen.add(hikari)) {
+                continue;
+            }
+            if (hikari.getPoolName() == null) {
+                logger.warn("Pool sem nome (spring.datasource.hikari.pool-name) não será dimensionado");
+                continue;
+            }
+            pools.add(register(hikari));
+        }
+        logger.info("Orçamento de conexões: {} (total {})",
+                pools.stream().map(pool -> pool.name + "=" + pool.budget).toList(),
+                pools.stream().mapToInt(pool -> pool.budget).sum());
+    }
+
+    @Scheduled(initialDelayString = "${datasource.pool.adaptive.interval:PT30S}",
+            fixedDelayString = "${datasource.pool.adaptive.interval:PT30S}")
+    public synchronized void resize() {
+        long now = System.nanoTime();
+        for (Pool pool : pools) {
+            Timer usage = meterRegistry.find(USAGE_METRIC).tag("pool", pool.name).timer();
+            if (usage == null) {
+                // Pool ainda não iniciado ou sem métricas: sem amostra não há como dimensionar
+                continue;
+            }
+            double busy = pool.sample(usage.totalTime(TimeUnit.SECONDS), now);
+            if (Double.isNaN(busy)) {
+                continue;
+            }
+            HikariPoolMXBean stats = pool.dataSource.getHikariPoolMXBean();
+            int waiting = stats == null ? 0 : stats.getThreadsAwaitingConnection();
+            pool.recommended = recommendedSize(busy, waiting, headroom, minSize, pool.budget);
+
+            if (adaptive) {
+                int current = pool.dataSource.getMaximumPoolSize();
+                int next = nextSize(current, pool.recommended);
+                if (next != current) {
+                    // Conexões ociosas acima do mínimo são encerradas pelo Hikari após o idle-timeout
+                    pool.dataSource.setMinimumIdle(Math.min(pool.dataSource.getMinimumIdle(), next));
+                    pool.dataSource.setMaximumPoolSize(next);
+                    logger.info("Pool {} redimensionado de {} para {} conexões ({} ocupadas em média, {} aguardando)",
+                            pool.name, current, next, String.format(Locale.ROOT, "%.2f", busy), waiting);
+                }
+            }
+        }
+    }
+
+    static int recommendedSize(double busyConnections, int waitingThreads, double headroom, int minSize, int budget) {
+        int size = (int) Math.ceil(busyConnections * headroom) + waitingThreads;
+        return Math.max(Math.min(minSize, budget), Math.min(size, budget));
+    }
+
+    static int nextSize(int current, int recommended) {
+        // Encolher aos poucos evita oscilar entre picos de carga próximos
+        return recommended >= current ? recommended : current - 1;
+    }
+
+    private Pool register(HikariDataSource dataSource) {
+        Pool pool = new Pool(dataSource);
+        Timer usage = meterRegistry.find(USAGE_METRIC).tag("pool", pool.name).timer();
+        if (usage != null) {
+            pool.sample(usage.totalTime(TimeUnit.SECONDS), System.nanoTime());
+        }
+        Gauge.builder(BUDGET_METRIC, pool, p -> p.budget)
+                .description("Máximo de conexões que o pool pode abrir (orçamento do serviço no banco)")
+                .tag("pool", pool.name)
+                .register(meterRegistry);
+        Gauge.builder(RECOMMENDED_METRIC, pool, p -> p.recommended)
+                .description("Tamanho de pool recomendado pela concorrência observada (Lei de Little)")
+                .tag("pool", pool.name)
+                .register(meterRegistry);
+        return pool;
+    }
+
+    private static final class Pool {
+
+        private final HikariDataSource dataSource;
+        private final String name;
+        private final int budget;
+        private volatile int recommended;
+        private double lastUsageSeconds;
+        private long lastSampleNanos;
+        private boolean sampled;
+
+        Pool(HikariDataSource dataSource) {
+            this.dataSource = dataSource;
+            this.name = dataSource.getPoolName();
+            this.budget = dataSource.getMaximumPoolSize();
+            this.recommended = budget;
+        }
+
+        /**
+         * Média de conexões ocupadas desde a amostra anterior, ou {@code NaN} na primeira amostra.
+         */
+        double sample(double usageSeconds, long nowNanos) {
+            double busy = Double.NaN;
+            if (sampled) {
+                double elapsed = (nowNanos - lastSampleNanos) / 1e9;
+                busy = elapsed <= 0 ? 0 : (usageSeconds - lastUsageSeconds) / elapsed;
+            }
+            lastUsageSeconds = usageSeconds;
+            lastSampleNanos = nowNanos;
+            sampled = true;
+            return busy;
+        }
+    }
+}
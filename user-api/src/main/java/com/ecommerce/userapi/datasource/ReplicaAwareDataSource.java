@@ -0,0 +1,56 @@
+package com.ecommerce.userapi.datasource;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+
+/**
+ * Fonte das conexões somente leitura: usa a réplica enquanto o {@link ReplicaLagMonitor} a considerar
+ * disponível e o primário caso contrário, inclusive quando a réplica recusa a conexão.
+ */
+public class ReplicaAwareDataSource extends AbstractDataSource {
+
+    private final DataSource replica;
+    private final DataSource primary;
+    private final ReplicaLagMonitor monitor;
+
+    public ReplicaAwareDataSource(DataSource replica, DataSource primary, ReplicaLagMonitor monitor) {
+        this.replica = replica;
+        this.primary = primary;
+        this.monitor = monitor;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return getConnection(DataSource::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return getConnection(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection getConnection(ConnectionSource source) throws SQLException {
+        if (monitor.isAvailable()) {
+            try {
+                return source.connect(replica);
+            } catch (SQLFeatureNotSupportedException e) {
+                // Ex.: o Hikari não aceita credenciais por conexão; é um erro de uso, não da réplica
+                throw e;
+            } catch (SQLException | RuntimeException e) {
+                // O Hikari lança PoolInitializationException se a réplica estiver fora do ar ao iniciar o pool
+                monitor.markUnavailable(e);
+            }
+        }
+        monitor.recordFallback();
+        return source.connect(primary);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSource {
+        Connection connect(DataSource dataSource) throws SQLException;
+    }
+}
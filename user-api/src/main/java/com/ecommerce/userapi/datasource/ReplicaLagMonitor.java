@@ -0,0 +1,97 @@
+package com.ecommerce.userapi.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+
+/**
+ * Mede periodicamente o atraso da réplica de leitura. A réplica só recebe leituras enquanto a última
+ * medição tiver sucesso e o atraso estiver abaixo do limite; até a primeira medição, ou se ela falhar,
+ * as leituras ficam no primário.
+ */
+public class ReplicaLagMonitor {
+
+    public static final String LAG_METRIC = "datasource.replica.lag";
+    public static final String AVAILABLE_METRIC = "datasource.replica.available";
+    public static final String FALLBACK_METRIC = "datasource.replica.fallbacks";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final DataSource replica;
+    private final String lagQuery;
+    private final Duration maxLag;
+    private final Counter fallbacks;
+
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replica, String lagQuery, Duration maxLag, MeterRegistry meterRegistry) {
+        this.replica = replica;
+        this.lagQuery = lagQuery;
+        this.maxLag = maxLag;
+        Gauge.builder(LAG_METRIC, this, monitor -> monitor.lagSeconds)
+                .description("Atraso da réplica de leitura na última medição")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder(AVAILABLE_METRIC, this, monitor -> monitor.available ? 1 : 0)
+                .description("1 quando as transações somente leitura usam a réplica")
+                .register(meterRegistry);
+        this.fallbacks = Counter.builder(FALLBACK_METRIC)
+                .description("Conexões de leitura obtidas do primário por réplica atrasada ou fora do ar")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-interval:PT5S}")
+    public void check() {
+        double lag;
+        try (Connection connection = replica.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.setQueryTimeout((int) Math.max(1, maxLag.toSeconds()));
+            try (ResultSet resultSet = statement.executeQuery(lagQuery)) {
+                resultSet.next();
+                lag = resultSet.getDouble(1);
+            }
+        } catch (SQLException | RuntimeException e) {
+            markUnavailable(e);
+            return;
+        }
+
+        lagSeconds = lag;
+        boolean healthy = lag * 1000 <= maxLag.toMillis();
+        if (healthy != available) {
+            if (healthy) {
+                logger.info("Réplica de leitura disponível (atraso de {} s)", lag);
+            } else {
+                logger.warn("Réplica de leitura com atraso de {} s acima do limite de {}; leituras voltam para o primário",
+                        lag, maxLag);
+            }
+        }
+        available = healthy;
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    void markUnavailable(Exception cause) {
+        if (available) {
+            logger.warn("Réplica de leitura fora do ar; leituras voltam para o primário: {}", cause.getMessage());
+        }
+        available = false;
+        lagSeconds = Double.NaN;
+    }
+
+    void recordFallback() {
+        fallbacks.increment();
+    }
+}
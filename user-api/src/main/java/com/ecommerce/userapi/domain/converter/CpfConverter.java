@@ -0,0 +1,20 @@
+package com.ecommerce.userapi.domain.converter;
+
+import com.ecommerce.userapi.domain.vo.Cpf;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+@Converter(autoApply = true)
+public class CpfConverter implements AttributeConverter<Cpf, Long> {
+
+    @Override
+    public Long convertToDatabaseColumn(Cpf cpf) {
+        return cpf != null ? cpf.value() : null;
+    }
+
+    @Override
+    public Cpf convertToEntityAttribute(Long value) {
+        // Não revalida os dígitos verificadores: registros antigos continuam legíveis
+        return value != null ? new Cpf(value) : null;
+    }
+}
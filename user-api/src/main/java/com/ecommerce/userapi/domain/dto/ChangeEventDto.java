@@ -0,0 +1,26 @@
+package com.ecommerce.userapi.domain.dto;
+
+import com.ecommerce.userapi.domain.entity.ChangeEntityType;
+import com.ecommerce.userapi.domain.entity.ChangeOperation;
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeEventDto {
+    private long seq;
+    private ChangeEntityType entityType;
+    private Long entityId;
+    private String entityKey;
+    private ChangeOperation operation;
+
+    @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,20 @@
+package com.ecommerce.userapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChangeFeedResponseDto {
+    private long next;
+
+    @Builder.Default
+    private List<ChangeEventDto> changes = new ArrayList<>();
+}
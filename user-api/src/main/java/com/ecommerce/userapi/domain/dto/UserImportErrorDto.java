@@ -0,0 +1,17 @@
+package com.ecommerce.userapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorDto {
+    private long line;
+    private String cpf;
+    private String errorCode;
+    private String message;
+}
@@ -0,0 +1,23 @@
+package com.ecommerce.userapi.domain.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportResponseDto {
+    private long processed;
+    private long inserted;
+    private long conflicts;
+    private long failed;
+
+    @Builder.Default
+    private List<UserImportErrorDto> errors = new ArrayList<>();
+}
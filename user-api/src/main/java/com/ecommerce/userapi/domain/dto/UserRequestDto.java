@@ -1,5 +1,6 @@
 package com.ecommerce.userapi.domain.dto;
 
+import com.ecommerce.userapi.domain.validation.ValidCpf;
 import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -19,6 +20,7 @@ public class UserRequestDto {
     
     @NotBlank(message = "O CPF é obrigatório")
     @Pattern(regexp = "\\d{11}", message = "CPF deve conter 11 dígitos numéricos")
+    @ValidCpf
     private String cpf;
     
     @NotBlank(message = "O email é obrigatório")
@@ -23,4 +23,6 @@ public class UserResponseDto {
     
     @JsonFormat(pattern = "dd-MM-yyyy HH:mm:ss")
     private LocalDateTime dataRegister;
+
+    private Long version;
 } 
\ No newline at end of file
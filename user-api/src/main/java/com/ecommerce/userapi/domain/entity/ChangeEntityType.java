@@ -0,0 +1,5 @@
+package com.ecommerce.userapi.domain.entity;
+
+public enum ChangeEntityType {
+    USER
+}
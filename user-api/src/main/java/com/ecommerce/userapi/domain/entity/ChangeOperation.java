@@ -0,0 +1,7 @@
+package com.ecommerce.userapi.domain.entity;
+
+public enum ChangeOperation {
+    CREATED,
+    UPDATED,
+    DELETED
+}
@@ -1,5 +1,6 @@
 package com.ecommerce.userapi.domain.entity;
 
+import com.ecommerce.userapi.domain.vo.Cpf;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -21,9 +22,12 @@ public class User {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long   id;
     private String name;
-    private String cpf;
+    private Cpf    cpf;
     private String address;
     private String email;
     private String phone;
     private LocalDateTime dataRegister;
+
+    @Version
+    private Long   version;
 }
@@ -0,0 +1,16 @@
+package com.ecommerce.userapi.domain.validation;
+
+import com.ecommerce.userapi.domain.vo.Cpf;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class CpfValidator implements ConstraintValidator<ValidCpf, String> {
+
+    @Override
+    public boolean isValid(String value, ConstraintValidatorContext context) {
+        if (value == null || !value.matches("\\d{11}")) {
+            return true;
+        }
+        return Cpf.isValid(value);
+    }
+}
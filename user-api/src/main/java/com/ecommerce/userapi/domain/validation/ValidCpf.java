@@ -0,0 +1,25 @@
+package com.ecommerce.userapi.domain.validation;
+
+import jakarta.validation.Constraint;
+import jakarta.validation.Payload;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Valida os dígitos verificadores do CPF. Valores nulos ou fora do formato de 11 dígitos
+ * são deixados para {@code @NotBlank} e {@code @Pattern}.
+ */
+@Target({ElementType.FIELD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+@Constraint(validatedBy = CpfValidator.class)
+public @interface ValidCpf {
+
+    String message() default "CPF inválido";
+
+    Class<?>[] groups() default {};
+
+    Class<? extends Payload>[] payload() default {};
+}
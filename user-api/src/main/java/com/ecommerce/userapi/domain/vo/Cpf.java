@@ -0,0 +1,114 @@
+package com.ecommerce.userapi.domain.vo;
+
+import java.util.Optional;
+
+/**
+ * CPF normalizado como número de 64 bits. Os zeros à esquerda são recuperados na formatação,
+ * então comparação, hash e armazenamento não dependem de String.
+ */
+public record Cpf(long value) implements Comparable<Cpf> {
+
+    public static final long MAX_VALUE = 99_999_999_999L;
+    private static final int LENGTH = 11;
+
+    public Cpf {
+        if (value < 0 || value > MAX_VALUE) {
+            throw new IllegalArgumentException("CPF fora do intervalo: " + value);
+        }
+    }
+
+    /**
+     * Converte e valida um CPF informado com ou sem pontuação
+     * @param cpf CPF com 11 dígitos, aceitando "." e "-" como separadores
+     * @return Cpf se os dígitos verificadores forem válidos, vazio caso contrário
+     */
+    public static Optional<Cpf> parse(String cpf) {
+        int[] d = digits(cpf);
+        if (d == null || allSameDigit(d) || checkDigit(d, 9) != d[9] || checkDigit(d, 10) != d[10]) {
+            return Optional.empty();
+        }
+        return Optional.of(new Cpf(toValue(d)));
+    }
+
+    /**
+     * Converte a chave de um CPF já cadastrado sem conferir os dígitos verificadores: registros
+     * anteriores à validação continuam acessíveis pela chave que ocupam na uk_user_cpf
+     * @param cpf CPF com 11 dígitos, aceitando "." e "-" como separadores
+     * @return Cpf se o formato for válido, vazio caso contrário
+     */
+    public static Optional<Cpf> parseKey(String cpf) {
+        int[] d = digits(cpf);
+        return d == null ? Optional.empty() : Optional.of(new Cpf(toValue(d)));
+    }
+
+    public static Cpf of(String cpf) {
+        return parse(cpf).orElseThrow(() -> new IllegalArgumentException("CPF inválido: " + cpf));
+    }
+
+    public static boolean isValid(String cpf) {
+        return parse(cpf).isPresent();
+    }
+
+    private static int[] digits(String cpf) {
+        if (cpf == null) {
+            return null;
+        }
+
+        int digits = 0;
+        int[] d = new int[LENGTH];
+        for (int i = 0; i < cpf.length(); i++) {
+            char c = cpf.charAt(i);
+            if (c >= '0' && c <= '9') {
+                if (digits == LENGTH) {
+                    return null;
+                }
+                d[digits++] = c - '0';
+            } else if (c != '.' && c != '-') {
+                return null;
+            }
+        }
+        return digits == LENGTH ? d : null;
+    }
+
+    private static long toValue(int[] d) {
+        long value = 0;
+        for (int digit : d) {
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+
+    private static int checkDigit(int[] d, int length) {
+        int sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += d[i] * (length + 1 - i);
+        }
+        int rest = (sum * 10) % 11;
+        return rest == 10 ? 0 : rest;
+    }
+
+    private static boolean allSameDigit(int[] d) {
+        for (int i = 1; i < d.length; i++) {
+            if (d[i] != d[0]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int compareTo(Cpf other) {
+        return Long.compare(value, other.value);
+    }
+
+    @Override
+    public String toString() {
+        char[] chars = new char[LENGTH];
+        long remaining = value;
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            chars[i] = (char) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        return new String(chars);
+    }
+}
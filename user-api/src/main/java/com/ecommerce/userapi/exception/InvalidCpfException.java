@@ -0,0 +1,12 @@
+package com.ecommerce.userapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class InvalidCpfException extends BaseException {
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.BAD_REQUEST;
+    private static final String ERROR_CODE = "INVALID_CPF";
+
+    public InvalidCpfException(String cpf) {
+        super(String.format("CPF inválido: '%s'", cpf), DEFAULT_STATUS, ERROR_CODE);
+    }
+}
@@ -0,0 +1,13 @@
+package com.ecommerce.userapi.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class UserVersionMismatchException extends BaseException {
+    private static final HttpStatus DEFAULT_STATUS = HttpStatus.PRECONDITION_FAILED;
+    private static final String ERROR_CODE = "VERSION_MISMATCH";
+
+    public UserVersionMismatchException(String fieldName, Object fieldValue, Long expectedVersion) {
+        super(String.format("Usuário com %s: '%s' não está na versão %d", fieldName, fieldValue, expectedVersion),
+                DEFAULT_STATUS, ERROR_CODE);
+    }
+}
@@ -0,0 +1,49 @@
+package com.ecommerce.userapi.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Cronometra os métodos públicos dos beans {@code @Service} no timer {@value #METRIC_NAME}, com as tags
+ * {@code service}, {@code method} e {@code exception}. Complementa os timers automáticos de requisições HTTP
+ * e de repositórios do Spring Data, separando o tempo gasto na camada de serviço.
+ * Roda antes do proxy transacional, então o tempo inclui o commit.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class ServiceMetricsAspect {
+
+    public static final String METRIC_NAME = "service.invocations";
+
+    private static final String NO_EXCEPTION = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    @Around("@within(org.springframework.stereotype.Service) && execution(public * *(..))")
+    public Object time(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = NO_EXCEPTION;
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(METRIC_NAME)
+                    .description("Tempo de execução dos métodos de serviço")
+                    .tag("service", joinPoint.getTarget().getClass().getSimpleName())
+                    .tag("method", joinPoint.getSignature().getName())
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.ecommerce.userapi.metrics;
+
+/**
+ * Contadores de SQL da requisição em andamento: execuções de comandos (um lote conta como uma),
+ * linhas lidas ou alteradas e tempo gasto no banco. Ficam presos à thread da requisição, como uma
+ * transação do Spring; comandos executados fora de uma requisição não são contabilizados.
+ */
+public final class SqlStatistics {
+
+    private static final ThreadLocal<SqlStatistics> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long elapsedNanos;
+
+    private SqlStatistics() {
+    }
+
+    public static SqlStatistics begin() {
+        SqlStatistics statistics = new SqlStatistics();
+        CURRENT.set(statistics);
+        return statistics;
+    }
+
+    public static SqlStatistics current() {
+        return CURRENT.get();
+    }
+
+    public static void end() {
+        CURRENT.remove();
+    }
+
+    void addStatement(long nanos) {
+        statements++;
+        elapsedNanos += nanos;
+    }
+
+    void addRows(long count) {
+        rows += count;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+}
@@ -0,0 +1,42 @@
+package com.ecommerce.userapi.metrics;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Expõe o {@link SqlStatistics} da requisição nos cabeçalhos {@value #STATEMENTS_HEADER} e {@value #TIME_HEADER}.
+ * Os cabeçalhos são gravados antes do corpo, então respostas sem corpo não os recebem.
+ * Fica desligado por padrão ({@code sql.statistics.response-header}) para não expor detalhes internos.
+ */
+@RestControllerAdvice
+@ConditionalOnProperty(name = "sql.statistics.response-header", havingValue = "true")
+public class SqlStatisticsResponseAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String STATEMENTS_HEADER = "X-Sql-Statements";
+    public static final String TIME_HEADER = "X-Sql-Time-Ms";
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStatistics statistics = SqlStatistics.current();
+        if (statistics != null) {
+            response.getHeaders().set(STATEMENTS_HEADER, String.valueOf(statistics.getStatements()));
+            response.getHeaders().set(TIME_HEADER, String.valueOf(TimeUnit.NANOSECONDS.toMillis(statistics.getElapsedNanos())));
+        }
+        return body;
+    }
+}
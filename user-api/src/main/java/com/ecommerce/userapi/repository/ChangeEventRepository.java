@@ -0,0 +1,24 @@
+package com.ecommerce.userapi.repository;
+
+import com.ecommerce.userapi.domain.entity.ChangeEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ChangeEventRepository extends JpaRepository<ChangeEvent, Long> {
+
+    /**
+     * Busca os eventos posteriores ao cursor, em ordem de sequência
+     * @param seq Último número de sequência já consumido
+     * @param limit Quantidade máxima de eventos retornados
+     * @return Lista de eventos com sequência maior que a informada
+     */
+    List<ChangeEvent> findBySeqGreaterThanOrderBySeqAsc(Long seq, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.seq), 0) FROM ChangeEvent e")
+    long findLastSeq();
+}
@@ -1,36 +1,51 @@
 package com.ecommerce.userapi.repository;
 
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
-import org.springframework.data.repository.query.Param;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserSearchRepository, UserWriteRepository {
 
     /**
      * Busca um usuário pelo CPF
      * @param cpf CPF do usuário
      * @return User se encontrado, null caso contrário
      */
-    Optional<User> findByCpf(String cpf);
+    Optional<User> findByCpf(Cpf cpf);
 
     /**
      * Verifica se existe um usuário com o CPF informado
      * @param cpf CPF do usuário
      * @return true se existir, false caso contrário
      */
-    boolean existsByCpf(String cpf);
+    boolean existsByCpf(Cpf cpf);
 
     /**
-     * Busca usuários pelo nome (case insensitive, busca parcial)
-     * @param name Nome ou parte do nome do usuário
-     * @return Lista de usuários que contêm o nome especificado
+     * Busca os usuários com os CPFs informados em uma única consulta
+     * @param cpfs CPFs dos usuários
+     * @return Lista com os usuários encontrados, sem ordem definida
      */
-    @Query("SELECT u FROM User u WHERE LOWER(u.name) LIKE LOWER(CONCAT('%', :name, '%'))")
-    List<User> queryByNameLike(@Param("name") String name);
+    List<User> findByCpfIn(Collection<Cpf> cpfs);
+
+    /**
+     * Percorre todos os usuários com cursor no servidor, em lotes de 1000 linhas
+     * @return Stream de usuários somente leitura, que deve ser fechado e consumido dentro de uma transação
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT u FROM User u ORDER BY u.id")
+    Stream<User> streamAll();
 }
@@ -0,0 +1,17 @@
+package com.ecommerce.userapi.repository;
+
+import com.ecommerce.userapi.domain.entity.User;
+
+import java.util.List;
+
+public interface UserSearchRepository {
+
+    /**
+     * Busca usuários cujo nome contém o termo informado, ordenados por similaridade
+     * @param name Nome ou parte do nome do usuário
+     * @param limit Quantidade máxima de usuários retornados
+     * @param offset Quantidade de usuários ignorados antes do primeiro resultado
+     * @return Lista de usuários, do mais parecido para o menos parecido
+     */
+    List<User> searchByName(String name, int limit, long offset);
+}
@@ -0,0 +1,26 @@
+package com.ecommerce.userapi.repository;
+
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+
+import java.util.Optional;
+
+public interface UserWriteRepository {
+
+    /**
+     * Atualiza o usuário com um único UPDATE condicional, sem lê-lo antes, e incrementa a versão
+     * @param cpf CPF atual do usuário
+     * @param changes Campos a alterar; campos nulos mantêm o valor atual
+     * @param expectedVersion Versão esperada do registro, ou null para não verificar
+     * @return Usuário como ficou após o UPDATE, vazio se nenhuma linha foi alterada
+     */
+    Optional<User> updateByCpf(Cpf cpf, User changes, Long expectedVersion);
+
+    /**
+     * Exclui o usuário com um único DELETE condicional, sem carregá-lo antes
+     * @param id ID do usuário
+     * @param expectedVersion Versão esperada do registro, ou null para não verificar
+     * @return CPF do usuário excluído, vazio se nenhuma linha foi excluída
+     */
+    Optional<Cpf> deleteReturningCpf(Long id, Long expectedVersion);
+}
@@ -0,0 +1,76 @@
+package com.ecommerce.userapi.repository.impl;
+
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.repository.UserSearchRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * No PostgreSQL a busca usa o índice GIN de trigramas (pg_trgm), tanto para o LIKE quanto para
+ * o operador de similaridade, e ordena por {@code similarity}. Nos demais bancos (H2 nos testes)
+ * usa apenas o LIKE e uma ordenação aproximada: nome exato, prefixo e depois nomes mais curtos.
+ */
+public class UserSearchRepositoryImpl implements UserSearchRepository {
+
+    private static final String POSTGRES_SQL =
+            "SELECT * FROM users.\"user\" u " +
+            "WHERE u.name LIKE :pattern OR u.name % :name " +
+            "ORDER BY similarity(u.name, :name) DESC, u.id " +
+            "LIMIT :limit OFFSET :offset";
+
+    private static final String DEFAULT_SQL =
+            "SELECT * FROM users.\"user\" u " +
+            "WHERE u.name LIKE :pattern " +
+            "ORDER BY CASE WHEN u.name = :name THEN 0 WHEN u.name LIKE :prefix THEN 1 ELSE 2 END, " +
+            "LENGTH(u.name), u.id " +
+            "LIMIT :limit OFFSET :offset";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<User> searchByName(String name, int limit, long offset) {
+        // Os nomes são gravados em minúsculas, então o termo também é normalizado
+        String term = name.trim().toLowerCase(Locale.ROOT);
+        String escaped = escapeLike(term);
+
+        Query query;
+        if (isPostgres()) {
+            query = entityManager.createNativeQuery(POSTGRES_SQL, User.class);
+        } else {
+            query = entityManager.createNativeQuery(DEFAULT_SQL, User.class);
+            query.setParameter("prefix", escaped + "%");
+        }
+        query.setParameter("name", term);
+        query.setParameter("pattern", "%" + escaped + "%");
+        query.setParameter("limit", limit);
+        query.setParameter("offset", offset);
+
+        return query.getResultList();
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
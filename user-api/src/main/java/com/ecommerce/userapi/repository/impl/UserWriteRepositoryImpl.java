@@ -0,0 +1,99 @@
+package com.ecommerce.userapi.repository.impl;
+
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import com.ecommerce.userapi.repository.UserWriteRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * O UPDATE altera apenas as colunas informadas e devolve a linha atualizada na mesma ida ao banco:
+ * com {@code RETURNING} no PostgreSQL e com {@code FINAL TABLE} nos demais bancos (H2 nos testes).
+ * O DELETE devolve o CPF excluído da mesma forma, com {@code OLD TABLE} fora do PostgreSQL.
+ */
+public class UserWriteRepositoryImpl implements UserWriteRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Boolean postgres;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Optional<User> updateByCpf(Cpf cpf, User changes, Long expectedVersion) {
+        Map<String, Object> columns = new LinkedHashMap<>();
+        putIfPresent(columns, "name", changes.getName());
+        putIfPresent(columns, "cpf", changes.getCpf() != null ? changes.getCpf().value() : null);
+        putIfPresent(columns, "address", changes.getAddress());
+        putIfPresent(columns, "email", changes.getEmail());
+        putIfPresent(columns, "phone", changes.getPhone());
+
+        StringBuilder update = new StringBuilder("UPDATE users.\"user\" SET ");
+        columns.keySet().forEach(column -> update.append(column).append(" = :new_").append(column).append(", "));
+        update.append("version = version + 1 WHERE cpf = :cpf");
+        if (expectedVersion != null) {
+            update.append(" AND version = :version");
+        }
+
+        String sql = isPostgres()
+                ? update + " RETURNING *"
+                : "SELECT * FROM FINAL TABLE (" + update + ")";
+
+        Query query = entityManager.createNativeQuery(sql, User.class);
+        columns.forEach((column, value) -> query.setParameter("new_" + column, value));
+        query.setParameter("cpf", cpf.value());
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+
+        List<User> updated = query.getResultList();
+        return updated.stream().findFirst();
+    }
+
+    @Override
+    public Optional<Cpf> deleteReturningCpf(Long id, Long expectedVersion) {
+        String delete = "DELETE FROM users.\"user\" WHERE id = :id";
+        if (expectedVersion != null) {
+            delete += " AND version = :version";
+        }
+
+        String sql = isPostgres()
+                ? delete + " RETURNING cpf"
+                : "SELECT cpf FROM OLD TABLE (" + delete + ")";
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("id", id);
+        if (expectedVersion != null) {
+            query.setParameter("version", expectedVersion);
+        }
+
+        List<?> deleted = query.getResultList();
+        return deleted.stream()
+                .findFirst()
+                .map(cpf -> new Cpf(((Number) cpf).longValue()));
+    }
+
+    private static void putIfPresent(Map<String, Object> columns, String column, Object value) {
+        if (value != null) {
+            columns.put(column, value);
+        }
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            postgres = entityManager.getEntityManagerFactory()
+                    .unwrap(SessionFactoryImplementor.class)
+                    .getJdbcServices()
+                    .getDialect() instanceof PostgreSQLDialect;
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,219 @@
+package com.ecommerce.userapi.service;
+
+import com.ecommerce.userapi.domain.dto.ChangeEventDto;
+import com.ecommerce.userapi.domain.dto.ChangeFeedResponseDto;
+import com.ecommerce.userapi.domain.entity.ChangeEntityType;
+import com.ecommerce.userapi.domain.entity.ChangeEvent;
+import com.ecommerce.userapi.domain.entity.ChangeOperation;
+import com.ecommerce.userapi.repository.ChangeEventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Outbox de alterações: cada escrita grava um evento na mesma transação, e consumidores leem
+ * os eventos em ordem a partir de um cursor ({@code seq}), opcionalmente aguardando novos (long-poll).
+ * A espera não ocupa uma thread de requisição: o consumidor fica registrado e é respondido pelo
+ * agendador quando um commit desta instância o acorda ou, para commits de outras instâncias, no
+ * próximo intervalo de consulta.
+ * <p>
+ * Sequências podem ficar fora de ordem de commit entre transações concorrentes; por isso um salto
+ * na sequência interrompe a página até o fim do período de carência, contado a partir da primeira
+ * vez que esta instância viu o salto. A carência precisa cobrir o intervalo entre a reserva da
+ * sequência e o commit, que é curto porque os eventos são gravados no fim de cada transação.
+ * Saltos cujo evento seguinte é mais antigo que o horizonte (ex.: vistos pela primeira vez após
+ * um restart) são rollbacks antigos e não esperam.
+ */
+@Service
+public class ChangeFeedService {
+
+    public static final int MAX_LIMIT = 1000;
+    public static final long MAX_WAIT_SECONDS = 30;
+
+    private final ChangeEventRepository changeEventRepository;
+    private final TaskScheduler taskScheduler;
+    private final long gapGraceNanos;
+    private final Duration gapHorizon;
+    private final Duration pollInterval;
+
+    private final AtomicLong commits = new AtomicLong();
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Map<Long, Long> gapsFirstSeen = new ConcurrentHashMap<>();
+
+    public ChangeFeedService(ChangeEventRepository changeEventRepository,
+                             TaskScheduler taskScheduler,
+                             @Value("${change-feed.gap-grace:5s}") Duration gapGrace,
+                             @Value("${change-feed.gap-horizon:10m}") Duration gapHorizon,
+                             @Value("${change-feed.poll-interval:1s}") Duration pollInterval) {
+        this.changeEventRepository = changeEventRepository;
+        this.taskScheduler = taskScheduler;
+        this.gapGraceNanos = gapGrace.toNanos();
+        this.gapHorizon = gapHorizon;
+        this.pollInterval = pollInterval;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startPolling() {
+        taskScheduler.scheduleWithFixedDelay(this::poll, pollInterval);
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(ChangeEntityType entityType, Long entityId, String entityKey, ChangeOperation operation) {
+        changeEventRepository.save(ChangeEvent.builder()
+                .entityType(entityType)
+                .entityId(entityId)
+                .entityKey(entityKey)
+                .operation(operation)
+                .build());
+        notifyAfterCommit();
+    }
+
+    /**
+     * Acorda os consumidores em long-poll quando a transação atual confirmar.
+     * Deve ser chamado por quem grava eventos diretamente na tabela (ex.: cargas em lote).
+     */
+    public void notifyAfterCommit() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    signal();
+                }
+            });
+        } else {
+            signal();
+        }
+    }
+
+    /**
+     * Lê os eventos posteriores ao cursor; sem eventos, aguarda até {@code waitSeconds} por novos.
+     * Não é transacional para não segurar uma conexão durante a espera.
+     */
+    public DeferredResult<ChangeFeedResponseDto> findAfter(long after, int limit, long waitSeconds) {
+        int pageSize = Math.max(1, Math.min(limit, MAX_LIMIT));
+        long waitMillis = TimeUnit.SECONDS.toMillis(Math.max(0, Math.min(waitSeconds, MAX_WAIT_SECONDS)));
+
+        long observed = commits.get();
+        ChangeFeedResponseDto page = read(after, pageSize);
+        if (!page.getChanges().isEmpty() || waitMillis == 0) {
+            DeferredResult<ChangeFeedResponseDto> result = new DeferredResult<>();
+            result.setResult(page);
+            return result;
+        }
+
+        DeferredResult<ChangeFeedResponseDto> result = new DeferredResult<>(waitMillis, () -> page);
+        Waiter waiter = new Waiter(after, pageSize, result);
+        result.onCompletion(() -> waiters.remove(waiter));
+        waiters.add(waiter);
+        // Um commit entre a leitura e o registro não acordaria este consumidor
+        if (commits.get() != observed) {
+            scheduleDrain();
+        }
+        return result;
+    }
+
+    private void poll() {
+        long expired = System.nanoTime() - gapHorizon.toNanos();
+        gapsFirstSeen.values().removeIf(firstSeen -> firstSeen - expired < 0);
+        drain();
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        if (waiters.isEmpty()) {
+            return;
+        }
+
+        // Consumidores já no fim do feed não precisam de leitura própria
+        long lastSeq = changeEventRepository.findLastSeq();
+        for (Waiter waiter : waiters) {
+            if (waiter.after() >= lastSeq || waiter.result().isSetOrExpired()) {
+                continue;
+            }
+            try {
+                ChangeFeedResponseDto page = read(waiter.after(), waiter.limit());
+                if (!page.getChanges().isEmpty()) {
+                    waiter.result().setResult(page);
+                }
+            } catch (RuntimeException e) {
+                waiter.result().setErrorResult(e);
+            }
+        }
+    }
+
+    private ChangeFeedResponseDto read(long after, int limit) {
+        List<ChangeEvent> events = changeEventRepository.findBySeqGreaterThanOrderBySeqAsc(after, Limit.of(limit));
+        long now = System.nanoTime();
+        LocalDateTime horizon = LocalDateTime.now().minus(gapHorizon);
+
+        List<ChangeEventDto> changes = new ArrayList<>(events.size());
+        long next = after;
+        for (ChangeEvent event : events) {
+            // Um salto recente pode ser uma transação ainda aberta; um antigo é um rollback
+            if (event.getSeq() != next + 1 && !isRolledBack(next + 1, event, now, horizon)) {
+                break;
+            }
+            changes.add(toDto(event));
+            next = event.getSeq();
+        }
+        return ChangeFeedResponseDto.builder()
+                .next(next)
+                .changes(changes)
+                .build();
+    }
+
+    private boolean isRolledBack(long missingSeq, ChangeEvent following, long now, LocalDateTime horizon) {
+        if (following.getCreatedAt().isBefore(horizon)) {
+            return true;
+        }
+        long firstSeen = gapsFirstSeen.computeIfAbsent(missingSeq, seq -> now);
+        return now - firstSeen >= gapGraceNanos;
+    }
+
+    private void signal() {
+        commits.incrementAndGet();
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        // Commits em sequência disparam uma única leitura, fora da thread que confirmou a transação
+        if (!waiters.isEmpty() && drainScheduled.compareAndSet(false, true)) {
+            taskScheduler.schedule(this::drain, Instant.now());
+        }
+    }
+
+    private static ChangeEventDto toDto(ChangeEvent event) {
+        return ChangeEventDto.builder()
+                .seq(event.getSeq())
+                .entityType(event.getEntityType())
+                .entityId(event.getEntityId())
+                .entityKey(event.getEntityKey())
+                .operation(event.getOperation())
+                .createdAt(event.getCreatedAt())
+                .build();
+    }
+
+    private record Waiter(long after, int limit, DeferredResult<ChangeFeedResponseDto> result) {
+    }
+}
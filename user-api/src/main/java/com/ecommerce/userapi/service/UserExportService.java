@@ -0,0 +1,107 @@
+package com.ecommerce.userapi.service;
+
+import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.mapper.impl.MapperImpl;
+import com.ecommerce.userapi.repository.UserRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeFormatter;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de todos os usuários em NDJSON ou CSV. As linhas são lidas com cursor no servidor
+ * e escritas uma a uma na resposta, então a memória usada não depende do tamanho da tabela.
+ */
+@Service
+public class UserExportService {
+
+    public enum Format { CSV, NDJSON }
+
+    private static final String CSV_HEADER = "id,name,cpf,email,phone,address,dataRegister";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("dd-MM-yyyy HH:mm:ss");
+
+    private final UserRepository userRepository;
+    private final MapperImpl mapper;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+
+    public UserExportService(UserRepository userRepository,
+                             MapperImpl mapper,
+                             ObjectMapper objectMapper,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    public void export(OutputStream output, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        // O cursor só é mantido aberto pelo PostgreSQL dentro de uma transação
+        transactionTemplate.executeWithoutResult(status -> {
+            try (Stream<User> users = userRepository.streamAll()) {
+                users.forEach(user -> {
+                    write(writer, mapper.mapTo(user), format);
+                    // Sem isso o contexto de persistência guardaria todas as entidades lidas
+                    entityManager.detach(user);
+                });
+            }
+        });
+        writer.flush();
+    }
+
+    private void write(Writer writer, UserResponseDto user, Format format) {
+        try {
+            if (format == Format.CSV) {
+                writer.write(toCsv(user));
+            } else {
+                writer.write(objectMapper.writeValueAsString(user));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String toCsv(UserResponseDto user) {
+        return String.join(",",
+                String.valueOf(user.getId()),
+                csvValue(user.getName()),
+                csvValue(user.getCpf()),
+                csvValue(user.getEmail()),
+                csvValue(user.getPhone()),
+                csvValue(user.getAddress()),
+                user.getDataRegister() != null ? user.getDataRegister().format(DATE_FORMAT) : "");
+    }
+
+    static String csvValue(String value) {
+        if (value == null) {
+            return "";
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
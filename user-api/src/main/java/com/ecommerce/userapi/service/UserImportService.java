@@ -0,0 +1,237 @@
+package com.ecommerce.userapi.service;
+
+import com.ecommerce.userapi.domain.dto.UserImportErrorDto;
+import com.ecommerce.userapi.domain.dto.UserImportResponseDto;
+import com.ecommerce.userapi.domain.dto.UserRequestDto;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import com.ecommerce.userapi.exception.UserAlreadyExistsException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Cadastro em massa de usuários a partir de NDJSON (um UserRequestDto por linha).
+ * CPFs repetidos no mesmo lote são rejeitados, os já cadastrados são verificados com uma única
+ * consulta por lote e os novos são inseridos em lotes JDBC, cada lote em sua própria transação.
+ */
+@Service
+public class UserImportService {
+
+    private static final String SELECT_EXISTING_SQL =
+            "SELECT cpf FROM users.\"user\" WHERE cpf IN (:cpfs)";
+
+    private static final String INSERT_SQL =
+            "INSERT INTO users.\"user\" (name, cpf, address, email, phone, data_register) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_EVENTS_SQL =
+            "INSERT INTO users.change_event (entity_type, entity_id, entity_key, operation, created_at) " +
+            "SELECT 'USER', id, LPAD(CAST(cpf AS VARCHAR(11)), 11, '0'), 'CREATED', :now " +
+            "FROM users.\"user\" WHERE cpf IN (:cpfs)";
+
+    private static final String CONFLICT_CODE = "RESOURCE_CONFLICT";
+    private static final String VALIDATION_CODE = "VALIDATION_ERROR";
+    private static final String PERSISTENCE_CODE = "PERSISTENCE_ERROR";
+
+    private final ChangeFeedService changeFeedService;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public UserImportService(ChangeFeedService changeFeedService,
+                             NamedParameterJdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             ObjectMapper objectMapper,
+                             Validator validator,
+                             @Value("${user.import.batch-size:1000}") int batchSize,
+                             @Value("${user.import.max-errors:1000}") int maxErrors) {
+        this.changeFeedService = changeFeedService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    public UserImportResponseDto importUsers(InputStream input) {
+        UserImportResponseDto response = new UserImportResponseDto();
+        Map<Cpf, ImportRow> chunk = new LinkedHashMap<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8))) {
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank()) {
+                    continue;
+                }
+                response.setProcessed(response.getProcessed() + 1);
+
+                UserRequestDto request;
+                try {
+                    request = objectMapper.readValue(line, UserRequestDto.class);
+                } catch (JsonProcessingException e) {
+                    addError(response, lineNumber, null, VALIDATION_CODE, "Linha inválida: " + e.getOriginalMessage());
+                    continue;
+                }
+
+                String error = validate(request);
+                if (error != null) {
+                    addError(response, lineNumber, request.getCpf(), VALIDATION_CODE, error);
+                    continue;
+                }
+
+                Cpf cpf = Cpf.of(request.getCpf());
+                ImportRow first = chunk.get(cpf);
+                if (first != null) {
+                    // Prevalece a primeira ocorrência; repetições em lotes seguintes aparecem como já cadastradas
+                    addConflict(response, lineNumber, request.getCpf(),
+                            "CPF repetido no lote (linha " + first.line() + ")");
+                    continue;
+                }
+                chunk.put(cpf, new ImportRow(lineNumber, cpf, request));
+
+                if (chunk.size() >= batchSize) {
+                    flush(chunk, response);
+                }
+            }
+            flush(chunk, response);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return response;
+    }
+
+    private void flush(Map<Cpf, ImportRow> chunk, UserImportResponseDto response) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        List<ImportRow> rows = new ArrayList<>(chunk.values());
+        chunk.clear();
+
+        ChunkResult result;
+        try {
+            result = insertNew(rows);
+        } catch (DuplicateKeyException e) {
+            // CPF gravado por outra requisição entre a consulta e o INSERT: a nova consulta já o enxerga
+            try {
+                result = insertNew(rows);
+            } catch (DataAccessException retryException) {
+                failChunk(rows, response, retryException);
+                return;
+            }
+        } catch (DataAccessException e) {
+            failChunk(rows, response, e);
+            return;
+        }
+
+        response.setInserted(response.getInserted() + result.inserted());
+        for (ImportRow row : result.conflicts()) {
+            addConflict(response, row.line(), row.request().getCpf(),
+                    new UserAlreadyExistsException("cpf", row.request().getCpf()).getMessage());
+        }
+    }
+
+    private ChunkResult insertNew(List<ImportRow> rows) {
+        return transactionTemplate.execute(status -> {
+            List<Long> cpfs = rows.stream()
+                    .map(row -> row.cpf().value())
+                    .toList();
+            Set<Long> existing = new HashSet<>(jdbcTemplate.queryForList(SELECT_EXISTING_SQL, Map.of("cpfs", cpfs), Long.class));
+
+            Map<Boolean, List<ImportRow>> partitioned = rows.stream()
+                    .collect(Collectors.partitioningBy(row -> existing.contains(row.cpf().value())));
+            List<ImportRow> inserts = partitioned.get(false);
+
+            if (!inserts.isEmpty()) {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                jdbcTemplate.getJdbcOperations().batchUpdate(INSERT_SQL, inserts, batchSize, (ps, row) -> {
+                    UserRequestDto request = row.request();
+                    ps.setString(1, request.getName().toLowerCase());
+                    ps.setLong(2, row.cpf().value());
+                    ps.setString(3, request.getAddress());
+                    ps.setString(4, request.getEmail());
+                    ps.setString(5, request.getPhone());
+                    ps.setTimestamp(6, now);
+                });
+
+                // Eventos do lote gravados com um único INSERT ... SELECT, já com os IDs gerados
+                jdbcTemplate.update(INSERT_EVENTS_SQL, Map.of(
+                        "now", now,
+                        "cpfs", inserts.stream().map(row -> row.cpf().value()).toList()));
+                changeFeedService.notifyAfterCommit();
+            }
+
+            return new ChunkResult(inserts.size(), partitioned.get(true));
+        });
+    }
+
+    private String validate(UserRequestDto request) {
+        Set<ConstraintViolation<UserRequestDto>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> "[" + violation.getPropertyPath() + ": " + violation.getMessage() + "]")
+                .sorted()
+                .collect(Collectors.joining(" ", "Campos inválidos: ", ""));
+    }
+
+    private void failChunk(List<ImportRow> rows, UserImportResponseDto response, DataAccessException e) {
+        for (ImportRow row : rows) {
+            addError(response, row.line(), row.request().getCpf(), PERSISTENCE_CODE,
+                    "Falha ao gravar lote: " + e.getMostSpecificCause().getMessage());
+        }
+    }
+
+    private void addConflict(UserImportResponseDto response, long line, String cpf, String message) {
+        response.setConflicts(response.getConflicts() + 1);
+        appendError(response, line, cpf, CONFLICT_CODE, message);
+    }
+
+    private void addError(UserImportResponseDto response, long line, String cpf, String errorCode, String message) {
+        response.setFailed(response.getFailed() + 1);
+        appendError(response, line, cpf, errorCode, message);
+    }
+
+    private void appendError(UserImportResponseDto response, long line, String cpf, String errorCode, String message) {
+        if (response.getErrors().size() < maxErrors) {
+            response.getErrors().add(UserImportErrorDto.builder()
+                    .line(line)
+                    .cpf(cpf)
+                    .errorCode(errorCode)
+                    .message(message)
+                    .build());
+        }
+    }
+
+    private record ImportRow(long line, Cpf cpf, UserRequestDto request) {
+    }
+
+    private record ChunkResult(int inserted, List<ImportRow> conflicts) {
+    }
+}
@@ -2,28 +2,44 @@ package com.ecommerce.userapi.service;
 
 import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.domain.entity.ChangeEntityType;
+import com.ecommerce.userapi.domain.entity.ChangeOperation;
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import com.ecommerce.userapi.exception.InvalidCpfException;
+import com.ecommerce.userapi.exception.InvalidRequestException;
 import com.ecommerce.userapi.exception.UserAlreadyExistsException;
 import com.ecommerce.userapi.exception.UserNotFoundException;
+import com.ecommerce.userapi.exception.UserVersionMismatchException;
 import com.ecommerce.userapi.mapper.impl.MapperImpl;
 import com.ecommerce.userapi.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
-import java.util.Objects;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @RequiredArgsConstructor
 @Service
 public class UserService {
 
+    public static final int MAX_SEARCH_RESULTS = 100;
+    public static final int MAX_BATCH_LOOKUP = 500;
+    static final String CPF_UNIQUE_CONSTRAINT = "uk_user_cpf";
+
     private final UserRepository userRepository;
     private final MapperImpl mapper;
+    private final ChangeFeedService changeFeedService;
 
     @Transactional(readOnly = true)
     public List<UserResponseDto> findAll() {
@@ -45,16 +61,56 @@ public class UserService {
         return mapper.mapTo(user);
     }
 
+    /**
+     * A chave não passa pelos dígitos verificadores, que só valem para CPFs novos: cadastros legados
+     * anteriores à validação continuam encontráveis.
+     */
     @Transactional(readOnly = true)
     public UserResponseDto findByCpf(String cpf) {
-        User user = userRepository.findByCpf(cpf)
+        Cpf key = Cpf.parseKey(cpf)
+                .orElseThrow(() -> new UserNotFoundException("cpf", cpf));
+        User user = userRepository.findByCpf(key)
                 .orElseThrow(() -> new UserNotFoundException("cpf", cpf));
         return mapper.mapTo(user);
     }
 
     @Transactional(readOnly = true)
-    public List<UserResponseDto> findByQueryName(String name) {
-        List<User> users = userRepository.queryByNameLike(name);
+    public boolean existsByCpf(String cpf) {
+        return Cpf.parseKey(cpf)
+                .map(userRepository::existsByCpf)
+                .orElse(false);
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findAllByCpf(List<String> cpfs) {
+        if (cpfs.size() > MAX_BATCH_LOOKUP) {
+            throw new InvalidRequestException(
+                    String.format("Consulta limitada a %d CPFs por requisição", MAX_BATCH_LOOKUP));
+        }
+
+        // CPFs malformados ou repetidos não chegam ao banco
+        Set<Cpf> keys = cpfs.stream()
+                .map(Cpf::parseKey)
+                .flatMap(Optional::stream)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+
+        return userRepository.findByCpfIn(keys).stream()
+                .map(mapper::mapTo)
+                .collect(Collectors.toList());
+    }
+
+    @Transactional(readOnly = true)
+    public List<UserResponseDto> findByQueryName(String name, int page, int linesPerPage) {
+        if (name == null || name.isBlank()) {
+            return List.of();
+        }
+        int limit = Math.max(1, Math.min(linesPerPage, MAX_SEARCH_RESULTS));
+        long offset = (long) Math.max(page, 0) * limit;
+
+        List<User> users = userRepository.searchByName(name, limit, offset);
         return users.stream()
                 .map(mapper::mapTo)
                 .collect(Collectors.toList());
@@ -62,41 +118,90 @@ public class UserService {
 
     @Transactional
     public UserResponseDto save(UserRequestDto userRequestDto) {
-        if (userRepository.existsByCpf(userRequestDto.getCpf())) {
-            throw new UserAlreadyExistsException("cpf", userRequestDto.getCpf());
-        }
-
+        Cpf cpf = Cpf.parse(userRequestDto.getCpf())
+                .orElseThrow(() -> new InvalidCpfException(userRequestDto.getCpf()));
         User user = mapper.mapFrom(userRequestDto);
+        user.setCpf(cpf);
         user.setName(user.getName().toLowerCase());
         user.setDataRegister(LocalDateTime.now());
         
-        User savedUser = userRepository.save(user);
+        // Sem consulta prévia: a chave única uk_user_cpf recusa o CPF já cadastrado no próprio INSERT,
+        // inclusive quando gravado por outra requisição ao mesmo tempo
+        User savedUser;
+        try {
+            savedUser = userRepository.save(user);
+        } catch (DataIntegrityViolationException e) {
+            if (isCpfUniqueViolation(e)) {
+                throw new UserAlreadyExistsException("cpf", userRequestDto.getCpf());
+            }
+            throw e;
+        }
+        changeFeedService.record(ChangeEntityType.USER, savedUser.getId(), savedUser.getCpf().toString(),
+                ChangeOperation.CREATED);
         return mapper.mapTo(savedUser);
     }
 
     @Transactional
-    public UserResponseDto update(UserRequestDto userRequestDto, String cpf) {
-        User existingUser = userRepository.findByCpf(cpf)
+    public UserResponseDto update(UserRequestDto userRequestDto, String cpf, Long expectedVersion) {
+        Cpf key = Cpf.parseKey(cpf)
                 .orElseThrow(() -> new UserNotFoundException("cpf", cpf));
+        User changes = toChanges(userRequestDto);
+
+        Optional<User> updatedUser;
+        try {
+            updatedUser = userRepository.updateByCpf(key, changes, expectedVersion);
+        } catch (DataIntegrityViolationException e) {
+            if (isCpfUniqueViolation(e)) {
+                throw new UserAlreadyExistsException("cpf", userRequestDto.getCpf());
+            }
+            throw e;
+        }
 
-        setFields(userRequestDto, existingUser);
+        // Nenhuma linha alterada: a consulta extra só acontece nesse caminho, para diferenciar o erro
+        User user = updatedUser.orElseThrow(() -> expectedVersion != null && userRepository.existsByCpf(key)
+                ? new UserVersionMismatchException("cpf", cpf, expectedVersion)
+                : new UserNotFoundException("cpf", cpf));
+        changeFeedService.record(ChangeEntityType.USER, user.getId(), user.getCpf().toString(),
+                ChangeOperation.UPDATED);
+        return mapper.mapTo(user);
+    }
 
-        User updatedUser = userRepository.save(existingUser);
-        return mapper.mapTo(updatedUser);
+    /**
+     * No PostgreSQL o nome extraído é o da constraint; no H2 é a descrição do índice dela
+     * (ex.: {@code "USERS.UK_USER_CPF_INDEX_2 ON ..."}), por isso a comparação por trecho.
+     */
+    private static boolean isCpfUniqueViolation(DataIntegrityViolationException e) {
+        return e.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(CPF_UNIQUE_CONSTRAINT);
     }
 
-    private static void setFields(UserRequestDto userRequestDto, User existingUser) {
-        existingUser.setCpf(Objects.requireNonNullElse(userRequestDto.getCpf(), existingUser.getCpf()));
-        existingUser.setName(Objects.requireNonNullElse(userRequestDto.getName(), existingUser.getName()).toLowerCase());
-        existingUser.setAddress(Objects.requireNonNullElse(userRequestDto.getAddress(), existingUser.getAddress()));
-        existingUser.setEmail(Objects.requireNonNullElse(userRequestDto.getEmail(), existingUser.getEmail()));
-        existingUser.setPhone(Objects.requireNonNullElse(userRequestDto.getPhone(), existingUser.getPhone()));
+    private static User toChanges(UserRequestDto userRequestDto) {
+        Cpf cpf = null;
+        if (userRequestDto.getCpf() != null) {
+            cpf = Cpf.parse(userRequestDto.getCpf())
+                    .orElseThrow(() -> new InvalidCpfException(userRequestDto.getCpf()));
+        }
+        return User.builder()
+                .name(userRequestDto.getName() != null ? userRequestDto.getName().toLowerCase() : null)
+                .cpf(cpf)
+                .address(userRequestDto.getAddress())
+                .email(userRequestDto.getEmail())
+                .phone(userRequestDto.getPhone())
+                .build();
     }
 
     @Transactional
-    public void delete(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new UserNotFoundException("id", userId));
-        userRepository.delete(user);
+    public void delete(Long userId, Long expectedVersion) {
+        Optional<Cpf> deletedCpf = userRepository.deleteReturningCpf(userId, expectedVersion);
+        if (deletedCpf.isPresent()) {
+            changeFeedService.record(ChangeEntityType.USER, userId, deletedCpf.get().toString(),
+                    ChangeOperation.DELETED);
+            return;
+        }
+        if (expectedVersion != null && userRepository.existsById(userId)) {
+            throw new UserVersionMismatchException("id", userId, expectedVersion);
+        }
+        throw new UserNotFoundException("id", userId);
     }
 }
@@ -0,0 +1,94 @@
+package com.ecommerce.userapi.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grava os spans finalizados em um arquivo local, um JSON por linha, para analisar as requisições sem
+ * depender de um coletor. Cada linha traz o {@code traceId}, o span pai e a duração, o que basta para
+ * remontar a árvore de uma requisição entre os serviços (por exemplo, com {@code jq}).
+ */
+public class FileSpanExporter implements SpanExporter {
+
+    private final ObjectMapper objectMapper;
+    private final Writer writer;
+
+    public FileSpanExporter(Path file, ObjectMapper objectMapper) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        this.writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    public synchronized CompletableResultCode export(Collection<SpanData> spans) {
+        try {
+            for (SpanData span : spans) {
+                writer.write(objectMapper.writeValueAsString(toRecord(span)));
+                writer.write('\n');
+            }
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode flush() {
+        try {
+            writer.flush();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    @Override
+    public synchronized CompletableResultCode shutdown() {
+        try {
+            writer.close();
+            return CompletableResultCode.ofSuccess();
+        } catch (IOException e) {
+            return CompletableResultCode.ofFailure();
+        }
+    }
+
+    static Map<String, Object> toRecord(SpanData span) {
+        Map<String, Object> attributes = new LinkedHashMap<>();
+        span.getAttributes().forEach((key, value) -> attributes.put(key.getKey(), value));
+
+        SpanContext parent = span.getParentSpanContext();
+        Map<String, Object> record = new LinkedHashMap<>();
+        record.put("traceId", span.getTraceId());
+        record.put("spanId", span.getSpanId());
+        record.put("parentSpanId", parent.isValid() ? parent.getSpanId() : null);
+        record.put("service", span.getResource().getAttribute(AttributeKey.stringKey("service.name")));
+        record.put("name", span.getName());
+        record.put("kind", span.getKind().name());
+        record.put("start", Instant.ofEpochSecond(0, span.getStartEpochNanos()).toString());
+        record.put("durationMicros", TimeUnit.NANOSECONDS.toMicros(span.getEndEpochNanos() - span.getStartEpochNanos()));
+        record.put("status", span.getStatus().getStatusCode().name());
+        record.put("attributes", attributes);
+        return record;
+    }
+}
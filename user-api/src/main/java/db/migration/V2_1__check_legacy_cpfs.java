@@ -0,0 +1,60 @@
+package db.migration;
+
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Pré-condição da V3: todo CPF legado precisa virar um BIGINT único depois de tirar pontuação e espaços.
+ * Cadastros que não convertem (não numéricos) ou que colidem sem os zeros à esquerda interrompem a migração
+ * com a lista dos registros, para correção manual antes de tentar de novo. Nenhum cadastro é alterado aqui.
+ */
+public class V2_1__check_legacy_cpfs extends BaseJavaMigration {
+
+    private static final int MAX_LISTED = 100;
+
+    // Mesma normalização da V3
+    private static final String DIGITS = "REPLACE(REPLACE(REPLACE(%1$s.cpf, '.', ''), '-', ''), ' ', '')";
+
+    private static final String CONFLICTS =
+            "SELECT u.id, u.cpf FROM users.\"user\" u " +
+            "WHERE " + digits("u") + " = '' " +
+            "   OR TRANSLATE(" + digits("u") + ", '123456789', '000000000') <> REPEAT('0', LENGTH(" + digits("u") + ")) " +
+            "UNION " +
+            "SELECT u.id, u.cpf FROM users.\"user\" u " +
+            "JOIN (SELECT LTRIM(" + digits("d") + ", '0') AS cpf_key FROM users.\"user\" d " +
+            "      GROUP BY LTRIM(" + digits("d") + ", '0') HAVING COUNT(*) > 1) r " +
+            "  ON LTRIM(" + digits("u") + ", '0') = r.cpf_key " +
+            "ORDER BY 1";
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        List<String> conflicts = new ArrayList<>();
+        int total = 0;
+        try (Statement statement = context.getConnection().createStatement();
+             ResultSet rows = statement.executeQuery(CONFLICTS)) {
+            while (rows.next()) {
+                if (total++ < MAX_LISTED) {
+                    conflicts.add("id=" + rows.getLong(1) + " cpf='" + rows.getString(2) + "'");
+                }
+            }
+        }
+
+        if (total > 0) {
+            throw new FlywayException(String.format(
+                    "%d cadastro(s) com CPF não numérico ou repetido sem os zeros à esquerda; corrija-os antes "
+                            + "de converter o CPF para BIGINT (V3). Primeiros %d: %s",
+                    total, conflicts.size(), String.join(", ", conflicts)));
+        }
+    }
+
+    private static String digits(String alias) {
+        return String.format(DIGITS, alias);
+    }
+}
@@ -0,0 +1,14 @@
+ALTER TABLE users."user" ADD COLUMN cpf_number BIGINT;
+
+-- CPFs legados gravados com pontuação ou espaços ("123456789-0", " 1234567890") convertem só pelos dígitos.
+-- A V2.1 já interrompe a migração quando algum cadastro não converte ou colide, então nenhum fica sem chave
+UPDATE users."user"
+SET cpf_number = CAST(REPLACE(REPLACE(REPLACE(cpf, '.', ''), '-', ''), ' ', '') AS BIGINT);
+
+ALTER TABLE users."user" DROP COLUMN cpf;
+
+ALTER TABLE users."user" ALTER COLUMN cpf_number SET NOT NULL;
+
+ALTER TABLE users."user" RENAME COLUMN cpf_number TO cpf;
+
+ALTER TABLE users."user" ADD CONSTRAINT uk_user_cpf UNIQUE (cpf);
@@ -0,0 +1,8 @@
+CREATE TABLE users.change_event (
+    seq BIGSERIAL PRIMARY KEY,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id BIGINT NOT NULL,
+    entity_key VARCHAR(64),
+    operation VARCHAR(10) NOT NULL,
+    created_at TIMESTAMP NOT NULL
+);
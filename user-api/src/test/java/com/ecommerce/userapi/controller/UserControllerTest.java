@@ -4,6 +4,7 @@ import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
 import com.ecommerce.userapi.exception.UserAlreadyExistsException;
 import com.ecommerce.userapi.exception.UserNotFoundException;
+import com.ecommerce.userapi.exception.UserVersionMismatchException;
 import com.ecommerce.userapi.exception.advice.GlobalExceptionHandler;
 import com.ecommerce.userapi.service.UserService;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -16,6 +17,7 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -25,6 +27,7 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -51,7 +54,7 @@ class UserControllerTest {
     void setUp() {
         userRequestDto = UserRequestDto.builder()
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -60,7 +63,7 @@ class UserControllerTest {
         userResponseDto = UserResponseDto.builder()
                 .id(1L)
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -110,21 +113,23 @@ class UserControllerTest {
     @Test
     @DisplayName("Deve retornar usuário por CPF com sucesso")
     void findByCpf_ShouldReturnUser() throws Exception {
-        when(userService.findByCpf("12345678901")).thenReturn(userResponseDto);
+        when(userService.findByCpf("12345678909")).thenReturn(userResponseDto);
 
-        mockMvc.perform(get("/users/cpf/12345678901"))
+        mockMvc.perform(get("/users/cpf/12345678909"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.cpf").value("12345678901"));
+                .andExpect(jsonPath("$.cpf").value("12345678909"));
     }
 
     @Test
     @DisplayName("Deve retornar usuários por nome com sucesso")
     void findByQueryName_ShouldReturnUsers() throws Exception {
-        when(userService.findByQueryName(anyString())).thenReturn(List.of(userResponseDto));
+        when(userService.findByQueryName("João", 1, 5)).thenReturn(List.of(userResponseDto));
 
         mockMvc.perform(get("/users/search")
-                        .param("name", "João"))
+                        .param("name", "João")
+                        .param("page", "1")
+                        .param("linesPerPage", "5"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$[0].name").value("João Silva"));
@@ -219,20 +224,62 @@ class UserControllerTest {
     @Test
     @DisplayName("Deve atualizar usuário com sucesso")
     void updateUser_ShouldReturnUpdatedUser() throws Exception {
-        when(userService.update(any(UserRequestDto.class), anyString())).thenReturn(userResponseDto);
+        userResponseDto.setVersion(4L);
+        when(userService.update(any(UserRequestDto.class), anyString(), isNull())).thenReturn(userResponseDto);
 
-        mockMvc.perform(put("/users/12345678901")
+        mockMvc.perform(put("/users/12345678909")
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(userRequestDto)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"4\""))
                 .andExpect(jsonPath("$.id").value(1L));
     }
 
+    @Test
+    @DisplayName("Deve repassar a versão do If-Match ao atualizar usuário")
+    void updateUser_ShouldPassIfMatchVersion() throws Exception {
+        userResponseDto.setVersion(4L);
+        when(userService.update(any(UserRequestDto.class), eq("12345678909"), eq(3L))).thenReturn(userResponseDto);
+
+        mockMvc.perform(put("/users/12345678909")
+                        .header(HttpHeaders.IF_MATCH, "\"3\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 412 quando a versão do If-Match estiver desatualizada")
+    void updateUser_ShouldReturnPreconditionFailed_WhenVersionIsStale() throws Exception {
+        when(userService.update(any(UserRequestDto.class), eq("12345678909"), eq(1L)))
+                .thenThrow(new UserVersionMismatchException("cpf", "12345678909", 1L));
+
+        mockMvc.perform(put("/users/12345678909")
+                        .header(HttpHeaders.IF_MATCH, "1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.errorCode").value("VERSION_MISMATCH"));
+    }
+
+    @Test
+    @DisplayName("Deve retornar erro 400 quando o If-Match não for uma versão")
+    void updateUser_ShouldReturnBadRequest_WhenIfMatchIsInvalid() throws Exception {
+        mockMvc.perform(put("/users/12345678909")
+                        .header(HttpHeaders.IF_MATCH, "\"abc\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(userRequestDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode").value("INVALID_REQUEST"));
+
+        verify(userService, never()).update(any(UserRequestDto.class), anyString(), any());
+    }
+
     @Test
     @DisplayName("Deve deletar usuário com sucesso")
     void deleteUser_ShouldReturnNoContent() throws Exception {
-        doNothing().when(userService).delete(1L);
+        doNothing().when(userService).delete(1L, null);
 
         mockMvc.perform(delete("/users/1"))
                 .andExpect(status().isNoContent());
@@ -256,6 +303,38 @@ class UserControllerTest {
                 .andExpect(jsonPath("$.timestamp").exists());
     }
 
+    @Test
+    @DisplayName("Deve responder HEAD por CPF apenas com o status")
+    void existsByCpf_ShouldReturnStatusOnly() throws Exception {
+        // Arrange
+        when(userService.existsByCpf("12345678909")).thenReturn(true);
+        when(userService.existsByCpf("99999999999")).thenReturn(false);
+
+        // Act & Assert
+        mockMvc.perform(head("/users/cpf/12345678909"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(""));
+        mockMvc.perform(head("/users/cpf/99999999999"))
+                .andExpect(status().isNotFound());
+        verify(userService, never()).findByCpf(anyString());
+    }
+
+    @Test
+    @DisplayName("Deve buscar usuários por lista de CPFs")
+    void findAllByCpf_ShouldReturnFoundUsers() throws Exception {
+        // Arrange
+        List<String> cpfs = List.of("12345678909", "99999999999");
+        when(userService.findAllByCpf(cpfs)).thenReturn(List.of(userResponseDto));
+
+        // Act & Assert
+        mockMvc.perform(post("/users/cpf/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(cpfs)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].cpf").value(userResponseDto.getCpf()));
+    }
+
     @Test
     @DisplayName("Deve retornar erro 404 quando buscar usuário por CPF inexistente")
     void findByCpf_ShouldReturnNotFound_WhenUserDoesNotExist() throws Exception {
@@ -288,7 +367,7 @@ class UserControllerTest {
                 .andExpect(status().isConflict())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.status").value(409))
-                .andExpect(jsonPath("$.message").value("Usuário já existe com cpf: '12345678901'"))
+                .andExpect(jsonPath("$.message").value("Usuário já existe com cpf: '12345678909'"))
                 .andExpect(jsonPath("$.errorCode").value("RESOURCE_CONFLICT"))
                 .andExpect(jsonPath("$.timestamp").exists());
     }
@@ -298,7 +377,7 @@ class UserControllerTest {
     void updateUser_ShouldReturnNotFound_WhenUserDoesNotExist() throws Exception {
         // Arrange
         String cpf = "99999999999";
-        when(userService.update(any(UserRequestDto.class), eq(cpf)))
+        when(userService.update(any(UserRequestDto.class), eq(cpf), isNull()))
                 .thenThrow(new UserNotFoundException("cpf", cpf));
 
         // Act & Assert
@@ -319,7 +398,7 @@ class UserControllerTest {
         // Arrange
         Long userId = 999L;
         doThrow(new UserNotFoundException("id", userId))
-                .when(userService).delete(userId);
+                .when(userService).delete(userId, null);
 
         // Act & Assert
         mockMvc.perform(delete("/users/" + userId))
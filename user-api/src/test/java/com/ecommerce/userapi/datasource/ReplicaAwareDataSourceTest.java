@@ -0,0 +1,142 @@
+package com.ecommerce.userapi.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Usa dois bancos H2 em memória, um como primário e outro como réplica; o atraso da réplica
+ * vem de uma tabela que o teste altera.
+ */
+class ReplicaAwareDataSourceTest {
+
+    private static final String PRIMARY_URL = "jdbc:h2:mem:unit_primary;DB_CLOSE_DELAY=-1";
+    private static final String REPLICA_URL = "jdbc:h2:mem:unit_replica;DB_CLOSE_DELAY=-1";
+
+    private DriverManagerDataSource primary;
+    private DriverManagerDataSource replica;
+    private MeterRegistry meterRegistry;
+    private ReplicaLagMonitor monitor;
+    private ReplicaAwareDataSource dataSource;
+
+    @BeforeEach
+    void setUp() {
+        primary = new DriverManagerDataSource(PRIMARY_URL, "sa", "");
+        replica = new DriverManagerDataSource(REPLICA_URL, "sa", "");
+        new JdbcTemplate(replica).execute("CREATE TABLE replica_status (lag_seconds DOUBLE PRECISION)");
+        new JdbcTemplate(replica).update("INSERT INTO replica_status VALUES (0)");
+        meterRegistry = new SimpleMeterRegistry();
+        monitor = new ReplicaLagMonitor(replica, "SELECT lag_seconds FROM replica_status", Duration.ofSeconds(5),
+                meterRegistry);
+        dataSource = new ReplicaAwareDataSource(replica, primary, monitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        new JdbcTemplate(primary).execute("SHUTDOWN");
+        new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", "")).execute("SHUTDOWN");
+    }
+
+    @Test
+    @DisplayName("Deve usar o primário até a primeira medição do atraso da réplica")
+    void getConnection_BeforeFirstCheck_ShouldUsePrimary() throws SQLException {
+        assertThat(database()).isEqualToIgnoringCase("unit_primary");
+        assertThat(meterRegistry.get(ReplicaLagMonitor.FALLBACK_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve usar a réplica enquanto o atraso estiver dentro do limite")
+    void getConnection_WhenLagWithinLimit_ShouldUseReplica() throws SQLException {
+        // Arrange
+        setLag(4.5);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertThat(database()).isEqualToIgnoringCase("unit_replica");
+        assertThat(meterRegistry.get(ReplicaLagMonitor.LAG_METRIC).gauge().value()).isEqualTo(4.5);
+        assertThat(meterRegistry.get(ReplicaLagMonitor.AVAILABLE_METRIC).gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando o atraso da réplica passar do limite")
+    void getConnection_WhenLagAboveLimit_ShouldFallBackToPrimary() throws SQLException {
+        // Arrange
+        monitor.check();
+        setLag(12);
+
+        // Act
+        monitor.check();
+
+        // Assert
+        assertThat(database()).isEqualToIgnoringCase("unit_primary");
+        assertThat(meterRegistry.get(ReplicaLagMonitor.AVAILABLE_METRIC).gauge().value()).isZero();
+        assertThat(meterRegistry.get(ReplicaLagMonitor.FALLBACK_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve voltar ao primário quando a réplica recusar a conexão e retomá-la após nova medição")
+    void getConnection_WhenReplicaIsDown_ShouldFallBackToPrimaryUntilNextCheck() throws SQLException {
+        // Arrange
+        monitor.check();
+        replica.setUrl("jdbc:h2:mem:unit_replica;INIT=SELECT 1/0");
+
+        // Act
+        String whileDown = database();
+        monitor.check();
+        boolean availableWhileDown = monitor.isAvailable();
+        replica.setUrl(REPLICA_URL);
+        monitor.check();
+
+        // Assert
+        assertThat(whileDown).isEqualToIgnoringCase("unit_primary");
+        assertThat(availableWhileDown).isFalse();
+        assertThat(database()).isEqualToIgnoringCase("unit_replica");
+    }
+
+    @Test
+    @DisplayName("Deve repassar as credenciais à réplica e voltar ao primário quando ela recusar a conexão")
+    void getConnectionWithCredentials_ShouldFollowReplicaAvailability() throws SQLException {
+        // Arrange
+        monitor.check();
+
+        // Act
+        String whileAvailable = database("sa", "");
+        replica.setUrl("jdbc:h2:mem:unit_replica;INIT=SELECT 1/0");
+        String whileDown = database("sa", "");
+
+        // Assert
+        assertThat(whileAvailable).isEqualToIgnoringCase("unit_replica");
+        assertThat(whileDown).isEqualToIgnoringCase("unit_primary");
+        assertThat(monitor.isAvailable()).isFalse();
+        assertThat(meterRegistry.get(ReplicaLagMonitor.FALLBACK_METRIC).counter().count()).isEqualTo(1);
+    }
+
+    private void setLag(double seconds) {
+        new JdbcTemplate(replica).update("UPDATE replica_status SET lag_seconds = ?", seconds);
+    }
+
+    private String database() throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            return connection.getCatalog();
+        }
+    }
+
+    private String database(String username, String password) throws SQLException {
+        try (Connection connection = dataSource.getConnection(username, password)) {
+            return connection.getCatalog();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.ecommerce.userapi.domain.vo;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CpfTest {
+
+    @Test
+    @DisplayName("parse deve aceitar CPF com e sem pontuação")
+    void parse_ShouldAcceptFormattedAndPlainCpf() {
+        assertThat(Cpf.parse("12345678909")).contains(new Cpf(12345678909L));
+        assertThat(Cpf.parse("123.456.789-09")).contains(new Cpf(12345678909L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"12345678901", "11111111111", "1234567890", "123456789090", "1234567890a", ""})
+    @DisplayName("parse deve rejeitar CPF com dígitos verificadores, tamanho ou caracteres inválidos")
+    void parse_ShouldRejectInvalidCpf(String cpf) {
+        assertThat(Cpf.parse(cpf)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("parseKey deve aceitar CPF legado com dígitos verificadores inválidos")
+    void parseKey_ShouldAcceptLegacyCpfWithoutCheckingDigits() {
+        assertThat(Cpf.parseKey("12345678901")).contains(new Cpf(12345678901L));
+        assertThat(Cpf.parseKey("123.456.789-01")).contains(new Cpf(12345678901L));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"1234567890", "123456789090", "1234567890a", ""})
+    @DisplayName("parseKey deve rejeitar CPF com tamanho ou caracteres inválidos")
+    void parseKey_ShouldRejectMalformedCpf(String cpf) {
+        assertThat(Cpf.parseKey(cpf)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("toString deve preservar os zeros à esquerda")
+    void toString_ShouldKeepLeadingZeros() {
+        Cpf cpf = Cpf.of("01234567890");
+
+        assertThat(cpf.value()).isEqualTo(1234567890L);
+        assertThat(cpf).hasToString("01234567890");
+    }
+
+    @Test
+    @DisplayName("of deve lançar exceção para CPF inválido")
+    void of_ShouldThrow_WhenCpfIsInvalid() {
+        assertThatThrownBy(() -> Cpf.of("12345678901"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -60,7 +60,7 @@ class GlobalExceptionHandlerTest {
         UserRequestDto userRequest = UserRequestDto.builder()
                 .name("Test")
                 .email("test@email.com")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .phone("11999999999")
                 .address("Test Address")
                 .build();
@@ -115,7 +115,7 @@ class GlobalExceptionHandlerTest {
         UserRequestDto validUser = UserRequestDto.builder()
                 .name("Test")
                 .email("test@email.com")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .phone("11999999999")
                 .address("Test Address")
                 .build();
@@ -0,0 +1,152 @@
+package com.ecommerce.userapi.integration;
+
+import com.ecommerce.userapi.domain.dto.ChangeFeedResponseDto;
+import com.ecommerce.userapi.domain.dto.UserRequestDto;
+import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.domain.entity.ChangeEvent;
+import com.ecommerce.userapi.domain.entity.ChangeOperation;
+import com.ecommerce.userapi.repository.ChangeEventRepository;
+import com.ecommerce.userapi.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class ChangeFeedIntegrationTest {
+
+    private TestRestTemplate restTemplate;
+    private UserRepository userRepository;
+    private ChangeEventRepository changeEventRepository;
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    public ChangeFeedIntegrationTest(TestRestTemplate restTemplate,
+                                     UserRepository userRepository,
+                                     ChangeEventRepository changeEventRepository,
+                                     JdbcTemplate jdbcTemplate) {
+        this.restTemplate = restTemplate;
+        this.userRepository = userRepository;
+        this.changeEventRepository = changeEventRepository;
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve registrar criação, atualização e exclusão em ordem a partir do cursor")
+    void changes_ShouldListMutationsInOrder() {
+        // Arrange
+        long cursor = currentCursor();
+        UserResponseDto created = restTemplate.postForEntity("/users", userRequest(), UserResponseDto.class).getBody();
+        restTemplate.put("/users/{cpf}", UserRequestDto.builder().phone("11988888888").build(), created.getCpf());
+        restTemplate.exchange("/users/{id}", HttpMethod.DELETE, null, Void.class, created.getId());
+
+        // Act
+        ResponseEntity<ChangeFeedResponseDto> response = restTemplate.getForEntity(
+                "/changes?after={after}", ChangeFeedResponseDto.class, cursor);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody().getChanges())
+                .extracting(change -> change.getOperation() + ":" + change.getEntityKey())
+                .containsExactly(
+                        ChangeOperation.CREATED + ":12345678909",
+                        ChangeOperation.UPDATED + ":12345678909",
+                        ChangeOperation.DELETED + ":12345678909");
+        assertThat(response.getBody().getNext())
+                .isEqualTo(response.getBody().getChanges().get(2).getSeq());
+
+        ResponseEntity<ChangeFeedResponseDto> empty = restTemplate.getForEntity(
+                "/changes?after={after}", ChangeFeedResponseDto.class, response.getBody().getNext());
+        assertThat(empty.getBody().getChanges()).isEmpty();
+        assertThat(empty.getBody().getNext()).isEqualTo(response.getBody().getNext());
+    }
+
+    @Test
+    @DisplayName("Long-poll deve responder assim que uma alteração for confirmada")
+    void changes_ShouldWakeUpLongPollOnCommit() throws Exception {
+        // Arrange
+        long cursor = currentCursor();
+        CompletableFuture<ChangeFeedResponseDto> poll = CompletableFuture.supplyAsync(() -> restTemplate.getForEntity(
+                "/changes?after={after}&wait=10", ChangeFeedResponseDto.class, cursor).getBody());
+        TimeUnit.MILLISECONDS.sleep(300);
+
+        // Act
+        long start = System.nanoTime();
+        restTemplate.postForEntity("/users", userRequest(), UserResponseDto.class);
+        ChangeFeedResponseDto response = poll.get(10, TimeUnit.SECONDS);
+
+        // Assert
+        assertThat(TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - start)).isLessThan(5);
+        assertThat(response.getChanges()).hasSize(1);
+        assertThat(response.getChanges().get(0).getOperation()).isEqualTo(ChangeOperation.CREATED);
+    }
+
+    @Test
+    @DisplayName("Salto recém-observado deve segurar a página mesmo quando o evento seguinte foi criado antes da carência")
+    void changes_ShouldHoldNewlyObservedGap_RegardlessOfCreatedAt() {
+        // Arrange: evento de uma transação longa, com created_at anterior à carência, além de uma sequência ausente
+        long cursor = currentCursor();
+        LocalDateTime createdAt = LocalDateTime.now().minusMinutes(1);
+        insertEvent(cursor + 2, createdAt);
+
+        try {
+            // Act
+            ChangeFeedResponseDto held = restTemplate.getForEntity(
+                    "/changes?after={after}", ChangeFeedResponseDto.class, cursor).getBody();
+            insertEvent(cursor + 1, createdAt);
+            ChangeFeedResponseDto released = restTemplate.getForEntity(
+                    "/changes?after={after}", ChangeFeedResponseDto.class, cursor).getBody();
+
+            // Assert
+            assertThat(held.getChanges()).isEmpty();
+            assertThat(held.getNext()).isEqualTo(cursor);
+            assertThat(released.getChanges())
+                    .extracting(change -> change.getSeq())
+                    .containsExactly(cursor + 1, cursor + 2);
+        } finally {
+            jdbcTemplate.update("DELETE FROM users.change_event WHERE seq IN (?, ?)", cursor + 1, cursor + 2);
+        }
+    }
+
+    private void insertEvent(long seq, LocalDateTime createdAt) {
+        jdbcTemplate.update("INSERT INTO users.change_event (seq, entity_type, entity_id, entity_key, operation, created_at) "
+                + "VALUES (?, 'USER', 0, '00000000000', 'UPDATED', ?)", seq, createdAt);
+    }
+
+    private long currentCursor() {
+        // O cursor precisa ser a última sequência gravada: um salto recente seguraria a página
+        return changeEventRepository.findAll().stream()
+                .mapToLong(ChangeEvent::getSeq)
+                .max()
+                .orElse(0);
+    }
+
+    private static UserRequestDto userRequest() {
+        return UserRequestDto.builder()
+                .name("João Silva")
+                .cpf("12345678909")
+                .email("joao@email.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build();
+    }
+}
@@ -0,0 +1,85 @@
+package com.ecommerce.userapi.integration;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.FlywayException;
+import org.flywaydb.core.api.configuration.FluentConfiguration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Roda as migrações num H2 próprio, parando na V2 para gravar CPFs legados ainda como texto.
+ */
+@DisplayName("Testes de Integração - Migração do CPF para BIGINT")
+class CpfMigrationTest {
+
+    private static final String URL =
+            "jdbc:h2:mem:cpf_migration;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(URL, "sa", ""));
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    @DisplayName("Deve converter CPFs legados com pontuação e espaços")
+    void migrate_ShouldConvertFormattedLegacyCpfs() {
+        // Arrange
+        flyway("2").migrate();
+        insertUser(1, "123456789-0");
+        insertUser(2, " 987654321");
+
+        // Act
+        flyway(null).migrate();
+
+        // Assert
+        assertThat(jdbcTemplate.queryForList("SELECT cpf FROM users.\"user\" ORDER BY id", Long.class))
+                .containsExactly(1234567890L, 987654321L);
+    }
+
+    @Test
+    @DisplayName("Deve interromper a migração listando os cadastros que não convertem, sem remover nenhum")
+    void migrate_ShouldFailListingUnconvertibleCpfs_WithoutDeletingUsers() {
+        // Arrange
+        flyway("2").migrate();
+        insertUser(1, "01234567890");
+        insertUser(2, "1234567890");
+        insertUser(3, "abc");
+        insertUser(4, "12345678909");
+
+        // Act & Assert
+        assertThatThrownBy(() -> flyway(null).migrate())
+                .rootCause()
+                .isInstanceOf(FlywayException.class)
+                .hasMessageContaining("3 cadastro(s)")
+                .hasMessageContaining("id=1 cpf='01234567890'")
+                .hasMessageContaining("id=2 cpf='1234567890'")
+                .hasMessageContaining("id=3 cpf='abc'")
+                .hasMessageNotContaining("id=4");
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users.\"user\"", Long.class)).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT cpf FROM users.\"user\" WHERE id = 3", String.class)).isEqualTo("abc");
+    }
+
+    private Flyway flyway(String target) {
+        FluentConfiguration configuration = Flyway.configure()
+                .dataSource(URL, "sa", "")
+                .schemas("users")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2");
+        if (target != null) {
+            configuration.target(target);
+        }
+        return configuration.load();
+    }
+
+    private void insertUser(long id, String cpf) {
+        jdbcTemplate.update("INSERT INTO users.\"user\" (id, name, cpf, address, email, phone, data_register) "
+                + "VALUES (?, 'Cliente', ?, 'Rua A', 'cliente@email.com', '11999999999', CURRENT_TIMESTAMP)", id, cpf);
+    }
+}
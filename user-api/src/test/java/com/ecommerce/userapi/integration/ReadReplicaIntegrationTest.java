@@ -0,0 +1,123 @@
+package com.ecommerce.userapi.integration;
+
+import com.ecommerce.userapi.datasource.ReplicaLagMonitor;
+import com.ecommerce.userapi.domain.dto.UserRequestDto;
+import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.repository.UserRepository;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Sobe o serviço com dois bancos H2: o primário do perfil de teste e uma "réplica" com o mesmo schema,
+ * que não recebe as escritas. Assim dá para saber de qual banco cada leitura veio.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+@DisplayName("Testes de Integração - Réplica de Leitura")
+class ReadReplicaIntegrationTest {
+
+    private static final String REPLICA_URL =
+            "jdbc:h2:mem:replica;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH;DB_CLOSE_DELAY=-1";
+    private static final String CPF = "12345678909";
+
+    private static final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @DynamicPropertySource
+    static void replicaProperties(DynamicPropertyRegistry registry) {
+        Flyway.configure()
+                .dataSource(REPLICA_URL, "sa", "")
+                .schemas("users")
+                .locations("classpath:db/migration", "classpath:db/vendor/h2")
+                .load()
+                .migrate();
+        replica.execute("CREATE TABLE IF NOT EXISTS replica_status (lag_seconds DOUBLE PRECISION)");
+        replica.update("DELETE FROM replica_status");
+        replica.update("INSERT INTO replica_status VALUES (0)");
+
+        registry.add("datasource.replica.enabled", () -> "true");
+        registry.add("datasource.replica.url", () -> REPLICA_URL);
+        registry.add("datasource.replica.lag-query", () -> "SELECT lag_seconds FROM public.replica_status");
+        registry.add("datasource.replica.max-lag", () -> "5s");
+    }
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    @Qualifier("writeDataSource")
+    private DataSource writeDataSource;
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+        replica.update("UPDATE replica_status SET lag_seconds = 0");
+        replicaLagMonitor.check();
+    }
+
+    @Test
+    @DisplayName("Deve gravar no primário e ler da réplica enquanto o atraso estiver dentro do limite")
+    void reads_WhenReplicaIsCurrent_ShouldUseReplica() {
+        // Arrange
+        replicaLagMonitor.check();
+
+        // Act
+        ResponseEntity<UserResponseDto> created = restTemplate.postForEntity("/users", userRequest(), UserResponseDto.class);
+        ResponseEntity<UserResponseDto[]> users = restTemplate.getForEntity("/users", UserResponseDto[].class);
+
+        // Assert
+        assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+        assertThat(new JdbcTemplate(writeDataSource).queryForObject("SELECT COUNT(*) FROM users.\"user\"", Long.class))
+                .isEqualTo(1);
+        // A réplica de teste não recebe as escritas do primário
+        assertThat(users.getBody()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Deve ler do primário quando o atraso da réplica passar do limite")
+    void reads_WhenReplicaLags_ShouldFallBackToPrimary() {
+        // Arrange
+        restTemplate.postForEntity("/users", userRequest(), UserResponseDto.class);
+        replica.update("UPDATE replica_status SET lag_seconds = 30");
+        replicaLagMonitor.check();
+
+        // Act
+        ResponseEntity<UserResponseDto[]> users = restTemplate.getForEntity("/users", UserResponseDto[].class);
+
+        // Assert
+        assertThat(replicaLagMonitor.isAvailable()).isFalse();
+        assertThat(users.getBody()).extracting(UserResponseDto::getCpf).containsExactly(CPF);
+    }
+
+    private static UserRequestDto userRequest() {
+        return UserRequestDto.builder()
+                .name("João Silva")
+                .cpf(CPF)
+                .email("joao@email.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build();
+    }
+}
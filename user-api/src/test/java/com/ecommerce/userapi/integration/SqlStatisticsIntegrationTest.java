@@ -0,0 +1,107 @@
+package com.ecommerce.userapi.integration;
+
+import com.ecommerce.userapi.domain.dto.UserRequestDto;
+import com.ecommerce.userapi.metrics.SqlStatisticsFilter;
+import com.ecommerce.userapi.metrics.SqlStatisticsResponseAdvice;
+import com.ecommerce.userapi.repository.UserRepository;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "sql.slow-query.threshold=0ms")
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class SqlStatisticsIntegrationTest {
+
+    private static final String CPF = "12345678909";
+
+    private TestRestTemplate restTemplate;
+    private UserRepository userRepository;
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    public SqlStatisticsIntegrationTest(TestRestTemplate restTemplate,
+                                        UserRepository userRepository,
+                                        MeterRegistry meterRegistry) {
+        this.restTemplate = restTemplate;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve contabilizar comandos, linhas e tempo de SQL por endpoint e expor a contagem no cabeçalho")
+    void request_ShouldRecordSqlStatisticsPerEndpoint() {
+        // Arrange
+        restTemplate.postForEntity("/users", userRequest(), String.class);
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/users/cpf/{cpf}", String.class, CPF);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getFirst(SqlStatisticsResponseAdvice.STATEMENTS_HEADER)).isEqualTo("1");
+        assertThat(response.getHeaders().getFirst(SqlStatisticsResponseAdvice.TIME_HEADER)).isNotBlank();
+
+        DistributionSummary statements = meterRegistry.get(SqlStatisticsFilter.STATEMENTS_METRIC)
+                .tag("method", "GET")
+                .tag("uri", "/users/cpf/{cpf}")
+                .summary();
+        assertThat(statements.count()).isEqualTo(1);
+        assertThat(statements.totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get(SqlStatisticsFilter.ROWS_METRIC)
+                .tag("uri", "/users/cpf/{cpf}")
+                .summary()
+                .totalAmount()).isEqualTo(1);
+        assertThat(meterRegistry.get(SqlStatisticsFilter.STATEMENTS_METRIC)
+                .tag("method", "POST")
+                .tag("uri", "/users")
+                .summary()
+                .totalAmount()).isPositive();
+        assertThat(meterRegistry.get(SqlStatisticsFilter.TIME_METRIC)
+                .tag("uri", "/users/cpf/{cpf}")
+                .timer()
+                .count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve registrar consultas acima do limite com os parâmetros")
+    void slowQuery_ShouldBeLoggedWithBindParameters(CapturedOutput output) {
+        // Arrange
+        restTemplate.postForEntity("/users", userRequest(), String.class);
+
+        // Act
+        restTemplate.headForHeaders("/users/cpf/{cpf}", CPF);
+
+        // Assert
+        assertThat(output).containsPattern("Consulta lenta \\(\\d+ ms\\): .*Query:\\[\"select .*cpf=\\?.*\"\\], Params:\\[\\(" + CPF + "[,)]");
+    }
+
+    private static UserRequestDto userRequest() {
+        return UserRequestDto.builder()
+                .name("João Silva")
+                .cpf(CPF)
+                .email("joao@email.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .build();
+    }
+}
@@ -3,6 +3,7 @@ package com.ecommerce.userapi.integration;
 import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
 import com.ecommerce.userapi.repository.UserRepository;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -40,7 +41,7 @@ class UserApiApplicationTests {
     void setUp() {
         userRequestDto = UserRequestDto.builder()
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -48,7 +49,7 @@ class UserApiApplicationTests {
 
         userBuilder = User.builder()
                 .name(userRequestDto.getName().toLowerCase())
-                .cpf(userRequestDto.getCpf())
+                .cpf(Cpf.of(userRequestDto.getCpf()))
                 .email(userRequestDto.getEmail())
                 .phone(userRequestDto.getPhone())
                 .address(userRequestDto.getAddress())
@@ -129,6 +130,77 @@ class UserApiApplicationTests {
         assertThat(response.getBody().get(0).getId()).isEqualTo(savedUser.getId());
     }
 
+    @Test
+    @DisplayName("Deve buscar usuários por lista de CPFs em uma única requisição")
+    void findUsersByCpfBatch_ShouldReturnOnlyExistingUsers() {
+        // Arrange
+        User savedUser = userRepository.save(userBuilder.build());
+
+        // Act
+        ResponseEntity<List<UserResponseDto>> response = restTemplate.exchange(
+                "/users/cpf/batch",
+                HttpMethod.POST,
+                new HttpEntity<>(List.of(savedUser.getCpf().toString(), "52998224725", "12345678901")),
+                new ParameterizedTypeReference<List<UserResponseDto>>() {}
+        );
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull().hasSize(1);
+        assertThat(response.getBody().get(0).getId()).isEqualTo(savedUser.getId());
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os usuários em NDJSON, um por linha")
+    void exportUsers_ShouldStreamNdjson() {
+        // Arrange
+        User first = userRepository.save(userBuilder.build());
+        User second = userRepository.save(userBuilder.cpf(Cpf.of("11122233396")).name("maria, \"souza\"").build());
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/users/export", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType()).hasToString("application/x-ndjson");
+        assertThat(response.getBody().split("\n"))
+                .hasSize(2)
+                .satisfiesExactly(
+                        line -> assertThat(line).contains("\"id\":" + first.getId(), "\"cpf\":\"12345678909\""),
+                        line -> assertThat(line).contains("\"id\":" + second.getId(), "\"cpf\":\"11122233396\""));
+    }
+
+    @Test
+    @DisplayName("Deve exportar todos os usuários em CSV com cabeçalho e valores escapados")
+    void exportUsers_ShouldStreamCsv() {
+        // Arrange
+        User first = userRepository.save(userBuilder.build());
+        User second = userRepository.save(userBuilder.cpf(Cpf.of("11122233396")).name("maria, \"souza\"").build());
+
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/users/export?format=csv", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentDisposition().getFilename()).isEqualTo("users.csv");
+        assertThat(response.getBody().split("\n"))
+                .hasSize(3)
+                .satisfiesExactly(
+                        header -> assertThat(header).isEqualTo("id,name,cpf,email,phone,address,dataRegister"),
+                        line -> assertThat(line).startsWith(first.getId() + ",joão silva,12345678909,"),
+                        line -> assertThat(line).startsWith(second.getId() + ",\"maria, \"\"souza\"\"\",11122233396,"));
+    }
+
+    @Test
+    @DisplayName("Deve recusar exportação em formato desconhecido")
+    void exportUsers_ShouldReturnBadRequest_WhenFormatIsUnknown() {
+        // Act
+        ResponseEntity<String> response = restTemplate.getForEntity("/users/export?format=xml", String.class);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     @DisplayName("Deve buscar usuário por CPF com sucesso")
     void findUserByCpf_ShouldReturnUser_WhenSuccessful() {
@@ -139,14 +211,14 @@ class UserApiApplicationTests {
         ResponseEntity<UserResponseDto> response = restTemplate.getForEntity(
                 "/users/cpf/{cpf}",
                 UserResponseDto.class,
-                savedUser.getCpf()
+                savedUser.getCpf().toString()
         );
 
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
         assertThat(response.getBody()).isNotNull();
         assertThat(response.getBody().getId()).isEqualTo(savedUser.getId());
-        assertThat(response.getBody().getCpf()).isEqualTo(savedUser.getCpf());
+        assertThat(response.getBody().getCpf()).isEqualTo(savedUser.getCpf().toString());
     }
 
     @Test
@@ -157,7 +229,7 @@ class UserApiApplicationTests {
 
         UserRequestDto updateRequest = UserRequestDto.builder()
                 .name("João Silva Atualizado")
-                .cpf(savedUser.getCpf())
+                .cpf(savedUser.getCpf().toString())
                 .email("joao.atualizado@email.com")
                 .phone("11988888888")
                 .address("Rua Atualizada, 456")
@@ -169,7 +241,7 @@ class UserApiApplicationTests {
                 HttpMethod.PUT,
                 new HttpEntity<>(updateRequest),
                 UserResponseDto.class,
-                savedUser.getCpf()
+                savedUser.getCpf().toString()
         );
 
         // Assert
@@ -201,6 +273,55 @@ class UserApiApplicationTests {
         assertThat(userRepository.findById(savedUser.getId())).isEmpty();
     }
 
+    @Test
+    @DisplayName("Deve recusar atualização com versão desatualizada e aceitar com a versão do ETag")
+    void updateUser_ShouldHonorIfMatchVersion() {
+        // Arrange
+        User savedUser = userRepository.save(userBuilder.build());
+        UserRequestDto updateRequest = UserRequestDto.builder().phone("11988888888").build();
+        HttpHeaders staleHeaders = new HttpHeaders();
+        staleHeaders.setIfMatch("\"" + savedUser.getVersion() + "\"");
+
+        // Act
+        ResponseEntity<UserResponseDto> first = restTemplate.exchange(
+                "/users/{cpf}", HttpMethod.PUT, new HttpEntity<>(updateRequest),
+                UserResponseDto.class, savedUser.getCpf().toString());
+        ResponseEntity<String> stale = restTemplate.exchange(
+                "/users/{cpf}", HttpMethod.PUT, new HttpEntity<>(updateRequest, staleHeaders),
+                String.class, savedUser.getCpf().toString());
+
+        HttpHeaders currentHeaders = new HttpHeaders();
+        currentHeaders.setIfMatch(first.getHeaders().getETag());
+        ResponseEntity<UserResponseDto> current = restTemplate.exchange(
+                "/users/{cpf}", HttpMethod.PUT, new HttpEntity<>(updateRequest, currentHeaders),
+                UserResponseDto.class, savedUser.getCpf().toString());
+
+        // Assert
+        assertThat(first.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(first.getBody().getVersion()).isEqualTo(savedUser.getVersion() + 1);
+        assertThat(first.getBody().getName()).isEqualTo(savedUser.getName());
+        assertThat(stale.getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+        assertThat(current.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(current.getBody().getVersion()).isEqualTo(savedUser.getVersion() + 2);
+    }
+
+    @Test
+    @DisplayName("Deve retornar conflito ao atualizar para um CPF de outro usuário")
+    void updateUser_ShouldReturnConflict_WhenNewCpfIsTaken() {
+        // Arrange
+        userRepository.save(userBuilder.build());
+        User other = userRepository.save(userBuilder.cpf(Cpf.of("52998224725")).build());
+        UserRequestDto updateRequest = UserRequestDto.builder().cpf(userRequestDto.getCpf()).build();
+
+        // Act
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/users/{cpf}", HttpMethod.PUT, new HttpEntity<>(updateRequest),
+                String.class, other.getCpf().toString());
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+    }
+
     @Test
     @DisplayName("Deve retornar not found ao buscar usuário inexistente")
     void findNonExistingUser_ShouldReturnNotFound() {
@@ -214,4 +335,22 @@ class UserApiApplicationTests {
         // Assert
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
     }
+
+    @Test
+    @DisplayName("HEAD por CPF deve indicar a existência do usuário sem corpo")
+    void headUserByCpf_ShouldReturnStatusWithoutBody() {
+        // Arrange
+        restTemplate.postForEntity("/users", userRequestDto, UserResponseDto.class);
+
+        // Act
+        ResponseEntity<String> existing = restTemplate.exchange(
+                "/users/cpf/{cpf}", HttpMethod.HEAD, null, String.class, userRequestDto.getCpf());
+        ResponseEntity<String> missing = restTemplate.exchange(
+                "/users/cpf/{cpf}", HttpMethod.HEAD, null, String.class, "99999999999");
+
+        // Assert
+        assertThat(existing.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(existing.getBody()).isNull();
+        assertThat(missing.getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+    }
 }
\ No newline at end of file
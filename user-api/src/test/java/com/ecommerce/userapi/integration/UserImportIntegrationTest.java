@@ -0,0 +1,112 @@
+package com.ecommerce.userapi.integration;
+
+import com.ecommerce.userapi.domain.dto.UserImportResponseDto;
+import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import com.ecommerce.userapi.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.*;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles("test")
+class UserImportIntegrationTest {
+
+    private static final String BASE_URI = "/users/import";
+    private static final String EXISTING_CPF = "12345678909";
+
+    private TestRestTemplate restTemplate;
+    private UserRepository userRepository;
+
+    @Autowired
+    public UserImportIntegrationTest(TestRestTemplate restTemplate, UserRepository userRepository) {
+        this.restTemplate = restTemplate;
+        this.userRepository = userRepository;
+    }
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .name("joão silva")
+                .cpf(Cpf.of(EXISTING_CPF))
+                .email("joao@email.com")
+                .phone("11999999999")
+                .address("Rua Teste, 123")
+                .dataRegister(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        userRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve cadastrar os novos usuários e reportar conflitos e erros por linha")
+    void importNdjson_ShouldInsertNewUsersAndReportConflicts() {
+        // Arrange
+        String ndjson = """
+                {"name":"Maria Souza","cpf":"11122233396","email":"maria@email.com","phone":"11988888888","address":"Rua A, 1"}
+                {"name":"João Silva","cpf":"%s","email":"joao@email.com","phone":"11999999999","address":"Rua Teste, 123"}
+                {"name":"Maria Repetida","cpf":"11122233396","email":"maria2@email.com","phone":"11977777777","address":"Rua B, 2"}
+                {"name":"Pedro Lima","cpf":"55566677720","email":"pedro@email.com","phone":"11966666666","address":"Rua C, 3"}
+                {"name":"CPF Inválido","cpf":"12345678901","email":"invalido@email.com","phone":"11955555555","address":"Rua D, 4"}
+                {"name":
+                """.formatted(EXISTING_CPF);
+
+        // Act
+        ResponseEntity<UserImportResponseDto> response = post(ndjson);
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).satisfies(result -> {
+            assertThat(result.getProcessed()).isEqualTo(6);
+            assertThat(result.getInserted()).isEqualTo(2);
+            assertThat(result.getConflicts()).isEqualTo(2);
+            assertThat(result.getFailed()).isEqualTo(2);
+            assertThat(result.getErrors())
+                    .extracting(error -> error.getLine() + ":" + error.getErrorCode())
+                    .containsExactlyInAnyOrder(
+                            "2:RESOURCE_CONFLICT",
+                            "3:RESOURCE_CONFLICT",
+                            "5:VALIDATION_ERROR",
+                            "6:VALIDATION_ERROR");
+        });
+        assertThat(userRepository.count()).isEqualTo(3);
+        assertThat(userRepository.findByCpf(Cpf.of("11122233396")))
+                .hasValueSatisfying(user -> assertThat(user.getName()).isEqualTo("maria souza"));
+    }
+
+    @Test
+    @DisplayName("Usuários importados devem ser encontrados pelo CPF")
+    void importNdjson_ShouldMakeUsersVisibleToCpfLookup() {
+        // Arrange
+        String ndjson = """
+                {"name":"Pedro Lima","cpf":"55566677720","email":"pedro@email.com","phone":"11966666666","address":"Rua C, 3"}
+                """;
+
+        // Act
+        post(ndjson);
+        ResponseEntity<Void> response = restTemplate.exchange(
+                "/users/cpf/{cpf}", HttpMethod.HEAD, null, Void.class, "55566677720");
+
+        // Assert
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    }
+
+    private ResponseEntity<UserImportResponseDto> post(String body) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.setContentType(MediaType.parseMediaType("application/x-ndjson"));
+        return restTemplate.postForEntity(BASE_URI, new HttpEntity<>(body, headers), UserImportResponseDto.class);
+    }
+}
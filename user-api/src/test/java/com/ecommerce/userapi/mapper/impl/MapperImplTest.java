@@ -10,9 +10,11 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.modelmapper.ModelMapper;
 
+import com.ecommerce.userapi.config.MapperConfig;
 import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
 
 @DisplayName("MapperImpl - Testes Unitários")
 class MapperImplTest {
@@ -28,7 +30,7 @@ class MapperImplTest {
     @BeforeEach
     void setUp() {
         // Arrange
-        modelMapper = new ModelMapper();
+        modelMapper = new MapperConfig().modelMapper();
         sut = new MapperImpl(modelMapper);
 
         LocalDateTime now = LocalDateTime.now();
@@ -36,7 +38,7 @@ class MapperImplTest {
         user = User.builder()
                 .id(1L)
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf(Cpf.of("12345678909"))
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -46,7 +48,7 @@ class MapperImplTest {
         userResponseDto = UserResponseDto.builder()
                 .id(1L)
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -55,7 +57,7 @@ class MapperImplTest {
 
         userRequestDto = UserRequestDto.builder()
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -131,7 +133,7 @@ class MapperImplTest {
             User partialUser = User.builder()
                     .id(1L)
                     .name("João Silva")
-                    .cpf("12345678901")
+                    .cpf(Cpf.of("12345678909"))
                     .build();
 
             // Act
@@ -143,7 +145,7 @@ class MapperImplTest {
                     .satisfies(dto -> {
                         assertThat(dto.getId()).isEqualTo(1L);
                         assertThat(dto.getName()).isEqualTo("João Silva");
-                        assertThat(dto.getCpf()).isEqualTo("12345678901");
+                        assertThat(dto.getCpf()).isEqualTo("12345678909");
                         assertThat(dto.getEmail()).isNull();
                         assertThat(dto.getPhone()).isNull();
                         assertThat(dto.getAddress()).isNull();
@@ -168,7 +170,7 @@ class MapperImplTest {
                     .satisfies(user -> {
                         assertThat(user.getId()).isNull();
                         assertThat(user.getName()).isEqualTo("João Silva");
-                        assertThat(user.getCpf()).isEqualTo("12345678901");
+                        assertThat(user.getCpf()).isEqualTo(Cpf.of("12345678909"));
                         assertThat(user.getEmail()).isEqualTo("joao@email.com");
                         assertThat(user.getPhone()).isEqualTo("11999999999");
                         assertThat(user.getAddress()).isEqualTo("Rua Teste, 123");
@@ -212,7 +214,7 @@ class MapperImplTest {
                     .isNotNull()
                     .satisfies(user -> {
                         assertThat(user.getName()).isInstanceOf(String.class);
-                        assertThat(user.getCpf()).isInstanceOf(String.class);
+                        assertThat(user.getCpf()).isInstanceOf(Cpf.class);
                         assertThat(user.getEmail()).isInstanceOf(String.class);
                         assertThat(user.getPhone()).isInstanceOf(String.class);
                         assertThat(user.getAddress()).isInstanceOf(String.class);
@@ -225,7 +227,7 @@ class MapperImplTest {
             // Arrange
             UserRequestDto partialDto = UserRequestDto.builder()
                     .name("João Silva")
-                    .cpf("12345678901")
+                    .cpf("12345678909")
                     .build();
 
             // Act
@@ -237,7 +239,7 @@ class MapperImplTest {
                     .satisfies(user -> {
                         assertThat(user.getId()).isNull();
                         assertThat(user.getName()).isEqualTo("João Silva");
-                        assertThat(user.getCpf()).isEqualTo("12345678901");
+                        assertThat(user.getCpf()).isEqualTo(Cpf.of("12345678909"));
                         assertThat(user.getEmail()).isNull();
                         assertThat(user.getPhone()).isNull();
                         assertThat(user.getAddress()).isNull();
@@ -1,6 +1,7 @@
 package com.ecommerce.userapi.repository;
 
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -33,7 +34,7 @@ class UserRepositoryTest {
     private User createUser(String name, String cpf) {
         return User.builder()
                 .name(name.toLowerCase())
-                .cpf(cpf)
+                .cpf(Cpf.of(cpf))
                 .email(name.toLowerCase().replace(" ", ".") + "@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -45,12 +46,12 @@ class UserRepositoryTest {
     @DisplayName("findByCpf deve retornar Optional<User> quando sucesso")
     void findByCpf_ShouldReturnOptionalUser_WhenSuccessful() {
         // Arrange
-        String cpf = "12345678901";
+        String cpf = "12345678909";
         User userToSave = createUser("João Silva", cpf);
         entityManager.persist(userToSave);
 
         // Act
-        Optional<User> result = userRepository.findByCpf(cpf);
+        Optional<User> result = userRepository.findByCpf(Cpf.of(cpf));
 
         // Assert
         assertThat(result)
@@ -65,7 +66,7 @@ class UserRepositoryTest {
     @DisplayName("findByCpf deve retornar Optional vazio quando cpf não existe")
     void findByCpf_ShouldReturnEmptyOptional_WhenCpfDoesNotExist() {
         // Act
-        Optional<User> result = userRepository.findByCpf("99999999999");
+        Optional<User> result = userRepository.findByCpf(Cpf.of("98765432100"));
 
         // Assert
         assertThat(result).isEmpty();
@@ -75,12 +76,12 @@ class UserRepositoryTest {
     @DisplayName("existsByCpf deve retornar true quando cpf existe")
     void existsByCpf_ShouldReturnTrue_WhenCpfExists() {
         // Arrange
-        String cpf = "12345678901";
+        String cpf = "12345678909";
         User userToSave = createUser("João Silva", cpf);
         entityManager.persist(userToSave);
 
         // Act
-        boolean exists = userRepository.existsByCpf(cpf);
+        boolean exists = userRepository.existsByCpf(Cpf.of(cpf));
 
         // Assert
         assertThat(exists).isTrue();
@@ -90,26 +91,44 @@ class UserRepositoryTest {
     @DisplayName("existsByCpf deve retornar false quando cpf não existe")
     void existsByCpf_ShouldReturnFalse_WhenCpfDoesNotExist() {
         // Act
-        boolean exists = userRepository.existsByCpf("99999999999");
+        boolean exists = userRepository.existsByCpf(Cpf.of("98765432100"));
 
         // Assert
         assertThat(exists).isFalse();
     }
 
     @Test
-    @DisplayName("queryByNameLike deve retornar lista de users quando nome existe")
-    void queryByNameLike_ShouldReturnUserList_WhenNameExists() {
+    @DisplayName("findByCpfIn deve retornar apenas os users com os cpfs informados")
+    void findByCpfIn_ShouldReturnOnlyMatchingUsers() {
         // Arrange
-        User user1 = createUser("João Silva", "12345678901");
+        entityManager.persist(createUser("João Silva", "12345678909"));
+        entityManager.persist(createUser("Maria Silva", "98765432100"));
+        entityManager.persist(createUser("Pedro Santos", "11122233396"));
+
+        // Act
+        List<User> result = userRepository.findByCpfIn(
+                List.of(Cpf.of("12345678909"), Cpf.of("11122233396"), Cpf.of("52998224725")));
+
+        // Assert
+        assertThat(result)
+                .extracting(User::getName)
+                .containsExactlyInAnyOrder("joão silva", "pedro santos");
+    }
+
+    @Test
+    @DisplayName("searchByName deve retornar lista de users quando nome existe")
+    void searchByName_ShouldReturnUserList_WhenNameExists() {
+        // Arrange
+        User user1 = createUser("João Silva", "12345678909");
         User user2 = createUser("Maria Silva", "98765432100");
-        User user3 = createUser("Pedro Santos", "11122233344");
+        User user3 = createUser("Pedro Santos", "11122233396");
 
         entityManager.persist(user1);
         entityManager.persist(user2);
         entityManager.persist(user3);
 
         // Act
-        List<User> result = userRepository.queryByNameLike("Silva");
+        List<User> result = userRepository.searchByName("Silva", 10, 0);
 
         // Assert
         assertThat(result)
@@ -120,14 +139,14 @@ class UserRepositoryTest {
     }
 
     @Test
-    @DisplayName("queryByNameLike deve retornar lista vazia quando nome não existe")
-    void queryByNameLike_ShouldReturnEmptyList_WhenNameDoesNotExist() {
+    @DisplayName("searchByName deve retornar lista vazia quando nome não existe")
+    void searchByName_ShouldReturnEmptyList_WhenNameDoesNotExist() {
         // Arrange
-        User user = createUser("João Silva", "12345678901");
+        User user = createUser("João Silva", "12345678909");
         entityManager.persist(user);
 
         // Act
-        List<User> result = userRepository.queryByNameLike("Santos");
+        List<User> result = userRepository.searchByName("Santos", 10, 0);
 
         // Assert
         assertThat(result)
@@ -135,11 +154,45 @@ class UserRepositoryTest {
                 .isEmpty();
     }
 
+    @Test
+    @DisplayName("searchByName deve ordenar por relevância e respeitar limite e offset")
+    void searchByName_ShouldRankAndPaginate() {
+        // Arrange
+        entityManager.persist(createUser("Ana Silva Pereira", "12345678909"));
+        entityManager.persist(createUser("Silva", "98765432100"));
+        entityManager.persist(createUser("Silvana Costa", "11122233396"));
+
+        // Act
+        List<User> firstPage = userRepository.searchByName("silva", 2, 0);
+        List<User> secondPage = userRepository.searchByName("silva", 2, 2);
+
+        // Assert
+        assertThat(firstPage)
+                .extracting(User::getName)
+                .containsExactly("silva", "silvana costa");
+        assertThat(secondPage)
+                .extracting(User::getName)
+                .containsExactly("ana silva pereira");
+    }
+
+    @Test
+    @DisplayName("searchByName deve tratar curingas do LIKE como texto")
+    void searchByName_ShouldEscapeLikeWildcards() {
+        // Arrange
+        entityManager.persist(createUser("João Silva", "12345678909"));
+
+        // Act
+        List<User> result = userRepository.searchByName("%", 10, 0);
+
+        // Assert
+        assertThat(result).isEmpty();
+    }
+
     @Test
     @DisplayName("save deve persistir user quando sucesso")
     void save_ShouldPersistUser_WhenSuccessful() {
         // Arrange
-        User userToSave = createUser("João Silva", "12345678901");
+        User userToSave = createUser("João Silva", "12345678909");
 
         // Act
         User result = userRepository.save(userToSave);
@@ -158,7 +211,7 @@ class UserRepositoryTest {
     @DisplayName("save deve atualizar user quando sucesso")
     void save_ShouldUpdateUser_WhenSuccessful() {
         // Arrange
-        User userToSave = createUser("João Silva", "12345678901");
+        User userToSave = createUser("João Silva", "12345678909");
         entityManager.persist(userToSave);
 
         userToSave.setName("João Silva Updated");
@@ -182,7 +235,7 @@ class UserRepositoryTest {
     @DisplayName("delete deve remover user quando sucesso")
     void delete_ShouldRemoveUser_WhenSuccessful() {
         // Arrange
-        User userToDelete = createUser("João Silva", "12345678901");
+        User userToDelete = createUser("João Silva", "12345678909");
         entityManager.persist(userToDelete);
 
         // Act
@@ -193,11 +246,63 @@ class UserRepositoryTest {
         assertThat(foundUser).isNull();
     }
 
+    @Test
+    @DisplayName("updateByCpf deve alterar apenas os campos informados e incrementar a versão")
+    void updateByCpf_ShouldUpdateProvidedFieldsAndIncrementVersion() {
+        // Arrange
+        User existing = entityManager.persistFlushFind(createUser("João Silva", "12345678909"));
+        entityManager.clear();
+        User changes = User.builder().email("joao.novo@email.com").build();
+
+        // Act
+        Optional<User> result = userRepository.updateByCpf(Cpf.of("12345678909"), changes, existing.getVersion());
+
+        // Assert
+        assertThat(result).hasValueSatisfying(user -> {
+            assertThat(user.getEmail()).isEqualTo("joao.novo@email.com");
+            assertThat(user.getName()).isEqualTo("joão silva");
+            assertThat(user.getVersion()).isEqualTo(existing.getVersion() + 1);
+        });
+    }
+
+    @Test
+    @DisplayName("updateByCpf não deve alterar nada quando a versão esperada estiver desatualizada")
+    void updateByCpf_ShouldReturnEmpty_WhenVersionIsStale() {
+        // Arrange
+        User existing = entityManager.persistFlushFind(createUser("João Silva", "12345678909"));
+        entityManager.clear();
+        User changes = User.builder().email("joao.novo@email.com").build();
+
+        // Act
+        Optional<User> result = userRepository.updateByCpf(Cpf.of("12345678909"), changes, existing.getVersion() + 1);
+
+        // Assert
+        assertThat(result).isEmpty();
+        assertThat(entityManager.find(User.class, existing.getId()).getEmail()).isEqualTo(existing.getEmail());
+    }
+
+    @Test
+    @DisplayName("deleteReturningCpf deve excluir apenas quando a versão conferir e devolver o CPF excluído")
+    void deleteReturningCpf_ShouldDeleteOnlyMatchingVersion() {
+        // Arrange
+        User existing = entityManager.persistFlushFind(createUser("João Silva", "12345678909"));
+
+        // Act
+        Optional<Cpf> stale = userRepository.deleteReturningCpf(existing.getId(), existing.getVersion() + 1);
+        Optional<Cpf> deleted = userRepository.deleteReturningCpf(existing.getId(), existing.getVersion());
+        Optional<Cpf> missing = userRepository.deleteReturningCpf(existing.getId(), null);
+
+        // Assert
+        assertThat(stale).isEmpty();
+        assertThat(deleted).contains(Cpf.of("12345678909"));
+        assertThat(missing).isEmpty();
+    }
+
     @Test
     @DisplayName("findById deve retornar Optional<User> quando sucesso")
     void findById_ShouldReturnOptionalUser_WhenSuccessful() {
         // Arrange
-        User userToFind = createUser("João Silva", "12345678901");
+        User userToFind = createUser("João Silva", "12345678909");
         entityManager.persist(userToFind);
 
         // Act
@@ -225,9 +330,9 @@ class UserRepositoryTest {
     @DisplayName("findAll com Pageable deve retornar Page<User> quando sucesso")
     void findAll_WithPageable_ShouldReturnPageUser_WhenSuccessful() {
         // Arrange
-        User user1 = createUser("João Silva", "12345678901");
+        User user1 = createUser("João Silva", "12345678909");
         User user2 = createUser("Maria Santos", "98765432100");
-        User user3 = createUser("Pedro Souza", "11122233344");
+        User user3 = createUser("Pedro Souza", "11122233396");
 
         entityManager.persist(user1);
         entityManager.persist(user2);
@@ -2,11 +2,17 @@ package com.ecommerce.userapi.service;
 
 import com.ecommerce.userapi.domain.dto.UserRequestDto;
 import com.ecommerce.userapi.domain.dto.UserResponseDto;
+import com.ecommerce.userapi.domain.entity.ChangeEntityType;
+import com.ecommerce.userapi.domain.entity.ChangeOperation;
 import com.ecommerce.userapi.domain.entity.User;
+import com.ecommerce.userapi.domain.vo.Cpf;
+import com.ecommerce.userapi.exception.InvalidRequestException;
 import com.ecommerce.userapi.exception.UserAlreadyExistsException;
 import com.ecommerce.userapi.exception.UserNotFoundException;
+import com.ecommerce.userapi.exception.UserVersionMismatchException;
 import com.ecommerce.userapi.mapper.impl.MapperImpl;
 import com.ecommerce.userapi.repository.UserRepository;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -15,18 +21,23 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -38,6 +49,9 @@ class UserServiceTest {
     @Mock
     private MapperImpl mapper;
 
+    @Mock
+    private ChangeFeedService changeFeedService;
+
     @InjectMocks
     private UserService userService;
 
@@ -52,7 +66,7 @@ class UserServiceTest {
         user = User.builder()
                 .id(1L)
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf(Cpf.of("12345678909"))
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -62,7 +76,7 @@ class UserServiceTest {
         userResponseDto = UserResponseDto.builder()
                 .id(1L)
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -73,7 +87,7 @@ class UserServiceTest {
 
         userRequestDto = UserRequestDto.builder()
                 .name("João Silva")
-                .cpf("12345678901")
+                .cpf("12345678909")
                 .email("joao@email.com")
                 .phone("11999999999")
                 .address("Rua Teste, 123")
@@ -216,8 +230,8 @@ class UserServiceTest {
     @DisplayName("findByCpf deve retornar UserResponseDto quando usuário existe")
     void findByCpf_ShouldReturnUserResponseDto_WhenUserExists() {
         // Arrange
-        String cpf = "12345678901";
-        when(userRepository.findByCpf(cpf)).thenReturn(Optional.of(user));
+        String cpf = "12345678909";
+        when(userRepository.findByCpf(Cpf.of(cpf))).thenReturn(Optional.of(user));
         when(mapper.mapTo(user)).thenReturn(userResponseDto);
 
         // Act
@@ -229,7 +243,7 @@ class UserServiceTest {
                 .usingRecursiveComparison()
                 .isEqualTo(userResponseDto);
 
-        verify(userRepository, times(1)).findByCpf(cpf);
+        verify(userRepository, times(1)).findByCpf(Cpf.of(cpf));
         verify(mapper, times(1)).mapTo(user);
     }
 
@@ -237,8 +251,8 @@ class UserServiceTest {
     @DisplayName("findByCpf deve lançar UserNotFoundException quando usuário não existe")
     void findByCpf_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
         // Arrange
-        String cpf = "99999999999";
-        when(userRepository.findByCpf(cpf)).thenReturn(Optional.empty());
+        String cpf = "52998224725";
+        when(userRepository.findByCpf(Cpf.of(cpf))).thenReturn(Optional.empty());
 
         // Act & Assert
         assertThatThrownBy(() -> userService.findByCpf(cpf))
@@ -246,20 +260,102 @@ class UserServiceTest {
                 .hasMessageContaining("cpf")
                 .hasMessageContaining(cpf);
 
-        verify(userRepository, times(1)).findByCpf(cpf);
+        verify(userRepository, times(1)).findByCpf(Cpf.of(cpf));
         verify(mapper, never()).mapTo(any(User.class));
     }
 
+    @Test
+    @DisplayName("findByCpf deve encontrar cadastro legado com dígitos verificadores inválidos")
+    void findByCpf_ShouldFindLegacyUser_WhenCheckDigitsAreInvalid() {
+        // Arrange
+        when(userRepository.findByCpf(new Cpf(12345678901L))).thenReturn(Optional.of(user));
+        when(mapper.mapTo(user)).thenReturn(userResponseDto);
+
+        // Act & Assert
+        assertThat(userService.findByCpf("12345678901")).isEqualTo(userResponseDto);
+    }
+
+    @Test
+    @DisplayName("findByCpf deve lançar UserNotFoundException sem consultar o banco quando o CPF for malformado")
+    void findByCpf_ShouldSkipLookup_WhenCpfIsMalformed() {
+        // Act & Assert
+        assertThatThrownBy(() -> userService.findByCpf("1234567890a"))
+                .isInstanceOf(UserNotFoundException.class)
+                .hasMessageContaining("1234567890a");
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("existsByCpf deve consultar o banco")
+    void existsByCpf_ShouldQueryDatabase() {
+        // Arrange
+        String cpf = "12345678909";
+        when(userRepository.existsByCpf(Cpf.of(cpf))).thenReturn(true);
+
+        // Act & Assert
+        assertThat(userService.existsByCpf(cpf)).isTrue();
+        verify(userRepository).existsByCpf(Cpf.of(cpf));
+    }
+
+    @Test
+    @DisplayName("existsByCpf deve retornar false sem consultar o banco quando o CPF for malformado")
+    void existsByCpf_ShouldSkipDatabase_WhenCpfIsMalformed() {
+        // Act & Assert
+        assertThat(userService.existsByCpf("1234567890a")).isFalse();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("findAllByCpf deve consultar em lote apenas as chaves bem formadas e distintas")
+    void findAllByCpf_ShouldQueryOnlyWellFormedDistinctCpfs() {
+        // Arrange
+        Set<Cpf> keys = Set.of(Cpf.of("12345678909"), Cpf.of("52998224725"), new Cpf(12345678901L));
+        when(userRepository.findByCpfIn(keys)).thenReturn(List.of(user));
+        when(mapper.mapTo(user)).thenReturn(userResponseDto);
+
+        // Act
+        List<UserResponseDto> result = userService.findAllByCpf(
+                List.of("12345678909", "12345678909", "52998224725", "12345678901", "1234567890a"));
+
+        // Assert
+        assertThat(result).containsExactly(userResponseDto);
+        verify(userRepository, times(1)).findByCpfIn(keys);
+    }
+
+    @Test
+    @DisplayName("findAllByCpf deve retornar lista vazia sem consultar o banco quando nenhum CPF for bem formado")
+    void findAllByCpf_ShouldSkipDatabase_WhenNoCpfIsWellFormed() {
+        // Act
+        List<UserResponseDto> result = userService.findAllByCpf(List.of("1234567890", "abc"));
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("findAllByCpf deve lançar InvalidRequestException quando exceder o limite de CPFs")
+    void findAllByCpf_ShouldThrowInvalidRequestException_WhenLimitExceeded() {
+        // Arrange
+        List<String> cpfs = Collections.nCopies(UserService.MAX_BATCH_LOOKUP + 1, "12345678909");
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.findAllByCpf(cpfs))
+                .isInstanceOf(InvalidRequestException.class);
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("findByQueryName deve retornar lista de UserResponseDto quando encontrar usuários")
     void findByQueryName_ShouldReturnUserResponseDtoList_WhenUsersFound() {
         // Arrange
         String name = "João";
-        when(userRepository.queryByNameLike(name)).thenReturn(List.of(user));
+        when(userRepository.searchByName(name, 12, 0L)).thenReturn(List.of(user));
         when(mapper.mapTo(user)).thenReturn(userResponseDto);
 
         // Act
-        List<UserResponseDto> result = userService.findByQueryName(name);
+        List<UserResponseDto> result = userService.findByQueryName(name, 0, 12);
 
         // Assert
         assertThat(result)
@@ -271,7 +367,7 @@ class UserServiceTest {
                 .usingRecursiveComparison()
                 .isEqualTo(userResponseDto);
 
-        verify(userRepository, times(1)).queryByNameLike(name);
+        verify(userRepository, times(1)).searchByName(name, 12, 0L);
         verify(mapper, times(1)).mapTo(any(User.class));
     }
 
@@ -280,17 +376,17 @@ class UserServiceTest {
     void findByQueryName_ShouldReturnEmptyList_WhenNoUsersFound() {
         // Arrange
         String name = "Nome Inexistente";
-        when(userRepository.queryByNameLike(name)).thenReturn(List.of());
+        when(userRepository.searchByName(name, 12, 0L)).thenReturn(List.of());
 
         // Act
-        List<UserResponseDto> result = userService.findByQueryName(name);
+        List<UserResponseDto> result = userService.findByQueryName(name, 0, 12);
 
         // Assert
         assertThat(result)
                 .isNotNull()
                 .isEmpty();
 
-        verify(userRepository, times(1)).queryByNameLike(name);
+        verify(userRepository, times(1)).searchByName(name, 12, 0L);
         verify(mapper, never()).mapTo(any(User.class));
     }
 
@@ -302,7 +398,7 @@ class UserServiceTest {
         User secondUser = User.builder()
                 .id(2L)
                 .name("Maria Silva")
-                .cpf("98765432100")
+                .cpf(Cpf.of("98765432100"))
                 .email("maria@email.com")
                 .phone("11988888888")
                 .address("Rua Teste, 456")
@@ -319,12 +415,12 @@ class UserServiceTest {
                 .dataRegister(secondUser.getDataRegister())
                 .build();
 
-        when(userRepository.queryByNameLike(name)).thenReturn(List.of(user, secondUser));
+        when(userRepository.searchByName(name, 12, 0L)).thenReturn(List.of(user, secondUser));
         when(mapper.mapTo(user)).thenReturn(userResponseDto);
         when(mapper.mapTo(secondUser)).thenReturn(secondUserDto);
 
         // Act
-        List<UserResponseDto> result = userService.findByQueryName(name);
+        List<UserResponseDto> result = userService.findByQueryName(name, 0, 12);
 
         // Assert
         assertThat(result)
@@ -333,15 +429,41 @@ class UserServiceTest {
                 .extracting(UserResponseDto::getName)
                 .containsExactlyInAnyOrder("João Silva", "Maria Silva");
 
-        verify(userRepository, times(1)).queryByNameLike(name);
+        verify(userRepository, times(1)).searchByName(name, 12, 0L);
         verify(mapper, times(2)).mapTo(any(User.class));
     }
 
+    @Test
+    @DisplayName("findByQueryName deve limitar o tamanho da página e calcular o offset")
+    void findByQueryName_ShouldCapLimitAndComputeOffset() {
+        // Arrange
+        String name = "Silva";
+        when(userRepository.searchByName(name, UserService.MAX_SEARCH_RESULTS, 2L * UserService.MAX_SEARCH_RESULTS))
+                .thenReturn(List.of());
+
+        // Act
+        List<UserResponseDto> result = userService.findByQueryName(name, 2, 10_000);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verify(userRepository).searchByName(name, UserService.MAX_SEARCH_RESULTS, 2L * UserService.MAX_SEARCH_RESULTS);
+    }
+
+    @Test
+    @DisplayName("findByQueryName deve retornar lista vazia sem consultar o banco quando o nome estiver em branco")
+    void findByQueryName_ShouldReturnEmptyList_WhenNameIsBlank() {
+        // Act
+        List<UserResponseDto> result = userService.findByQueryName("  ", 0, 12);
+
+        // Assert
+        assertThat(result).isEmpty();
+        verifyNoInteractions(userRepository);
+    }
+
     @Test
     @DisplayName("save deve retornar UserResponseDto quando sucesso")
     void save_ShouldReturnUserResponseDto_WhenSuccessful() {
         // Arrange
-        when(userRepository.existsByCpf(userRequestDto.getCpf())).thenReturn(false);
         when(mapper.mapFrom(userRequestDto)).thenReturn(user);
         when(userRepository.save(any(User.class))).thenReturn(user);
         when(mapper.mapTo(user)).thenReturn(userResponseDto);
@@ -361,40 +483,49 @@ class UserServiceTest {
         assertThat(savedUser.getName()).isEqualTo(userRequestDto.getName().toLowerCase());
         assertThat(savedUser.getDataRegister()).isNotNull();
 
-        verify(userRepository, times(1)).existsByCpf(userRequestDto.getCpf());
+        verify(userRepository, never()).existsByCpf(any());
         verify(mapper, times(1)).mapFrom(userRequestDto);
         verify(userRepository, times(1)).save(any(User.class));
         verify(mapper, times(1)).mapTo(any(User.class));
+        verify(changeFeedService).record(ChangeEntityType.USER, user.getId(), user.getCpf().toString(),
+                ChangeOperation.CREATED);
     }
 
     @Test
-    @DisplayName("save deve lançar UserAlreadyExistsException quando CPF já existe")
-    void save_ShouldThrowUserAlreadyExistsException_WhenCpfAlreadyExists() {
+    @DisplayName("save deve lançar UserAlreadyExistsException quando a chave única do CPF for violada no INSERT")
+    void save_ShouldThrowUserAlreadyExistsException_WhenCpfUniqueKeyIsViolated() {
         // Arrange
-        when(userRepository.existsByCpf(userRequestDto.getCpf())).thenReturn(true);
+        when(mapper.mapFrom(userRequestDto)).thenReturn(user);
+        when(userRepository.save(any(User.class))).thenThrow(constraintViolation("uk_user_cpf"));
 
         // Act & Assert
         assertThatThrownBy(() -> userService.save(userRequestDto))
-                .isInstanceOf(UserAlreadyExistsException.class)
-                .hasMessageContaining("cpf")
-                .hasMessageContaining(userRequestDto.getCpf());
+                .isInstanceOf(UserAlreadyExistsException.class);
+    }
 
-        verify(userRepository, times(1)).existsByCpf(userRequestDto.getCpf());
-        verify(mapper, never()).mapFrom(any(UserRequestDto.class));
-        verify(userRepository, never()).save(any(User.class));
+    @Test
+    @DisplayName("save deve propagar violações de integridade que não sejam do CPF")
+    void save_ShouldRethrowOtherIntegrityViolations() {
+        // Arrange
+        DataIntegrityViolationException notNull = constraintViolation(null);
+        when(mapper.mapFrom(userRequestDto)).thenReturn(user);
+        when(userRepository.save(any(User.class))).thenThrow(notNull);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.save(userRequestDto)).isSameAs(notNull);
+        verifyNoInteractions(changeFeedService);
     }
 
     @Test
-    @DisplayName("update deve retornar UserResponseDto quando sucesso")
+    @DisplayName("update deve alterar o usuário com um único UPDATE, sem lê-lo antes")
     void update_ShouldReturnUserResponseDto_WhenSuccessful() {
         // Arrange
-        String cpf = "12345678901";
-        when(userRepository.findByCpf(cpf)).thenReturn(Optional.of(user));
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        String cpf = "12345678909";
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), isNull())).thenReturn(Optional.of(user));
         when(mapper.mapTo(user)).thenReturn(userResponseDto);
 
         // Act
-        UserResponseDto result = userService.update(userRequestDto, cpf);
+        UserResponseDto result = userService.update(userRequestDto, cpf, null);
 
         // Assert
         assertThat(result)
@@ -402,50 +533,114 @@ class UserServiceTest {
                 .usingRecursiveComparison()
                 .isEqualTo(userResponseDto);
 
-        ArgumentCaptor<User> userCaptor = ArgumentCaptor.forClass(User.class);
-        verify(userRepository).save(userCaptor.capture());
-        User updatedUser = userCaptor.getValue();
-        assertThat(updatedUser.getName()).isEqualTo(userRequestDto.getName().toLowerCase());
-        assertThat(updatedUser.getEmail()).isEqualTo(userRequestDto.getEmail());
-        assertThat(updatedUser.getPhone()).isEqualTo(userRequestDto.getPhone());
-        assertThat(updatedUser.getAddress()).isEqualTo(userRequestDto.getAddress());
+        ArgumentCaptor<User> changesCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).updateByCpf(eq(Cpf.of(cpf)), changesCaptor.capture(), isNull());
+        User changes = changesCaptor.getValue();
+        assertThat(changes.getName()).isEqualTo(userRequestDto.getName().toLowerCase());
+        assertThat(changes.getCpf()).isEqualTo(Cpf.of(userRequestDto.getCpf()));
+        assertThat(changes.getEmail()).isEqualTo(userRequestDto.getEmail());
+        assertThat(changes.getPhone()).isEqualTo(userRequestDto.getPhone());
+        assertThat(changes.getAddress()).isEqualTo(userRequestDto.getAddress());
 
-        verify(userRepository, times(1)).findByCpf(cpf);
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, never()).findByCpf(any(Cpf.class));
+        verify(userRepository, never()).save(any(User.class));
+        verify(changeFeedService).record(ChangeEntityType.USER, user.getId(), user.getCpf().toString(),
+                ChangeOperation.UPDATED);
         verify(mapper, times(1)).mapTo(any(User.class));
     }
 
+    @Test
+    @DisplayName("update deve manter os campos não informados")
+    void update_ShouldSendOnlyProvidedFields() {
+        // Arrange
+        String cpf = "12345678909";
+        UserRequestDto partialRequest = UserRequestDto.builder().phone("11977777777").build();
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), eq(3L))).thenReturn(Optional.of(user));
+        when(mapper.mapTo(user)).thenReturn(userResponseDto);
+
+        // Act
+        userService.update(partialRequest, cpf, 3L);
+
+        // Assert
+        ArgumentCaptor<User> changesCaptor = ArgumentCaptor.forClass(User.class);
+        verify(userRepository).updateByCpf(eq(Cpf.of(cpf)), changesCaptor.capture(), eq(3L));
+        assertThat(changesCaptor.getValue())
+                .extracting(User::getName, User::getCpf, User::getEmail, User::getAddress)
+                .containsOnlyNulls();
+    }
+
     @Test
     @DisplayName("update deve lançar UserNotFoundException quando usuário não existe")
     void update_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
         // Arrange
-        String cpf = "99999999999";
-        when(userRepository.findByCpf(cpf)).thenReturn(Optional.empty());
+        String cpf = "52998224725";
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), isNull())).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> userService.update(userRequestDto, cpf))
+        assertThatThrownBy(() -> userService.update(userRequestDto, cpf, null))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("cpf")
                 .hasMessageContaining(cpf);
 
-        verify(userRepository, times(1)).findByCpf(cpf);
-        verify(userRepository, never()).save(any(User.class));
+        verify(userRepository, never()).existsByCpf(any(Cpf.class));
+        verify(mapper, never()).mapTo(any(User.class));
+    }
+
+    @Test
+    @DisplayName("update deve lançar UserVersionMismatchException quando a versão esperada estiver desatualizada")
+    void update_ShouldThrowUserVersionMismatchException_WhenVersionIsStale() {
+        // Arrange
+        String cpf = "12345678909";
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), eq(1L))).thenReturn(Optional.empty());
+        when(userRepository.existsByCpf(Cpf.of(cpf))).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.update(userRequestDto, cpf, 1L))
+                .isInstanceOf(UserVersionMismatchException.class);
         verify(mapper, never()).mapTo(any(User.class));
     }
 
     @Test
-    @DisplayName("delete deve excluir usuário quando sucesso")
+    @DisplayName("update deve lançar UserAlreadyExistsException quando o novo CPF já pertencer a outro usuário")
+    void update_ShouldThrowUserAlreadyExistsException_WhenNewCpfIsTaken() {
+        // Arrange
+        String cpf = "52998224725";
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), isNull()))
+                .thenThrow(constraintViolation("uk_user_cpf"));
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.update(userRequestDto, cpf, null))
+                .isInstanceOf(UserAlreadyExistsException.class);
+    }
+
+    @Test
+    @DisplayName("update deve propagar violações de integridade que não sejam do CPF")
+    void update_ShouldRethrowOtherIntegrityViolations() {
+        // Arrange
+        String cpf = "52998224725";
+        DataIntegrityViolationException tooLong = constraintViolation(null);
+        when(userRepository.updateByCpf(eq(Cpf.of(cpf)), any(User.class), isNull())).thenThrow(tooLong);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.update(userRequestDto, cpf, null)).isSameAs(tooLong);
+        verifyNoInteractions(changeFeedService);
+    }
+
+    @Test
+    @DisplayName("delete deve excluir usuário com um único DELETE")
     void delete_ShouldDeleteUser_WhenSuccessful() {
         // Arrange
         Long userId = 1L;
-        when(userRepository.findById(userId)).thenReturn(Optional.of(user));
+        when(userRepository.deleteReturningCpf(userId, null)).thenReturn(Optional.of(Cpf.of("12345678909")));
 
         // Act
-        userService.delete(userId);
+        userService.delete(userId, null);
 
         // Assert
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, times(1)).delete(user);
+        verify(userRepository, times(1)).deleteReturningCpf(userId, null);
+        verify(changeFeedService).record(ChangeEntityType.USER, userId, "12345678909", ChangeOperation.DELETED);
+        verify(userRepository, never()).findById(any());
+        verify(userRepository, never()).existsById(any());
     }
 
     @Test
@@ -453,15 +648,30 @@ class UserServiceTest {
     void delete_ShouldThrowUserNotFoundException_WhenUserDoesNotExist() {
         // Arrange
         Long userId = 999L;
-        when(userRepository.findById(userId)).thenReturn(Optional.empty());
+        when(userRepository.deleteReturningCpf(userId, null)).thenReturn(Optional.empty());
 
         // Act & Assert
-        assertThatThrownBy(() -> userService.delete(userId))
+        assertThatThrownBy(() -> userService.delete(userId, null))
                 .isInstanceOf(UserNotFoundException.class)
                 .hasMessageContaining("id")
                 .hasMessageContaining(String.valueOf(userId));
+    }
 
-        verify(userRepository, times(1)).findById(userId);
-        verify(userRepository, never()).delete(any(User.class));
+    @Test
+    @DisplayName("delete deve lançar UserVersionMismatchException quando a versão esperada estiver desatualizada")
+    void delete_ShouldThrowUserVersionMismatchException_WhenVersionIsStale() {
+        // Arrange
+        Long userId = 1L;
+        when(userRepository.deleteReturningCpf(userId, 2L)).thenReturn(Optional.empty());
+        when(userRepository.existsById(userId)).thenReturn(true);
+
+        // Act & Assert
+        assertThatThrownBy(() -> userService.delete(userId, 2L))
+                .isInstanceOf(UserVersionMismatchException.class);
+    }
+
+    private static DataIntegrityViolationException constraintViolation(String constraintName) {
+        return new DataIntegrityViolationException("violação de integridade",
+                new ConstraintViolationException("violação de integridade", null, constraintName));
     }
-} 
\ No newline at end of file
+}